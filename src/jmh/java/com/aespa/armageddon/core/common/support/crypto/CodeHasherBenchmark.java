@@ -0,0 +1,53 @@
+package com.aespa.armageddon.core.common.support.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 String.format 기반 구현과 CodeHasher 비교
+ * ./gradlew jmh 실행 후 gc.alloc.rate.norm (B/op) 로 호출당 할당량을 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodeHasherBenchmark {
+
+    private final String code = "042137";
+
+    @Benchmark
+    public String legacySha256Hex() throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] bytes = md.digest(code.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String codeHasherSha256Hex() {
+        return CodeHasher.sha256Hex(code);
+    }
+
+    @Benchmark
+    public String legacyGenerate6DigitCode() {
+        int n = ThreadLocalRandom.current().nextInt(0, 1_000_000);
+        return String.format("%06d", n);
+    }
+
+    @Benchmark
+    public String codeHasherGenerate6DigitCode() {
+        return CodeHasher.generate6DigitCode();
+    }
+}
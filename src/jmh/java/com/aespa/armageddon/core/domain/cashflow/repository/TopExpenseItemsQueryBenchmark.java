@@ -0,0 +1,136 @@
+package com.aespa.armageddon.core.domain.cashflow.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지출 상위 항목 쿼리 : 금액 인덱스에 date 가 있을 때 / 없을 때
+ *
+ * 지출 50만 건(5년)인 사용자 한 명에 대해 StatisticsRepositoryImpl.findTopExpenseItems 와 같은 SQL 을 실행한다.
+ * 기본은 H2 메모리 DB 이고, 운영과 같은 MariaDB 에서 보려면 -Dbench.jdbc-url / -Dbench.jdbc-user / -Dbench.jdbc-password 를
+ * 지정한다 (빈 스키마에 tbl_transaction_bench 를 만들고 끝나면 지움). ./gradlew jmh 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopExpenseItemsQueryBenchmark {
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 6, 30);
+    private static final int DAYS = 5 * 365;
+
+    private static final String TOP_ITEMS_SQL = """
+            select transaction_id, title, amount, category, date
+              from tbl_transaction_bench
+             where user_no = ? and type = 'EXPENSE' and date between ? and ?
+             order by amount desc, transaction_id desc
+             limit ?
+            """;
+
+    @Param({"500000"})
+    private int rows;
+
+    @Param({"user_no, type, amount", "user_no, type, amount, date"})
+    private String indexColumns;
+
+    @Param({"7", "31", "365"})
+    private int rangeDays;
+
+    @Param({"5"})
+    private int k;
+
+    private Connection connection;
+    private PreparedStatement query;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc-url", "jdbc:h2:mem:top-expense-items;MODE=MariaDB"),
+                System.getProperty("bench.jdbc-user", "sa"),
+                System.getProperty("bench.jdbc-password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists tbl_transaction_bench");
+            statement.execute("""
+                    create table tbl_transaction_bench (
+                        transaction_id bigint auto_increment primary key,
+                        user_no bigint not null,
+                        title varchar(50) not null,
+                        amount int not null,
+                        date date not null,
+                        type varchar(20) not null,
+                        category varchar(20)
+                    )
+                    """);
+        }
+        insertRows();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create index idx_bench_top on tbl_transaction_bench (" + indexColumns + ")");
+        }
+        query = connection.prepareStatement(TOP_ITEMS_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table tbl_transaction_bench");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> topExpenseItems() throws SQLException {
+        query.setLong(1, 1L);
+        query.setDate(2, Date.valueOf(LAST_DAY.minusDays(rangeDays - 1)));
+        query.setDate(3, Date.valueOf(LAST_DAY));
+        query.setInt(4, k);
+        List<Long> ids = new ArrayList<>(k);
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private void insertRows() throws SQLException {
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("""
+                insert into tbl_transaction_bench (user_no, title, amount, date, type, category)
+                values (1, ?, ?, ?, 'EXPENSE', 'FOOD')
+                """)) {
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, "지출 " + i);
+                insert.setInt(2, 1_000 + random.nextInt(1_000_000));
+                insert.setDate(3, Date.valueOf(LAST_DAY.minusDays(random.nextInt(DAYS))));
+                insert.addBatch();
+                if (i % 1_000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+}
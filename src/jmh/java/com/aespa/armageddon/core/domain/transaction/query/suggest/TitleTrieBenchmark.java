@@ -0,0 +1,63 @@
+package com.aespa.armageddon.core.domain.transaction.query.suggest;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목 자동완성 : 사용자 한 명의 거래 이력으로 만든 색인에서 prefix 조회 / 색인 생성 시간
+ * ./gradlew jmh 로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TitleTrieBenchmark {
+
+    private static final String[] WORDS = {"스타벅스", "편의점", "쿠팡", "배달의민족", "카카오택시", "이마트", "올리브영", "GS25"};
+
+    @Param({"3000"})
+    private int rows;
+
+    private String[] titles;
+    private LocalDate[] dates;
+    private TitleTrie trie;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        titles = new String[rows];
+        dates = new LocalDate[rows];
+        LocalDate today = LocalDate.of(2025, 6, 30);
+        for (int i = 0; i < rows; i++) {
+            titles[i] = WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(300);
+            dates[i] = today.minusDays(random.nextInt(365));
+        }
+        trie = build();
+    }
+
+    @Benchmark
+    public List<TitleTrie.Entry> suggest() {
+        return trie.suggest("스타", 5);
+    }
+
+    @Benchmark
+    public TitleTrie build() {
+        TitleTrie built = new TitleTrie(10, 30);
+        for (int i = 0; i < rows; i++) {
+            built.record(titles[i], TransactionType.EXPENSE, Category.FOOD, 5000, dates[i]);
+        }
+        return built;
+    }
+}
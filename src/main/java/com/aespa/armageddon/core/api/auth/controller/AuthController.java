@@ -4,11 +4,16 @@ import com.aespa.armageddon.core.api.auth.dto.request.LoginRequest;
 import com.aespa.armageddon.core.api.auth.dto.request.RefreshRequest;
 import com.aespa.armageddon.core.api.auth.dto.request.SignupRequest;
 import com.aespa.armageddon.core.api.auth.dto.response.TokenResponse;
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.common.support.response.ApiResult;
 import com.aespa.armageddon.core.domain.auth.service.AuthService;
+import com.aespa.armageddon.core.domain.auth.service.LoginThrottle;
 import com.aespa.armageddon.core.domain.auth.service.UserService;
+import com.aespa.armageddon.infra.security.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,6 +29,8 @@ public class AuthController {
 
     private final UserService userService;
     private final AuthService authService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/signup")
     @Operation(summary = "Sign up")
@@ -34,8 +41,20 @@ public class AuthController {
 
     @PostMapping("/login")
     @Operation(summary = "Login")
-    public ApiResult<TokenResponse> login(@RequestBody @Valid LoginRequest request) {
-        TokenResponse response = authService.login(request);
+    public ApiResult<TokenResponse> login(@RequestBody @Valid LoginRequest request,
+                                          HttpServletRequest httpRequest) {
+        String clientIp = clientIpResolver.resolve(httpRequest);
+        loginThrottle.checkLogin(request.getLoginId(), clientIp);
+        TokenResponse response;
+        try {
+            response = authService.login(request);
+        } catch (CoreException e) {
+            if (e.getErrorType() == ErrorType.INVALID_CREDENTIALS) {
+                loginThrottle.recordLoginFailure(request.getLoginId(), clientIp);
+            }
+            throw e;
+        }
+        loginThrottle.resetLoginFailures(request.getLoginId());
         return ApiResult.success(response);
     }
 
@@ -7,8 +7,11 @@ import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.common.support.response.ApiResult;
 import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
 import com.aespa.armageddon.core.domain.auth.service.EmailVerificationService;
+import com.aespa.armageddon.core.domain.auth.service.LoginThrottle;
+import com.aespa.armageddon.infra.security.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,10 +27,15 @@ public class EmailVerificationController {
 
     private final EmailVerificationService emailVerificationService;
     private final UserRepository userRepository;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/request")
     @Operation(summary = "Request email verification code")
-    public ApiResult<?> request(@Valid @RequestBody EmailVerificationRequest request) {
+    public ApiResult<?> request(@Valid @RequestBody EmailVerificationRequest request,
+                                HttpServletRequest httpRequest) {
+        // 가입 여부 확인(이메일 존재 여부 노출)과 메일 발송 모두 제한 대상
+        loginThrottle.checkEmailVerification(request.getEmail(), clientIpResolver.resolve(httpRequest));
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new CoreException(ErrorType.DUPLICATE_EMAIL);
         }
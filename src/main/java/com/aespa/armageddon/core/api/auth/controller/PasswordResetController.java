@@ -3,9 +3,12 @@ package com.aespa.armageddon.core.api.auth.controller;
 import com.aespa.armageddon.core.api.auth.dto.request.PasswordResetConfirmRequest;
 import com.aespa.armageddon.core.api.auth.dto.request.PasswordResetRequest;
 import com.aespa.armageddon.core.common.support.response.ApiResult;
+import com.aespa.armageddon.core.domain.auth.service.LoginThrottle;
 import com.aespa.armageddon.core.domain.auth.service.PasswordResetService;
+import com.aespa.armageddon.infra.security.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,10 +23,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class PasswordResetController {
 
     private final PasswordResetService passwordResetService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping("/request")
     @Operation(summary = "Request password reset")
-    public ApiResult<?> requestReset(@Valid @RequestBody PasswordResetRequest req) {
+    public ApiResult<?> requestReset(@Valid @RequestBody PasswordResetRequest req,
+                                     HttpServletRequest httpRequest) {
+        loginThrottle.checkPasswordReset(req.getLoginId(), clientIpResolver.resolve(httpRequest));
         passwordResetService.requestReset(req);
         return ApiResult.success();
     }
@@ -0,0 +1,116 @@
+package com.aespa.armageddon.core.common.support.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인증 코드 / 토큰 해싱 유틸
+ *
+ * - MessageDigest 는 스레드마다 하나를 재사용한다 (getInstance 의 provider 조회 비용 제거).
+ * - hex 변환은 미리 계산한 테이블로 char[] 를 채워 String.format 의 Formatter / 중간 문자열 할당을 없앤다.
+ * - 해시 비교는 길이가 같으면 항상 전체를 비교한다 (timing 차이로 일치 구간이 드러나지 않게).
+ */
+public final class CodeHasher {
+
+    private static final char[] HEX_TABLE = buildHexTable();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private CodeHasher() {
+    }
+
+    /**
+     * SHA-256 digest (32바이트)
+     */
+    public static byte[] sha256(String raw) {
+        MessageDigest md = SHA_256.get();
+        md.reset();
+        if (isAscii(raw)) {
+            // ASCII 입력(숫자 코드, JWT)은 byte[] 변환 없이 바로 갱신
+            for (int i = 0; i < raw.length(); i++) {
+                md.update((byte) raw.charAt(i));
+            }
+        } else {
+            md.update(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        return md.digest();
+    }
+
+    /**
+     * SHA-256 소문자 hex (64자)
+     */
+    public static String sha256Hex(String raw) {
+        byte[] digest = sha256(raw);
+        char[] out = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            int v = (digest[i] & 0xFF) << 1;
+            out[i * 2] = HEX_TABLE[v];
+            out[i * 2 + 1] = HEX_TABLE[v + 1];
+        }
+        return new String(out);
+    }
+
+    /**
+     * 입력 코드의 해시가 저장된 hex 해시와 같은지 constant-time 으로 비교
+     */
+    public static boolean matches(String expectedHex, String raw) {
+        if (expectedHex == null || raw == null) {
+            return false;
+        }
+        return constantTimeEquals(expectedHex, sha256Hex(raw));
+    }
+
+    /**
+     * 000000 ~ 999999 범위의 6자리 숫자 코드
+     */
+    public static String generate6DigitCode() {
+        int n = ThreadLocalRandom.current().nextInt(0, 1_000_000);
+        char[] digits = new char[6];
+        for (int i = 5; i >= 0; i--) {
+            digits[i] = (char) ('0' + n % 10);
+            n /= 10;
+        }
+        return new String(digits);
+    }
+
+    private static boolean constantTimeEquals(String a, String b) {
+        if (a.length() != b.length()) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < a.length(); i++) {
+            diff |= a.charAt(i) ^ b.charAt(i);
+        }
+        return diff == 0;
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 0x00 ~ 0xFF 각 값의 hex 두 글자를 [v*2], [v*2+1] 에 저장
+     */
+    private static char[] buildHexTable() {
+        char[] digits = "0123456789abcdef".toCharArray();
+        char[] table = new char[512];
+        for (int v = 0; v < 256; v++) {
+            table[v * 2] = digits[v >>> 4];
+            table[v * 2 + 1] = digits[v & 0x0F];
+        }
+        return table;
+    }
+}
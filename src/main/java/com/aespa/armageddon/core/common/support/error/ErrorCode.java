@@ -6,6 +6,7 @@ public enum ErrorCode {
     C003,
     C004,
     C005,
+    C006,
     U001,
     U002,
     U003,
@@ -18,6 +19,10 @@ public enum ErrorCode {
     A006,
     A007,
     A008,
+    A009,
     E500,
-    T001
+    T001,
+    T002,
+    T003,
+    T004
     }
@@ -12,6 +12,7 @@ public enum ErrorType {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, ErrorCode.C003, "지원하지 않는 HTTP 메서드입니다.", LogLevel.WARN),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, ErrorCode.C004, "잘못된 타입입니다.", LogLevel.WARN),
     MISSING_REQUEST_PARAMETER(HttpStatus.BAD_REQUEST, ErrorCode.C005, "필수 요청 파라미터가 누락되었습니다.", LogLevel.WARN),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.C006, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", LogLevel.WARN),
 
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.U001, "사용자를 찾을 수 없습니다.", LogLevel.WARN),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, ErrorCode.U002, "이미 사용 중인 이메일입니다.", LogLevel.WARN),
@@ -26,8 +27,12 @@ public enum ErrorType {
     EMAIL_VERIFICATION_REQUIRED(HttpStatus.BAD_REQUEST, ErrorCode.A006, "이메일 인증이 필요합니다.", LogLevel.WARN),
     INVALID_EMAIL_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, ErrorCode.A007, "이메일 인증 코드가 유효하지 않거나 만료되었습니다.", LogLevel.WARN),
     SAME_AS_OLD_PASSWORD(HttpStatus.BAD_REQUEST, ErrorCode.A008, "기존 비밀번호와 동일한 비밀번호로는 변경할 수 없습니다.", LogLevel.WARN),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.A009, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", LogLevel.WARN),
 
-    TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.T001, "거래내역을 찾을 수 없습니다.", LogLevel.WARN)
+    TRANSACTION_NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.T001, "거래내역을 찾을 수 없습니다.", LogLevel.WARN),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, ErrorCode.T002, "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", LogLevel.WARN),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.T003, "이미 다른 요청에 사용된 Idempotency-Key 입니다.", LogLevel.WARN),
+    RECURRING_RULE_NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.T004, "반복 거래 규칙을 찾을 수 없습니다.", LogLevel.WARN)
 
     ;
 
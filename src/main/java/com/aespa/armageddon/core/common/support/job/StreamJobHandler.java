@@ -0,0 +1,25 @@
+package com.aespa.armageddon.core.common.support.job;
+
+import java.util.Map;
+
+/**
+ * Redis Stream 기반 백그라운드 작업 처리기 (빈으로 등록하면 StreamJobWorker 가 구독한다)
+ *
+ * 작업은 at-least-once 로 전달된다. 처리 중 인스턴스가 죽으면 다른 인스턴스가 가져가 다시 실행하므로
+ * handle 은 같은 payload 로 여러 번 호출되어도 결과가 같아야 한다.
+ */
+public interface StreamJobHandler {
+
+    /** 스트림 키(job:{name})와 consumer group 이름 */
+    String name();
+
+    /** 인스턴스당 동시 처리 수 기본값 (job.{name}.concurrency 로 덮어씀) */
+    default int defaultConcurrency() {
+        return 1;
+    }
+
+    /**
+     * 예외를 던지면 ack 하지 않는다. pending 으로 남았다가 재시도되고, 최대 횟수를 넘으면 dead-letter 로 옮겨진다.
+     */
+    void handle(Map<String, String> payload);
+}
@@ -0,0 +1,99 @@
+package com.aespa.armageddon.core.common.support.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 작업 등록 (XADD job:{name} MAXLEN ~ max-length)
+ * 스트림은 등록과 같은 명령에서 max-length 근처로 잘린다. Redis 장애 시 false 를 반환해 호출한 쪽이 대신 처리할 수 있게 한다.
+ *
+ * enqueueOnce 는 같은 dedupeKey 의 작업이 아직 처리되지 않았으면 다시 등록하지 않는다.
+ * 표시(job:{name}:queued:{dedupeKey})는 StreamJobWorker 가 처리를 마치거나 dead-letter 로 옮길 때 지우고,
+ * 작업이 사라진 경우에 대비해 dedupe-ttl 이 지나면 만료된다.
+ */
+@Slf4j
+@Component
+public class StreamJobQueue {
+
+    static final String KEY_PREFIX = "job:";
+    static final String DEDUPE_FIELD = "dedupeKey";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long maxLength;
+    private final Duration dedupeTtl;
+
+    public StreamJobQueue(StringRedisTemplate redisTemplate,
+                          @Value("${job.stream.max-length:100000}") long maxLength,
+                          @Value("${job.stream.dedupe-ttl-seconds:300}") long dedupeTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.maxLength = maxLength;
+        this.dedupeTtl = Duration.ofSeconds(dedupeTtlSeconds);
+    }
+
+    public boolean enqueue(String jobName, Map<String, String> payload) {
+        try {
+            add(jobName, payload);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Job queue unavailable. job={}, reason={}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 같은 dedupeKey 의 작업이 이미 대기 중이면 등록하지 않고 true 를 반환한다
+     */
+    public boolean enqueueOnce(String jobName, String dedupeKey, Map<String, String> payload) {
+        String marker = dedupeKey(jobName, dedupeKey);
+        try {
+            if (Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(marker, "1", dedupeTtl))) {
+                return true;
+            }
+            Map<String, String> fields = new HashMap<>(payload);
+            fields.put(DEDUPE_FIELD, dedupeKey);
+            add(jobName, fields);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Job queue unavailable. job={}, reason={}", jobName, e.getMessage());
+            release(jobName, dedupeKey);
+            return false;
+        }
+    }
+
+    /**
+     * 중복 등록 표시를 지운다. 실패해도 dedupe-ttl 뒤에 만료되므로 무시한다
+     */
+    private void release(String jobName, String dedupeKey) {
+        try {
+            redisTemplate.delete(dedupeKey(jobName, dedupeKey));
+        } catch (DataAccessException e) {
+            log.debug("Failed to release job dedupe marker. job={}, reason={}", jobName, e.getMessage());
+        }
+    }
+
+    private void add(String jobName, Map<String, String> payload) {
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(key(jobName)).ofMap(payload),
+                XAddOptions.maxlen(maxLength).approximateTrimming(true));
+    }
+
+    static String key(String jobName) {
+        return KEY_PREFIX + jobName;
+    }
+
+    static String deadLetterKey(String jobName) {
+        return KEY_PREFIX + jobName + ":dead";
+    }
+
+    static String dedupeKey(String jobName, String dedupeKey) {
+        return KEY_PREFIX + jobName + ":queued:" + dedupeKey;
+    }
+}
@@ -0,0 +1,275 @@
+package com.aespa.armageddon.core.common.support.job;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Stream consumer group 기반 작업 실행기
+ *
+ * - 분배 : 작업마다 스트림(job:{name})과 같은 이름의 consumer group 하나를 쓴다.
+ *   인스턴스마다 concurrency 개의 consumer 로 읽으므로 인스턴스를 늘리면 처리량이 그만큼 늘어난다.
+ * - 연결 : 기존 RedisConnectionFactory 로 StreamMessageListenerContainer 를 만든다 (별도 클라이언트 없음).
+ * - 확인 : 처리에 성공한 메시지만 XACK 한다. 실패하거나 처리 중 인스턴스가 죽은 메시지는 pending 으로 남는다.
+ * - 회수 : 주기적으로 reclaim-idle 이상 ack 되지 않은 pending 메시지를 XCLAIM 해 다시 처리한다.
+ *   전달 횟수가 max-deliveries 를 넘으면 job:{name}:dead 로 옮기고 ack 한다.
+ * - 중복 등록 : enqueueOnce 로 등록된 작업은 처리를 마치거나 dead-letter 로 옮긴 뒤 중복 등록 표시를 지운다.
+ *
+ * 지표 : job.processed / job.failed / job.reclaimed / job.dead (counter), job.duration (timer), job.pending (gauge)
+ *        모두 job 태그로 구분
+ */
+@Slf4j
+@Component
+public class StreamJobWorker implements SmartLifecycle {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<StreamJobHandler> handlerProvider;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${job.stream.poll-timeout-millis:2000}")
+    private long pollTimeoutMillis;
+
+    @Value("${job.stream.batch-size:10}")
+    private int batchSize;
+
+    @Value("${job.stream.reclaim-idle-millis:60000}")
+    private long reclaimIdleMillis;
+
+    @Value("${job.stream.max-deliveries:5}")
+    private int maxDeliveries;
+
+    private final String consumerName = consumerName();
+    private final Map<String, StreamJobHandler> handlers = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> pendingCounts = new ConcurrentHashMap<>();
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private volatile boolean running;
+
+    public StreamJobWorker(RedisConnectionFactory connectionFactory,
+                           StringRedisTemplate redisTemplate,
+                           ObjectProvider<StreamJobHandler> handlerProvider,
+                           Environment environment,
+                           MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.handlerProvider = handlerProvider;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        handlerProvider.orderedStream().forEach(handler -> handlers.put(handler.name(), handler));
+        if (handlers.isEmpty()) {
+            running = true;
+            return;
+        }
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofMillis(pollTimeoutMillis))
+                        .batchSize(batchSize)
+                        .executor(new SimpleAsyncTaskExecutor("stream-job-"))
+                        .build();
+        container = StreamMessageListenerContainer.create(connectionFactory, options);
+
+        for (StreamJobHandler handler : handlers.values()) {
+            String name = handler.name();
+            ensureGroup(name);
+            AtomicLong pending = new AtomicLong();
+            pendingCounts.put(name, pending);
+            Gauge.builder("job.pending", pending, AtomicLong::get)
+                    .description("Delivered but unacknowledged job messages")
+                    .tag("job", name)
+                    .register(meterRegistry);
+
+            int concurrency = environment.getProperty(
+                    "job." + name + ".concurrency", Integer.class, handler.defaultConcurrency());
+            for (int i = 0; i < concurrency; i++) {
+                StreamReadRequest<String> request = StreamReadRequest
+                        .builder(StreamOffset.create(StreamJobQueue.key(name), ReadOffset.lastConsumed()))
+                        .consumer(Consumer.from(name, consumerName + "-" + i))
+                        .autoAcknowledge(false)
+                        // 연결 오류로 구독이 끝나지 않도록 계속 읽는다
+                        .cancelOnError(error -> false)
+                        .errorHandler(error -> log.warn("Job stream read failed. job={}, reason={}",
+                                name, error.getMessage()))
+                        .build();
+                container.register(request, record -> process(handler, record.getId(), record.getValue()));
+            }
+            log.info("Job consumer started. job={}, consumer={}, concurrency={}", name, consumerName, concurrency);
+        }
+        container.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 오래 ack 되지 않은 pending 메시지 회수
+     */
+    @Scheduled(fixedDelayString = "${job.stream.reclaim-interval-millis:30000}")
+    public void reclaim() {
+        for (StreamJobHandler handler : handlers.values()) {
+            try {
+                ensureGroup(handler.name());
+                reclaim(handler);
+            } catch (DataAccessException e) {
+                log.warn("Job reclaim failed. job={}, reason={}", handler.name(), e.getMessage());
+            }
+        }
+    }
+
+    void reclaim(StreamJobHandler handler) {
+        String name = handler.name();
+        String key = StreamJobQueue.key(name);
+        StreamOperations<String, Object, Object> ops = redisTemplate.opsForStream();
+
+        PendingMessagesSummary summary = ops.pending(key, name);
+        pendingCounts.computeIfAbsent(name, n -> new AtomicLong())
+                .set(summary == null ? 0 : summary.getTotalPendingMessages());
+        if (summary == null || summary.getTotalPendingMessages() == 0) {
+            return;
+        }
+
+        Duration minIdle = Duration.ofMillis(reclaimIdleMillis);
+        PendingMessages pending = ops.pending(key, name, Range.unbounded(), batchSize * 10L);
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            if (message.getTotalDeliveryCount() >= maxDeliveries) {
+                deadLetter(ops, name, message.getId());
+                continue;
+            }
+            // 다른 인스턴스가 먼저 회수했으면 idle 조건이 맞지 않아 빈 목록이 반환된다
+            for (MapRecord<String, Object, Object> record : ops.claim(key, name, consumerName, minIdle, message.getId())) {
+                meterRegistry.counter("job.reclaimed", "job", name).increment();
+                process(handler, record.getId(), toStringMap(record.getValue()));
+            }
+        }
+    }
+
+    private void process(StreamJobHandler handler, RecordId id, Map<String, String> payload) {
+        String name = handler.name();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            handler.handle(payload);
+            redisTemplate.opsForStream().acknowledge(StreamJobQueue.key(name), name, id);
+            meterRegistry.counter("job.processed", "job", name).increment();
+            releaseDedupe(name, payload);
+        } catch (RuntimeException e) {
+            // ack 하지 않는다. reclaim 이 다시 가져간다
+            meterRegistry.counter("job.failed", "job", name).increment();
+            log.warn("Job failed. job={}, id={}, reason={}", name, id, e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("job.duration", "job", name));
+        }
+    }
+
+    private void deadLetter(StreamOperations<String, Object, Object> ops, String name, RecordId id) {
+        String key = StreamJobQueue.key(name);
+        List<MapRecord<String, Object, Object>> records = ops.range(key, Range.closed(id.getValue(), id.getValue()));
+        if (records != null && !records.isEmpty()) {
+            Map<String, String> payload = toStringMap(records.get(0).getValue());
+            payload.put("sourceId", id.getValue());
+            ops.add(StreamRecords.newRecord().in(StreamJobQueue.deadLetterKey(name)).ofMap(payload));
+            releaseDedupe(name, payload);
+        }
+        ops.acknowledge(key, name, id);
+        meterRegistry.counter("job.dead", "job", name).increment();
+        log.warn("Job moved to dead letter after {} deliveries. job={}, id={}", maxDeliveries, name, id);
+    }
+
+    /**
+     * enqueueOnce 로 등록된 작업이면 중복 등록 표시를 지워 다음 요청이 다시 등록할 수 있게 한다
+     * (지우지 못해도 dedupe-ttl 뒤에 만료됨)
+     */
+    private void releaseDedupe(String name, Map<String, String> payload) {
+        String dedupeKey = payload.get(StreamJobQueue.DEDUPE_FIELD);
+        if (dedupeKey == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(StreamJobQueue.dedupeKey(name, dedupeKey));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release job dedupe marker. job={}, reason={}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 스트림이 없으면 함께 만든다. 이미 있으면(BUSYGROUP) 무시
+     */
+    private void ensureGroup(String name) {
+        try {
+            redisTemplate.opsForStream().createGroup(StreamJobQueue.key(name), ReadOffset.from("0"), name);
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                log.warn("Failed to create job consumer group. job={}, reason={}", name, e.getMessage());
+            }
+        }
+    }
+
+    private Map<String, String> toStringMap(Map<Object, Object> value) {
+        Map<String, String> payload = new HashMap<>();
+        value.forEach((k, v) -> payload.put(String.valueOf(k), String.valueOf(v)));
+        return payload;
+    }
+
+    private static String consumerName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,61 @@
+package com.aespa.armageddon.core.common.support.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 작업 분배용 Redis 락 (SET NX PX)
+ *
+ * 획득하면 소유 토큰을 돌려주고, 해제는 토큰이 같을 때만 지운다 (만료 후 다른 인스턴스가 잡은 락을 지우지 않음).
+ * Redis 장애 시에는 획득 실패로 본다 (이번 주기는 건너뛰고 다음 주기에 다시 시도).
+ * 락은 중복 작업을 줄이기 위한 것이며, 정확성은 각 작업이 DB 조건으로 보장해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final String PREFIX = "lock:";
+
+    /**
+     * KEYS[1] = key, ARGV[1] = 소유 토큰
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<String> tryLock(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(PREFIX + name, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Lock store unavailable. Skipping. lock={}, reason={}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void unlock(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(PREFIX + name), token);
+        } catch (DataAccessException e) {
+            // 해제하지 못해도 ttl 이 지나면 풀린다
+            log.warn("Failed to release lock. lock={}, reason={}", name, e.getMessage());
+        }
+    }
+}
@@ -2,7 +2,11 @@ package com.aespa.armageddon.core.domain.auth.repository;
 
 import com.aespa.armageddon.core.domain.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,4 +18,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByLoginId(String loginId);
 
     boolean existsByEmail(String email);
+
+    /*
+     * 비밀번호 해시 교체 (짧은 쓰기 트랜잭션). 해싱은 트랜잭션 밖에서 끝낸 뒤 호출한다.
+     * currentPassword 가 그대로일 때만 바꾼다 (그 사이 재설정된 비밀번호를 덮어쓰지 않음).
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :currentPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("currentPassword") String currentPassword,
+                       @Param("newPassword") String newPassword);
 }
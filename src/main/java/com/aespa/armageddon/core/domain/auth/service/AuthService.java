@@ -2,6 +2,7 @@ package com.aespa.armageddon.core.domain.auth.service;
 
 import com.aespa.armageddon.core.api.auth.dto.request.LoginRequest;
 import com.aespa.armageddon.core.api.auth.dto.response.TokenResponse;
+import com.aespa.armageddon.core.common.support.crypto.CodeHasher;
 import com.aespa.armageddon.core.common.support.error.CoreException;
 import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.domain.auth.entity.User;
@@ -9,11 +10,13 @@ import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
 import com.aespa.armageddon.infra.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
 
 @Service
 @RequiredArgsConstructor
@@ -21,55 +24,86 @@ import java.time.Duration;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTokenStore tokenStore;
+    private final TokenStore tokenStore;
 
     @Value("${jwt.expiration}")
     private long accessTokenExpiration;
 
-    @Transactional
+    /**
+     * 해시 비교(최대 수십 ms, 풀이 밀리면 timeout 까지 대기)를 DB 커넥션 없이 하도록 트랜잭션 밖에서 실행한다.
+     * 조회와 재해싱 저장은 각각 짧은 트랜잭션으로 처리된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
         User user = userRepository.findByLoginId(request.getLoginId())
                 .orElseThrow(() -> new CoreException(ErrorType.INVALID_CREDENTIALS));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new CoreException(ErrorType.INVALID_CREDENTIALS);
         }
 
+        // 설정된 cost 와 다르게 저장된 해시는 평문을 알고 있는 지금 재해싱 (재설정 없이 cost 조정)
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), user.getPassword(), passwordHasher.encode(request.getPassword()));
+        }
+
         String accessToken = jwtTokenProvider.createToken(user.getId(), user.getLoginId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getLoginId());
+        String tokenId = jwtTokenProvider.generateTokenId();
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getLoginId(), tokenId);
 
-        tokenStore.storeRefreshToken(
-                user.getLoginId(),
-                refreshToken,
+        tokenStore.storeRefreshSession(
+                user.getId(),
+                tokenId,
+                fingerprint(refreshToken),
                 Duration.ofMillis(jwtTokenProvider.getRefreshExpiration())
         );
 
         return TokenResponse.of(accessToken, refreshToken, accessTokenExpiration);
     }
 
+    /**
+     * jti 가 없는 토큰(세션 방식 이전 발급)은 loginId 키에 저장된 원문과 같으면 한 번만 받아 새 세션으로 옮긴다.
+     */
     @Transactional
     public TokenResponse refreshToken(String providedRefreshToken) {
         jwtTokenProvider.validateToken(providedRefreshToken);
         String loginId = jwtTokenProvider.getLoginIdFromJWT(providedRefreshToken);
-
-        String storedToken = tokenStore.getRefreshToken(loginId);
-        if (storedToken == null || !storedToken.equals(providedRefreshToken)) {
-            throw new CoreException(ErrorType.UNAUTHORIZED);
-        }
+        String providedTokenId = jwtTokenProvider.getTokenIdFromJWT(providedRefreshToken);
 
         User user = userRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
 
         String accessToken = jwtTokenProvider.createToken(user.getId(), user.getLoginId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getLoginId());
+        String tokenId = jwtTokenProvider.generateTokenId();
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), user.getLoginId(), tokenId);
+
+        if (providedTokenId == null) {
+            if (!tokenStore.consumeLegacyRefreshToken(loginId, providedRefreshToken)) {
+                throw new CoreException(ErrorType.UNAUTHORIZED);
+            }
+            tokenStore.storeRefreshSession(
+                    user.getId(),
+                    tokenId,
+                    fingerprint(refreshToken),
+                    Duration.ofMillis(jwtTokenProvider.getRefreshExpiration())
+            );
+            return TokenResponse.of(accessToken, refreshToken, accessTokenExpiration);
+        }
 
-        tokenStore.storeRefreshToken(
-                user.getLoginId(),
-                refreshToken,
+        // 저장된 세션과 일치할 때만 교체 (동시 갱신 요청 중 하나만 성공, 다른 기기 세션은 유지)
+        boolean rotated = tokenStore.rotateRefreshSession(
+                user.getId(),
+                providedTokenId,
+                fingerprint(providedRefreshToken),
+                tokenId,
+                fingerprint(refreshToken),
                 Duration.ofMillis(jwtTokenProvider.getRefreshExpiration())
         );
+        if (!rotated) {
+            throw new CoreException(ErrorType.UNAUTHORIZED);
+        }
 
         return TokenResponse.of(accessToken, refreshToken, accessTokenExpiration);
     }
@@ -77,7 +111,25 @@ public class AuthService {
     @Transactional
     public void logout(String refreshToken) {
         jwtTokenProvider.validateToken(refreshToken);
-        String loginId = jwtTokenProvider.getLoginIdFromJWT(refreshToken);
-        tokenStore.deleteRefreshToken(loginId);
+        Long userId = jwtTokenProvider.getUserIdFromJWT(refreshToken);
+        String tokenId = jwtTokenProvider.getTokenIdFromJWT(refreshToken);
+        if (tokenId == null) {
+            // 세션 방식 이전 토큰
+            tokenStore.consumeLegacyRefreshToken(jwtTokenProvider.getLoginIdFromJWT(refreshToken), refreshToken);
+            return;
+        }
+        if (userId == null) {
+            return;
+        }
+        // 현재 기기 세션만 폐기
+        tokenStore.revokeRefreshSession(userId, tokenId);
+    }
+
+    /**
+     * refresh token 전체 대신 저장하는 fingerprint (SHA-256 앞 16바이트, base64url)
+     */
+    private String fingerprint(String token) {
+        byte[] digest = CodeHasher.sha256(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
     }
 }
@@ -0,0 +1,299 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis(primary) 앞에 두는 circuit breaker
+ *
+ * - CLOSED    : primary 사용. 실패하거나 slowCallThreshold 보다 느린 호출이
+ *               failureThreshold 번 연속되면 OPEN 으로 전환한다.
+ *               실패한 호출은 fallback 으로 다시 수행해 요청은 실패시키지 않는다.
+ * - OPEN      : openDuration 동안 primary 를 호출하지 않고 fallback 만 사용한다.
+ * - HALF_OPEN : openDuration 이 지나면 한 번만 primary 를 시도해 성공하면 CLOSED, 실패하면 다시 OPEN.
+ *
+ * fallback 에 저장된 토큰은 Redis 복구 후에는 보이지 않으므로
+ * 장애 구간에 발급된 세션/코드는 재로그인 또는 재요청이 필요할 수 있다.
+ *
+ * 세션 폐기(로그아웃, 비밀번호 재설정, 회원 탈퇴)는 반대로 Redis 복구 후에도 유지되어야 한다.
+ * 그래서 두 저장소 모두에 적용하고, primary 에 적용하지 못한 폐기는 쌓아 두었다가
+ * primary 를 다시 쓰게 되면 다음 연산보다 먼저 재실행한다.
+ * 대기열은 인스턴스 메모리에 있으므로 복구 전에 인스턴스가 재시작되면 그 폐기는 사라진다.
+ */
+@Slf4j
+public class CircuitBreakerTokenStore implements TokenStore, AutoCloseable {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** primary 에 재실행할 폐기 연산의 최대 개수 (넘치면 가장 오래된 것부터 버린다) */
+    private static final int MAX_PENDING_REVOCATIONS = 10_000;
+
+    private final TokenStore primary;
+    private final TokenStore fallback;
+    private final int failureThreshold;
+    private final long slowCallThresholdNanos;
+    private final long openDurationMillis;
+    private final Clock clock;
+
+    private final Deque<Consumer<TokenStore>> pendingRevocations = new ArrayDeque<>();
+    // 대기열이 비어 있으면 락 없이 건너뛰기 위한 표시
+    private volatile boolean revocationsPending;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreakerTokenStore(TokenStore primary, TokenStore fallback, int failureThreshold,
+                                    Duration slowCallThreshold, Duration openDuration) {
+        this(primary, fallback, failureThreshold, slowCallThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CircuitBreakerTokenStore(TokenStore primary, TokenStore fallback, int failureThreshold,
+                             Duration slowCallThreshold, Duration openDuration, Clock clock) {
+        this.primary = primary;
+        this.fallback = fallback;
+        this.failureThreshold = failureThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    int pendingRevocationCount() {
+        synchronized (pendingRevocations) {
+            return pendingRevocations.size();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (fallback instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /* ===================== TokenStore ===================== */
+
+    @Override
+    public void storeRefreshSession(Long userId, String tokenId, String fingerprint, Duration ttl) {
+        run(store -> store.storeRefreshSession(userId, tokenId, fingerprint, ttl));
+    }
+
+    @Override
+    public boolean rotateRefreshSession(Long userId, String tokenId, String fingerprint,
+                                        String newTokenId, String newFingerprint, Duration ttl) {
+        return call(store -> store.rotateRefreshSession(userId, tokenId, fingerprint, newTokenId, newFingerprint, ttl));
+    }
+
+    @Override
+    public void revokeRefreshSession(Long userId, String tokenId) {
+        revoke(store -> store.revokeRefreshSession(userId, tokenId));
+    }
+
+    @Override
+    public boolean consumeLegacyRefreshToken(String loginId, String token) {
+        return call(store -> store.consumeLegacyRefreshToken(loginId, token));
+    }
+
+    @Override
+    public void revokeAllRefreshSessions(Long userId, String loginId) {
+        revoke(store -> store.revokeAllRefreshSessions(userId, loginId));
+    }
+
+    @Override
+    public void storePasswordResetCode(Long userId, String codeHash, Duration ttl) {
+        run(store -> store.storePasswordResetCode(userId, codeHash, ttl));
+    }
+
+    @Override
+    public String getPasswordResetCode(Long userId) {
+        return call(store -> store.getPasswordResetCode(userId));
+    }
+
+    @Override
+    public void deletePasswordResetCode(Long userId) {
+        run(store -> store.deletePasswordResetCode(userId));
+    }
+
+    @Override
+    public void deletePasswordResetAndSessions(Long userId, String loginId) {
+        revoke(store -> store.deletePasswordResetAndSessions(userId, loginId));
+    }
+
+    @Override
+    public void storeEmailVerificationCode(String email, String codeHash, Duration ttl) {
+        run(store -> store.storeEmailVerificationCode(email, codeHash, ttl));
+    }
+
+    @Override
+    public String getEmailVerificationCode(String email) {
+        return call(store -> store.getEmailVerificationCode(email));
+    }
+
+    @Override
+    public boolean confirmEmailVerificationCode(String email, String codeHash, Duration verifiedTtl) {
+        return call(store -> store.confirmEmailVerificationCode(email, codeHash, verifiedTtl));
+    }
+
+    @Override
+    public void deleteEmailVerificationCode(String email) {
+        run(store -> store.deleteEmailVerificationCode(email));
+    }
+
+    @Override
+    public void storeEmailVerified(String email, Duration ttl) {
+        run(store -> store.storeEmailVerified(email, ttl));
+    }
+
+    @Override
+    public boolean isEmailVerified(String email) {
+        return call(store -> store.isEmailVerified(email));
+    }
+
+    @Override
+    public boolean consumeEmailVerified(String email) {
+        return call(store -> store.consumeEmailVerified(email));
+    }
+
+    @Override
+    public void deleteEmailVerified(String email) {
+        run(store -> store.deleteEmailVerified(email));
+    }
+
+    @Override
+    public void deleteEmailVerification(String email) {
+        run(store -> store.deleteEmailVerification(email));
+    }
+
+    @Override
+    public void deleteAllForUser(Long userId, String loginId, String email) {
+        revoke(store -> store.deleteAllForUser(userId, loginId, email));
+    }
+
+    /* ===================== 내부 로직 ===================== */
+
+    private void run(Consumer<TokenStore> operation) {
+        call(store -> {
+            operation.accept(store);
+            return null;
+        });
+    }
+
+    /**
+     * 세션 폐기는 fallback 에 바로 적용하고, primary 에 적용하지 못하면 재실행 대기열에 넣는다.
+     */
+    private void revoke(Consumer<TokenStore> operation) {
+        operation.accept(fallback);
+        if (!allowPrimary()) {
+            enqueueRevocation(operation);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            replayPendingRevocations();
+            operation.accept(primary);
+            onPrimaryCompleted(System.nanoTime() - start);
+        } catch (DataAccessException e) {
+            onPrimaryFailed(e);
+            enqueueRevocation(operation);
+        }
+    }
+
+    private <T> T call(Function<TokenStore, T> operation) {
+        if (!allowPrimary()) {
+            return operation.apply(fallback);
+        }
+
+        long start = System.nanoTime();
+        try {
+            // 장애 구간의 폐기를 먼저 반영해야 복구 직후 새로 저장한 세션을 지우지 않는다
+            replayPendingRevocations();
+            T result = operation.apply(primary);
+            onPrimaryCompleted(System.nanoTime() - start);
+            return result;
+        } catch (DataAccessException e) {
+            onPrimaryFailed(e);
+            return operation.apply(fallback);
+        }
+    }
+
+    private void enqueueRevocation(Consumer<TokenStore> operation) {
+        synchronized (pendingRevocations) {
+            if (pendingRevocations.size() >= MAX_PENDING_REVOCATIONS) {
+                pendingRevocations.pollFirst();
+                log.error("Pending token revocations exceeded {}. Dropping the oldest one.", MAX_PENDING_REVOCATIONS);
+            }
+            pendingRevocations.addLast(operation);
+            revocationsPending = true;
+        }
+    }
+
+    /**
+     * 대기 중인 폐기를 primary 에 순서대로 적용한다. 실패하면 남은 것은 그대로 두고 예외를 던진다.
+     */
+    private void replayPendingRevocations() {
+        if (!revocationsPending) {
+            return;
+        }
+        synchronized (pendingRevocations) {
+            while (!pendingRevocations.isEmpty()) {
+                pendingRevocations.peekFirst().accept(primary);
+                pendingRevocations.pollFirst();
+            }
+            revocationsPending = false;
+            log.info("Replayed pending token revocations to Redis.");
+        }
+    }
+
+    private synchronized boolean allowPrimary() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && clock.millis() - openedAt >= openDurationMillis) {
+            // 한 요청만 primary 로 시험 호출
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onPrimaryCompleted(long elapsedNanos) {
+        if (elapsedNanos > slowCallThresholdNanos) {
+            recordFailure("slow call (" + elapsedNanos / 1_000_000 + "ms)");
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            log.info("Token store circuit closed. Redis is available again.");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    private synchronized void onPrimaryFailed(DataAccessException e) {
+        recordFailure(e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+
+    private void recordFailure(String reason) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Token store circuit opened. Falling back to in-memory store. reason={}", reason);
+            }
+            state = State.OPEN;
+            openedAt = clock.millis();
+        }
+    }
+}
@@ -1,16 +1,13 @@
 package com.aespa.armageddon.core.domain.auth.service;
 
+import com.aespa.armageddon.core.common.support.crypto.CodeHasher;
 import com.aespa.armageddon.core.common.support.error.CoreException;
 import com.aespa.armageddon.core.common.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
@@ -18,7 +15,7 @@ public class EmailVerificationService {
 
     private static final Duration TTL = Duration.ofMinutes(10);
 
-    private final RedisTokenStore tokenStore;
+    private final TokenStore tokenStore;
     private final MailService mailService;
 
     @Transactional
@@ -28,8 +25,8 @@ public class EmailVerificationService {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
         }
 
-        String code = generate6DigitCode();
-        String codeHash = sha256(code);
+        String code = CodeHasher.generate6DigitCode();
+        String codeHash = CodeHasher.sha256Hex(code);
 
         tokenStore.storeEmailVerificationCode(normalizedEmail, codeHash, TTL);
 
@@ -44,18 +41,11 @@ public class EmailVerificationService {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
         }
 
-        String storedHash = tokenStore.getEmailVerificationCode(normalizedEmail);
-        if (storedHash == null) {
+        // 코드 비교, 코드 삭제, 인증 완료 저장을 Redis 에서 한 번에 처리
+        String inputHash = CodeHasher.sha256Hex(normalizedCode);
+        if (!tokenStore.confirmEmailVerificationCode(normalizedEmail, inputHash, TTL)) {
             throw new CoreException(ErrorType.INVALID_EMAIL_VERIFICATION_CODE);
         }
-
-        String inputHash = sha256(normalizedCode);
-        if (!storedHash.equals(inputHash)) {
-            throw new CoreException(ErrorType.INVALID_EMAIL_VERIFICATION_CODE);
-        }
-
-        tokenStore.deleteEmailVerificationCode(normalizedEmail);
-        tokenStore.storeEmailVerified(normalizedEmail, TTL);
     }
 
     @Transactional
@@ -65,39 +55,16 @@ public class EmailVerificationService {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
         }
 
-        if (!tokenStore.isEmailVerified(normalizedEmail)) {
+        if (!tokenStore.consumeEmailVerified(normalizedEmail)) {
             throw new CoreException(ErrorType.EMAIL_VERIFICATION_REQUIRED);
         }
-
-        tokenStore.deleteEmailVerified(normalizedEmail);
-        tokenStore.deleteEmailVerificationCode(normalizedEmail);
     }
 
     @Transactional
     public void deleteByEmail(String email) {
         String normalizedEmail = trimToNull(email);
         if (normalizedEmail != null) {
-            tokenStore.deleteEmailVerificationCode(normalizedEmail);
-            tokenStore.deleteEmailVerified(normalizedEmail);
-        }
-    }
-
-    private String generate6DigitCode() {
-        int n = ThreadLocalRandom.current().nextInt(0, 1_000_000);
-        return String.format("%06d", n);
-    }
-
-    private String sha256(String raw) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] bytes = md.digest(raw.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(bytes.length * 2);
-            for (byte b : bytes) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
+            tokenStore.deleteEmailVerification(normalizedEmail);
         }
     }
 
@@ -0,0 +1,125 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부 sliding window (테스트 / 단일 노드 배포용)
+ *
+ * - 키마다 window 안의 요청 시각을 deque 로 보관한다. deque 는 compute 안에서만 수정한다.
+ * - 키 수가 maxKeys 에 도달하면 window 가 지난 키를 정리한다.
+ */
+public class InMemoryRateLimiter implements RateLimiter {
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final Clock clock;
+
+    public InMemoryRateLimiter(int maxKeys) {
+        this(maxKeys, Clock.systemUTC());
+    }
+
+    InMemoryRateLimiter(int maxKeys, Clock clock) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException("maxKeys must be positive.");
+        }
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        long now = clock.millis();
+        if (!windows.containsKey(key) && windows.size() >= maxKeys) {
+            purgeIdle(now);
+        }
+
+        boolean[] acquired = new boolean[1];
+        windows.compute(key, (k, current) -> {
+            Window w = current != null ? current : new Window(window.toMillis());
+            acquired[0] = w.tryAdd(now, limit);
+            return w;
+        });
+        return acquired[0];
+    }
+
+    @Override
+    public boolean isLimited(String key, int limit, Duration window) {
+        long now = clock.millis();
+        boolean[] limited = new boolean[1];
+        windows.computeIfPresent(key, (k, w) -> {
+            limited[0] = w.count(now) >= limit;
+            return w;
+        });
+        return limited[0];
+    }
+
+    @Override
+    public void record(String key, Duration window) {
+        long now = clock.millis();
+        if (!windows.containsKey(key) && windows.size() >= maxKeys) {
+            purgeIdle(now);
+        }
+        windows.compute(key, (k, current) -> {
+            Window w = current != null ? current : new Window(window.toMillis());
+            w.add(now);
+            return w;
+        });
+    }
+
+    @Override
+    public void reset(String key) {
+        windows.remove(key);
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    private void purgeIdle(long now) {
+        for (String key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, w) -> w.isIdle(now) ? null : w);
+        }
+    }
+
+    private static final class Window {
+
+        private final ArrayDeque<Long> hits = new ArrayDeque<>();
+        private final long windowMillis;
+
+        private Window(long windowMillis) {
+            this.windowMillis = windowMillis;
+        }
+
+        boolean tryAdd(long now, int limit) {
+            if (count(now) >= limit) {
+                return false;
+            }
+            hits.addLast(now);
+            return true;
+        }
+
+        void add(long now) {
+            evictOlderThan(now - windowMillis);
+            hits.addLast(now);
+        }
+
+        int count(long now) {
+            evictOlderThan(now - windowMillis);
+            return hits.size();
+        }
+
+        boolean isIdle(long now) {
+            Long last = hits.peekLast();
+            return last == null || last <= now - windowMillis;
+        }
+
+        private void evictOlderThan(long threshold) {
+            while (!hits.isEmpty() && hits.peekFirst() <= threshold) {
+                hits.pollFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내부 TokenStore (테스트 / 단일 노드 배포 / Redis 장애 시 fallback 용)
+ *
+ * - 만료 처리 : hashed timer wheel. 키를 만료 tick 에 해당하는 슬롯에 넣어두고
+ *   tick 마다 해당 슬롯만 확인하므로 전체 키를 순회하지 않는다.
+ *   wheel 한 바퀴보다 긴 TTL 은 슬롯에 남아 있다가 다음 바퀴에 다시 확인된다.
+ * - 조회 시에도 만료 시각을 확인하므로 tick 사이에 만료된 값은 반환되지 않는다.
+ * - 크기 제한 : maxEntries 에 도달하면 만료가 가장 임박한 키부터 제거한다.
+ *   wheel 슬롯은 바퀴 수를 구분하지 않으므로 (만료 시각, 키) 순으로 정렬된 색인을 따로 두고, 값을 바꿀 때마다
+ *   키 단위 compute 안에서 함께 갱신한다.
+ * - refresh 세션 : 사용자별 키 하나에 tokenId -> (fingerprint, 만료시각) Map 을 저장한다.
+ */
+@Slf4j
+public class InMemoryTokenStore implements TokenStore, AutoCloseable {
+
+    private static final String VERIFIED = "1";
+    private static final int MAX_SESSIONS_PER_USER = 10;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Expiry> byExpiry = new ConcurrentSkipListSet<>();
+    private final Set<String>[] wheel;
+    private final long tickMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private long currentTick;
+    private ScheduledExecutorService ticker;
+
+    public InMemoryTokenStore(int maxEntries, Duration tick, int wheelSize) {
+        this(maxEntries, tick, wheelSize, Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    InMemoryTokenStore(int maxEntries, Duration tick, int wheelSize, Clock clock) {
+        if (maxEntries <= 0 || wheelSize <= 0 || tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("Invalid in-memory token store settings.");
+        }
+        this.maxEntries = maxEntries;
+        this.tickMillis = tick.toMillis();
+        this.clock = clock;
+        this.wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.currentTick = tickOf(clock.millis());
+    }
+
+    /**
+     * 만료 처리용 tick 스레드 시작
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "token-store-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::expireEntries, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        entries.clear();
+        byExpiry.clear();
+    }
+
+    /**
+     * 현재 시각까지 지나간 tick 의 슬롯을 확인해 만료된 키를 제거한다.
+     */
+    synchronized void expireEntries() {
+        long nowTick = tickOf(clock.millis());
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 확인하면 충분하다
+        long from = Math.max(currentTick, nowTick - wheel.length + 1);
+        for (long t = from; t <= nowTick; t++) {
+            expireSlot(wheel[slotOf(t)]);
+        }
+        currentTick = nowTick + 1;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /* ===================== TokenStore ===================== */
+
+    @Override
+    public void storeRefreshSession(Long userId, String tokenId, String fingerprint, Duration ttl) {
+        String key = TokenKeys.sessions(userId);
+        long now = clock.millis();
+        long expiresAt = now + ttl.toMillis();
+        if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+            evictSoonestExpiring();
+        }
+        entries.compute(key, (k, entry) -> {
+            Map<String, Session> sessions = liveSessions(entry, now);
+            if (sessions.size() >= MAX_SESSIONS_PER_USER) {
+                sessions.entrySet().stream()
+                        .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                        .map(Map.Entry::getKey)
+                        .ifPresent(sessions::remove);
+            }
+            sessions.put(tokenId, new Session(fingerprint, expiresAt));
+            return reindex(k, entry, new Entry(Map.copyOf(sessions), expiresAt));
+        });
+        wheel[slotOf(tickOf(expiresAt))].add(key);
+    }
+
+    @Override
+    public boolean rotateRefreshSession(Long userId, String tokenId, String fingerprint,
+                                        String newTokenId, String newFingerprint, Duration ttl) {
+        String key = TokenKeys.sessions(userId);
+        long now = clock.millis();
+        long expiresAt = now + ttl.toMillis();
+        boolean[] rotated = new boolean[1];
+        entries.computeIfPresent(key, (k, entry) -> {
+            Map<String, Session> sessions = liveSessions(entry, now);
+            Session current = sessions.get(tokenId);
+            if (current == null || !current.fingerprint().equals(fingerprint)) {
+                return entry;
+            }
+            rotated[0] = true;
+            sessions.remove(tokenId);
+            sessions.put(newTokenId, new Session(newFingerprint, expiresAt));
+            return reindex(k, entry, new Entry(Map.copyOf(sessions), expiresAt));
+        });
+        if (rotated[0]) {
+            wheel[slotOf(tickOf(expiresAt))].add(key);
+        }
+        return rotated[0];
+    }
+
+    @Override
+    public void revokeRefreshSession(Long userId, String tokenId) {
+        long now = clock.millis();
+        entries.computeIfPresent(TokenKeys.sessions(userId), (k, entry) -> {
+            Map<String, Session> sessions = liveSessions(entry, now);
+            sessions.remove(tokenId);
+            return reindex(k, entry, sessions.isEmpty() ? null : new Entry(Map.copyOf(sessions), entry.expiresAt()));
+        });
+    }
+
+    /**
+     * 이전 방식 토큰은 Redis 에만 저장되었으므로 메모리 저장소에는 없다
+     */
+    @Override
+    public boolean consumeLegacyRefreshToken(String loginId, String token) {
+        return false;
+    }
+
+    @Override
+    public void revokeAllRefreshSessions(Long userId, String loginId) {
+        remove(TokenKeys.sessions(userId));
+    }
+
+    /**
+     * 세션 수 (테스트 확인용)
+     */
+    int sessionCount(Long userId) {
+        Entry entry = entries.get(TokenKeys.sessions(userId));
+        return entry == null ? 0 : liveSessions(entry, clock.millis()).size();
+    }
+
+    @Override
+    public void storePasswordResetCode(Long userId, String codeHash, Duration ttl) {
+        put(TokenKeys.passwordReset(userId), codeHash, ttl);
+    }
+
+    @Override
+    public String getPasswordResetCode(Long userId) {
+        return get(TokenKeys.passwordReset(userId));
+    }
+
+    @Override
+    public void deletePasswordResetCode(Long userId) {
+        remove(TokenKeys.passwordReset(userId));
+    }
+
+    @Override
+    public void deletePasswordResetAndSessions(Long userId, String loginId) {
+        remove(TokenKeys.passwordReset(userId));
+        remove(TokenKeys.sessions(userId));
+    }
+
+    @Override
+    public void storeEmailVerificationCode(String email, String codeHash, Duration ttl) {
+        put(TokenKeys.emailCode(email), codeHash, ttl);
+    }
+
+    @Override
+    public String getEmailVerificationCode(String email) {
+        return get(TokenKeys.emailCode(email));
+    }
+
+    @Override
+    public boolean confirmEmailVerificationCode(String email, String codeHash, Duration verifiedTtl) {
+        String codeKey = TokenKeys.emailCode(email);
+        boolean[] matched = new boolean[1];
+        entries.computeIfPresent(codeKey, (key, entry) -> {
+            if (!entry.isExpired(clock.millis()) && entry.value().equals(codeHash)) {
+                matched[0] = true;
+                return reindex(key, entry, null);
+            }
+            return entry;
+        });
+        if (matched[0]) {
+            put(TokenKeys.emailVerified(email), VERIFIED, verifiedTtl);
+        }
+        return matched[0];
+    }
+
+    @Override
+    public void deleteEmailVerificationCode(String email) {
+        remove(TokenKeys.emailCode(email));
+    }
+
+    @Override
+    public void storeEmailVerified(String email, Duration ttl) {
+        put(TokenKeys.emailVerified(email), VERIFIED, ttl);
+    }
+
+    @Override
+    public boolean isEmailVerified(String email) {
+        return get(TokenKeys.emailVerified(email)) != null;
+    }
+
+    @Override
+    public boolean consumeEmailVerified(String email) {
+        long now = clock.millis();
+        boolean[] consumed = new boolean[1];
+        entries.computeIfPresent(TokenKeys.emailVerified(email), (key, entry) -> {
+            consumed[0] = !entry.isExpired(now);
+            return reindex(key, entry, null);
+        });
+        if (!consumed[0]) {
+            return false;
+        }
+        remove(TokenKeys.emailCode(email));
+        return true;
+    }
+
+    @Override
+    public void deleteEmailVerified(String email) {
+        remove(TokenKeys.emailVerified(email));
+    }
+
+    @Override
+    public void deleteEmailVerification(String email) {
+        remove(TokenKeys.emailCode(email));
+        remove(TokenKeys.emailVerified(email));
+    }
+
+    @Override
+    public void deleteAllForUser(Long userId, String loginId, String email) {
+        remove(TokenKeys.sessions(userId));
+        remove(TokenKeys.passwordReset(userId));
+        if (email != null) {
+            deleteEmailVerification(email);
+        }
+    }
+
+    /* ===================== 내부 로직 ===================== */
+
+    private void put(String key, String value, Duration ttl) {
+        long expiresAt = clock.millis() + ttl.toMillis();
+        if (!entries.containsKey(key) && entries.size() >= maxEntries) {
+            evictSoonestExpiring();
+        }
+        entries.compute(key, (k, entry) -> reindex(k, entry, new Entry(value, expiresAt)));
+        wheel[slotOf(tickOf(expiresAt))].add(key);
+    }
+
+    private String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = clock.millis();
+        if (entry.isExpired(now)) {
+            removeIfExpired(key, now);
+            return null;
+        }
+        return (String) entry.value();
+    }
+
+    private void remove(String key) {
+        entries.computeIfPresent(key, (k, entry) -> reindex(k, entry, null));
+    }
+
+    private void removeIfExpired(String key, long now) {
+        entries.computeIfPresent(key, (k, entry) -> entry.isExpired(now) ? reindex(k, entry, null) : entry);
+    }
+
+    /**
+     * 만료 색인 갱신. 키의 값을 바꾸는 compute 안에서 호출해 같은 키의 갱신끼리 순서가 섞이지 않게 한다.
+     *
+     * @return after (compute 의 반환값으로 그대로 씀)
+     */
+    private Entry reindex(String key, Entry before, Entry after) {
+        if (before != null && (after == null || before.expiresAt() != after.expiresAt())) {
+            byExpiry.remove(new Expiry(before.expiresAt(), key));
+        }
+        if (after != null) {
+            byExpiry.add(new Expiry(after.expiresAt(), key));
+        }
+        return after;
+    }
+
+    /**
+     * 만료되지 않은 세션만 복사해 반환 (수정 후 불변 Map 으로 다시 저장)
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Session> liveSessions(Entry entry, long now) {
+        Map<String, Session> live = new HashMap<>();
+        if (entry == null || entry.isExpired(now)) {
+            return live;
+        }
+        ((Map<String, Session>) entry.value()).forEach((tokenId, session) -> {
+            if (session.expiresAt() > now) {
+                live.put(tokenId, session);
+            }
+        });
+        return live;
+    }
+
+    private void expireSlot(Set<String> slot) {
+        long now = clock.millis();
+        Iterator<String> it = slot.iterator();
+        while (it.hasNext()) {
+            String key = it.next();
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                it.remove();
+            } else if (entry.isExpired(now)) {
+                removeIfExpired(key, now);
+                it.remove();
+            }
+            // 아직 만료되지 않은 키는 다음 바퀴에서 다시 확인
+        }
+    }
+
+    /**
+     * 만료 색인의 맨 앞 키(만료가 가장 임박한 키)를 제거
+     */
+    private void evictSoonestExpiring() {
+        Expiry soonest;
+        while ((soonest = byExpiry.pollFirst()) != null) {
+            long expiresAt = soonest.expiresAt();
+            boolean[] evicted = new boolean[1];
+            entries.computeIfPresent(soonest.key(), (key, entry) -> {
+                if (entry.expiresAt() != expiresAt) {
+                    // 꺼낸 사이 값이 바뀜 (새 만료 시각은 색인에 따로 있음)
+                    return entry;
+                }
+                evicted[0] = true;
+                return null;
+            });
+            if (evicted[0]) {
+                log.debug("In-memory token store is full. Evicted key: {}", soonest.key());
+                return;
+            }
+        }
+    }
+
+    private long tickOf(long epochMillis) {
+        return epochMillis / tickMillis;
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) wheel.length);
+    }
+
+    /**
+     * value 는 단일 문자열 값이거나 세션 Map(tokenId -> Session)
+     */
+    private record Entry(Object value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private record Session(String fingerprint, long expiresAt) {
+    }
+
+    private record Expiry(long expiresAt, String key) implements Comparable<Expiry> {
+
+        private static final Comparator<Expiry> ORDER =
+                Comparator.comparingLong(Expiry::expiresAt).thenComparing(Expiry::key);
+
+        @Override
+        public int compareTo(Expiry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 / 인증 코드 발송 요청 제한
+ * 계정(loginId, email) 단위와 클라이언트 IP 단위로 각각 sliding window 를 적용한다.
+ * BCrypt 비교나 메일 발송 전에 호출해 대량 요청이 CPU / 메일 서버를 점유하지 않도록 한다.
+ *
+ * - 로그인 : 실패한 시도만 센다. 성공하면 계정 카운터를 비운다 (IP 카운터는 유지).
+ *   확인과 기록 사이에 동시에 들어온 시도는 한도를 조금 넘을 수 있다 (해싱 풀 크기로 제한됨).
+ * - 인증 코드 발송 : 요청마다 메일이 나가므로 모든 요청을 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+
+    private static final String PREFIX = "auth:ratelimit:";
+
+    private final RateLimiter rateLimiter;
+
+    @Value("${auth.throttle.login.max-per-account:10}")
+    private int loginMaxPerAccount;
+
+    @Value("${auth.throttle.login.max-per-ip:50}")
+    private int loginMaxPerIp;
+
+    @Value("${auth.throttle.login.window-seconds:300}")
+    private long loginWindowSeconds;
+
+    @Value("${auth.throttle.code.max-per-account:5}")
+    private int codeMaxPerAccount;
+
+    @Value("${auth.throttle.code.max-per-ip:20}")
+    private int codeMaxPerIp;
+
+    @Value("${auth.throttle.code.window-seconds:600}")
+    private long codeWindowSeconds;
+
+    /**
+     * 최근 실패 횟수가 한도에 도달했으면 TOO_MANY_REQUESTS. 이번 시도는 기록하지 않는다.
+     */
+    public void checkLogin(String loginId, String clientIp) {
+        Duration window = Duration.ofSeconds(loginWindowSeconds);
+        if (clientIp != null && rateLimiter.isLimited(key("login", "ip", clientIp), loginMaxPerIp, window)) {
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS);
+        }
+        String account = normalize(loginId);
+        if (account != null && rateLimiter.isLimited(key("login", "account", account), loginMaxPerAccount, window)) {
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS);
+        }
+    }
+
+    public void recordLoginFailure(String loginId, String clientIp) {
+        Duration window = Duration.ofSeconds(loginWindowSeconds);
+        if (clientIp != null) {
+            rateLimiter.record(key("login", "ip", clientIp), window);
+        }
+        String account = normalize(loginId);
+        if (account != null) {
+            rateLimiter.record(key("login", "account", account), window);
+        }
+    }
+
+    public void resetLoginFailures(String loginId) {
+        String account = normalize(loginId);
+        if (account != null) {
+            rateLimiter.reset(key("login", "account", account));
+        }
+    }
+
+    public void checkPasswordReset(String loginId, String clientIp) {
+        check("pwreset", loginId, clientIp, codeMaxPerAccount, codeMaxPerIp, Duration.ofSeconds(codeWindowSeconds));
+    }
+
+    public void checkEmailVerification(String email, String clientIp) {
+        check("emailverify", email, clientIp, codeMaxPerAccount, codeMaxPerIp, Duration.ofSeconds(codeWindowSeconds));
+    }
+
+    private void check(String action, String account, String clientIp,
+                       int maxPerAccount, int maxPerIp, Duration window) {
+        // IP 를 먼저 확인해 한 IP 가 여러 계정을 시도하는 경우 계정 카운터를 소모하지 않게 한다
+        if (clientIp != null && !rateLimiter.tryAcquire(key(action, "ip", clientIp), maxPerIp, window)) {
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS);
+        }
+
+        String normalizedAccount = normalize(account);
+        if (normalizedAccount != null
+                && !rateLimiter.tryAcquire(key(action, "account", normalizedAccount), maxPerAccount, window)) {
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private static String key(String action, String scope, String value) {
+        return PREFIX + action + ":" + scope + ":" + value;
+    }
+
+    private static String normalize(String account) {
+        if (account == null) {
+            return null;
+        }
+        String normalized = account.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
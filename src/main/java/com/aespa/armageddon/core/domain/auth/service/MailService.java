@@ -4,4 +4,6 @@ public interface MailService {
     void sendPasswordResetCode(String to, String code);
 
     void sendEmailVerificationCode(String to, String code);
+
+    void sendBudgetAlert(String to, String goalTitle, int percent, long currentAmount, int targetAmount);
 }
@@ -68,4 +68,17 @@ public class MailServiceImp implements MailService {
 
         sendHtmlMail(to, subject, "mail/VerifyEmail", vars);
     }
+
+    @Override
+    public void sendBudgetAlert(String to, String goalTitle, int percent, long currentAmount, int targetAmount) {
+        String subject = "[armageddon] Budget alert: " + percent + "% used";
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("goalTitle", goalTitle);
+        vars.put("percent", percent);
+        vars.put("currentAmount", currentAmount);
+        vars.put("targetAmount", targetAmount);
+
+        sendHtmlMail(to, subject, "mail/BudgetAlert", vars);
+    }
 }
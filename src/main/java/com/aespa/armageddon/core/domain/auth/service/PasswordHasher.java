@@ -0,0 +1,152 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱 / 비교 전용 작업 풀
+ *
+ * - 스레드 수 : 기본값은 CPU 코어 수. BCrypt 는 CPU 작업이므로 코어보다 많이 돌려도 처리량이 늘지 않는다.
+ * - 대기열   : 고정 크기. 가득 차면 즉시 SERVICE_BUSY(503) 로 거절해 요청 스레드가 쌓이지 않게 한다.
+ * - 동시 가입/로그인 폭주 시에도 해싱이 사용하는 CPU 가 풀 크기로 제한되어 거래·통계 API 지연에 영향을 덜 준다.
+ *
+ * 지표 : auth.password.hasher.queue.size / active (gauge), rejected (counter), duration (timer)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    /** 0 이하이면 CPU 코어 수 */
+    @Value("${security.password.hasher.threads:0}")
+    private int threads;
+
+    @Value("${security.password.hasher.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${security.password.hasher.timeout-millis:5000}")
+    private long timeoutMillis;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    private ThreadPoolExecutor executor;
+    private Counter rejectedCounter;
+    private Timer durationTimer;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("auth.password.hasher.queue.size", executor, e -> e.getQueue().size())
+                .description("Pending password hashing tasks")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hasher.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks in progress")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.password.hasher.rejected")
+                .description("Password hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+        durationTimer = Timer.builder("auth.password.hasher.duration")
+                .description("Password hashing time excluding queue wait")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * BCrypt 해시($2a$10$...)의 cost 가 설정값과 다르면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith("$2")) {
+            return false;
+        }
+        String[] parts = encodedPassword.split("\\$", 4);
+        if (parts.length < 4) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(parts[2]) != bcryptStrength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> durationTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hasher saturated. queue={}, active={}",
+                    executor.getQueue().size(), executor.getActiveCount());
+            throw new CoreException(ErrorType.SERVICE_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new CoreException(ErrorType.SERVICE_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.SERVICE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -3,28 +3,24 @@ package com.aespa.armageddon.core.domain.auth.service;
 
 import com.aespa.armageddon.core.api.auth.dto.request.PasswordResetConfirmRequest;
 import com.aespa.armageddon.core.api.auth.dto.request.PasswordResetRequest;
+import com.aespa.armageddon.core.common.support.crypto.CodeHasher;
 import com.aespa.armageddon.core.common.support.error.CoreException;
 import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.domain.auth.entity.User;
 import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 public class PasswordResetService {
 
     private final UserRepository userRepository;
-    private final RedisTokenStore tokenStore;
-    private final PasswordEncoder passwordEncoder;
+    private final TokenStore tokenStore;
+    private final PasswordHasher passwordHasher;
     private final MailService mailService;
 
     private static final Duration TTL = Duration.ofMinutes(10);
@@ -48,15 +44,17 @@ public class PasswordResetService {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
         }
 
-        String code = generate6DigitCode();
-        String codeHash = sha256(code);
+        String code = CodeHasher.generate6DigitCode();
+        String codeHash = CodeHasher.sha256Hex(code);
 
         tokenStore.storePasswordResetCode(user.getId(), codeHash, TTL);
 
         mailService.sendPasswordResetCode(user.getEmail(), code);
     }
 
-    @Transactional
+    /**
+     * 해시 비교/생성은 트랜잭션 밖에서 하고 비밀번호 교체만 짧은 트랜잭션으로 저장한다.
+     */
     public void confirmReset(PasswordResetConfirmRequest req) {
         if (req == null) {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
@@ -78,37 +76,20 @@ public class PasswordResetService {
             throw new CoreException(ErrorType.INVALID_PASSWORD_RESET_CODE);
         }
 
-        String inputHash = sha256(code);
-        if (!storedHash.equals(inputHash)) {
+        if (!CodeHasher.matches(storedHash, code)) {
             throw new CoreException(ErrorType.INVALID_PASSWORD_RESET_CODE);
         }
 
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+        if (passwordHasher.matches(newPassword, user.getPassword())) {
             throw new CoreException(ErrorType.SAME_AS_OLD_PASSWORD);
         }
 
-        user.updatePassword(passwordEncoder.encode(newPassword));
-        tokenStore.deletePasswordResetCode(user.getId());
-        tokenStore.deleteRefreshToken(user.getLoginId());
-    }
-
-    private String generate6DigitCode() {
-        int n = ThreadLocalRandom.current().nextInt(0, 1_000_000);
-        return String.format("%06d", n);
-    }
-
-    private String sha256(String raw) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] bytes = md.digest(raw.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder(bytes.length * 2);
-            for (byte b : bytes) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 not available", e);
+        String encodedPassword = passwordHasher.encode(newPassword);
+        if (userRepository.updatePassword(user.getId(), user.getPassword(), encodedPassword) == 0) {
+            // 해싱하는 사이 비밀번호가 바뀜. 코드는 남겨 두고 다시 시도하게 한다
+            throw new CoreException(ErrorType.INVALID_PASSWORD_RESET_CODE);
         }
+        tokenStore.deletePasswordResetAndSessions(user.getId(), user.getLoginId());
     }
 
     private String trimToNull(String s) {
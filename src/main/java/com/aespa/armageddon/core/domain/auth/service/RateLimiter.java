@@ -0,0 +1,33 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import java.time.Duration;
+
+/**
+ * sliding window 요청 제한
+ * - redis  : RedisRateLimiter (기본값, 다중 노드 공유)
+ * - memory : InMemoryRateLimiter (테스트 / 단일 노드)
+ *
+ * auth.rate-limit.mode 속성으로 선택한다.
+ */
+public interface RateLimiter {
+
+    /**
+     * 최근 window 동안 key 로 허용된 요청이 limit 미만이면 이번 요청을 기록하고 true 를 반환한다.
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+
+    /**
+     * 최근 window 동안 key 로 기록된 요청이 limit 이상이면 true (기록하지 않음)
+     */
+    boolean isLimited(String key, int limit, Duration window);
+
+    /**
+     * key 에 이번 요청을 기록한다 (실패한 시도만 세는 경우)
+     */
+    void record(String key, Duration window);
+
+    /**
+     * key 의 기록을 모두 지운다
+     */
+    void reset(String key);
+}
@@ -0,0 +1,128 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ZSET 기반 sliding window (score = 요청 시각(ms))
+ * Redis 장애 시에는 로그인 자체가 막히지 않도록 요청을 허용한다 (fail-open).
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    /**
+     * window 밖의 기록을 지우고 남은 개수가 limit 미만이면 이번 요청을 추가 (ZREMRANGEBYSCORE + ZCARD + ZADD 원자화)
+     * KEYS[1] = key, ARGV[1] = 현재 시각(ms), ARGV[2] = window(ms), ARGV[3] = limit, ARGV[4] = member
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], now, ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], window)
+            return 1
+            """, Long.class);
+
+    /**
+     * window 밖의 기록을 지우고 남은 개수를 반환
+     * KEYS[1] = key, ARGV[1] = 현재 시각(ms), ARGV[2] = window(ms)
+     */
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2]))
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    /**
+     * 이번 요청을 추가 (ZADD + PEXPIRE)
+     * KEYS[1] = key, ARGV[1] = 현재 시각(ms), ARGV[2] = window(ms), ARGV[3] = member
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        long now = System.currentTimeMillis();
+        String member = member(now);
+        try {
+            Long result = redisTemplate.execute(
+                    SLIDING_WINDOW_SCRIPT,
+                    List.of(key),
+                    String.valueOf(now),
+                    String.valueOf(window.toMillis()),
+                    String.valueOf(limit),
+                    member
+            );
+            return !Long.valueOf(0L).equals(result);
+        } catch (DataAccessException e) {
+            log.warn("Rate limiter unavailable. Allowing request. key={}, reason={}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public boolean isLimited(String key, int limit, Duration window) {
+        try {
+            Long count = redisTemplate.execute(
+                    COUNT_SCRIPT,
+                    List.of(key),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(window.toMillis())
+            );
+            return count != null && count >= limit;
+        } catch (DataAccessException e) {
+            log.warn("Rate limiter unavailable. Allowing request. key={}, reason={}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void record(String key, Duration window) {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.execute(
+                    RECORD_SCRIPT,
+                    List.of(key),
+                    String.valueOf(now),
+                    String.valueOf(window.toMillis()),
+                    member(now)
+            );
+        } catch (DataAccessException e) {
+            log.warn("Rate limiter unavailable. Skipping record. key={}, reason={}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("Rate limiter unavailable. Skipping reset. key={}, reason={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 ms 에 들어온 요청도 구분되도록 난수를 붙인다
+     */
+    private static String member(long now) {
+        return now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -1,17 +1,105 @@
 package com.aespa.armageddon.core.domain.auth.service;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.stereotype.Component;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
-@Component
-public class RedisTokenStore {
+public class RedisTokenStore implements TokenStore {
 
-    private static final String PREFIX_REFRESH = "auth:refresh:";
-    private static final String PREFIX_PWRESET = "auth:pwreset:";
-    private static final String PREFIX_EMAIL_CODE = "auth:emailverify:code:";
-    private static final String PREFIX_EMAIL_VERIFIED = "auth:emailverify:verified:";
+    /** 사용자당 동시에 유지할 수 있는 최대 세션(기기) 수 */
+    private static final int MAX_SESSIONS_PER_USER = 10;
+
+    /**
+     * 세션 hash 값은 "fingerprint:만료시각(ms)" 형식.
+     * 저장 시 만료된 세션을 정리하고, 최대 개수를 넘으면 만료가 가장 임박한 세션을 제거한다.
+     * KEYS[1] = sessions key, ARGV[1] = tokenId, ARGV[2] = 세션 값, ARGV[3] = 현재 시각(ms),
+     * ARGV[4] = TTL(ms), ARGV[5] = 최대 세션 수
+     */
+    private static final RedisScript<Long> STORE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[3])
+            local fields = redis.call('HGETALL', KEYS[1])
+            local count = 0
+            local oldestField, oldestExp
+            for i = 1, #fields, 2 do
+                local exp = tonumber(string.match(fields[i + 1], ':(%d+)$')) or 0
+                if exp <= now then
+                    redis.call('HDEL', KEYS[1], fields[i])
+                else
+                    count = count + 1
+                    if not oldestExp or exp < oldestExp then
+                        oldestField, oldestExp = fields[i], exp
+                    end
+                end
+            end
+            if count >= tonumber(ARGV[5]) and oldestField then
+                redis.call('HDEL', KEYS[1], oldestField)
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * tokenId 세션의 fingerprint 가 일치하고 만료 전이면 새 세션으로 교체 (HGET + HDEL + HSET 원자화)
+     * KEYS[1] = sessions key, ARGV[1] = tokenId, ARGV[2] = fingerprint, ARGV[3] = 새 tokenId,
+     * ARGV[4] = 새 세션 값, ARGV[5] = 현재 시각(ms), ARGV[6] = TTL(ms)
+     */
+    private static final RedisScript<Long> ROTATE_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('HGET', KEYS[1], ARGV[1])
+            if not stored then
+                return 0
+            end
+            local fingerprint, exp = string.match(stored, '^(.*):(%d+)$')
+            if fingerprint ~= ARGV[2] or tonumber(exp) <= tonumber(ARGV[5]) then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[1], ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            return 1
+            """, Long.class);
+
+    /**
+     * 저장된 값이 같을 때만 삭제 (GET + DEL 원자화)
+     * KEYS[1] = key, ARGV[1] = 기대 값
+     */
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 인증 코드 해시가 일치하면 코드를 삭제하고 인증 완료 표시를 남김 (GET + DEL + SET 원자화)
+     * KEYS[1] = code key, KEYS[2] = verified key, ARGV[1] = 입력 코드 해시, ARGV[2] = TTL(ms)
+     */
+    private static final RedisScript<Long> CONSUME_EMAIL_CODE_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored or stored ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], '1', 'PX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 인증 완료 표시가 있으면 인증 관련 키를 모두 삭제 (EXISTS + DEL 원자화)
+     * KEYS[1] = verified key, KEYS[2] = code key
+     */
+    private static final RedisScript<Long> CONSUME_EMAIL_VERIFIED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
 
     private final StringRedisTemplate redisTemplate;
 
@@ -19,67 +107,174 @@ public class RedisTokenStore {
         this.redisTemplate = redisTemplate;
     }
 
-    public void storeRefreshToken(String loginId, String token, Duration ttl) {
-        redisTemplate.opsForValue().set(keyRefresh(loginId), token, ttl);
+    @Override
+    public void storeRefreshSession(Long userId, String tokenId, String fingerprint, Duration ttl) {
+        long now = System.currentTimeMillis();
+        redisTemplate.execute(
+                STORE_SESSION_SCRIPT,
+                List.of(TokenKeys.sessions(userId)),
+                tokenId,
+                sessionValue(fingerprint, now + ttl.toMillis()),
+                String.valueOf(now),
+                String.valueOf(ttl.toMillis()),
+                String.valueOf(MAX_SESSIONS_PER_USER)
+        );
+    }
+
+    /**
+     * 저장된 세션의 fingerprint 가 일치할 때만 새 세션으로 교체한다.
+     * 동시에 같은 refresh token 으로 갱신 요청이 들어와도 한 요청만 성공한다.
+     */
+    @Override
+    public boolean rotateRefreshSession(Long userId, String tokenId, String fingerprint,
+                                        String newTokenId, String newFingerprint, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Long result = redisTemplate.execute(
+                ROTATE_SESSION_SCRIPT,
+                List.of(TokenKeys.sessions(userId)),
+                tokenId,
+                fingerprint,
+                newTokenId,
+                sessionValue(newFingerprint, now + ttl.toMillis()),
+                String.valueOf(now),
+                String.valueOf(ttl.toMillis())
+        );
+        return Long.valueOf(1L).equals(result);
     }
 
-    public String getRefreshToken(String loginId) {
-        return redisTemplate.opsForValue().get(keyRefresh(loginId));
+    @Override
+    public void revokeRefreshSession(Long userId, String tokenId) {
+        redisTemplate.opsForHash().delete(TokenKeys.sessions(userId), tokenId);
     }
 
-    public void deleteRefreshToken(String loginId) {
-        redisTemplate.delete(keyRefresh(loginId));
+    @Override
+    public boolean consumeLegacyRefreshToken(String loginId, String token) {
+        Long result = redisTemplate.execute(
+                DELETE_IF_EQUALS_SCRIPT,
+                List.of(TokenKeys.legacyRefresh(loginId)),
+                token
+        );
+        return Long.valueOf(1L).equals(result);
     }
 
+    @Override
+    public void revokeAllRefreshSessions(Long userId, String loginId) {
+        redisTemplate.delete(List.of(TokenKeys.sessions(userId), TokenKeys.legacyRefresh(loginId)));
+    }
+
+    @Override
     public void storePasswordResetCode(Long userId, String codeHash, Duration ttl) {
-        redisTemplate.opsForValue().set(keyPasswordReset(userId), codeHash, ttl);
+        redisTemplate.opsForValue().set(TokenKeys.passwordReset(userId), codeHash, ttl);
     }
 
+    @Override
     public String getPasswordResetCode(Long userId) {
-        return redisTemplate.opsForValue().get(keyPasswordReset(userId));
+        return redisTemplate.opsForValue().get(TokenKeys.passwordReset(userId));
     }
 
+    @Override
     public void deletePasswordResetCode(Long userId) {
-        redisTemplate.delete(keyPasswordReset(userId));
+        redisTemplate.delete(TokenKeys.passwordReset(userId));
+    }
+
+    /**
+     * 비밀번호 재설정 완료 후 재설정 코드와 모든 세션(이전 형식 포함)을 한 번의 DEL 로 삭제
+     */
+    @Override
+    public void deletePasswordResetAndSessions(Long userId, String loginId) {
+        redisTemplate.delete(List.of(
+                TokenKeys.passwordReset(userId),
+                TokenKeys.sessions(userId),
+                TokenKeys.legacyRefresh(loginId)
+        ));
     }
 
+    @Override
     public void storeEmailVerificationCode(String email, String codeHash, Duration ttl) {
-        redisTemplate.opsForValue().set(keyEmailCode(email), codeHash, ttl);
+        redisTemplate.opsForValue().set(TokenKeys.emailCode(email), codeHash, ttl);
     }
 
+    @Override
     public String getEmailVerificationCode(String email) {
-        return redisTemplate.opsForValue().get(keyEmailCode(email));
+        return redisTemplate.opsForValue().get(TokenKeys.emailCode(email));
     }
 
+    /**
+     * 코드 해시가 일치하면 코드를 소비하고 인증 완료 상태를 저장한다.
+     *
+     * @return 코드가 존재하고 일치하면 true
+     */
+    @Override
+    public boolean confirmEmailVerificationCode(String email, String codeHash, Duration verifiedTtl) {
+        Long result = redisTemplate.execute(
+                CONSUME_EMAIL_CODE_SCRIPT,
+                List.of(TokenKeys.emailCode(email), TokenKeys.emailVerified(email)),
+                codeHash, String.valueOf(verifiedTtl.toMillis())
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    @Override
     public void deleteEmailVerificationCode(String email) {
-        redisTemplate.delete(keyEmailCode(email));
+        redisTemplate.delete(TokenKeys.emailCode(email));
     }
 
+    @Override
     public void storeEmailVerified(String email, Duration ttl) {
-        redisTemplate.opsForValue().set(keyEmailVerified(email), "1", ttl);
+        redisTemplate.opsForValue().set(TokenKeys.emailVerified(email), "1", ttl);
     }
 
+    @Override
     public boolean isEmailVerified(String email) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(keyEmailVerified(email)));
+        return Boolean.TRUE.equals(redisTemplate.hasKey(TokenKeys.emailVerified(email)));
     }
 
-    public void deleteEmailVerified(String email) {
-        redisTemplate.delete(keyEmailVerified(email));
+    /**
+     * 인증 완료 상태를 확인하고 소비한다. 인증 완료 표시와 코드를 함께 삭제한다.
+     *
+     * @return 인증 완료 상태였으면 true
+     */
+    @Override
+    public boolean consumeEmailVerified(String email) {
+        Long result = redisTemplate.execute(
+                CONSUME_EMAIL_VERIFIED_SCRIPT,
+                List.of(TokenKeys.emailVerified(email), TokenKeys.emailCode(email))
+        );
+        return Long.valueOf(1L).equals(result);
     }
 
-    private String keyRefresh(String loginId) {
-        return PREFIX_REFRESH + loginId;
+    @Override
+    public void deleteEmailVerified(String email) {
+        redisTemplate.delete(TokenKeys.emailVerified(email));
     }
 
-    private String keyPasswordReset(Long userId) {
-        return PREFIX_PWRESET + userId;
+    /**
+     * 이메일 인증 코드와 인증 완료 표시를 한 번의 DEL 로 삭제
+     */
+    @Override
+    public void deleteEmailVerification(String email) {
+        redisTemplate.delete(List.of(TokenKeys.emailCode(email), TokenKeys.emailVerified(email)));
     }
 
-    private String keyEmailCode(String email) {
-        return PREFIX_EMAIL_CODE + email;
+    /**
+     * 회원 탈퇴 시 사용자와 관련된 모든 키를 한 번의 DEL 로 삭제
+     *
+     * @param email null 이면 이메일 인증 키는 제외
+     */
+    @Override
+    public void deleteAllForUser(Long userId, String loginId, String email) {
+        List<String> keys = new ArrayList<>(5);
+        keys.add(TokenKeys.sessions(userId));
+        keys.add(TokenKeys.legacyRefresh(loginId));
+        keys.add(TokenKeys.passwordReset(userId));
+        if (email != null) {
+            keys.add(TokenKeys.emailCode(email));
+            keys.add(TokenKeys.emailVerified(email));
+        }
+        redisTemplate.delete(keys);
     }
 
-    private String keyEmailVerified(String email) {
-        return PREFIX_EMAIL_VERIFIED + email;
+    private String sessionValue(String fingerprint, long expiresAt) {
+        return fingerprint + ":" + expiresAt;
     }
 }
@@ -0,0 +1,37 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+/**
+ * TokenStore 구현체들이 공유하는 키 규칙
+ */
+final class TokenKeys {
+
+    private static final String PREFIX_SESSIONS = "auth:sessions:";
+    // 세션 방식 이전에 loginId 별로 refresh token 원문을 저장하던 키 (남은 토큰이 만료되면 제거)
+    private static final String PREFIX_LEGACY_REFRESH = "auth:refresh:";
+    private static final String PREFIX_PWRESET = "auth:pwreset:";
+    private static final String PREFIX_EMAIL_CODE = "auth:emailverify:code:";
+    private static final String PREFIX_EMAIL_VERIFIED = "auth:emailverify:verified:";
+
+    private TokenKeys() {
+    }
+
+    static String sessions(Long userId) {
+        return PREFIX_SESSIONS + userId;
+    }
+
+    static String legacyRefresh(String loginId) {
+        return PREFIX_LEGACY_REFRESH + loginId;
+    }
+
+    static String passwordReset(Long userId) {
+        return PREFIX_PWRESET + userId;
+    }
+
+    static String emailCode(String email) {
+        return PREFIX_EMAIL_CODE + email;
+    }
+
+    static String emailVerified(String email) {
+        return PREFIX_EMAIL_VERIFIED + email;
+    }
+}
@@ -0,0 +1,76 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import java.time.Duration;
+
+/**
+ * 인증 관련 단기 토큰 저장소
+ * - redis     : RedisTokenStore (기본값, 다중 노드 공유)
+ * - memory    : InMemoryTokenStore (테스트 / 단일 노드)
+ * - resilient : Redis 장애·지연 시 메모리 저장소로 우회하는 CircuitBreakerTokenStore
+ *
+ * auth.token-store.mode 속성으로 선택한다.
+ */
+public interface TokenStore {
+
+    /**
+     * refresh token 세션 저장 (사용자별 hash, field = tokenId(jti), value = 토큰 fingerprint)
+     * 전체 JWT 대신 fingerprint 만 저장하며 한 사용자가 여러 기기에서 동시에 로그인할 수 있다.
+     */
+    void storeRefreshSession(Long userId, String tokenId, String fingerprint, Duration ttl);
+
+    /**
+     * tokenId 세션의 fingerprint 가 일치할 때만 새 세션으로 교체한다.
+     */
+    boolean rotateRefreshSession(Long userId, String tokenId, String fingerprint,
+                                 String newTokenId, String newFingerprint, Duration ttl);
+
+    void revokeRefreshSession(Long userId, String tokenId);
+
+    /**
+     * jti 없이 발급된(세션 방식 이전) refresh token 이 loginId 키에 저장된 값과 같으면 지우고 true.
+     * 한 번만 성공하므로 호출한 쪽이 새 세션으로 옮긴다. 이전 토큰이 모두 만료되면 제거한다.
+     */
+    boolean consumeLegacyRefreshToken(String loginId, String token);
+
+    /**
+     * 사용자의 모든 기기 세션과 loginId 의 이전 형식 refresh token 폐기
+     */
+    void revokeAllRefreshSessions(Long userId, String loginId);
+
+    void storePasswordResetCode(Long userId, String codeHash, Duration ttl);
+
+    String getPasswordResetCode(Long userId);
+
+    void deletePasswordResetCode(Long userId);
+
+    /**
+     * 재설정 코드와 모든 refresh token 세션(이전 형식 포함)을 함께 삭제
+     */
+    void deletePasswordResetAndSessions(Long userId, String loginId);
+
+    void storeEmailVerificationCode(String email, String codeHash, Duration ttl);
+
+    String getEmailVerificationCode(String email);
+
+    /**
+     * 코드 해시가 일치하면 코드를 소비하고 인증 완료 상태를 저장한다.
+     */
+    boolean confirmEmailVerificationCode(String email, String codeHash, Duration verifiedTtl);
+
+    void deleteEmailVerificationCode(String email);
+
+    void storeEmailVerified(String email, Duration ttl);
+
+    boolean isEmailVerified(String email);
+
+    /**
+     * 인증 완료 상태를 확인하고 소비한다.
+     */
+    boolean consumeEmailVerified(String email);
+
+    void deleteEmailVerified(String email);
+
+    void deleteEmailVerification(String email);
+
+    void deleteAllForUser(Long userId, String loginId, String email);
+}
@@ -6,9 +6,10 @@ import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.domain.auth.entity.User;
 import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,11 +17,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final EmailVerificationService emailVerificationService;
-    private final RedisTokenStore tokenStore;
+    private final TokenStore tokenStore;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 해싱을 DB 커넥션 없이 하도록 트랜잭션 밖에서 실행한다. 중복 확인과 저장은 각각 짧은 트랜잭션이다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long signup(SignupRequest request) {
         if (userRepository.existsByLoginId(request.getLoginId())) {
             throw new CoreException(ErrorType.DUPLICATE_LOGIN_ID);
@@ -30,9 +35,10 @@ public class UserService {
             throw new CoreException(ErrorType.DUPLICATE_EMAIL);
         }
 
-        emailVerificationService.assertVerifiedAndConsume(request.getEmail());
+        // 해싱이 SERVICE_BUSY 로 거절되거나 실패해도 이메일 인증은 남도록 저장 직전에 소비한다
+        String encodedPassword = passwordHasher.encode(request.getPassword());
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        emailVerificationService.assertVerifiedAndConsume(request.getEmail());
 
         User user = User.builder()
                 .loginId(request.getLoginId())
@@ -45,14 +51,17 @@ public class UserService {
         return savedUser.getId();
     }
 
-    @Transactional
+    /**
+     * 현재 비밀번호 확인(해시 비교)은 트랜잭션 밖에서 하고, 변경은 확인이 끝난 뒤 짧은 트랜잭션으로 저장한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User updateProfile(String currentLoginId, String currentPassword,
                               String newLoginId, String newEmail, String newNickname) {
         if (currentLoginId == null) {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
         }
 
-        User user = userRepository.findByLoginId(currentLoginId)
+        User found = userRepository.findByLoginId(currentLoginId)
                 .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
 
         String trimmedLoginId = trimToNull(newLoginId);
@@ -64,37 +73,44 @@ public class UserService {
             throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
         }
 
-        if (trimmedCurrentPassword == null || !passwordEncoder.matches(trimmedCurrentPassword, user.getPassword())) {
+        if (trimmedCurrentPassword == null || !passwordHasher.matches(trimmedCurrentPassword, found.getPassword())) {
             throw new CoreException(ErrorType.INVALID_PASSWORD);
         }
 
-        boolean loginIdChanged = false;
-
-        if (trimmedLoginId != null && !trimmedLoginId.equals(user.getLoginId())) {
-            if (userRepository.existsByLoginId(trimmedLoginId)) {
-                throw new CoreException(ErrorType.DUPLICATE_LOGIN_ID);
+        return transactionTemplate.execute(status -> {
+            // 트랜잭션 안에서 다시 읽어 변경 감지 대상으로 만든다
+            User user = userRepository.findById(found.getId())
+                    .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
+            String previousLoginId = user.getLoginId();
+            boolean loginIdChanged = false;
+
+            if (trimmedLoginId != null && !trimmedLoginId.equals(user.getLoginId())) {
+                if (userRepository.existsByLoginId(trimmedLoginId)) {
+                    throw new CoreException(ErrorType.DUPLICATE_LOGIN_ID);
+                }
+                user.updateLoginId(trimmedLoginId);
+                loginIdChanged = true;
             }
-            user.updateLoginId(trimmedLoginId);
-            loginIdChanged = true;
-        }
 
-        if (trimmedEmail != null && !trimmedEmail.equalsIgnoreCase(user.getEmail())) {
-            if (userRepository.existsByEmail(trimmedEmail)) {
-                throw new CoreException(ErrorType.DUPLICATE_EMAIL);
+            if (trimmedEmail != null && !trimmedEmail.equalsIgnoreCase(user.getEmail())) {
+                if (userRepository.existsByEmail(trimmedEmail)) {
+                    throw new CoreException(ErrorType.DUPLICATE_EMAIL);
+                }
+                emailVerificationService.assertVerifiedAndConsume(trimmedEmail);
+                user.updateEmail(trimmedEmail);
             }
-            emailVerificationService.assertVerifiedAndConsume(trimmedEmail);
-            user.updateEmail(trimmedEmail);
-        }
 
-        if (trimmedNickname != null && !trimmedNickname.equals(user.getNickname())) {
-            user.updateNickname(trimmedNickname);
-        }
+            if (trimmedNickname != null && !trimmedNickname.equals(user.getNickname())) {
+                user.updateNickname(trimmedNickname);
+            }
 
-        if (loginIdChanged) {
-            tokenStore.deleteRefreshToken(currentLoginId);
-        }
+            if (loginIdChanged) {
+                // 기존 loginId 로 발급된 refresh token 은 모든 기기에서 폐기 (이전 형식 포함)
+                tokenStore.revokeAllRefreshSessions(user.getId(), previousLoginId);
+            }
 
-        return user;
+            return user;
+        });
     }
 
     @Transactional
@@ -106,9 +122,8 @@ public class UserService {
         User user = userRepository.findByLoginId(currentLoginId)
                 .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
 
-        tokenStore.deleteRefreshToken(user.getLoginId());
-        tokenStore.deletePasswordResetCode(user.getId());
-        emailVerificationService.deleteByEmail(user.getEmail());
+        // refresh token, 재설정 코드, 이메일 인증 키를 한 번에 삭제
+        tokenStore.deleteAllForUser(user.getId(), user.getLoginId(), trimToNull(user.getEmail()));
         userRepository.delete(user);
     }
 
@@ -0,0 +1,67 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 평소보다 크게 벗어난 지출 (작성/수정 시점의 분포 기준)
+ * 거래가 수정/삭제되면 지우고, 수정된 값으로 다시 판단한다.
+ */
+@Entity
+@Table(
+        name = "tbl_spending_anomaly",
+        uniqueConstraints = @UniqueConstraint(name = "uk_spending_anomaly_transaction", columnNames = "transaction_id"),
+        indexes = @Index(name = "idx_spending_anomaly_user_date", columnList = "user_no, date")
+)
+@NoArgsConstructor
+@Getter
+public class SpendingAnomaly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long transactionId;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Category category;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false)
+    private int amount;
+
+    // 같은 카테고리의 평소 금액 (기하 평균)
+    @Column(nullable = false)
+    private int typicalAmount;
+
+    // 로그 금액 기준 z-score
+    @Column(nullable = false)
+    private double score;
+
+    @Column(nullable = false)
+    private LocalDateTime detectedAt;
+
+    public SpendingAnomaly(Long transactionId, Long userNo, Category category, LocalDate date, int amount,
+                           int typicalAmount, double score) {
+        this.transactionId = transactionId;
+        this.userNo = userNo;
+        this.category = category;
+        this.date = date;
+        this.amount = amount;
+        this.typicalAmount = typicalAmount;
+        this.score = score;
+        this.detectedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,189 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingStats.Distribution;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카테고리별 평소 지출에서 크게 벗어난 지출 감지
+ *
+ * - 분포 : 사용자마다 SpendingProfile 행 하나에 카테고리별 로그 금액의 평균/분산(SpendingStats)을 보관한다.
+ *   거래 작성/수정/삭제 트랜잭션 안에서 이전 값을 빼고 새 값을 더하므로 조회 시 거래 원본을 다시 읽지 않는다.
+ * - 판단 : 작성/수정된 지출을 같은 카테고리의 나머지 거래(minSamples 건 이상)와 비교해
+ *   z-score 가 zThreshold 이상이고 금액이 평소의 minRatio 배 이상이면 SpendingAnomaly 로 남긴다.
+ * - 생성 : 분포가 없는 사용자는 처음 변경될 때 거래 원본을 카테고리별로 한 번 집계해 만든다 (별도 트랜잭션).
+ *   집계는 커밋된 거래만 보므로 이번 변경분은 그 뒤에 잠금을 잡고 반영한다.
+ *
+ * 갱신과 생성은 SpendingProfile 행을 잠가 직렬화한다. 둘 다 행이 없으면 빈 행을 먼저 넣고
+ * (INSERT … ON DUPLICATE KEY UPDATE) 잠근다.
+ * - 생성은 잠금을 잡은 뒤에 원본을 집계하므로, 먼저 잠금을 잡은 변경은 커밋된 뒤 집계에 포함된다
+ *   (InnoDB 는 잠금 없는 첫 SELECT 에서 스냅샷을 만든다). 그런 변경은 빈 행을 보고 반영하지 않는다.
+ * - 생성 뒤에 잠금을 잡은 변경은 만들어진 분포에 반영한다. 그 거래는 집계 때 커밋 전이라 한 번만 더해진다.
+ * - 생성은 호출한 쪽이 행을 잠그기 전에 실행한다 (잠근 뒤 별도 트랜잭션에서 기다리면 교착).
+ *
+ * 누적 합계(CategoryRunningTotals) 잠금 뒤에 잡는다.
+ */
+@Slf4j
+@Component
+public class SpendingAnomalyDetector {
+
+    private static final String AGGREGATE_SQL = """
+            select category, count(*) as cnt, avg(ln(amount)) as log_mean, var_pop(ln(amount)) as log_variance
+              from tbl_transaction
+             where user_no = ? and type = 'EXPENSE' and category is not null and amount > 0
+             group by category
+            """;
+
+    // 아직 만들지 않은 분포 자리 (decode 하면 null)
+    private static final byte[] PLACEHOLDER = new byte[0];
+
+    // 금액이 모두 비슷한 카테고리는 표준편차가 0 에 가까워 작은 차이도 튀므로 하한을 둔다 (약 ±25%)
+    private static final double MIN_LOG_STDDEV = 0.25;
+
+    private final SpendingProfileRepository profileRepository;
+    private final SpendingAnomalyRepository anomalyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${statistics.anomaly.min-samples:5}")
+    private int minSamples;
+
+    @Value("${statistics.anomaly.z-threshold:3.0}")
+    private double zThreshold;
+
+    @Value("${statistics.anomaly.min-ratio:3.0}")
+    private double minRatio;
+
+    public SpendingAnomalyDetector(SpendingProfileRepository profileRepository,
+                                   SpendingAnomalyRepository anomalyRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        this.profileRepository = profileRepository;
+        this.anomalyRepository = anomalyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 거래 변경분 반영 (before 를 빼고 after 를 더함). 호출한 쪽의 트랜잭션 안에서 실행된다.
+     *
+     * @param before 작성이면 null
+     * @param after  삭제면 null
+     */
+    public void apply(Long userNo, Long transactionId, TransactionAmountSnapshot before, TransactionAmountSnapshot after) {
+        boolean removeBefore = tracked(before);
+        boolean addAfter = tracked(after);
+        if (before != null) {
+            // 수정/삭제된 거래의 이전 판단은 버린다
+            anomalyRepository.deleteByTransactionId(transactionId);
+        }
+        if (!removeBefore && !addAfter) {
+            return;
+        }
+
+        if (profileRepository.findStats(userNo).map(SpendingStats::decode).isEmpty()) {
+            build(userNo);
+        }
+        SpendingProfile profile = lockProfile(userNo);
+        SpendingStats stats = SpendingStats.decode(profile.getStats());
+        if (stats == null) {
+            // 생성 실패 또는 형식이 바뀐 값. 잠금을 잡았으므로 다음 생성 때 이 변경도 원본에서 집계된다
+            return;
+        }
+        if (removeBefore) {
+            stats.remove(before.category(), before.amount());
+        }
+        if (addAfter) {
+            stats.add(after.category(), after.amount());
+            detect(userNo, transactionId, after, stats);
+        }
+        profile.update(stats.encode());
+    }
+
+    /**
+     * 반복 거래처럼 한 번에 생성된 지출을 분포에만 더한다 (판단하지 않음).
+     * 분포가 아직 없는 사용자는 행만 잠그고 건너뛴다. 생성할 때 거래 원본에 포함된다.
+     */
+    public void observe(Long userNo, List<TransactionAmountSnapshot> created) {
+        List<TransactionAmountSnapshot> expenses = created.stream().filter(this::tracked).toList();
+        if (expenses.isEmpty()) {
+            return;
+        }
+        SpendingProfile profile = lockProfile(userNo);
+        SpendingStats stats = SpendingStats.decode(profile.getStats());
+        if (stats == null) {
+            return;
+        }
+        for (TransactionAmountSnapshot expense : expenses) {
+            stats.add(expense.category(), expense.amount());
+        }
+        profile.update(stats.encode());
+    }
+
+    private void detect(Long userNo, Long transactionId, TransactionAmountSnapshot after, SpendingStats stats) {
+        if (transactionId == null) {
+            return;
+        }
+        Distribution usual = stats.excluding(after.category(), after.amount());
+        if (usual.count() < minSamples) {
+            return;
+        }
+        double score = (Math.log(after.amount()) - usual.logMean()) / Math.max(usual.logStddev(), MIN_LOG_STDDEV);
+        if (score < zThreshold || after.amount() < minRatio * usual.typicalAmount()) {
+            return;
+        }
+        anomalyRepository.save(new SpendingAnomaly(transactionId, userNo, after.category(), after.date(),
+                after.amount(), usual.typicalAmount(), score));
+    }
+
+    /**
+     * 행을 잠근다. 없으면 빈 행을 넣어 잠가 진행 중인 생성이 이 변경의 커밋을 기다리게 한다.
+     */
+    private SpendingProfile lockProfile(Long userNo) {
+        profileRepository.insertIfAbsent(userNo, PLACEHOLDER, LocalDateTime.now());
+        return profileRepository.findForUpdate(userNo)
+                .orElseThrow(() -> new IllegalStateException("Spending profile not found."));
+    }
+
+    /**
+     * 커밋된 거래 원본으로 분포를 만든다. 별도 트랜잭션에서 실행되며 실패해도 예외를 던지지 않는다.
+     */
+    private void build(Long userNo) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                // 1. 원본을 읽기 전에 행을 잠근다
+                SpendingProfile profile = lockProfile(userNo);
+                if (SpendingStats.decode(profile.getStats()) != null) {
+                    // 기다리는 사이 다른 요청이 만듦
+                    return;
+                }
+                // 2. 잠금을 잡은 상태에서 원본을 집계한다
+                SpendingStats stats = new SpendingStats();
+                jdbcTemplate.query(AGGREGATE_SQL, rs -> {
+                    stats.set(Category.valueOf(rs.getString("category")), rs.getInt("cnt"),
+                            rs.getDouble("log_mean"), rs.getDouble("log_variance"));
+                }, userNo);
+                profile.update(stats.encode());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to build spending profile. userNo={}, reason={}", userNo, e.getMessage());
+        }
+    }
+
+    private boolean tracked(TransactionAmountSnapshot snapshot) {
+        return snapshot != null && snapshot.type() == TransactionType.EXPENSE
+                && snapshot.category() != null && snapshot.amount() > 0;
+    }
+}
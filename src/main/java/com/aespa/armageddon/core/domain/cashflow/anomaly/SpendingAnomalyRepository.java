@@ -0,0 +1,13 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpendingAnomalyRepository extends JpaRepository<SpendingAnomaly, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from SpendingAnomaly a where a.transactionId = :transactionId")
+    int deleteByTransactionId(@Param("transactionId") Long transactionId);
+}
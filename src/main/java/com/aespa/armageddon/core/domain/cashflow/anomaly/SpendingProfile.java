@@ -0,0 +1,40 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 카테고리 지출 분포 (SpendingStats 직렬화 값)
+ *
+ * - 행이 없거나 stats 를 읽을 수 없으면(빈 값 포함) 아직 만들지 않은 것 (다음 지출 작성/수정/삭제 때 거래 원본 집계로 생성)
+ * - 갱신과 생성은 이 행을 잠가 직렬화한다. 행이 없으면 갱신하는 쪽도 빈 행을 먼저 넣는다.
+ */
+@Entity
+@Table(name = "tbl_spending_profile")
+@NoArgsConstructor
+@Getter
+public class SpendingProfile {
+
+    @Id
+    private Long userNo;
+
+    @Column(nullable = false, length = 512)
+    private byte[] stats;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public SpendingProfile(Long userNo, byte[] stats) {
+        this.userNo = userNo;
+        this.stats = stats;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void update(byte[] stats) {
+        this.stats = stats;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,31 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SpendingProfileRepository extends JpaRepository<SpendingProfile, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from SpendingProfile p where p.userNo = :userNo")
+    Optional<SpendingProfile> findForUpdate(@Param("userNo") Long userNo);
+
+    /* 잠그지 않고 값만 읽는다 (엔티티를 영속성 컨텍스트에 올리지 않음) */
+    @Query("select p.stats from SpendingProfile p where p.userNo = :userNo")
+    Optional<byte[]> findStats(@Param("userNo") Long userNo);
+
+    /* 행이 없으면 아직 만들지 않은 빈 행을 넣는다. 있으면 값은 그대로 두고 행 잠금만 잡는다 */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into tbl_spending_profile (user_no, stats, updated_at)
+            values (:userNo, :stats, :now)
+            on duplicate key update user_no = user_no
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userNo") Long userNo, @Param("stats") byte[] stats, @Param("now") LocalDateTime now);
+}
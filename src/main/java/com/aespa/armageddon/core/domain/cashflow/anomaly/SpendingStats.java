@@ -0,0 +1,129 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 카테고리별 지출 금액 분포 (Welford 누적 평균/분산, 스레드 안전하지 않음)
+ *
+ * - 값 : 금액의 자연로그. 지출 금액은 오른쪽으로 긴 분포라 로그를 취해야 "평소의 5배" 같은 배수 기준이 일정하게 잡힌다.
+ * - 갱신 : 추가/제거 모두 O(1). 수정은 이전 값 제거 + 새 값 추가로 처리한다.
+ * - 직렬화 : [FORMAT 1byte] + 거래가 있는 카테고리마다 [ordinal 1byte, count 4byte, mean 8byte, m2 8byte].
+ *   카테고리 11개를 모두 써도 232byte 이다. Category 순서가 바뀌면 FORMAT 을 올려 기존 값을 버리고 다시 만든다.
+ */
+final class SpendingStats {
+
+    static final byte FORMAT = 1;
+
+    private static final int CATEGORIES = Category.values().length;
+    private static final int ENTRY_BYTES = 1 + Integer.BYTES + Double.BYTES * 2;
+
+    private final int[] counts = new int[CATEGORIES];
+    private final double[] means = new double[CATEGORIES];
+    private final double[] m2s = new double[CATEGORIES];
+
+    void add(Category category, int amount) {
+        int c = category.ordinal();
+        double x = Math.log(amount);
+        counts[c]++;
+        double delta = x - means[c];
+        means[c] += delta / counts[c];
+        m2s[c] += delta * (x - means[c]);
+    }
+
+    void remove(Category category, int amount) {
+        int c = category.ordinal();
+        if (counts[c] <= 1) {
+            counts[c] = 0;
+            means[c] = 0;
+            m2s[c] = 0;
+            return;
+        }
+        double x = Math.log(amount);
+        double previousMean = (counts[c] * means[c] - x) / (counts[c] - 1);
+        m2s[c] = Math.max(0, m2s[c] - (x - means[c]) * (x - previousMean));
+        means[c] = previousMean;
+        counts[c]--;
+    }
+
+    int count(Category category) {
+        return counts[category.ordinal()];
+    }
+
+    /**
+     * 이미 반영된 거래 하나(amount)를 뺀 나머지 거래들의 분포. 거래를 자기 자신과 비교하지 않기 위해 쓴다.
+     */
+    Distribution excluding(Category category, int amount) {
+        int c = category.ordinal();
+        int n = counts[c] - 1;
+        if (n <= 0) {
+            return new Distribution(0, 0, 0);
+        }
+        double x = Math.log(amount);
+        double mean = (counts[c] * means[c] - x) / n;
+        double m2 = Math.max(0, m2s[c] - (x - means[c]) * (x - mean));
+        return new Distribution(n, mean, n > 1 ? Math.sqrt(m2 / (n - 1)) : 0);
+    }
+
+    /**
+     * 보관 중인 분포를 그대로 설정한다 (거래 원본 집계로 처음 만들 때)
+     *
+     * @param variance 모분산 (m2 / count)
+     */
+    void set(Category category, int count, double logMean, double variance) {
+        int c = category.ordinal();
+        counts[c] = count;
+        means[c] = logMean;
+        m2s[c] = variance * count;
+    }
+
+    byte[] encode() {
+        int entries = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                entries++;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(1 + entries * ENTRY_BYTES);
+        buffer.put(FORMAT);
+        for (int c = 0; c < CATEGORIES; c++) {
+            if (counts[c] > 0) {
+                buffer.put((byte) c).putInt(counts[c]).putDouble(means[c]).putDouble(m2s[c]);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return 형식이 다르면 null (다시 만들어야 함)
+     */
+    static SpendingStats decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT || (bytes.length - 1) % ENTRY_BYTES != 0) {
+            return null;
+        }
+        SpendingStats stats = new SpendingStats();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        while (buffer.hasRemaining()) {
+            int c = buffer.get();
+            if (c < 0 || c >= CATEGORIES) {
+                return null;
+            }
+            stats.counts[c] = buffer.getInt();
+            stats.means[c] = buffer.getDouble();
+            stats.m2s[c] = buffer.getDouble();
+        }
+        return stats;
+    }
+
+    /**
+     * 로그 금액의 표본 수, 평균, 표본 표준편차
+     */
+    record Distribution(int count, double logMean, double logStddev) {
+
+        /** 평소 금액 (기하 평균) */
+        int typicalAmount() {
+            return (int) Math.round(Math.exp(logMean));
+        }
+    }
+}
@@ -157,6 +157,71 @@ public class StatisticsController {
         );
     }
 
+    /**
+     * 평소와 크게 다른 지출 조회
+     */
+    @GetMapping("/expense/anomalies")
+    @Operation(summary = "Get expenses far above the usual amount for their category")
+    public ResponseEntity<List<ExpenseAnomalyResponse>> getExpenseAnomalies(
+            @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+            @RequestHeader("Authorization") String authorization,
+
+            @Parameter(description = "Start date (YYYY-MM-DD)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate,
+
+            @Parameter(description = "End date (YYYY-MM-DD)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate endDate
+    ) {
+        Long userNo = extractUserNo(authorization);
+
+        // 기본값: 이번 달
+        if (startDate == null || endDate == null) {
+            YearMonth currentMonth = YearMonth.now();
+            startDate = currentMonth.atDay(1);
+            endDate = currentMonth.atEndOfMonth();
+        }
+
+        return ResponseEntity.ok(
+                statisticsService.getExpenseAnomalies(userNo, startDate, endDate)
+        );
+    }
+
+    /**
+     * 카테고리별 지출 금액 분위수 조회 (월 단위 기간)
+     */
+    @GetMapping("/expense/quantiles")
+    @Operation(summary = "Get median and p90 expense amount by category")
+    public ResponseEntity<List<ExpenseQuantileResponse>> getExpenseQuantiles(
+            @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+            @RequestHeader("Authorization") String authorization,
+
+            @Parameter(description = "Start month (YYYY-MM)")
+            @RequestParam(required = false)
+            @DateTimeFormat(pattern = "yyyy-MM")
+            YearMonth startMonth,
+
+            @Parameter(description = "End month (YYYY-MM)")
+            @RequestParam(required = false)
+            @DateTimeFormat(pattern = "yyyy-MM")
+            YearMonth endMonth
+    ) {
+        Long userNo = extractUserNo(authorization);
+
+        // 기본값: 이번 달
+        if (startMonth == null || endMonth == null) {
+            startMonth = YearMonth.now();
+            endMonth = startMonth;
+        }
+
+        return ResponseEntity.ok(
+                statisticsService.getExpenseQuantiles(userNo, startMonth, endMonth)
+        );
+    }
+
     //공통 메서드
     private Long extractUserNo(String authorization) {
         if (authorization == null || !authorization.startsWith("Bearer ")) {
@@ -0,0 +1,16 @@
+package com.aespa.armageddon.core.domain.cashflow.dto;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+
+import java.time.LocalDate;
+
+public record ExpenseAnomalyResponse(
+        Long transactionId,
+        String title,
+        int amount,
+        int typicalAmount,  // 같은 카테고리의 평소 금액
+        Category category,
+        LocalDate date,
+        double score        // 평소에서 벗어난 정도 (로그 금액 z-score)
+) {
+}
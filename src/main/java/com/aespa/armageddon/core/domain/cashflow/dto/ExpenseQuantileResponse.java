@@ -0,0 +1,11 @@
+package com.aespa.armageddon.core.domain.cashflow.dto;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+
+public record ExpenseQuantileResponse(
+        Category category,
+        long count,     // 지출 건수
+        long median,    // 지출 1건 금액의 중앙값 (근사)
+        long p90        // 지출 1건 금액의 90 분위수 (근사)
+) {
+}
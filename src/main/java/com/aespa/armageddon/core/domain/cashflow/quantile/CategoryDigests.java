@@ -0,0 +1,75 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 한 달치 카테고리별 지출 금액 스케치 (스레드 안전하지 않음)
+ *
+ * 직렬화 : [FORMAT 1byte] + 지출이 있는 카테고리마다 [ordinal 1byte][TDigest]
+ * Category 순서나 TDigest 형식이 바뀌면 FORMAT 을 올린다. 형식이 다른 값은 다시 만든다.
+ */
+final class CategoryDigests {
+
+    static final byte FORMAT = 1;
+
+    // 한 달치 한 카테고리는 거래가 많아도 centroid 50 개 안팎 (약 600byte)
+    static final double COMPRESSION = 50;
+
+    private static final int CATEGORIES = Category.values().length;
+
+    private final TDigest[] digests = new TDigest[CATEGORIES];
+
+    void add(Category category, int amount) {
+        int c = category.ordinal();
+        if (digests[c] == null) {
+            digests[c] = new TDigest(COMPRESSION);
+        }
+        digests[c].add(amount);
+    }
+
+    /**
+     * 카테고리 스케치. 지출이 없으면 null
+     */
+    TDigest get(Category category) {
+        return digests[category.ordinal()];
+    }
+
+    byte[] encode() {
+        int length = 1;
+        for (TDigest digest : digests) {
+            if (digest != null) {
+                length += 1 + digest.encodedSize();
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(FORMAT);
+        for (int c = 0; c < CATEGORIES; c++) {
+            if (digests[c] != null) {
+                buffer.put((byte) c);
+                digests[c].writeTo(buffer);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return 형식이 다르면 null (다시 만들어야 함)
+     */
+    static CategoryDigests decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT) {
+            return null;
+        }
+        CategoryDigests result = new CategoryDigests();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        while (buffer.hasRemaining()) {
+            int c = buffer.get();
+            if (c < 0 || c >= CATEGORIES) {
+                return null;
+            }
+            result.digests[c] = TDigest.readFrom(buffer, COMPRESSION);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/월별 카테고리 지출 금액 스케치 (CategoryDigests 직렬화 값)
+ *
+ * - stale 이면 그 달 거래 원본으로 다시 만든다 (조회 시). 행이 없는 달도 조회 시 만든다.
+ * - 작성은 스케치에 바로 더하고, 수정/삭제는 값을 뺄 수 없으므로 stale 로 표시한다.
+ *   행이 없는 달에 작성/수정/삭제가 오면 stale 인 빈 행을 넣어 둔다.
+ * - 갱신과 재생성은 이 행을 잠가 직렬화한다 (MonthlyExpenseDigests 참고).
+ */
+@Entity
+@Table(
+        name = "tbl_monthly_expense_digest",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_monthly_expense_digest",
+                columnNames = {"user_no", "month_start"}
+        )
+)
+@NoArgsConstructor
+@Getter
+public class MonthlyExpenseDigest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    // 그 달 1일
+    @Column(name = "month_start", nullable = false)
+    private LocalDate month;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] digests;
+
+    @Column(nullable = false)
+    private boolean stale;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MonthlyExpenseDigest(Long userNo, LocalDate month, byte[] digests) {
+        this.userNo = userNo;
+        this.month = month;
+        this.digests = digests;
+        this.stale = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void update(byte[] digests) {
+        this.digests = digests;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markStale() {
+        this.stale = true;
+    }
+
+    public void rebuilt(byte[] digests) {
+        update(digests);
+        this.stale = false;
+    }
+}
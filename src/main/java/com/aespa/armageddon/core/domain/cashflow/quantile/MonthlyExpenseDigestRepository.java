@@ -0,0 +1,48 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MonthlyExpenseDigestRepository extends JpaRepository<MonthlyExpenseDigest, Long> {
+
+    List<MonthlyExpenseDigest> findByUserNoAndMonthBetween(Long userNo, LocalDate start, LocalDate end);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d from MonthlyExpenseDigest d where d.userNo = :userNo and d.month = :month")
+    Optional<MonthlyExpenseDigest> findForUpdate(@Param("userNo") Long userNo, @Param("month") LocalDate month);
+
+    boolean existsByUserNoAndMonth(Long userNo, LocalDate month);
+
+    /* 행이 없으면 stale 인 빈 행을 만들고, 있으면 stale 로 표시한다. 어느 쪽이든 행 잠금을 잡는다 */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into tbl_monthly_expense_digest (user_no, month_start, digests, stale, updated_at)
+            values (:userNo, :month, :digests, true, :now)
+            on duplicate key update stale = true, updated_at = :now
+            """, nativeQuery = true)
+    int upsertStale(@Param("userNo") Long userNo,
+                    @Param("month") LocalDate month,
+                    @Param("digests") byte[] digests,
+                    @Param("now") LocalDateTime now);
+
+    /* 행이 없으면 stale 인 빈 행을 만든다. 있으면 값은 그대로 두고 행 잠금만 잡는다 */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into tbl_monthly_expense_digest (user_no, month_start, digests, stale, updated_at)
+            values (:userNo, :month, :digests, true, :now)
+            on duplicate key update user_no = user_no
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userNo") Long userNo,
+                       @Param("month") LocalDate month,
+                       @Param("digests") byte[] digests,
+                       @Param("now") LocalDateTime now);
+}
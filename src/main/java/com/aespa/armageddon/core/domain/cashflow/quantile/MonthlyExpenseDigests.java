@@ -0,0 +1,216 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import com.aespa.armageddon.core.domain.cashflow.dto.ExpenseQuantileResponse;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 사용자/월별 카테고리 지출 금액 스케치 관리
+ *
+ * - 조회 : 기간에 걸친 달의 스케치를 카테고리별로 합쳐(merge) 분위수를 구한다. 기간 내 거래 수와 무관하게
+ *   달 수만큼의 행만 읽는다.
+ * - 갱신 : 지출 작성은 트랜잭션 안에서 그 달 스케치에 바로 더한다. 수정/삭제와 반복 거래 생성은
+ *   스케치에서 값을 빼거나 한 건씩 더하지 않고 그 달을 stale 로 표시한다.
+ * - 재생성 : stale 이거나 행이 없는 달은 조회할 때 그 달 거래 원본으로 다시 만든다 (별도 트랜잭션).
+ *
+ * 누락 방지 : 변경과 재생성은 항상 같은 달 행의 잠금을 거친다.
+ * - 변경은 행이 없으면 stale 인 빈 행을 넣고(INSERT … ON DUPLICATE KEY UPDATE stale = true), 있으면 잠근 뒤 더한다.
+ * - 재생성은 행을 먼저 잠그고(없으면 stale 인 빈 행을 넣고) 그 뒤에 원본을 읽는다.
+ *   잠금을 먼저 잡으므로 원본을 읽는 시점에는 잠금을 먼저 잡은 변경이 모두 커밋되어 있다 (InnoDB 는 잠금 없는 첫 SELECT 에서
+ *   스냅샷을 만든다). 재생성 뒤에 잠금을 잡은 변경은 새 행에 더하거나 stale 로 되돌린다.
+ * - 잠금 없이 행이 없다고 본 작성이 그 사이 커밋된 재생성 행을 만나면 stale 로 표시되어 다음 조회 때 다시 만든다.
+ *
+ * 갱신은 지출 분포(SpendingProfile) 잠금 뒤에 잡고, 여러 달은 달 순서대로 잠근다.
+ */
+@Slf4j
+@Component
+public class MonthlyExpenseDigests {
+
+    private static final String MONTH_EXPENSES_SQL = """
+            select category, amount
+              from tbl_transaction
+             where user_no = ? and type = 'EXPENSE' and category is not null and date between ? and ?
+            """;
+
+    // 재생성 전 자리만 잡아 두는 행의 값 (카테고리 없음)
+    private static final byte[] EMPTY = new CategoryDigests().encode();
+
+    private final MonthlyExpenseDigestRepository digestRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public MonthlyExpenseDigests(MonthlyExpenseDigestRepository digestRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager) {
+        this.digestRepository = digestRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 거래 변경분 반영. 호출한 쪽의 트랜잭션 안에서 실행된다.
+     *
+     * @param before 작성이면 null
+     * @param after  삭제면 null
+     */
+    public void apply(Long userNo, TransactionAmountSnapshot before, TransactionAmountSnapshot after) {
+        boolean removeBefore = tracked(before);
+        boolean addAfter = tracked(after);
+
+        if (removeBefore) {
+            List<LocalDate> dates = new ArrayList<>();
+            dates.add(before.date());
+            if (addAfter) {
+                dates.add(after.date());
+            }
+            markStale(userNo, dates);
+            return;
+        }
+        if (!addAfter) {
+            return;
+        }
+        LocalDate month = monthOf(after.date());
+        if (!digestRepository.existsByUserNoAndMonth(userNo, month)) {
+            // 잠금 없이 확인했으므로 그 사이 재생성이 이 거래 없이 행을 만들었을 수 있다. 있으면 stale 로 표시한다
+            digestRepository.upsertStale(userNo, month, EMPTY, LocalDateTime.now());
+            return;
+        }
+        // stale 이면 재생성 때 원본에서 다시 계산된다
+        digestRepository.findForUpdate(userNo, month)
+                .filter(digest -> !digest.isStale())
+                .ifPresent(digest -> {
+                    CategoryDigests digests = CategoryDigests.decode(digest.getDigests());
+                    if (digests == null) {
+                        digest.markStale();
+                        return;
+                    }
+                    digests.add(after.category(), after.amount());
+                    digest.update(digests.encode());
+                });
+    }
+
+    /**
+     * 날짜가 속한 달의 스케치를 다음 조회 때 다시 만들도록 표시한다 (행이 없으면 stale 인 빈 행을 넣음).
+     * 호출한 쪽의 트랜잭션 안에서 실행된다.
+     */
+    public void markStale(Long userNo, Collection<LocalDate> dates) {
+        TreeSet<LocalDate> months = new TreeSet<>();
+        for (LocalDate date : dates) {
+            months.add(monthOf(date));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (LocalDate month : months) {
+            digestRepository.upsertStale(userNo, month, EMPTY, now);
+        }
+    }
+
+    /**
+     * 기간(월 단위) 내 카테고리별 지출 1건 금액의 중앙값/90 분위수. 지출이 없는 카테고리는 제외한다.
+     */
+    public List<ExpenseQuantileResponse> quantiles(Long userNo, YearMonth startMonth, YearMonth endMonth) {
+        Map<LocalDate, MonthlyExpenseDigest> stored = new HashMap<>();
+        for (MonthlyExpenseDigest digest : digestRepository
+                .findByUserNoAndMonthBetween(userNo, startMonth.atDay(1), endMonth.atDay(1))) {
+            stored.put(digest.getMonth(), digest);
+        }
+
+        TDigest[] merged = new TDigest[Category.values().length];
+        for (YearMonth month = startMonth; !month.isAfter(endMonth); month = month.plusMonths(1)) {
+            MonthlyExpenseDigest row = stored.get(month.atDay(1));
+            CategoryDigests digests = row == null || row.isStale() ? null : CategoryDigests.decode(row.getDigests());
+            if (digests == null) {
+                digests = rebuild(userNo, month);
+            }
+            for (Category category : Category.values()) {
+                TDigest digest = digests.get(category);
+                if (digest == null) {
+                    continue;
+                }
+                if (merged[category.ordinal()] == null) {
+                    merged[category.ordinal()] = new TDigest(CategoryDigests.COMPRESSION);
+                }
+                merged[category.ordinal()].merge(digest);
+            }
+        }
+
+        List<ExpenseQuantileResponse> result = new ArrayList<>();
+        for (Category category : Category.values()) {
+            TDigest digest = merged[category.ordinal()];
+            if (digest == null || digest.count() == 0) {
+                continue;
+            }
+            result.add(new ExpenseQuantileResponse(
+                    category,
+                    digest.count(),
+                    Math.round(digest.quantile(0.5)),
+                    Math.round(digest.quantile(0.9))
+            ));
+        }
+        return result;
+    }
+
+    /**
+     * 그 달 거래 원본으로 스케치를 다시 만들어 저장한다. 저장에 실패해도 이번 조회에는 만든 값을 쓴다.
+     */
+    private CategoryDigests rebuild(Long userNo, YearMonth month) {
+        LocalDate first = month.atDay(1);
+        try {
+            return requiresNew.execute(status -> {
+                // 1. 원본을 읽기 전에 행을 잠근다 (없으면 stale 인 빈 행을 넣는다)
+                digestRepository.insertIfAbsent(userNo, first, EMPTY, LocalDateTime.now());
+                MonthlyExpenseDigest row = digestRepository.findForUpdate(userNo, first)
+                        .orElseThrow(() -> new IllegalStateException("Monthly expense digest not found."));
+                if (!row.isStale()) {
+                    // 기다리는 사이 다른 요청이 다시 만듦
+                    CategoryDigests current = CategoryDigests.decode(row.getDigests());
+                    if (current != null) {
+                        return current;
+                    }
+                }
+                // 2. 잠금을 잡은 상태에서 원본을 읽어 다시 만든다
+                CategoryDigests digests = scan(userNo, month);
+                row.rebuilt(digests.encode());
+                return digests;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to store monthly expense digest. userNo={}, month={}, reason={}",
+                    userNo, month, e.getMessage());
+        }
+        return scan(userNo, month);
+    }
+
+    private CategoryDigests scan(Long userNo, YearMonth month) {
+        CategoryDigests digests = new CategoryDigests();
+        jdbcTemplate.query(MONTH_EXPENSES_SQL, rs -> {
+            digests.add(Category.valueOf(rs.getString("category")), rs.getInt("amount"));
+        }, userNo, Date.valueOf(month.atDay(1)), Date.valueOf(month.atEndOfMonth()));
+        return digests;
+    }
+
+    private static LocalDate monthOf(LocalDate date) {
+        return date.withDayOfMonth(1);
+    }
+
+    private boolean tracked(TransactionAmountSnapshot snapshot) {
+        return snapshot != null && snapshot.type() == TransactionType.EXPENSE && snapshot.category() != null;
+    }
+}
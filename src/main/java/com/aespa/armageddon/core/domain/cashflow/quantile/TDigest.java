@@ -0,0 +1,193 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 근사 분위수 스케치 (merging t-digest, 스레드 안전하지 않음)
+ *
+ * - 값을 centroid(평균, 개수) 목록으로 요약한다. 양 끝(q → 0, 1)은 작게, 가운데는 크게 묶어
+ *   centroid 수가 compression 의 약 2배를 넘지 않으면서 꼬리 분위수가 정확하게 유지된다.
+ * - 더한 값은 buffer 에 모았다가 compress 에서 정렬해 한 번에 합친다 (scale function k1).
+ * - 서로 다른 스케치를 merge 로 합칠 수 있어 월별 스케치를 더해 임의 기간의 분위수를 구한다.
+ */
+final class TDigest {
+
+    private final double compression;
+
+    private double[] means = new double[0];
+    private int[] weights = new int[0];
+    private int size;
+
+    private final double[] bufferMeans;
+    private final int[] bufferWeights;
+    private int bufferSize;
+
+    private long total;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression must be at least 10.");
+        }
+        this.compression = compression;
+        this.bufferMeans = new double[(int) (compression * 5)];
+        this.bufferWeights = new int[bufferMeans.length];
+    }
+
+    void add(double value) {
+        add(value, 1);
+    }
+
+    void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.size; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return total;
+    }
+
+    /**
+     * q 분위수 (0 ~ 1). 값이 없으면 NaN
+     */
+    double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be between 0 and 1.");
+        }
+        compress();
+        if (total == 0) {
+            return Double.NaN;
+        }
+        if (size == 1) {
+            return means[0];
+        }
+
+        // centroid i 의 값은 누적 개수 중심(앞 centroid 합 + weight/2)에 있다고 보고 그 사이를 선형 보간한다
+        double target = q * total;
+        double center = weights[0] / 2.0;
+        if (target <= center) {
+            return interpolate(min, means[0], target / center);
+        }
+        for (int i = 0; i < size - 1; i++) {
+            double nextCenter = center + (weights[i] + weights[i + 1]) / 2.0;
+            if (target <= nextCenter) {
+                return interpolate(means[i], means[i + 1], (target - center) / (nextCenter - center));
+            }
+            center = nextCenter;
+        }
+        return interpolate(means[size - 1], max, (target - center) / (weights[size - 1] / 2.0));
+    }
+
+    int centroidCount() {
+        compress();
+        return size;
+    }
+
+    /**
+     * [centroid 수 4byte][min 8byte][max 8byte] + centroid 마다 [mean 8byte][weight 4byte]
+     */
+    void writeTo(ByteBuffer buffer) {
+        compress();
+        buffer.putInt(size).putDouble(min).putDouble(max);
+        for (int i = 0; i < size; i++) {
+            buffer.putDouble(means[i]).putInt(weights[i]);
+        }
+    }
+
+    int encodedSize() {
+        compress();
+        return Integer.BYTES + Double.BYTES * 2 + size * (Double.BYTES + Integer.BYTES);
+    }
+
+    static TDigest readFrom(ByteBuffer buffer, double compression) {
+        TDigest digest = new TDigest(compression);
+        int size = buffer.getInt();
+        digest.min = buffer.getDouble();
+        digest.max = buffer.getDouble();
+        digest.means = new double[size];
+        digest.weights = new int[size];
+        for (int i = 0; i < size; i++) {
+            digest.means[i] = buffer.getDouble();
+            digest.weights[i] = buffer.getInt();
+            digest.total += digest.weights[i];
+        }
+        digest.size = size;
+        return digest;
+    }
+
+    private void add(double value, int weight) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("value must be a number.");
+        }
+        if (bufferSize == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferSize] = value;
+        bufferWeights[bufferSize] = weight;
+        bufferSize++;
+        total += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private void compress() {
+        if (bufferSize == 0) {
+            return;
+        }
+        int n = size + bufferSize;
+        double[] allMeans = Arrays.copyOf(means, n);
+        int[] allWeights = Arrays.copyOf(weights, n);
+        System.arraycopy(bufferMeans, 0, allMeans, size, bufferSize);
+        System.arraycopy(bufferWeights, 0, allWeights, size, bufferSize);
+        bufferSize = 0;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> allMeans[i]));
+
+        double[] mergedMeans = new double[n];
+        int[] mergedWeights = new int[n];
+        int merged = 0;
+        mergedMeans[0] = allMeans[order[0]];
+        mergedWeights[0] = allWeights[order[0]];
+        long weightBefore = 0;
+        for (int i = 1; i < n; i++) {
+            double mean = allMeans[order[i]];
+            int weight = allWeights[order[i]];
+            long proposed = mergedWeights[merged] + (long) weight;
+            if (k((double) (weightBefore + proposed) / total) - k((double) weightBefore / total) <= 1) {
+                // 현재 centroid 에 합친다 (가중 평균)
+                mergedMeans[merged] += (mean - mergedMeans[merged]) * weight / proposed;
+                mergedWeights[merged] = (int) proposed;
+            } else {
+                weightBefore += mergedWeights[merged];
+                merged++;
+                mergedMeans[merged] = mean;
+                mergedWeights[merged] = weight;
+            }
+        }
+        size = merged + 1;
+        means = Arrays.copyOf(mergedMeans, size);
+        weights = Arrays.copyOf(mergedWeights, size);
+    }
+
+    /**
+     * k1 = δ / 2π · asin(2q - 1). 한 centroid 가 차지하는 k 구간을 1 이하로 제한한다
+     */
+    private double k(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, q) - 1);
+    }
+
+    private static double interpolate(double from, double to, double fraction) {
+        return from + (to - from) * Math.max(0, Math.min(1, fraction));
+    }
+}
@@ -40,4 +40,13 @@ public interface StatisticsRepository {
             TrendUnit unit
     );
 
-}
\ No newline at end of file
+    /**
+     * 기간 내 평소와 크게 다른 지출 (SpendingAnomalyDetector 가 작성/수정 시점에 남긴 것, 최근 순)
+     */
+    List<ExpenseAnomalyResponse> findExpenseAnomalies(
+            Long userNo,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+}
@@ -68,6 +68,13 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                 .getResultList();
     }
 
+    /**
+     * 지출 상위 항목
+     *
+     * (user_no, type, amount, date) 인덱스를 역순으로 읽다가 limit 건에서 멈추는 쿼리를 사용한다.
+     * 기간 밖 행은 인덱스의 date 로 건너뛰므로 범위 안 지출 전체를 정렬하거나 테이블 행을 읽어 오지 않는다.
+     * (TopExpenseItemsQueryBenchmark 로 date 없는 인덱스와 비교)
+     */
     @Override
     public List<TopExpenseItemResponse> findTopExpenseItems(
             Long userNo,
@@ -87,7 +94,7 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         WHERE t.userNo = :userNo
           AND t.type = :expense
           AND t.date BETWEEN :start AND :end
-        ORDER BY t.amount DESC
+        ORDER BY t.amount DESC, t.transactionId DESC
     """, TopExpenseItemResponse.class)
                 .setParameter("userNo", userNo)
                 .setParameter("expense", TransactionType.EXPENSE)
@@ -97,6 +104,34 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                 .getResultList();
     }
 
+    @Override
+    public List<ExpenseAnomalyResponse> findExpenseAnomalies(
+            Long userNo,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        return em.createQuery("""
+        SELECT new com.aespa.armageddon.core.domain.cashflow.dto.ExpenseAnomalyResponse(
+            a.transactionId,
+            t.title,
+            a.amount,
+            a.typicalAmount,
+            a.category,
+            a.date,
+            a.score
+        )
+        FROM SpendingAnomaly a
+        JOIN Transaction t ON t.transactionId = a.transactionId
+        WHERE a.userNo = :userNo
+          AND a.date BETWEEN :start AND :end
+        ORDER BY a.date DESC, a.transactionId DESC
+    """, ExpenseAnomalyResponse.class)
+                .setParameter("userNo", userNo)
+                .setParameter("start", startDate)
+                .setParameter("end", endDate)
+                .getResultList();
+    }
+
     //추이통계 파트
     @Override
     public List<ExpenseTrendRawDto> findExpenseTrend(
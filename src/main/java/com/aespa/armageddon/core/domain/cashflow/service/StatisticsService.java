@@ -1,6 +1,9 @@
 package com.aespa.armageddon.core.domain.cashflow.service;
 
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.domain.cashflow.dto.*;
+import com.aespa.armageddon.core.domain.cashflow.quantile.MonthlyExpenseDigests;
 import com.aespa.armageddon.core.domain.cashflow.repository.StatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,7 +23,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StatisticsService {
 
+    // 분위수 조회 기간 상한 (월 단위, 달마다 스케치 한 행)
+    private static final int MAX_QUANTILE_MONTHS = 24;
+
     private final StatisticsRepository statisticsRepository;
+    private final MonthlyExpenseDigests monthlyExpenseDigests;
 
     public SummaryStatisticsResponse getSummary(
             Long userNo,
@@ -97,6 +104,32 @@ public class StatisticsService {
         );
     }
 
+    /**
+     * 평소와 크게 다른 지출. 작성/수정 시점에 판단해 둔 결과를 읽으므로 거래 원본을 다시 훑지 않는다.
+     */
+    public List<ExpenseAnomalyResponse> getExpenseAnomalies(
+            Long userNo,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        return statisticsRepository.findExpenseAnomalies(userNo, startDate, endDate);
+    }
+
+    /**
+     * 카테고리별 지출 1건 금액의 중앙값/90 분위수 (월별 t-digest 스케치를 합쳐 근사)
+     */
+    public List<ExpenseQuantileResponse> getExpenseQuantiles(
+            Long userNo,
+            YearMonth startMonth,
+            YearMonth endMonth
+    ) {
+        if (startMonth.isAfter(endMonth)
+                || ChronoUnit.MONTHS.between(startMonth, endMonth) >= MAX_QUANTILE_MONTHS) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+        return monthlyExpenseDigests.quantiles(userNo, startMonth, endMonth);
+    }
+
     //추이 관련 파트
     public ExpenseTrendResponse getExpenseTrend(
             Long userNo,
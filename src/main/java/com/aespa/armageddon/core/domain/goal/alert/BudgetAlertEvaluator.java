@@ -0,0 +1,236 @@
+package com.aespa.armageddon.core.domain.goal.alert;
+
+import com.aespa.armageddon.core.domain.auth.entity.User;
+import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
+import com.aespa.armageddon.core.domain.auth.service.MailService;
+import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
+import com.aespa.armageddon.core.domain.goal.repository.GoalRepository;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지출 목표 예산 알림
+ *
+ * 거래 작성/수정/삭제 커밋 후 해당 사용자/카테고리의 진행 중 지출 목표만 다시 계산해
+ * 사용률이 새 임계치(기본 80%, 100%)를 넘으면 메일을 보낸다. 거래 작성 경로에서는 계산하지 않는다.
+ * 삭제와 다른 카테고리로 옮긴 수정은 이전 카테고리도 다시 계산해 알림 단계를 낮춘다 (다시 넘으면 다시 알림).
+ *
+ * - 묶기 : 사용자별로 대기 중인 평가가 있으면 카테고리만 추가한다 (연속 작성이 평가 한 번으로 합쳐짐)
+ * - 부하 제한 : 전용 풀의 대기열이 가득 차면 평가를 버린다. 다음 거래 때 다시 평가되므로 알림이 늦어질 뿐 상태는 틀어지지 않는다.
+ * - 중복 방지 : 알림 단계(Goal.budgetAlertLevel)를 조건부 UPDATE 로 올린 쪽만 메일을 보낸다.
+ *   지출이 줄어 단계가 내려가면 단계만 낮추고, 다시 넘으면 다시 알린다.
+ *
+ * 지표 : goal.budget-alert.queue.size (gauge), coalesced / dropped / sent (counter)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetAlertEvaluator {
+
+    private final GoalRepository goalRepository;
+    private final TransactionPort transactionPort;
+    private final UserRepository userRepository;
+    private final MailService mailService;
+    private final MeterRegistry meterRegistry;
+
+    /** 사용률(%) 임계치, 오름차순 */
+    @Value("${goal.budget-alert.thresholds:80,100}")
+    private int[] thresholds;
+
+    @Value("${goal.budget-alert.threads:2}")
+    private int threads;
+
+    @Value("${goal.budget-alert.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 평가 대기 중인 사용자 → 변경된 카테고리
+    private final Map<Long, Set<ExpenseCategory>> pending = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+    private Counter coalescedCounter;
+    private Counter droppedCounter;
+    private Counter sentCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "budget-alert-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("goal.budget-alert.queue.size", executor, e -> e.getQueue().size())
+                .description("Users waiting for budget evaluation")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("goal.budget-alert.coalesced")
+                .description("Transaction events merged into an already pending evaluation")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("goal.budget-alert.dropped")
+                .description("Evaluations dropped because the queue was full")
+                .register(meterRegistry);
+        sentCounter = Counter.builder("goal.budget-alert.sent")
+                .description("Budget alert mails sent")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 커밋 후 호출 스레드에서 대기열에 넣기만 한다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Set<ExpenseCategory> categories = categoriesOf(event);
+        if (!categories.isEmpty()) {
+            enqueue(event.userNo(), categories);
+        }
+    }
+
+    /**
+     * 다시 계산할 카테고리 : 변경 후(삭제면 삭제 전) 카테고리와, 수정이면 수정 전 카테고리
+     */
+    Set<ExpenseCategory> categoriesOf(TransactionChangedEvent event) {
+        Set<ExpenseCategory> categories = EnumSet.noneOf(ExpenseCategory.class);
+        if (event.type() == TransactionType.EXPENSE) {
+            toExpenseCategory(event.category()).ifPresent(categories::add);
+        }
+        if (event.changeType() == ChangeType.UPDATED && event.previousType() == TransactionType.EXPENSE) {
+            toExpenseCategory(event.previousCategory()).ifPresent(categories::add);
+        }
+        return categories;
+    }
+
+    private void enqueue(Long userId, Set<ExpenseCategory> changed) {
+        boolean[] created = new boolean[1];
+        pending.compute(userId, (id, categories) -> {
+            if (categories == null) {
+                categories = EnumSet.noneOf(ExpenseCategory.class);
+                created[0] = true;
+            }
+            categories.addAll(changed);
+            return categories;
+        });
+        if (!created[0]) {
+            coalescedCounter.increment();
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                Set<ExpenseCategory> categories = pending.remove(userId);
+                if (categories != null) {
+                    evaluate(userId, categories);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(userId);
+            droppedCounter.increment();
+            log.warn("Budget alert queue full. Dropping evaluation. userId={}, queue={}",
+                    userId, executor.getQueue().size());
+        }
+    }
+
+    /**
+     * 사용자의 진행 중 지출 목표 중 categories 에 해당하는 것만 평가한다
+     */
+    void evaluate(Long userId, Set<ExpenseCategory> categories) {
+        try {
+            List<Goal> goals = goalRepository.findByUserIdAndGoalTypeAndStatus(
+                    userId, GoalType.EXPENSE, GoalStatus.ACTIVE);
+            String email = null;
+            for (Goal goal : goals) {
+                if (!categories.contains(goal.getExpenseCategory()) || goal.getTargetAmount() <= 0) {
+                    continue;
+                }
+                long amount = transactionPort.getTransactionSum(
+                        userId, goal.getGoalType(), goal.getExpenseCategory(), goal.getStartDate(), goal.getEndDate());
+                int previous = goal.getBudgetAlertLevel();
+                int level = levelOf(amount, goal.getTargetAmount());
+                if (level == previous || goalRepository.updateBudgetAlertLevel(goal.getGoalId(), previous, level) == 0) {
+                    continue;
+                }
+                if (level < previous) {
+                    continue;
+                }
+
+                if (email == null) {
+                    email = userRepository.findById(userId).map(User::getEmail).orElse(null);
+                    if (email == null) {
+                        return;
+                    }
+                }
+                mailService.sendBudgetAlert(email, goal.getTitle(), (int) (amount * 100 / goal.getTargetAmount()),
+                        amount, goal.getTargetAmount());
+                sentCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Budget alert evaluation failed. userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 넘은 임계치 개수
+     */
+    private int levelOf(long amount, int targetAmount) {
+        int level = 0;
+        for (int threshold : thresholds) {
+            if (amount * 100 >= (long) targetAmount * threshold) {
+                level++;
+            }
+        }
+        return level;
+    }
+
+    private Optional<ExpenseCategory> toExpenseCategory(Category category) {
+        if (category == null) {
+            return Optional.empty();
+        }
+        for (ExpenseCategory expenseCategory : ExpenseCategory.values()) {
+            if (expenseCategory.name().equals(category.name())) {
+                return Optional.of(expenseCategory);
+            }
+        }
+        return Optional.empty();
+    }
+}
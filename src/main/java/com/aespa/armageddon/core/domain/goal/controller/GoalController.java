@@ -7,13 +7,16 @@ import com.aespa.armageddon.core.domain.goal.dto.request.UpdateGoalRequest;
 import com.aespa.armageddon.core.domain.goal.dto.response.GoalDetailResponse;
 import com.aespa.armageddon.core.domain.goal.dto.response.GoalResponse;
 import com.aespa.armageddon.core.domain.goal.service.GoalService;
+import com.aespa.armageddon.core.domain.goal.stream.GoalProgressNotifier;
 import com.aespa.armageddon.infra.security.JwtTokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -25,6 +28,7 @@ import java.util.List;
 public class GoalController {
 
         private final GoalService goalService;
+        private final GoalProgressNotifier goalProgressNotifier;
         private final JwtTokenProvider jwtTokenProvider;
 
         private Long extractUserId(String authorization) {
@@ -45,6 +49,20 @@ public class GoalController {
                 return ApiResult.success(goalService.getGoals(userId));
         }
 
+        /**
+         * 목표 진행률/상태 변경 구독 (SSE)
+         * 연결 직후 현재 목표 목록을 보내고, 이후 거래가 변경될 때마다 goal-progress / goal-status 이벤트를 보낸다.
+         */
+        @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        @Operation(summary = "Subscribe to goal progress and status changes (Server-Sent Events)")
+        public SseEmitter streamGoals(
+                        @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+                        @RequestHeader("Authorization") String authorization) {
+
+                Long userId = extractUserId(authorization);
+                return goalProgressNotifier.subscribe(userId);
+        }
+
         /**
          * 목표 세부정보 조회 (진행률, 예측 포함)
          */
@@ -8,7 +8,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "goal")
+@Table(
+        name = "goal",
+        indexes = {
+                // 만료 목표 일괄 처리 : ACTIVE 이면서 종료일이 지난 목표
+                @Index(name = "idx_goal_status_end_date", columnList = "status, end_date")
+        }
+)
 @Getter
 @NoArgsConstructor
 public class Goal {
@@ -40,6 +46,10 @@ public class Goal {
     @Column(nullable = false)
     private GoalStatus status;
 
+    // 지출 목표 예산 알림 : 이미 알린 임계치 단계 (0 = 알림 없음)
+    @Column(nullable = false)
+    private int budgetAlertLevel;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime completedAt;
@@ -126,29 +136,38 @@ public class Goal {
             return;
         }
 
-        LocalDate today = LocalDate.now();
+        switch (resolveStatus(currentAmount, LocalDate.now())) {
+            case COMPLETED -> complete();
+            case FAILED -> failSavingGoal();
+            case EXCEEDED -> exceedExpenseGoal();
+            case SUCCESS -> succeedExpenseGoal();
+            default -> {
+                // 진행 중 유지
+            }
+        }
+    }
+
+    /**
+     * 현재 금액과 기준일로 전이할 상태를 계산한다 (변경하지 않음). 전이하지 않으면 ACTIVE
+     * 만료 목표 일괄 처리(GoalExpirySweeper)도 같은 규칙을 사용한다.
+     */
+    public GoalStatus resolveStatus(long currentAmount, LocalDate today) {
+        if (this.status != GoalStatus.ACTIVE) {
+            return this.status;
+        }
 
         if (goalType == GoalType.SAVING) {
             if (currentAmount >= targetAmount) {
-                complete();
-                return;
-            }
-
-            if (today.isAfter(endDate)) {
-                failSavingGoal();
+                return GoalStatus.COMPLETED;
             }
-            return;
+            return today.isAfter(endDate) ? GoalStatus.FAILED : GoalStatus.ACTIVE;
         }
 
         // EXPENSE
         if (currentAmount > targetAmount) {
-            exceedExpenseGoal();
-            return;
-        }
-
-        if (today.isAfter(endDate)) {
-            succeedExpenseGoal();
+            return GoalStatus.EXCEEDED;
         }
+        return today.isAfter(endDate) ? GoalStatus.SUCCESS : GoalStatus.ACTIVE;
     }
 
     /* ================= 내부 전용 ================= */
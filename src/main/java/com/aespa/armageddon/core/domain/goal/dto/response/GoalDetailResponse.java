@@ -16,5 +16,6 @@ public record GoalDetailResponse(
         LocalDate startDate,
         LocalDate endDate,
         GoalStatus status,
-        com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory category) {
+        com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory category,
+        GoalForecastResponse forecast) { // 기간 종료 시 예측 (진행 중인 목표만, 그 외 null)
 }
\ No newline at end of file
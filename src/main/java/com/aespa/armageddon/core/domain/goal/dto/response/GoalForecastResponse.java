@@ -0,0 +1,9 @@
+package com.aespa.armageddon.core.domain.goal.dto.response;
+
+public record GoalForecastResponse(
+        Long linearExpectedAmount, // 지금까지의 하루 평균으로 예상한 기간 종료 시 금액
+        Long ewmaExpectedAmount, // 최근 흐름(지수 가중 평균)으로 예상한 기간 종료 시 금액
+        Long requiredDailyAmount, // 저축: 목표까지 남은 하루 저축액 / 지출: 남은 하루 사용 가능 금액
+        Integer remainingDays, // 오늘 이후 남은 일수
+        Boolean onTrack) { // 최근 흐름대로면 목표 달성 여부
+}
@@ -0,0 +1,11 @@
+package com.aespa.armageddon.core.domain.goal.dto.response;
+
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+
+public record GoalStatusChangeResponse(
+        Long goalId,
+        String title,
+        GoalStatus previousStatus, // 변경 전 상태
+        GoalStatus status, // 변경 후 상태 (COMPLETED / EXCEEDED 등)
+        String statusMessage) {
+}
@@ -0,0 +1,157 @@
+package com.aespa.armageddon.core.domain.goal.forecast;
+
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalForecastResponse;
+import com.aespa.armageddon.core.domain.goal.port.DailyAmount;
+import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 목표 기간 종료 시 금액 예측
+ *
+ * - 입력은 거래 원본이 아니라 날짜별 합계(누적 합계 테이블의 일간 값)이며 기간을 한 번만 순회한다.
+ * - linear : 지금까지의 하루 평균이 남은 기간에도 유지된다고 가정
+ * - ewma   : 최근 날짜에 더 큰 가중치를 둔 하루 평균 (alpha). 거래가 없는 날은 0 으로 반영
+ * - 결과는 사용자별로 캐시하고 해당 사용자의 거래가 커밋되면 비운다. 사용자 수는 maxCachedUsers 로 제한한다 (LRU).
+ */
+@Component
+public class GoalForecaster {
+
+    private final TransactionPort transactionPort;
+    private final double alpha;
+
+    // 접근 순서 LinkedHashMap 이라 조회도 구조를 바꾸므로 항상 cache 잠금 안에서 쓴다
+    private final Map<Long, Map<Long, CachedForecast>> cache;
+
+    public GoalForecaster(TransactionPort transactionPort,
+                          @Value("${goal.forecast.ewma-alpha:0.3}") double alpha,
+                          @Value("${goal.forecast.max-cached-users:10000}") int maxCachedUsers) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1].");
+        }
+        this.transactionPort = transactionPort;
+        this.alpha = alpha;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Map<Long, CachedForecast>> eldest) {
+                return size() > maxCachedUsers;
+            }
+        };
+    }
+
+    /**
+     * 진행 중인 목표만 예측한다. 그 외 상태는 null
+     */
+    public GoalForecastResponse forecast(Goal goal, long currentAmount, LocalDate today) {
+        if (goal.getStatus() != GoalStatus.ACTIVE) {
+            return null;
+        }
+
+        String fingerprint = goal.getTargetAmount() + ":" + goal.getStartDate() + ":" + goal.getEndDate()
+                + ":" + today + ":" + currentAmount;
+        synchronized (cache) {
+            Map<Long, CachedForecast> userCache = cache.get(goal.getUserId());
+            if (userCache != null) {
+                CachedForecast cached = userCache.get(goal.getGoalId());
+                if (cached != null && cached.fingerprint().equals(fingerprint)) {
+                    return cached.forecast();
+                }
+            }
+        }
+
+        GoalForecastResponse forecast = compute(goal, currentAmount, today);
+
+        synchronized (cache) {
+            cache.computeIfAbsent(goal.getUserId(), k -> new HashMap<>())
+                    .put(goal.getGoalId(), new CachedForecast(fingerprint, forecast));
+        }
+        return forecast;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        synchronized (cache) {
+            cache.remove(event.userNo());
+        }
+    }
+
+    int cachedUserCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private GoalForecastResponse compute(Goal goal, long currentAmount, LocalDate today) {
+        LocalDate start = goal.getStartDate();
+        LocalDate end = goal.getEndDate();
+
+        // 관측 구간 [start, min(today, end)]
+        LocalDate observedEnd = today.isBefore(end) ? today : end;
+        int elapsedDays = (int) Math.max(0, ChronoUnit.DAYS.between(start, observedEnd) + 1);
+        // 남은 구간 (today, end]. 시작 전이면 기간 전체
+        int remainingDays = today.isBefore(start)
+                ? (int) ChronoUnit.DAYS.between(start, end) + 1
+                : (int) Math.max(0, ChronoUnit.DAYS.between(today, end));
+
+        double ewma = 0;
+        if (elapsedDays > 0) {
+            List<DailyAmount> series = transactionPort.getDailyAmounts(
+                    goal.getUserId(), goal.getGoalType(), goal.getExpenseCategory(), start, observedEnd);
+            ewma = ewma(series, start, elapsedDays);
+        }
+
+        double linearDaily = elapsedDays > 0 ? (double) currentAmount / elapsedDays : 0;
+        long linearExpected = currentAmount + Math.round(linearDaily * remainingDays);
+        long ewmaExpected = currentAmount + Math.round(ewma * remainingDays);
+
+        long target = goal.getTargetAmount();
+        long left = Math.max(0, target - currentAmount);
+        long requiredDaily = remainingDays > 0 ? (left + remainingDays - 1) / remainingDays : 0;
+        if (goal.getGoalType() == GoalType.EXPENSE && remainingDays > 0) {
+            // 지출은 남은 예산을 고르게 쓸 때의 하루 한도 (내림)
+            requiredDaily = left / remainingDays;
+        }
+
+        boolean onTrack = goal.getGoalType() == GoalType.SAVING
+                ? ewmaExpected >= target
+                : ewmaExpected <= target;
+
+        return new GoalForecastResponse(linearExpected, ewmaExpected, requiredDaily, remainingDays, onTrack);
+    }
+
+    /**
+     * start 부터 elapsedDays 일 동안의 하루 합계 EWMA. series 는 날짜 오름차순이며 빈 날짜는 0
+     */
+    double ewma(List<DailyAmount> series, LocalDate start, int elapsedDays) {
+        double value = 0;
+        int next = 0;
+        for (int day = 0; day < elapsedDays; day++) {
+            LocalDate date = start.plusDays(day);
+            long amount = 0;
+            while (next < series.size() && !series.get(next).date().isAfter(date)) {
+                if (series.get(next).date().equals(date)) {
+                    amount += series.get(next).amount();
+                }
+                next++;
+            }
+            value = day == 0 ? amount : alpha * amount + (1 - alpha) * value;
+        }
+        return value;
+    }
+
+    private record CachedForecast(String fingerprint, GoalForecastResponse forecast) {
+    }
+}
@@ -1,15 +1,25 @@
 package com.aespa.armageddon.core.domain.goal.infra;
 
 import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
 import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import com.aespa.armageddon.core.domain.goal.port.DailyAmount;
 import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.ExpenseCategorySum;
 import com.aespa.armageddon.core.domain.transaction.query.service.TransactionQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -20,9 +30,7 @@ public class TransactionAdapter implements TransactionPort {
     @Override
     public long getTransactionSum(Long userId, GoalType goalType, ExpenseCategory expenseCategory, LocalDate startDate,
             LocalDate endDate) {
-        Category category = (goalType == GoalType.SAVING)
-                ? Category.SAVING
-                : Category.valueOf(expenseCategory.name());
+        Category category = toCategory(goalType, expenseCategory);
 
         return transactionQueryService.getTransactionSum(
                 userId,
@@ -31,4 +39,58 @@ public class TransactionAdapter implements TransactionPort {
                 startDate,
                 endDate);
     }
+
+    @Override
+    public List<DailyAmount> getDailyAmounts(Long userId, GoalType goalType, ExpenseCategory expenseCategory,
+            LocalDate startDate, LocalDate endDate) {
+        return transactionQueryService.getDailyExpenseTotals(
+                        userId,
+                        toCategory(goalType, expenseCategory),
+                        startDate,
+                        endDate)
+                .stream()
+                .map(total -> new DailyAmount(total.day(), total.amount()))
+                .toList();
+    }
+
+    /**
+     * 목표를 기간(시작일, 종료일)별로 묶어 기간마다 해당 사용자들의 지출을 한 번에 집계한다.
+     * 각 쿼리는 그 기간만 읽으므로 청크에 기간이 다른 목표가 섞여도 가장 이른 시작일부터 가장 늦은 종료일까지 읽지 않는다.
+     * (만료 처리 청크는 대부분 월 단위 기간이라 기간 종류가 적다)
+     */
+    @Override
+    public Map<Long, Long> getGoalAmounts(List<Goal> goals) {
+        Map<Long, Long> amounts = new HashMap<>();
+        Map<Period, List<Goal>> byPeriod = new LinkedHashMap<>();
+        for (Goal goal : goals) {
+            byPeriod.computeIfAbsent(new Period(goal.getStartDate(), goal.getEndDate()), key -> new ArrayList<>())
+                    .add(goal);
+        }
+
+        for (Map.Entry<Period, List<Goal>> entry : byPeriod.entrySet()) {
+            Period period = entry.getKey();
+            List<Goal> periodGoals = entry.getValue();
+            Set<Long> userIds = periodGoals.stream().map(Goal::getUserId).collect(Collectors.toSet());
+
+            Map<String, Long> byUserCategory = new HashMap<>();
+            for (ExpenseCategorySum sum : transactionQueryService.getExpenseCategorySums(
+                    userIds, period.startDate(), period.endDate())) {
+                byUserCategory.put(sum.userNo() + ":" + sum.category(), sum.amount());
+            }
+            for (Goal goal : periodGoals) {
+                Category category = toCategory(goal.getGoalType(), goal.getExpenseCategory());
+                amounts.put(goal.getGoalId(), byUserCategory.getOrDefault(goal.getUserId() + ":" + category, 0L));
+            }
+        }
+        return amounts;
+    }
+
+    private Category toCategory(GoalType goalType, ExpenseCategory expenseCategory) {
+        return (goalType == GoalType.SAVING)
+                ? Category.SAVING
+                : Category.valueOf(expenseCategory.name());
+    }
+
+    private record Period(LocalDate startDate, LocalDate endDate) {
+    }
 }
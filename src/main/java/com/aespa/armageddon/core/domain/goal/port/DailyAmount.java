@@ -0,0 +1,9 @@
+package com.aespa.armageddon.core.domain.goal.port;
+
+import java.time.LocalDate;
+
+/**
+ * 목표 카테고리의 하루 거래 합계
+ */
+public record DailyAmount(LocalDate date, long amount) {
+}
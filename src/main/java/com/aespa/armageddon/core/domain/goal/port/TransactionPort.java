@@ -1,11 +1,25 @@
 package com.aespa.armageddon.core.domain.goal.port;
 
 import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
 import com.aespa.armageddon.core.domain.goal.domain.GoalType;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 public interface TransactionPort {
     long getTransactionSum(Long userId, GoalType goalType, ExpenseCategory expenseCategory, LocalDate startDate,
             LocalDate endDate);
+
+    /**
+     * 기간 내 날짜별 합계 (날짜 오름차순, 거래가 없는 날은 제외)
+     */
+    List<DailyAmount> getDailyAmounts(Long userId, GoalType goalType, ExpenseCategory expenseCategory,
+            LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 여러 목표의 기간 합계를 기간별 쿼리로 묶어 계산 (goalId → 합계, 거래가 없으면 0)
+     */
+    Map<Long, Long> getGoalAmounts(List<Goal> goals);
 }
@@ -3,8 +3,16 @@ package com.aespa.armageddon.core.domain.goal.repository;
 import com.aespa.armageddon.core.domain.goal.domain.Goal;
 import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
 import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,8 +21,63 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
 
     Optional<Goal> findByGoalIdAndUserId(Long goalId, Long userId);
 
+    List<Goal> findByUserIdAndGoalTypeAndStatus(Long userId, GoalType goalType, GoalStatus status);
+
     boolean existsByUserIdAndGoalTypeAndStatus(Long userId, GoalType goalType, GoalStatus status);
 
     boolean existsByUserIdAndGoalTypeAndExpenseCategoryAndStatus(Long userId, GoalType goalType,
             com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory expenseCategory, GoalStatus status);
+
+    /**
+     * 종료일이 지난 진행 중 목표를 id keyset 으로 limit 개 (idx_goal_status_end_date)
+     */
+    @Query("""
+            select g
+              from Goal g
+             where g.status = :status
+               and g.endDate < :today
+               and g.goalId > :lastId
+             order by g.goalId asc
+            """)
+    List<Goal> findExpiredAfter(@Param("status") GoalStatus status,
+                                @Param("today") LocalDate today,
+                                @Param("lastId") Long lastId,
+                                Limit limit);
+
+    /**
+     * 아직 from 상태인 목표만 한 번에 전이 (그 사이 조회로 먼저 전이된 목표는 건드리지 않음)
+     *
+     * @return 전이된 목표 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Goal g
+               set g.status = :to,
+                   g.updatedAt = :now,
+                   g.completedAt = :completedAt
+             where g.goalId in :goalIds
+               and g.status = :from
+            """)
+    int updateStatusIn(@Param("goalIds") Collection<Long> goalIds,
+                       @Param("from") GoalStatus from,
+                       @Param("to") GoalStatus to,
+                       @Param("now") LocalDateTime now,
+                       @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 예산 알림 단계를 expected 일 때만 바꾼다 (여러 인스턴스가 같은 알림을 중복 발송하지 않도록)
+     *
+     * @return 바뀐 행 수 (0 이면 다른 곳에서 먼저 바꿈)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Goal g
+               set g.budgetAlertLevel = :level
+             where g.goalId = :goalId
+               and g.budgetAlertLevel = :expected
+            """)
+    int updateBudgetAlertLevel(@Param("goalId") Long goalId,
+                               @Param("expected") int expected,
+                               @Param("level") int level);
 }
@@ -3,11 +3,14 @@ package com.aespa.armageddon.core.domain.goal.service;
 import com.aespa.armageddon.core.domain.goal.domain.*;
 import com.aespa.armageddon.core.domain.goal.dto.request.*;
 import com.aespa.armageddon.core.domain.goal.dto.response.*;
+import com.aespa.armageddon.core.domain.goal.forecast.GoalForecaster;
 import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
 import com.aespa.armageddon.core.domain.goal.repository.GoalRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -17,6 +20,7 @@ public class GoalService {
 
     private final GoalRepository goalRepository;
     private final TransactionPort transactionPort;
+    private final GoalForecaster goalForecaster;
 
     /* ===================== 조회 ===================== */
 
@@ -55,7 +59,8 @@ public class GoalService {
                 goal.getStartDate(),
                 goal.getEndDate(),
                 goal.getStatus(),
-                goal.getExpenseCategory());
+                goal.getExpenseCategory(),
+                goalForecaster.forecast(goal, currentAmount, LocalDate.now()));
     }
 
     /* ===================== 생성 ===================== */
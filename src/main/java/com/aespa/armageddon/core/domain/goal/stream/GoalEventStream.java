@@ -0,0 +1,91 @@
+package com.aespa.armageddon.core.domain.goal.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 사용자별 SSE 연결 관리 (프로세스 내부)
+ *
+ * - 사용자마다 최대 maxPerUser 개 연결(탭)을 유지하고, 넘으면 가장 오래된 연결을 닫는다.
+ * - 연결이 끝나거나(timeout/error 포함) 전송에 실패하면 목록에서 제거한다.
+ * - 사용자의 마지막 연결이 제거되면 onEmpty 콜백을 호출한다.
+ */
+@Slf4j
+@Component
+public class GoalEventStream {
+
+    private final ConcurrentHashMap<Long, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${goal.stream.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    @Value("${goal.stream.max-per-user:5}")
+    private int maxPerUser;
+
+    public SseEmitter subscribe(Long userId, Runnable onEmpty) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Runnable remove = () -> remove(userId, emitter, onEmpty);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        CopyOnWriteArrayList<SseEmitter> list = emitters.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        while (list.size() > maxPerUser) {
+            SseEmitter oldest = list.remove(0);
+            oldest.complete();
+        }
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        List<SseEmitter> list = emitters.get(userId);
+        return list != null && !list.isEmpty();
+    }
+
+    public void send(Long userId, String eventName, Object data) {
+        List<SseEmitter> list = emitters.get(userId);
+        if (list == null) {
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            send(emitter, eventName, data);
+        }
+    }
+
+    public boolean send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊음. completeWithError 가 onError → remove 를 호출한다
+            log.debug("Failed to send goal event. reason={}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    int connectionCount(Long userId) {
+        List<SseEmitter> list = emitters.get(userId);
+        return list == null ? 0 : list.size();
+    }
+
+    private void remove(Long userId, SseEmitter emitter, Runnable onEmpty) {
+        boolean[] empty = new boolean[1];
+        emitters.computeIfPresent(userId, (k, list) -> {
+            list.remove(emitter);
+            empty[0] = list.isEmpty();
+            return empty[0] ? null : list;
+        });
+        if (empty[0]) {
+            onEmpty.run();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.aespa.armageddon.core.domain.goal.stream;
+
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalResponse;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalStatusChangeResponse;
+import com.aespa.armageddon.core.domain.goal.service.GoalService;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.global.config.AsyncConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 거래 변경 시 구독 중인 사용자에게 목표 진행률/상태 변경을 SSE 로 전송
+ *
+ * 이벤트
+ * - goal-progress : 전체 목표 목록 (GET /api/goals 와 같은 형식)
+ * - goal-status   : 상태가 바뀐 목표 (예: ACTIVE → COMPLETED)
+ *
+ * 커밋 후 별도 스레드에서 실행되어 거래 작성 응답을 늦추지 않는다.
+ * 구독자가 없는 사용자는 목표를 다시 계산하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoalProgressNotifier {
+
+    static final String PROGRESS_EVENT = "goal-progress";
+    static final String STATUS_EVENT = "goal-status";
+
+    private final GoalService goalService;
+    private final GoalEventStream goalEventStream;
+
+    // 사용자별 마지막으로 보낸 목표 상태 (상태 변경 감지용)
+    private final Map<Long, Map<Long, GoalStatus>> lastStatuses = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = goalEventStream.subscribe(userId, () -> lastStatuses.remove(userId));
+
+        List<GoalResponse> goals = goalService.getGoals(userId);
+        lastStatuses.put(userId, statusesOf(goals));
+        goalEventStream.send(emitter, PROGRESS_EVENT, goals);
+        return emitter;
+    }
+
+    @Async(AsyncConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        Long userId = event.userNo();
+        if (!goalEventStream.hasSubscribers(userId)) {
+            return;
+        }
+
+        try {
+            List<GoalResponse> goals = goalService.getGoals(userId);
+            Map<Long, GoalStatus> previous = lastStatuses.getOrDefault(userId, Map.of());
+
+            for (GoalResponse goal : goals) {
+                GoalStatus before = previous.get(goal.goalId());
+                if (before != null && before != goal.status()) {
+                    goalEventStream.send(userId, STATUS_EVENT, new GoalStatusChangeResponse(
+                            goal.goalId(), goal.title(), before, goal.status(), goal.statusMessage()));
+                }
+            }
+            if (goalEventStream.hasSubscribers(userId)) {
+                lastStatuses.put(userId, statusesOf(goals));
+            }
+            goalEventStream.send(userId, PROGRESS_EVENT, goals);
+        } catch (RuntimeException e) {
+            log.warn("Failed to push goal progress. userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    private Map<Long, GoalStatus> statusesOf(List<GoalResponse> goals) {
+        Map<Long, GoalStatus> statuses = new HashMap<>();
+        for (GoalResponse goal : goals) {
+            statuses.put(goal.goalId(), goal.status());
+        }
+        return statuses;
+    }
+}
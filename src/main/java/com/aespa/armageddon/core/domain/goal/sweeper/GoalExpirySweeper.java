@@ -0,0 +1,150 @@
+package com.aespa.armageddon.core.domain.goal.sweeper;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
+import com.aespa.armageddon.core.domain.goal.repository.GoalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 만료 목표 일괄 처리
+ *
+ * 목표 상태는 조회할 때만 갱신되어, 아무도 보지 않은 목표는 종료일이 지나도 ACTIVE 로 남는다.
+ * 매일 밤 ACTIVE 이면서 종료일이 지난 목표를 chunkSize 개씩 읽어
+ * - 최종 금액 : 청크의 목표를 기간별로 묶어 기간마다 사용자들의 거래를 한 번에 집계 (TransactionPort.getGoalAmounts)
+ * - 상태 결정 : Goal.resolveStatus (조회 시 갱신과 같은 규칙)
+ * - 반영     : 결과 상태별 UPDATE ... WHERE goal_id IN (...) AND status = 'ACTIVE'
+ * 청크마다 커밋하므로 중간에 멈춰도 처리된 목표는 ACTIVE 에서 빠지고, 다음 실행이 나머지를 이어서 처리한다.
+ * 여러 인스턴스 중 RedisLock 을 잡은 한 곳만 실행한다.
+ *
+ * 지표 : goal.sweeper.closed (counter, status 태그), goal.sweeper.chunks (counter), goal.sweeper.duration (timer)
+ */
+@Slf4j
+@Component
+public class GoalExpirySweeper {
+
+    private static final String LOCK_NAME = "goal:expiry-sweeper";
+
+    private final GoalRepository goalRepository;
+    private final TransactionPort transactionPort;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${goal.sweeper.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${goal.sweeper.lock-ttl-seconds:1800}")
+    private long lockTtlSeconds;
+
+    private Counter chunkCounter;
+    private Timer durationTimer;
+
+    public GoalExpirySweeper(GoalRepository goalRepository,
+                             TransactionPort transactionPort,
+                             PlatformTransactionManager transactionManager,
+                             RedisLock redisLock,
+                             MeterRegistry meterRegistry) {
+        this.goalRepository = goalRepository;
+        this.transactionPort = transactionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisLock = redisLock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        chunkCounter = Counter.builder("goal.sweeper.chunks")
+                .description("Chunks of expired goals processed")
+                .register(meterRegistry);
+        durationTimer = Timer.builder("goal.sweeper.duration")
+                .description("Time spent closing expired goals per run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${goal.sweeper.cron:0 30 0 * * *}")
+    public void run() {
+        Optional<String> token = redisLock.tryLock(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            durationTimer.record(() -> {
+                sweep(LocalDate.now());
+            });
+        } finally {
+            redisLock.unlock(LOCK_NAME, token.get());
+        }
+    }
+
+    /**
+     * today 이전에 끝난 진행 중 목표를 최종 상태로 전이한다
+     *
+     * @return 전이된 목표 수
+     */
+    public int sweep(LocalDate today) {
+        int closed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Goal> goals = goalRepository.findExpiredAfter(GoalStatus.ACTIVE, today, lastId, Limit.of(chunkSize));
+            if (goals.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> closeChunk(goals, today));
+            closed += count == null ? 0 : count;
+            chunkCounter.increment();
+            if (goals.size() < chunkSize) {
+                break;
+            }
+            lastId = goals.get(goals.size() - 1).getGoalId();
+        }
+        if (closed > 0) {
+            log.info("Expired goals closed. date={}, count={}", today, closed);
+        }
+        return closed;
+    }
+
+    private int closeChunk(List<Goal> goals, LocalDate today) {
+        Map<Long, Long> amounts = transactionPort.getGoalAmounts(goals);
+
+        Map<GoalStatus, List<Long>> idsByStatus = new EnumMap<>(GoalStatus.class);
+        for (Goal goal : goals) {
+            GoalStatus next = goal.resolveStatus(amounts.getOrDefault(goal.getGoalId(), 0L), today);
+            if (next != GoalStatus.ACTIVE) {
+                idsByStatus.computeIfAbsent(next, status -> new ArrayList<>()).add(goal.getGoalId());
+            }
+        }
+
+        int closed = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<GoalStatus, List<Long>> entry : idsByStatus.entrySet()) {
+            GoalStatus status = entry.getKey();
+            boolean achieved = status == GoalStatus.COMPLETED || status == GoalStatus.SUCCESS;
+            int updated = goalRepository.updateStatusIn(
+                    entry.getValue(), GoalStatus.ACTIVE, status, now, achieved ? now : null);
+            meterRegistry.counter("goal.sweeper.closed", "status", status.name()).increment(updated);
+            closed += updated;
+        }
+        return closed;
+    }
+}
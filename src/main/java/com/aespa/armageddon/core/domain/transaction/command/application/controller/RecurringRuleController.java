@@ -0,0 +1,73 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.controller;
+
+import com.aespa.armageddon.core.common.support.response.ApiResult;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.RecurringRuleRequest;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.RecurringRuleResponse;
+import com.aespa.armageddon.core.domain.transaction.command.application.service.RecurringRuleService;
+import com.aespa.armageddon.infra.security.JwtTokenProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/transaction/recurring")
+@Tag(name = "Recurring Transactions", description = "Recurring transaction rule endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class RecurringRuleController {
+
+    private final RecurringRuleService recurringRuleService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @PostMapping
+    @Operation(summary = "Create recurring rule")
+    public ApiResult<RecurringRuleResponse> createRule(
+            @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+            @RequestHeader("Authorization") String authorization,
+            @RequestBody RecurringRuleRequest request) {
+
+        Long userNo = jwtTokenProvider.getUserIdFromJWT(authorization.substring(7));
+        return ApiResult.success(recurringRuleService.createRule(userNo, request));
+    }
+
+    @GetMapping
+    @Operation(summary = "List recurring rules")
+    public ApiResult<List<RecurringRuleResponse>> getRules(
+            @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+            @RequestHeader("Authorization") String authorization) {
+
+        Long userNo = jwtTokenProvider.getUserIdFromJWT(authorization.substring(7));
+        return ApiResult.success(recurringRuleService.getRules(userNo));
+    }
+
+    @PutMapping("/{recurringRuleId}")
+    @Operation(summary = "Edit recurring rule")
+    public ApiResult<RecurringRuleResponse> editRule(
+            @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "Recurring rule id")
+            @PathVariable Long recurringRuleId,
+            @RequestBody RecurringRuleRequest request) {
+
+        Long userNo = jwtTokenProvider.getUserIdFromJWT(authorization.substring(7));
+        return ApiResult.success(recurringRuleService.editRule(userNo, recurringRuleId, request));
+    }
+
+    @DeleteMapping("/{recurringRuleId}")
+    @Operation(summary = "Delete recurring rule")
+    public ApiResult<?> deleteRule(
+            @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
+            @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "Recurring rule id")
+            @PathVariable Long recurringRuleId) {
+
+        Long userNo = jwtTokenProvider.getUserIdFromJWT(authorization.substring(7));
+        recurringRuleService.deleteRule(userNo, recurringRuleId);
+        return ApiResult.success();
+    }
+}
@@ -4,6 +4,7 @@ import com.aespa.armageddon.core.common.support.response.ApiResult;
 import com.aespa.armageddon.core.domain.auth.entity.User;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionEditRequest;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionWriteRequest;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.TransactionWriteResponse;
 import com.aespa.armageddon.core.domain.transaction.command.application.service.TransactionService;
 import com.aespa.armageddon.infra.security.JwtTokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,20 +26,21 @@ public class TransactionController {
 
     @PostMapping("/write")
     @Operation(summary = "Create transaction")
-    public ApiResult<?> writeTransaction(
+    public ApiResult<TransactionWriteResponse> writeTransaction(
             @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
             @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "재시도 시 같은 값을 보내면 중복 작성 없이 처음 결과를 반환")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody TransactionWriteRequest request) {
 
         String token = authorization.substring(7);
         Long userNo = jwtTokenProvider.getUserIdFromJWT(token);
-        transactionService.writeTransaction(userNo, request);
-        return ApiResult.success();
+        return ApiResult.success(transactionService.writeTransaction(userNo, request, idempotencyKey));
     }
 
     @PutMapping("/edit/{transactionId}")
     @Operation(summary = "Edit transaction")
-    public ApiResult<?> editTransaction(
+    public ApiResult<TransactionWriteResponse> editTransaction(
             @Parameter(description = "Bearer access token", required = true, example = "Bearer eyJ...")
             @RequestHeader("Authorization") String authorization,
             @Parameter(description = "Transaction id")
@@ -47,8 +49,7 @@ public class TransactionController {
     ) {
         String token = authorization.substring(7);
         Long userNo = jwtTokenProvider.getUserIdFromJWT(token);
-        transactionService.editTransaction(userNo, transactionId, request);
-        return ApiResult.success();
+        return ApiResult.success(transactionService.editTransaction(userNo, transactionId, request));
     }
 
     @DeleteMapping("/delete/{transactionId}")
@@ -0,0 +1,20 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.dto.request;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurrenceFrequency;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+
+import java.time.LocalDate;
+
+public record RecurringRuleRequest(
+        String title,
+        String memo,
+        int amount,
+        TransactionType type,
+        Category category,
+        RecurrenceFrequency frequency,
+        String cronExpression,   // frequency 가 CRON 일 때만 사용 (초 분 시 일 월 요일)
+        LocalDate startDate,
+        LocalDate endDate        // null 이면 종료 없음
+) {
+}
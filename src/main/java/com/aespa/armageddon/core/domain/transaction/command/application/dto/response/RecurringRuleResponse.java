@@ -0,0 +1,43 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.dto.response;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurrenceFrequency;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurringRule;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+
+import java.time.LocalDate;
+
+public record RecurringRuleResponse(
+        Long recurringRuleId,
+        String title,
+        String memo,
+        int amount,
+        TransactionType type,
+        Category category,
+        RecurrenceFrequency frequency,
+        String cronExpression,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate lastRunDate,   // 마지막으로 거래가 만들어진 날짜
+        LocalDate nextRunDate,   // 다음에 거래가 만들어질 날짜 (종료되면 null)
+        boolean active
+) {
+
+    public static RecurringRuleResponse from(RecurringRule rule) {
+        return new RecurringRuleResponse(
+                rule.getRecurringRuleId(),
+                rule.getTitle(),
+                rule.getMemo(),
+                rule.getAmount(),
+                rule.getType(),
+                rule.getCategory(),
+                rule.getFrequency(),
+                rule.getCronExpression(),
+                rule.getStartDate(),
+                rule.getEndDate(),
+                rule.getLastRunDate(),
+                rule.getNextRunDate(),
+                rule.isActive()
+        );
+    }
+}
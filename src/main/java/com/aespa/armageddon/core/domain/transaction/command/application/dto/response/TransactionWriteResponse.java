@@ -0,0 +1,15 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.dto.response;
+
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
+
+/**
+ * 거래 작성/수정 결과
+ * 저장된 거래와 해당 날짜의 일간·월간 합계를 함께 내려 클라이언트가 다시 조회하지 않도록 한다.
+ */
+public record TransactionWriteResponse(
+        TransactionResponse transaction,        // 저장된 거래
+        TransactionSummaryResponse dailySummary,   // 거래 날짜의 일간 수입/지출/잔액
+        TransactionSummaryResponse monthlySummary  // 거래 날짜가 속한 월의 수입/지출/잔액
+) {
+}
@@ -0,0 +1,330 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.scheduler;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingAnomalyDetector;
+import com.aespa.armageddon.core.domain.cashflow.quantile.MonthlyExpenseDigests;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurringRule;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.RecurringRuleRepository;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryRunningTotals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 반복 거래 생성기
+ *
+ * - 분배 : 규칙을 id % shardCount 로 나누고 shard 마다 RedisLock 을 잡은 인스턴스가 처리한다.
+ *   인스턴스마다 시작 shard 를 다르게 해 락 경합을 줄인다.
+ * - 배치 : 도래한 규칙을 id keyset 으로 batchSize 개씩 읽고, 배치 하나를 한 트랜잭션에서 처리한다.
+ *   거래 INSERT 와 watermark(nextRunDate) 이동은 JDBC batch 로 보낸다.
+ *   (거래 id 가 IDENTITY 라 JPA 로는 INSERT 를 묶을 수 없음)
+ * - 재개 : watermark 가 거래와 같은 트랜잭션에서 옮겨지므로 중간에 죽어도 커밋된 배치는 다시 만들지 않는다.
+ * - 중복 방지 : 락이 만료되거나 사용자가 규칙을 수정해도, 배치 트랜잭션에서 규칙 행을 잠그고 읽을 때의 version 과
+ *   비교해 바뀐 규칙은 건너뛴다 (다음 실행에서 새 값으로 다시 읽음).
+ * - 밀린 발생일 : 규칙 하나당 한 배치에서 최대 maxCatchUp 개까지만 만들고 나머지는 다음 실행으로 넘긴다.
+ *
+ * 지표 : recurring.materializer.generated (counter), recurring.materializer.duration (timer)
+ */
+@Slf4j
+@Component
+public class RecurringTransactionMaterializer {
+
+    private static final String LOCK_PREFIX = "recurring:shard:";
+
+    private static final String LOCK_RULES_SQL = """
+            select recurring_rule_id, version
+              from tbl_recurring_rule
+             where recurring_rule_id in (:ids)
+               for update
+            """;
+
+    private static final String ADVANCE_RULE_SQL = """
+            update tbl_recurring_rule
+               set last_run_date = ?, next_run_date = ?, active = ?, version = version + 1
+             where recurring_rule_id = ?
+            """;
+
+    private static final String INSERT_TRANSACTION_SQL = """
+            insert into tbl_transaction (user_no, title, memo, amount, date, type, category)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final RecurringRuleRepository ruleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRunningTotals categoryRunningTotals;
+    private final SpendingAnomalyDetector spendingAnomalyDetector;
+    private final MonthlyExpenseDigests monthlyExpenseDigests;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${recurring.materializer.shard-count:16}")
+    private int shardCount;
+
+    @Value("${recurring.materializer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${recurring.materializer.max-catch-up:31}")
+    private int maxCatchUp;
+
+    @Value("${recurring.materializer.lock-ttl-seconds:600}")
+    private long lockTtlSeconds;
+
+    private Counter generatedCounter;
+    private Timer durationTimer;
+
+    public RecurringTransactionMaterializer(RecurringRuleRepository ruleRepository,
+                                            JdbcTemplate jdbcTemplate,
+                                            NamedParameterJdbcTemplate namedJdbcTemplate,
+                                            PlatformTransactionManager transactionManager,
+                                            CategoryRunningTotals categoryRunningTotals,
+                                            SpendingAnomalyDetector spendingAnomalyDetector,
+                                            MonthlyExpenseDigests monthlyExpenseDigests,
+                                            ApplicationEventPublisher eventPublisher,
+                                            RedisLock redisLock,
+                                            MeterRegistry meterRegistry) {
+        this.ruleRepository = ruleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryRunningTotals = categoryRunningTotals;
+        this.spendingAnomalyDetector = spendingAnomalyDetector;
+        this.monthlyExpenseDigests = monthlyExpenseDigests;
+        this.eventPublisher = eventPublisher;
+        this.redisLock = redisLock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        generatedCounter = Counter.builder("recurring.materializer.generated")
+                .description("Transactions generated from recurring rules")
+                .register(meterRegistry);
+        durationTimer = Timer.builder("recurring.materializer.duration")
+                .description("Time spent materializing recurring rules per run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${recurring.materializer.cron:0 5 0 * * *}")
+    public void run() {
+        durationTimer.record(() -> {
+            materialize(LocalDate.now());
+        });
+    }
+
+    /**
+     * today 까지 도래한 발생일을 거래로 만든다
+     *
+     * @return 이 인스턴스가 만든 거래 수
+     */
+    public int materialize(LocalDate today) {
+        int generated = 0;
+        int offset = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (offset + i) % shardCount;
+            String lockName = LOCK_PREFIX + shard;
+            Optional<String> token = redisLock.tryLock(lockName, Duration.ofSeconds(lockTtlSeconds));
+            if (token.isEmpty()) {
+                continue;
+            }
+            try {
+                generated += materializeShard(shard, today);
+            } catch (RuntimeException e) {
+                // 커밋된 배치는 watermark 가 옮겨졌으므로 다음 실행이 실패한 배치부터 이어간다
+                log.error("Recurring materialization failed. shard={}", shard, e);
+            } finally {
+                redisLock.unlock(lockName, token.get());
+            }
+        }
+        if (generated > 0) {
+            log.info("Recurring transactions generated. date={}, count={}", today, generated);
+        }
+        return generated;
+    }
+
+    private int materializeShard(int shard, LocalDate today) {
+        int generated = 0;
+        long lastId = 0L;
+        while (true) {
+            List<RecurringRule> rules = ruleRepository.findDueRules(today, lastId, shardCount, shard, batchSize);
+            if (rules.isEmpty()) {
+                break;
+            }
+            Integer count = transactionTemplate.execute(status -> materializeBatch(rules, today));
+            generated += count == null ? 0 : count;
+            if (rules.size() < batchSize) {
+                break;
+            }
+            lastId = rules.get(rules.size() - 1).getRecurringRuleId();
+        }
+        return generated;
+    }
+
+    private int materializeBatch(List<RecurringRule> rules, LocalDate today) {
+        Map<Long, Long> lockedVersions = lockRules(rules);
+
+        List<Object[]> ruleUpdates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        List<RuleOccurrence> occurrences = new ArrayList<>();
+        for (RecurringRule rule : rules) {
+            Long version = lockedVersions.get(rule.getRecurringRuleId());
+            if (version == null || version != rule.getVersion()) {
+                // 읽은 뒤 삭제/수정되었거나 다른 인스턴스가 먼저 처리함
+                continue;
+            }
+            List<LocalDate> dates = rule.dueOccurrences(today, maxCatchUp);
+            if (dates.isEmpty()) {
+                continue;
+            }
+            LocalDate last = dates.get(dates.size() - 1);
+            LocalDate next = rule.nextOccurrenceAfter(last);
+            ruleUpdates.add(new Object[]{
+                    Date.valueOf(last), next == null ? null : Date.valueOf(next), next != null, rule.getRecurringRuleId()
+            });
+            for (LocalDate date : dates) {
+                inserts.add(new Object[]{
+                        rule.getUserNo(),
+                        rule.getTitle(),
+                        rule.getMemo(),
+                        rule.getAmount(),
+                        Date.valueOf(date),
+                        rule.getType().name(),
+                        rule.getCategory() == null ? null : rule.getCategory().name()
+                });
+                occurrences.add(new RuleOccurrence(rule, date));
+            }
+        }
+        if (inserts.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(ADVANCE_RULE_SQL, ruleUpdates);
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, inserts);
+        updateRunningTotals(occurrences);
+        updateSpendingStatistics(occurrences);
+        publishChanges(occurrences);
+        generatedCounter.increment(inserts.size());
+        return inserts.size();
+    }
+
+    /**
+     * 거래마다 발행하면 밀린 발생일이 많은 밤에는 배치 하나가 수천 건의 이벤트를 만들고,
+     * 비동기 리스너(목표 진행률 푸시 등)의 대기열을 채워 다른 사용자의 이벤트까지 버려지게 된다.
+     * 그래서 사용자/구분/카테고리별로 날짜 범위와 금액 합계를 담은 이벤트 하나로 합쳐 발행한다.
+     * 리스너는 커밋 후에 실행된다. batch INSERT 라 거래 id 는 담지 않는다
+     */
+    private void publishChanges(List<RuleOccurrence> occurrences) {
+        Map<ChangeKey, ChangeRange> changes = new LinkedHashMap<>();
+        for (RuleOccurrence occurrence : occurrences) {
+            RecurringRule rule = occurrence.rule();
+            changes.merge(new ChangeKey(rule.getUserNo(), rule.getType(), rule.getCategory()),
+                    new ChangeRange(occurrence.date(), occurrence.date(), rule.getAmount()), ChangeRange::merge);
+        }
+        changes.forEach((key, range) -> eventPublisher.publishEvent(TransactionChangedEvent.materialized(
+                key.userNo(), range.from(), range.to(), key.type(), key.category(), range.amount())));
+    }
+
+    private Map<Long, Long> lockRules(List<RecurringRule> rules) {
+        List<Long> ids = rules.stream().map(RecurringRule::getRecurringRuleId).toList();
+        Map<Long, Long> versions = new HashMap<>();
+        namedJdbcTemplate.query(LOCK_RULES_SQL, Map.of("ids", ids),
+                rs -> {
+                    versions.put(rs.getLong("recurring_rule_id"), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    /**
+     * 지출 누적 합계는 사용자/카테고리/날짜별로 합쳐 한 번씩 반영한다.
+     * TransactionService 와 같은 순서(카테고리 순)로 잠가 교착을 피한다.
+     */
+    private void updateRunningTotals(List<RuleOccurrence> occurrences) {
+        Map<TotalKey, Long> deltas = new TreeMap<>(TotalKey.ORDER);
+        for (RuleOccurrence occurrence : occurrences) {
+            RecurringRule rule = occurrence.rule();
+            if (rule.getType() != TransactionType.EXPENSE || rule.getCategory() == null) {
+                continue;
+            }
+            deltas.merge(new TotalKey(rule.getUserNo(), rule.getCategory(), occurrence.date()),
+                    (long) rule.getAmount(), Long::sum);
+        }
+        deltas.forEach((key, delta) -> categoryRunningTotals.apply(key.userNo(), key.category(), key.day(), delta));
+    }
+
+    /**
+     * 지출 분포와 월별 금액 스케치는 사용자별로 묶어 user 순서대로 한 번씩 반영한다 (누적 합계 잠금 뒤에 잡음)
+     */
+    private void updateSpendingStatistics(List<RuleOccurrence> occurrences) {
+        Map<Long, List<TransactionAmountSnapshot>> expenses = new TreeMap<>();
+        for (RuleOccurrence occurrence : occurrences) {
+            RecurringRule rule = occurrence.rule();
+            if (rule.getType() != TransactionType.EXPENSE || rule.getCategory() == null) {
+                continue;
+            }
+            expenses.computeIfAbsent(rule.getUserNo(), userNo -> new ArrayList<>())
+                    .add(new TransactionAmountSnapshot(occurrence.date(), rule.getAmount(), rule.getType(),
+                            rule.getCategory()));
+        }
+        expenses.forEach(spendingAnomalyDetector::observe);
+        // 월별 금액 스케치는 한 건씩 더하지 않고 해당 달을 다시 만들도록 표시한다
+        expenses.forEach((userNo, created) -> monthlyExpenseDigests.markStale(userNo,
+                created.stream().map(TransactionAmountSnapshot::date).toList()));
+    }
+
+    private record RuleOccurrence(RecurringRule rule, LocalDate date) {
+    }
+
+    private record ChangeKey(Long userNo, TransactionType type, Category category) {
+    }
+
+    private record ChangeRange(LocalDate from, LocalDate to, long total) {
+
+        ChangeRange merge(ChangeRange other) {
+            return new ChangeRange(
+                    from.isBefore(other.from) ? from : other.from,
+                    to.isAfter(other.to) ? to : other.to,
+                    total + other.total);
+        }
+
+        // 이벤트 금액은 int 이므로 넘치면 최대값으로 담는다
+        int amount() {
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+    }
+
+    private record TotalKey(Long userNo, Category category, LocalDate day) {
+
+        static final Comparator<TotalKey> ORDER = Comparator.comparing(TotalKey::userNo)
+                .thenComparing(TotalKey::category)
+                .thenComparing(TotalKey::day);
+    }
+}
@@ -0,0 +1,83 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.service;
+
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.RecurringRuleRequest;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.RecurringRuleResponse;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurringRule;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.RecurringRuleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 반복 거래 규칙 관리
+ * 거래 생성은 RecurringTransactionMaterializer 가 주기적으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecurringRuleService {
+
+    private final RecurringRuleRepository recurringRuleRepository;
+
+    @Transactional
+    public RecurringRuleResponse createRule(Long userNo, RecurringRuleRequest request) {
+        RecurringRule rule = new RecurringRule(
+                userNo,
+                request.title(),
+                request.memo(),
+                request.amount(),
+                request.type(),
+                request.category(),
+                request.frequency(),
+                request.cronExpression(),
+                request.startDate(),
+                request.endDate()
+        );
+        return RecurringRuleResponse.from(recurringRuleRepository.save(rule));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecurringRuleResponse> getRules(Long userNo) {
+        return recurringRuleRepository.findByUserNoOrderByRecurringRuleIdDesc(userNo).stream()
+                .map(RecurringRuleResponse::from)
+                .toList();
+    }
+
+    /**
+     * 규칙 수정. 이미 만들어진 거래는 그대로 두고 이후 발생일부터 새 값으로 만든다.
+     */
+    @Transactional
+    public RecurringRuleResponse editRule(Long userNo, Long recurringRuleId, RecurringRuleRequest request) {
+        RecurringRule rule = findOwnedRule(userNo, recurringRuleId);
+        rule.edit(
+                request.title(),
+                request.memo(),
+                request.amount(),
+                request.type(),
+                request.category(),
+                request.frequency(),
+                request.cronExpression(),
+                request.startDate(),
+                request.endDate()
+        );
+        return RecurringRuleResponse.from(rule);
+    }
+
+    /**
+     * 규칙 삭제. 이미 만들어진 거래는 삭제하지 않는다.
+     */
+    @Transactional
+    public void deleteRule(Long userNo, Long recurringRuleId) {
+        recurringRuleRepository.delete(findOwnedRule(userNo, recurringRuleId));
+    }
+
+    private RecurringRule findOwnedRule(Long userNo, Long recurringRuleId) {
+        return recurringRuleRepository.findByRecurringRuleIdAndUserNo(recurringRuleId, userNo)
+                .orElseThrow(() -> recurringRuleRepository.existsById(recurringRuleId)
+                        ? new CoreException(ErrorType.ACCESS_DENIED)
+                        : new CoreException(ErrorType.RECURRING_RULE_NOT_FOUND));
+    }
+}
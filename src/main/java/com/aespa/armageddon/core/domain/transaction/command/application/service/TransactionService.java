@@ -1,24 +1,99 @@
 package com.aespa.armageddon.core.domain.transaction.command.application.service;
 
+import com.aespa.armageddon.core.common.support.crypto.CodeHasher;
 import com.aespa.armageddon.core.common.support.error.CoreException;
 import com.aespa.armageddon.core.common.support.error.ErrorType;
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingAnomalyDetector;
+import com.aespa.armageddon.core.domain.cashflow.quantile.MonthlyExpenseDigests;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionEditRequest;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionWriteRequest;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.TransactionWriteResponse;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
 import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionRepository;
+import com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency.TransactionIdempotencyStore;
+import com.aespa.armageddon.core.domain.transaction.query.cache.TransactionHotRowCache;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryRunningTotals;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final TransactionRepository transactionRepository;
+    private final TransactionIdempotencyStore idempotencyStore;
+    private final TransactionQueryRepository transactionQueryRepository;
+    private final TransactionHotRowCache transactionHotRowCache;
+    private final CategoryRunningTotals categoryRunningTotals;
+    private final SpendingAnomalyDetector spendingAnomalyDetector;
+    private final MonthlyExpenseDigests monthlyExpenseDigests;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 거래 작성
+     *
+     * @param idempotencyKey null 이면 매번 새로 작성. 같은 키로 재시도하면 처음 작성했을 때의 응답을 그대로 반환한다.
+     * @return 작성된 거래와 일간/월간 합계
+     */
     @Transactional
-    public void writeTransaction(Long userNo, TransactionWriteRequest request) {
+    public TransactionWriteResponse writeTransaction(Long userNo, TransactionWriteRequest request, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return toWriteResponse(insert(userNo, request));
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+
+        String requestHash = CodeHasher.sha256Hex(String.valueOf(request));
+        TransactionIdempotencyStore.Claim claim = idempotencyStore.claim(userNo, idempotencyKey, requestHash);
+        switch (claim.status()) {
+            case COMPLETED -> {
+                // 재시도 : 새로 작성하지 않고 처음 응답을 그대로 반환 (그 사이 수정/삭제되어도 같은 응답)
+                if (claim.response() != null) {
+                    return claim.response();
+                }
+                // 응답 없이 저장된 이전 형식 : 현재 거래로 응답을 만든다
+                Transaction existing = transactionRepository.findById(claim.transactionId())
+                        .orElseThrow(() -> new CoreException(ErrorType.TRANSACTION_NOT_FOUND));
+                return toWriteResponse(existing);
+            }
+            case IN_PROGRESS -> throw new CoreException(ErrorType.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            case MISMATCH -> throw new CoreException(ErrorType.IDEMPOTENCY_KEY_REUSED);
+            case UNAVAILABLE -> {
+                return toWriteResponse(insert(userNo, request));
+            }
+            default -> {
+                // ACQUIRED
+            }
+        }
 
+        Transaction saved;
+        try {
+            saved = insert(userNo, request);
+        } catch (RuntimeException e) {
+            idempotencyStore.release(userNo, idempotencyKey);
+            throw e;
+        }
+        TransactionWriteResponse response = toWriteResponse(saved);
+        completeAfterCommit(userNo, idempotencyKey, requestHash, saved.getTransactionId(), response);
+        return response;
+    }
+
+    private Transaction insert(Long userNo, TransactionWriteRequest request) {
         Transaction transaction = new Transaction(
                 userNo,
                 request.title(),
@@ -29,20 +104,64 @@ public class TransactionService {
                 request.category()
         );
 
-        transactionRepository.save(transaction);
+        Transaction saved = transactionRepository.save(transaction);
+        updateRunningTotals(userNo, null, snapshotOf(saved));
+        spendingAnomalyDetector.apply(userNo, saved.getTransactionId(), null, snapshotOf(saved));
+        monthlyExpenseDigests.apply(userNo, null, snapshotOf(saved));
+        publishChanged(userNo, saved.getTransactionId(), ChangeType.CREATED, snapshotOf(saved));
+        return saved;
     }
 
-    @Transactional
-    public void editTransaction(Long userNo, Long transactionId, TransactionEditRequest request) {
+    /**
+     * 저장된 엔티티로 응답을 만들고, 합계는 같은 트랜잭션에서 조회한다 (변경 내용은 조회 전에 flush 됨)
+     */
+    private TransactionWriteResponse toWriteResponse(Transaction transaction) {
+        return toWriteResponse(transaction.getUserNo(), TransactionResponse.from(transaction));
+    }
 
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new CoreException(ErrorType.TRANSACTION_NOT_FOUND));
+    private TransactionWriteResponse toWriteResponse(Long userNo, TransactionResponse transaction) {
+        LocalDate date = transaction.getDate();
+        return new TransactionWriteResponse(
+                transaction,
+                transactionQueryRepository.findDailySummary(userNo, date),
+                transactionQueryRepository.findMonthlySummary(userNo, date.getYear(), date.getMonthValue())
+        );
+    }
 
-        if (!transaction.getUserNo().equals(userNo)) {
-            throw new CoreException(ErrorType.ACCESS_DENIED);
+    /**
+     * 커밋이 확정된 뒤에만 결과를 기록한다. 롤백되면 키를 풀어 재시도가 다시 작성하도록 한다.
+     */
+    private void completeAfterCommit(Long userNo, String idempotencyKey, String requestHash, Long transactionId,
+                                     TransactionWriteResponse response) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idempotencyStore.complete(userNo, idempotencyKey, requestHash, transactionId, response);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idempotencyStore.complete(userNo, idempotencyKey, requestHash, transactionId, response);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    idempotencyStore.release(userNo, idempotencyKey);
+                }
+            }
+        });
+    }
 
-        transaction.edit(
+    /**
+     * 거래 수정
+     * 엔티티 전체를 읽지 않고 누적 합계 보정에 필요한 값만 조회한 뒤 본인 거래에 대해 UPDATE 한다.
+     * 값 검증은 저장 전 엔티티를 만들어 생성자 검증(validate)을 그대로 거친다.
+     */
+    @Transactional
+    public TransactionWriteResponse editTransaction(Long userNo, Long transactionId, TransactionEditRequest request) {
+
+        Transaction edited = new Transaction(
+                userNo,
                 request.title(),
                 request.memo(),
                 request.amount(),
@@ -50,19 +169,152 @@ public class TransactionService {
                 request.type(),
                 request.category()
         );
+
+        TransactionAmountSnapshot before = transactionRepository.findAmountSnapshot(transactionId, userNo)
+                .orElseThrow(() -> notOwnedOrNotFound(transactionId));
+
+        int updated = transactionRepository.updateByTransactionIdAndUserNo(
+                transactionId,
+                userNo,
+                edited.getTitle(),
+                edited.getMemo(),
+                edited.getAmount(),
+                edited.getDate(),
+                edited.getType(),
+                edited.getCategory()
+        );
+        if (updated == 0) {
+            throw notOwnedOrNotFound(transactionId);
+        }
+        updateRunningTotals(userNo, before, snapshotOf(edited));
+        spendingAnomalyDetector.apply(userNo, transactionId, before, snapshotOf(edited));
+        monthlyExpenseDigests.apply(userNo, before, snapshotOf(edited));
+        evictAfterCommit(userNo, transactionId);
+        publishEdited(userNo, transactionId, before, snapshotOf(edited));
+
+        return toWriteResponse(userNo, new TransactionResponse(
+                transactionId,
+                edited.getType(),
+                edited.getDate(),
+                edited.getTitle(),
+                edited.getAmount(),
+                edited.getCategory(),
+                edited.getMemo()
+        ));
     }
 
+    /**
+     * 거래 삭제
+     * 누적 합계 보정에 필요한 값만 조회한 뒤 본인 거래에 대해 DELETE 한다.
+     */
     @Transactional
     public void deleteTransaction(Long userNo, Long transactionId) {
 
-        Transaction transaction = transactionRepository.findById(transactionId)
-                .orElseThrow(() -> new CoreException(ErrorType.TRANSACTION_NOT_FOUND));
+        TransactionAmountSnapshot before = transactionRepository.findAmountSnapshot(transactionId, userNo)
+                .orElseThrow(() -> notOwnedOrNotFound(transactionId));
+
+        int deleted = transactionRepository.deleteByTransactionIdAndUserNo(transactionId, userNo);
+        if (deleted == 0) {
+            throw notOwnedOrNotFound(transactionId);
+        }
+        updateRunningTotals(userNo, before, null);
+        spendingAnomalyDetector.apply(userNo, transactionId, before, null);
+        monthlyExpenseDigests.apply(userNo, before, null);
+        evictAfterCommit(userNo, transactionId);
+        publishChanged(userNo, transactionId, ChangeType.DELETED, before);
+    }
+
+    /**
+     * 카테고리별 지출 누적 합계 보정 (before 를 빼고 after 를 더함)
+     * 두 카테고리를 건드릴 때는 카테고리 순서대로 잠가 교착을 피한다.
+     */
+    private void updateRunningTotals(Long userNo, TransactionAmountSnapshot before, TransactionAmountSnapshot after) {
+        boolean removeBefore = hasRunningTotal(before);
+        boolean addAfter = hasRunningTotal(after);
 
-        if (!transaction.getUserNo().equals(userNo)) {
-            throw new CoreException(ErrorType.ACCESS_DENIED);
+        if (removeBefore && addAfter
+                && before.category() == after.category() && before.date().equals(after.date())) {
+            categoryRunningTotals.apply(userNo, after.category(), after.date(),
+                    (long) after.amount() - before.amount());
+            return;
+        }
+        if (removeBefore && addAfter && after.category().compareTo(before.category()) < 0) {
+            categoryRunningTotals.apply(userNo, after.category(), after.date(), after.amount());
+            categoryRunningTotals.apply(userNo, before.category(), before.date(), -before.amount());
+            return;
         }
+        if (removeBefore) {
+            categoryRunningTotals.apply(userNo, before.category(), before.date(), -before.amount());
+        }
+        if (addAfter) {
+            categoryRunningTotals.apply(userNo, after.category(), after.date(), after.amount());
+        }
+    }
+
+    /**
+     * 리스너는 커밋 후에 실행된다 (@TransactionalEventListener)
+     */
+    private void publishChanged(Long userNo, Long transactionId, ChangeType changeType,
+                                TransactionAmountSnapshot snapshot) {
+        eventPublisher.publishEvent(new TransactionChangedEvent(
+                userNo,
+                transactionId,
+                changeType,
+                snapshot.date(),
+                snapshot.type(),
+                snapshot.category(),
+                snapshot.amount()
+        ));
+    }
 
-        transactionRepository.delete(transaction);
+    private void publishEdited(Long userNo, Long transactionId,
+                               TransactionAmountSnapshot before, TransactionAmountSnapshot after) {
+        eventPublisher.publishEvent(new TransactionChangedEvent(
+                userNo,
+                transactionId,
+                ChangeType.UPDATED,
+                after.date(),
+                after.type(),
+                after.category(),
+                after.amount(),
+                before.type(),
+                before.category()
+        ));
+    }
+
+    private boolean hasRunningTotal(TransactionAmountSnapshot snapshot) {
+        return snapshot != null && snapshot.type() == TransactionType.EXPENSE && snapshot.category() != null;
+    }
+
+    private TransactionAmountSnapshot snapshotOf(Transaction transaction) {
+        return new TransactionAmountSnapshot(
+                transaction.getDate(), transaction.getAmount(), transaction.getType(), transaction.getCategory());
+    }
+
+    /**
+     * 모달 캐시는 커밋 후에 비운다 (커밋 전에 비우면 그 사이 조회가 이전 값을 다시 캐시할 수 있음)
+     */
+    private void evictAfterCommit(Long userNo, Long transactionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionHotRowCache.evict(userNo, transactionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                transactionHotRowCache.evict(userNo, transactionId);
+            }
+        });
+    }
+
+    /**
+     * 영향받은 행이 없을 때만 존재 여부를 확인해 404 / 403 을 구분한다 (실패 경로에서만 추가 조회)
+     */
+    private CoreException notOwnedOrNotFound(Long transactionId) {
+        if (transactionRepository.existsById(transactionId)) {
+            return new CoreException(ErrorType.ACCESS_DENIED);
+        }
+        return new CoreException(ErrorType.TRANSACTION_NOT_FOUND);
     }
 
 }
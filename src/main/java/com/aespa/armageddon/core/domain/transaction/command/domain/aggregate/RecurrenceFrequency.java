@@ -0,0 +1,10 @@
+package com.aespa.armageddon.core.domain.transaction.command.domain.aggregate;
+
+public enum RecurrenceFrequency {
+    /** 매월 시작일과 같은 날 (그 달에 없는 날이면 말일) */
+    MONTHLY,
+    /** 시작일부터 7일 간격 */
+    WEEKLY,
+    /** cron 표현식 (날짜 단위로만 사용) */
+    CRON
+}
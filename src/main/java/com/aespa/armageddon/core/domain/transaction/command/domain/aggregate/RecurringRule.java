@@ -0,0 +1,243 @@
+package com.aespa.armageddon.core.domain.transaction.command.domain.aggregate;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 거래 규칙 (월세, 통신비, 월급 등)
+ *
+ * nextRunDate 는 아직 거래로 만들지 않은 가장 이른 발생일(watermark)이다.
+ * 생성기는 발생일 거래를 넣는 트랜잭션에서 watermark 를 함께 옮기므로, 중간에 죽어도 다음 실행이 이어서 만든다.
+ * 종료일이 지나 더 만들 발생일이 없으면 nextRunDate 는 null, active 는 false 가 된다.
+ */
+@Entity
+@Table(
+        name = "tbl_recurring_rule",
+        indexes = {
+                // 생성기 : 실행일까지 도래한 활성 규칙
+                @Index(name = "idx_recurring_rule_due", columnList = "active, next_run_date"),
+                @Index(name = "idx_recurring_rule_user", columnList = "user_no")
+        }
+)
+@NoArgsConstructor
+@Getter
+@ToString
+public class RecurringRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long recurringRuleId;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    @Column(nullable = false, length = 50)
+    private String title;
+
+    @Column(length = 255)
+    private String memo;
+
+    @Column(nullable = false)
+    private int amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RecurrenceFrequency frequency;
+
+    @Column(length = 100)
+    private String cronExpression;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    /** 마지막으로 거래를 만든 발생일 */
+    private LocalDate lastRunDate;
+
+    private LocalDate nextRunDate;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    /** 생성기와 사용자 수정이 겹치면 한쪽만 반영되도록 한다 (생성기는 SQL 로 직접 증가시킴) */
+    @Version
+    private long version;
+
+    @Transient
+    @ToString.Exclude
+    private CronExpression parsedCron;
+
+    public RecurringRule(
+            Long userNo,
+            String title,
+            String memo,
+            int amount,
+            TransactionType type,
+            Category category,
+            RecurrenceFrequency frequency,
+            String cronExpression,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        this.userNo = userNo;
+        apply(title, memo, amount, type, category, frequency, cronExpression, startDate, endDate);
+    }
+
+    /**
+     * 규칙 수정. 이미 거래로 만든 발생일(lastRunDate 까지)은 다시 만들지 않는다.
+     */
+    public void edit(
+            String title,
+            String memo,
+            int amount,
+            TransactionType type,
+            Category category,
+            RecurrenceFrequency frequency,
+            String cronExpression,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        apply(title, memo, amount, type, category, frequency, cronExpression, startDate, endDate);
+    }
+
+    private void apply(
+            String title,
+            String memo,
+            int amount,
+            TransactionType type,
+            Category category,
+            RecurrenceFrequency frequency,
+            String cronExpression,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        this.title = title;
+        this.memo = memo;
+        this.amount = amount;
+        this.type = type;
+        this.category = category;
+        this.frequency = frequency;
+        this.cronExpression = frequency == RecurrenceFrequency.CRON ? cronExpression : null;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.parsedCron = null;
+
+        validate();
+
+        this.nextRunDate = occurrenceOnOrAfter(lastRunDate == null ? startDate : lastRunDate.plusDays(1));
+        this.active = nextRunDate != null;
+    }
+
+    private void validate() {
+
+        if (userNo == null) {
+            throw new IllegalArgumentException("사용자 정보는 필수입니다.");
+        }
+
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("제목은 필수입니다.");
+        }
+
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+
+        if (type == null) {
+            throw new IllegalArgumentException("거래 타입은 필수입니다.");
+        }
+
+        if (type == TransactionType.EXPENSE && category == null) {
+            throw new IllegalArgumentException("지출일 경우 카테고리는 필수입니다.");
+        }
+
+        if (type == TransactionType.INCOME && category != null) {
+            throw new IllegalArgumentException("수입일 경우 카테고리를 입력할 수 없습니다.");
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 주기는 필수입니다.");
+        }
+
+        if (frequency == RecurrenceFrequency.CRON
+                && (cronExpression == null || !CronExpression.isValidExpression(cronExpression))) {
+            throw new IllegalArgumentException("올바른 cron 표현식이 필요합니다.");
+        }
+
+        if (startDate == null) {
+            throw new IllegalArgumentException("시작일은 필수입니다.");
+        }
+
+        if (endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+    }
+
+    /**
+     * watermark 부터 today 까지의 발생일 (최대 limit 개, 오름차순)
+     */
+    public List<LocalDate> dueOccurrences(LocalDate today, int limit) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = nextRunDate;
+        while (date != null && !date.isAfter(today) && dates.size() < limit) {
+            dates.add(date);
+            date = nextOccurrenceAfter(date);
+        }
+        return dates;
+    }
+
+    /**
+     * date 다음 발생일. 종료일을 넘으면 null
+     */
+    public LocalDate nextOccurrenceAfter(LocalDate date) {
+        return occurrenceOnOrAfter(date.plusDays(1));
+    }
+
+    private LocalDate occurrenceOnOrAfter(LocalDate from) {
+        if (from.isBefore(startDate)) {
+            from = startDate;
+        }
+        LocalDate occurrence = switch (frequency) {
+            case MONTHLY -> monthlyOnOrAfter(from);
+            case WEEKLY -> startDate.plusWeeks((ChronoUnit.DAYS.between(startDate, from) + 6) / 7);
+            case CRON -> cronOnOrAfter(from);
+        };
+        if (occurrence == null || (endDate != null && occurrence.isAfter(endDate))) {
+            return null;
+        }
+        return occurrence;
+    }
+
+    private LocalDate monthlyOnOrAfter(LocalDate from) {
+        LocalDate candidate = dayOfMonthIn(from);
+        return candidate.isBefore(from) ? dayOfMonthIn(from.plusMonths(1)) : candidate;
+    }
+
+    private LocalDate dayOfMonthIn(LocalDate month) {
+        return month.withDayOfMonth(Math.min(startDate.getDayOfMonth(), month.lengthOfMonth()));
+    }
+
+    private LocalDate cronOnOrAfter(LocalDate from) {
+        if (parsedCron == null) {
+            parsedCron = CronExpression.parse(cronExpression);
+        }
+        LocalDateTime next = parsedCron.next(from.atStartOfDay().minusNanos(1));
+        return next == null ? null : next.toLocalDate();
+    }
+}
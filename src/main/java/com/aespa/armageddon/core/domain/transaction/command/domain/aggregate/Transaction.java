@@ -8,7 +8,16 @@ import lombok.ToString;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "tbl_transaction")
+@Table(
+        name = "tbl_transaction",
+        indexes = {
+                // 기간 내 지출 상위 항목 : 금액 역순으로 읽다가 limit 에서 멈춤.
+                // date 까지 담아 기간 밖 행은 테이블 행을 읽지 않고 인덱스에서 거른다
+                @Index(name = "idx_transaction_user_type_amount_date", columnList = "user_no, type, amount, date"),
+                // 기간/날짜 범위 조회
+                @Index(name = "idx_transaction_user_type_date", columnList = "user_no, type, date")
+        }
+)
 @NoArgsConstructor
 @Getter
 @ToString
@@ -91,23 +100,5 @@ public class Transaction {
         }
     }
 
-    public void edit(
-            String title,
-            String memo,
-            int amount,
-            LocalDate date,
-            TransactionType type,
-            Category category
-    ) {
-        this.title = title;
-        this.memo = memo;
-        this.amount = amount;
-        this.date = date;
-        this.type = type;
-        this.category = category;
-
-        validate();
-    }
-
 }
 
@@ -0,0 +1,61 @@
+package com.aespa.armageddon.core.domain.transaction.command.domain.event;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * 거래 작성/수정/삭제 이벤트
+ * 삭제는 삭제 전 값, 작성/수정은 변경 후 값을 담는다.
+ * 수정은 수정 전 구분/카테고리(previousType, previousCategory)도 담는다 (작성/삭제는 null).
+ *
+ * 반복 거래 생성기는 거래마다가 아니라 사용자/구분/카테고리별로 한 번 발행한다.
+ * 이때 transactionId 는 null, [date, endDate] 는 만든 거래의 날짜 범위, amount 는 합계다 (단건 변경은 endDate 가 null).
+ */
+public record TransactionChangedEvent(
+        Long userNo,
+        Long transactionId,
+        ChangeType changeType,
+        LocalDate date,
+        LocalDate endDate,
+        TransactionType type,
+        Category category,
+        int amount,
+        TransactionType previousType,
+        Category previousCategory
+) {
+
+    public TransactionChangedEvent(Long userNo, Long transactionId, ChangeType changeType, LocalDate date,
+                                   TransactionType type, Category category, int amount) {
+        this(userNo, transactionId, changeType, date, null, type, category, amount, null, null);
+    }
+
+    public TransactionChangedEvent(Long userNo, Long transactionId, ChangeType changeType, LocalDate date,
+                                   TransactionType type, Category category, int amount,
+                                   TransactionType previousType, Category previousCategory) {
+        this(userNo, transactionId, changeType, date, null, type, category, amount, previousType, previousCategory);
+    }
+
+    /**
+     * 반복 거래 생성기가 만든 거래들 (id 없이 날짜 범위로)
+     */
+    public static TransactionChangedEvent materialized(Long userNo, LocalDate from, LocalDate to,
+                                                       TransactionType type, Category category, int amount) {
+        return new TransactionChangedEvent(userNo, null, ChangeType.CREATED, from, to, type, category, amount,
+                null, null);
+    }
+
+    /**
+     * 변경된 마지막 날짜 (단건이면 date)
+     */
+    public LocalDate lastDate() {
+        return endDate == null ? date : endDate;
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
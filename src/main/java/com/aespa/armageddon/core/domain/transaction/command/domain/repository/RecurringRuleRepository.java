@@ -0,0 +1,27 @@
+package com.aespa.armageddon.core.domain.transaction.command.domain.repository;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurringRule;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringRuleRepository {
+
+    RecurringRule save(RecurringRule rule);
+
+    Optional<RecurringRule> findById(Long id);
+
+    boolean existsById(Long id);
+
+    void delete(RecurringRule rule);
+
+    Optional<RecurringRule> findByRecurringRuleIdAndUserNo(Long recurringRuleId, Long userNo);
+
+    List<RecurringRule> findByUserNoOrderByRecurringRuleIdDesc(Long userNo);
+
+    /**
+     * 생성기용 : 실행일까지 도래한 활성 규칙 중 shard 에 속한 것을 id 순으로 lastId 다음부터 limit 개
+     */
+    List<RecurringRule> findDueRules(LocalDate today, Long lastId, int shardCount, int shard, int limit);
+}
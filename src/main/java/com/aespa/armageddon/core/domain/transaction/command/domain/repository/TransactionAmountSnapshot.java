@@ -0,0 +1,17 @@
+package com.aespa.armageddon.core.domain.transaction.command.domain.repository;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * 수정/삭제 전 거래의 금액 관련 값 (누적 합계 보정용)
+ */
+public record TransactionAmountSnapshot(
+        LocalDate date,
+        int amount,
+        TransactionType type,
+        Category category
+) {
+}
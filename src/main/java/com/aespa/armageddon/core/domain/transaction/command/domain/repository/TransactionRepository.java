@@ -1,7 +1,10 @@
 package com.aespa.armageddon.core.domain.transaction.command.domain.repository;
 
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 public interface TransactionRepository {
@@ -10,5 +13,28 @@ public interface TransactionRepository {
 
     Optional<Transaction> findById(Long id);
 
+    boolean existsById(Long id);
+
+    /**
+     * 본인 거래의 날짜/금액/타입/카테고리만 조회 (엔티티 전체를 읽지 않음)
+     * 수정·삭제 전에 행을 잠그므로 트랜잭션 안에서 호출해야 한다.
+     */
+    Optional<TransactionAmountSnapshot> findAmountSnapshot(Long transactionId, Long userNo);
+
     void delete(Transaction transaction);
+
+    /**
+     * 본인 거래만 한 번의 UPDATE 로 수정
+     *
+     * @return 수정된 행 수 (0 이면 없는 거래이거나 다른 사용자의 거래)
+     */
+    int updateByTransactionIdAndUserNo(Long transactionId, Long userNo, String title, String memo, int amount,
+                                       LocalDate date, TransactionType type, Category category);
+
+    /**
+     * 본인 거래만 한 번의 DELETE 로 삭제
+     *
+     * @return 삭제된 행 수 (0 이면 없는 거래이거나 다른 사용자의 거래)
+     */
+    int deleteByTransactionIdAndUserNo(Long transactionId, Long userNo);
 }
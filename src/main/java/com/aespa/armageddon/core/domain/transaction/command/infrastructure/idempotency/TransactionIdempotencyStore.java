@@ -0,0 +1,188 @@
+package com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency;
+
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.TransactionWriteResponse;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 거래 작성 요청의 Idempotency-Key 저장소 (Redis)
+ *
+ * 값 형식
+ * - 처리 중 : "P:{요청 해시}"            (pendingTtl, 서버가 중간에 죽어도 잠시 후 재시도 가능)
+ * - 완료    : "D:{거래 id}:{요청 해시}:{응답 JSON}"   (ttl 동안 같은 키의 재시도에 처음 응답을 그대로 반환)
+ *   응답을 함께 저장하므로 그 사이 거래가 수정/삭제되어도 재시도는 처음 작성 결과를 받는다.
+ *   응답이 없는 이전 형식("D:{거래 id}:{요청 해시}")은 response 없이 transactionId 만 반환한다.
+ *
+ * Redis 장애 시에는 UNAVAILABLE 을 반환해 키 없이 작성하도록 한다 (작성 자체는 막지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionIdempotencyStore {
+
+    private static final String PREFIX = "txn:idem:";
+    private static final String PENDING = "P:";
+    private static final String DONE = "D:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transaction.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${transaction.idempotency.pending-ttl-seconds:60}")
+    private long pendingTtlSeconds;
+
+    public enum Status {
+        /** 처음 들어온 키. 작성 진행 */
+        ACQUIRED,
+        /** 이미 완료된 키. transactionId 와 처음 응답(response) 반환 */
+        COMPLETED,
+        /** 같은 키의 요청이 아직 처리 중 */
+        IN_PROGRESS,
+        /** 같은 키로 다른 내용의 요청 */
+        MISMATCH,
+        /** 저장소 장애 */
+        UNAVAILABLE
+    }
+
+    /**
+     * @param response 처음 작성했을 때의 응답. 이전 형식으로 저장되었거나 읽을 수 없으면 null
+     */
+    public record Claim(Status status, Long transactionId, TransactionWriteResponse response) {
+
+        static Claim of(Status status) {
+            return new Claim(status, null, null);
+        }
+    }
+
+    public Claim claim(Long userNo, String idempotencyKey, String requestHash) {
+        String key = key(userNo, idempotencyKey);
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(key, PENDING + requestHash, Duration.ofSeconds(pendingTtlSeconds));
+            if (Boolean.TRUE.equals(acquired)) {
+                return Claim.of(Status.ACQUIRED);
+            }
+            return parse(redisTemplate.opsForValue().get(key), requestHash);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency store unavailable. Writing without key. reason={}", e.getMessage());
+            return Claim.of(Status.UNAVAILABLE);
+        }
+    }
+
+    public void complete(Long userNo, String idempotencyKey, String requestHash, Long transactionId,
+                         TransactionWriteResponse response) {
+        String value = DONE + transactionId + ":" + requestHash;
+        try {
+            value += ":" + objectMapper.writeValueAsString(StoredResponse.from(response));
+        } catch (JsonProcessingException e) {
+            // 응답 없이 저장한다. 재시도는 현재 거래로 응답을 만든다
+            log.warn("Failed to serialize idempotent response. key={}, reason={}", idempotencyKey, e.getMessage());
+        }
+        try {
+            redisTemplate.opsForValue().set(key(userNo, idempotencyKey), value, Duration.ofHours(ttlHours));
+        } catch (DataAccessException e) {
+            log.warn("Failed to store idempotency result. key={}, reason={}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 작성이 롤백되면 키를 풀어 재시도가 다시 처리되도록 한다.
+     */
+    public void release(Long userNo, String idempotencyKey) {
+        try {
+            redisTemplate.delete(key(userNo, idempotencyKey));
+        } catch (DataAccessException e) {
+            log.warn("Failed to release idempotency key. key={}, reason={}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    private Claim parse(String value, String requestHash) {
+        if (value == null || value.startsWith(PENDING)) {
+            // null : 확인 사이에 pending 이 만료됨. 클라이언트가 다시 시도하면 된다
+            return Claim.of(Status.IN_PROGRESS);
+        }
+        // D:{id}:{hash}[:{json}] (해시는 hex 라 ':' 가 없다)
+        int separator = value.indexOf(':', DONE.length());
+        if (!value.startsWith(DONE) || separator < 0) {
+            return Claim.of(Status.IN_PROGRESS);
+        }
+        int hashEnd = value.indexOf(':', separator + 1);
+        String storedHash = hashEnd < 0 ? value.substring(separator + 1) : value.substring(separator + 1, hashEnd);
+        if (!storedHash.equals(requestHash)) {
+            return Claim.of(Status.MISMATCH);
+        }
+        TransactionWriteResponse response = hashEnd < 0 ? null : readResponse(value.substring(hashEnd + 1));
+        return new Claim(Status.COMPLETED, Long.valueOf(value.substring(DONE.length(), separator)), response);
+    }
+
+    private TransactionWriteResponse readResponse(String json) {
+        try {
+            return objectMapper.readValue(json, StoredResponse.class).toResponse();
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to read idempotent response. reason={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String key(Long userNo, String idempotencyKey) {
+        return PREFIX + userNo + ":" + idempotencyKey;
+    }
+
+    /**
+     * 저장용 응답 형식 (응답 DTO 의 생성자/필드 구성과 무관하게 읽고 쓴다)
+     */
+    record StoredResponse(
+            Long id,
+            TransactionType type,
+            LocalDate date,
+            String title,
+            int amount,
+            Category category,
+            String memo,
+            Long dailyIncome,
+            Long dailyExpense,
+            Long monthlyIncome,
+            Long monthlyExpense
+    ) {
+
+        static StoredResponse from(TransactionWriteResponse response) {
+            TransactionResponse transaction = response.transaction();
+            return new StoredResponse(
+                    transaction.getId(),
+                    transaction.getType(),
+                    transaction.getDate(),
+                    transaction.getTitle(),
+                    transaction.getAmount(),
+                    transaction.getCategory(),
+                    transaction.getMemo(),
+                    response.dailySummary().getTotalIncome(),
+                    response.dailySummary().getTotalExpense(),
+                    response.monthlySummary().getTotalIncome(),
+                    response.monthlySummary().getTotalExpense()
+            );
+        }
+
+        TransactionWriteResponse toResponse() {
+            return new TransactionWriteResponse(
+                    new TransactionResponse(id, type, date, title, amount, category, memo),
+                    new TransactionSummaryResponse(dailyIncome, dailyExpense),
+                    new TransactionSummaryResponse(monthlyIncome, monthlyExpense)
+            );
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.aespa.armageddon.core.domain.transaction.command.infrastructure.repository;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurringRule;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.RecurringRuleRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaRecurringRuleRepository extends RecurringRuleRepository, JpaRepository<RecurringRule, Long> {
+
+    @Override
+    default List<RecurringRule> findDueRules(LocalDate today, Long lastId, int shardCount, int shard, int limit) {
+        return findDue(today, lastId, shardCount, shard, Limit.of(limit));
+    }
+
+    @Query("""
+            select r
+              from RecurringRule r
+             where r.active = true
+               and r.nextRunDate <= :today
+               and r.recurringRuleId > :lastId
+               and mod(r.recurringRuleId, :shardCount) = :shard
+             order by r.recurringRuleId asc
+            """)
+    List<RecurringRule> findDue(@Param("today") LocalDate today,
+                                @Param("lastId") Long lastId,
+                                @Param("shardCount") long shardCount,
+                                @Param("shard") long shard,
+                                Limit limit);
+}
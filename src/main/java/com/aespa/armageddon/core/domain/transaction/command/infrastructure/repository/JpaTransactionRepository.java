@@ -1,8 +1,63 @@
 package com.aespa.armageddon.core.domain.transaction.command.infrastructure.repository;
 
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
 import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionRepository;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
 
 public interface JpaTransactionRepository extends TransactionRepository, JpaRepository<Transaction, Long> {
+
+    /**
+     * 보정 기준이 되는 이전 값은 행을 잠그고 읽는다 (SELECT … FOR UPDATE).
+     * 같은 거래를 동시에 수정·삭제하면 뒤 요청은 앞 요청이 커밋한 값을 기준으로 보정한다.
+     */
+    @Override
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot(
+                       t.date, t.amount, t.type, t.category)
+              from Transaction t
+             where t.transactionId = :transactionId
+               and t.userNo = :userNo
+            """)
+    Optional<TransactionAmountSnapshot> findAmountSnapshot(@Param("transactionId") Long transactionId,
+                                                           @Param("userNo") Long userNo);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Transaction t
+               set t.title = :title,
+                   t.memo = :memo,
+                   t.amount = :amount,
+                   t.date = :date,
+                   t.type = :type,
+                   t.category = :category
+             where t.transactionId = :transactionId
+               and t.userNo = :userNo
+            """)
+    int updateByTransactionIdAndUserNo(@Param("transactionId") Long transactionId,
+                                       @Param("userNo") Long userNo,
+                                       @Param("title") String title,
+                                       @Param("memo") String memo,
+                                       @Param("amount") int amount,
+                                       @Param("date") LocalDate date,
+                                       @Param("type") TransactionType type,
+                                       @Param("category") Category category);
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Transaction t where t.transactionId = :transactionId and t.userNo = :userNo")
+    int deleteByTransactionIdAndUserNo(@Param("transactionId") Long transactionId,
+                                       @Param("userNo") Long userNo);
 }
@@ -0,0 +1,74 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox 항목을 Redis Stream 으로 내보낸다 (transaction.outbox.redis-stream.enabled=true 일 때만)
+ * 다른 서비스나 인스턴스가 consumer group 으로 읽을 수 있다. 스트림 길이는 XADD 와 같은 명령(MAXLEN ~)에서 max-length 근처로 잘린다.
+ */
+@Component
+@ConditionalOnProperty(name = "transaction.outbox.redis-stream.enabled", havingValue = "true")
+public class RedisStreamOutboxSubscriber implements TransactionOutboxSubscriber {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String streamKey;
+    private final long maxLength;
+
+    public RedisStreamOutboxSubscriber(StringRedisTemplate redisTemplate,
+                                       @Value("${transaction.outbox.redis-stream.key:stream:transaction-changed}") String streamKey,
+                                       @Value("${transaction.outbox.redis-stream.max-length:100000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = streamKey;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public String name() {
+        return "redis-stream";
+    }
+
+    /**
+     * Redis 오류는 그대로 던져 배치를 다시 전달받는다 (재전달 시 같은 outboxId 가 스트림에 중복될 수 있음)
+     */
+    @Override
+    public void handle(List<TransactionOutboxMessage> messages) {
+        for (TransactionOutboxMessage message : messages) {
+            MapRecord<String, String, String> record = StreamRecords.newRecord()
+                    .in(streamKey)
+                    .ofMap(fields(message));
+            redisTemplate.opsForStream().add(record, XAddOptions.maxlen(maxLength).approximateTrimming(true));
+        }
+    }
+
+    private Map<String, String> fields(TransactionOutboxMessage message) {
+        TransactionChangedEvent event = message.event();
+        Map<String, String> fields = new HashMap<>();
+        fields.put("outboxId", String.valueOf(message.outboxId()));
+        fields.put("userNo", String.valueOf(event.userNo()));
+        if (event.transactionId() != null) {
+            fields.put("transactionId", String.valueOf(event.transactionId()));
+        }
+        fields.put("changeType", event.changeType().name());
+        fields.put("date", event.date().toString());
+        if (event.endDate() != null) {
+            fields.put("endDate", event.endDate().toString());
+        }
+        fields.put("type", event.type().name());
+        if (event.category() != null) {
+            fields.put("category", event.category().name());
+        }
+        fields.put("amount", String.valueOf(event.amount()));
+        return fields;
+    }
+}
@@ -0,0 +1,121 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 변경 outbox
+ *
+ * 거래 작성/수정/삭제와 같은 트랜잭션에서 기록되고, TransactionOutboxPoller 가 구독자에게 전달한 뒤 지운다.
+ * 커밋된 변경만 남으므로 파생 데이터(집계, 캐시, 검색 색인 등)가 변경을 놓치지 않는다.
+ * outboxId 는 INSERT 시점에 정해지고 커밋 순서와는 무관하므로, 늦게 커밋된 작은 id 가 큰 id 보다 나중에 전달될 수 있다.
+ *
+ * 전달 상태(실패 횟수, 처리를 마친 구독자, 보류 시각)는 실패한 행에만 기록된다.
+ * parkedAt 이 있는 행은 재시도 한도를 넘겨 전달을 멈춘 dead letter 이며, 원인을 고친 뒤 null 로 되돌리면 다시 전달된다.
+ */
+@Entity
+@Table(name = "tbl_transaction_outbox")
+@NoArgsConstructor
+@Getter
+public class TransactionOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    // 반복 거래 생성기가 batch INSERT 로 만든 거래는 id 가 없다
+    private Long transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChangeType changeType;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate date;
+
+    // 반복 거래 생성기가 날짜 범위로 합쳐 기록한 변경의 마지막 날짜
+    @Column(name = "event_end_date")
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Column(nullable = false)
+    private int amount;
+
+    // 수정 전 값 (수정일 때만)
+    @Enumerated(EnumType.STRING)
+    private TransactionType previousType;
+
+    @Enumerated(EnumType.STRING)
+    private Category previousCategory;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int attempts;
+
+    // 처리를 마친 구독자 이름 (",a,b," 형식). 재시도할 때 이 구독자에게는 다시 보내지 않는다
+    private String deliveredTo;
+
+    private LocalDateTime parkedAt;
+
+    public TransactionOutbox(TransactionChangedEvent event) {
+        this.userNo = event.userNo();
+        this.transactionId = event.transactionId();
+        this.changeType = event.changeType();
+        this.date = event.date();
+        this.endDate = event.endDate();
+        this.type = event.type();
+        this.category = event.category();
+        this.amount = event.amount();
+        this.previousType = event.previousType();
+        this.previousCategory = event.previousCategory();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public TransactionChangedEvent toEvent() {
+        return new TransactionChangedEvent(userNo, transactionId, changeType, date, endDate, type, category, amount,
+                previousType, previousCategory);
+    }
+
+    boolean isDeliveredTo(String subscriber) {
+        return deliveredTo != null && deliveredTo.contains("," + subscriber + ",");
+    }
+
+    void markDeliveredTo(String subscriber) {
+        deliveredTo = (deliveredTo == null ? "," : deliveredTo) + subscriber + ",";
+    }
+
+    /**
+     * 실패 횟수를 늘리고 한도에 도달하면 보류한다
+     *
+     * @return 이번 실패로 보류되었으면 true
+     */
+    boolean recordFailure(int maxDeliveries, LocalDateTime now) {
+        attempts++;
+        if (attempts >= maxDeliveries) {
+            parkedAt = now;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독자에게 전달되는 outbox 항목
+ * 같은 outboxId 가 다시 전달될 수 있으므로(at-least-once) 구독자는 중복 처리에 안전해야 한다.
+ */
+public record TransactionOutboxMessage(
+        Long outboxId,
+        TransactionChangedEvent event,
+        LocalDateTime createdAt
+) {
+
+    static TransactionOutboxMessage from(TransactionOutbox outbox) {
+        return new TransactionOutboxMessage(outbox.getOutboxId(), outbox.toEvent(), outbox.getCreatedAt());
+    }
+}
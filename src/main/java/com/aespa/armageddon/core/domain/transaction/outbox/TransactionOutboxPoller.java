@@ -0,0 +1,214 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 를 배치로 읽어 구독자에게 전달하고, 모든 구독자가 처리한 배치를 지운다 (at-least-once)
+ *
+ * - 순서 : 한 번에 한 인스턴스만 전달하도록 RedisLock 을 잡는다. 한 배치 안은 outboxId 오름차순이지만,
+ *   id 를 받은 뒤 늦게 커밋된 행은 더 큰 id 가 전달된 다음 배치에 나올 수 있어 전체 순서는 보장하지 않는다.
+ * - 실패 : 구독자가 배치에 예외를 던지면 그 구독자에게만 항목을 하나씩 다시 보내 실패한 항목을 가려낸다.
+ *   실패한 항목은 지우지 않고 처리를 마친 구독자와 실패 횟수를 기록해, 다음 주기에는 남은 구독자에게만 다시 전달한다.
+ *   앞 구독자에서 실패한 항목은 그 주기에는 뒤 구독자에게 보내지 않는다.
+ * - 보류 : 실패 횟수가 max-deliveries 에 도달한 항목은 parkedAt 을 남기고(dead letter) 더 이상 전달하지 않는다.
+ *   한 항목이 계속 실패해도 뒤 항목의 전달은 막히지 않는다.
+ * - 지연 : 남아 있는 가장 오래된 항목의 경과 시간을 transaction.outbox.lag.seconds 로 노출한다.
+ *
+ * 지표 : transaction.outbox.lag.seconds (gauge), delivered / failures / dead (counter)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionOutboxPoller {
+
+    private static final String LOCK_NAME = "transaction:outbox";
+
+    private final TransactionOutboxRepository outboxRepository;
+    private final ObjectProvider<TransactionOutboxSubscriber> subscriberProvider;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transaction.outbox.batch-size:200}")
+    private int batchSize;
+
+    /** 한 주기에 전달할 최대 배치 수 (락을 오래 잡지 않도록) */
+    @Value("${transaction.outbox.max-batches-per-poll:50}")
+    private int maxBatchesPerPoll;
+
+    @Value("${transaction.outbox.lock-ttl-seconds:30}")
+    private long lockTtlSeconds;
+
+    @Value("${transaction.outbox.max-deliveries:5}")
+    private int maxDeliveries;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private List<TransactionOutboxSubscriber> subscribers;
+    private Counter deliveredCounter;
+    private Counter failureCounter;
+    private Counter deadCounter;
+
+    @PostConstruct
+    public void init() {
+        subscribers = subscriberProvider.orderedStream().toList();
+
+        Gauge.builder("transaction.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest undelivered outbox entry")
+                .register(meterRegistry);
+        deliveredCounter = Counter.builder("transaction.outbox.delivered")
+                .description("Outbox entries delivered to all subscribers")
+                .register(meterRegistry);
+        failureCounter = Counter.builder("transaction.outbox.failures")
+                .description("Outbox batches that failed and will be redelivered")
+                .register(meterRegistry);
+        deadCounter = Counter.builder("transaction.outbox.dead")
+                .description("Outbox entries parked after max deliveries")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.outbox.poll-interval-millis:1000}")
+    public void poll() {
+        Optional<String> token = redisLock.tryLock(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            redisLock.unlock(LOCK_NAME, token.get());
+        }
+    }
+
+    /**
+     * 남은 항목이 없거나 maxBatchesPerPoll 에 도달할 때까지 전달한다. 실패한 항목이 있으면 그 주기는 멈춘다.
+     *
+     * @return 전달 후 지운 항목 수
+     */
+    public int drain() {
+        int delivered = 0;
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<TransactionOutbox> batch = outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(Limit.of(batchSize));
+            updateLag(batch);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Set<TransactionOutbox> failed = deliver(batch);
+            List<Long> completed = batch.stream()
+                    .filter(outbox -> !failed.contains(outbox))
+                    .map(TransactionOutbox::getOutboxId)
+                    .toList();
+            if (!completed.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(completed);
+                deliveredCounter.increment(completed.size());
+                delivered += completed.size();
+            }
+            if (!failed.isEmpty()) {
+                recordFailures(failed);
+                break;
+            }
+
+            if (batch.size() < batchSize) {
+                lagSeconds.set(0);
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * 구독자 순서대로, 아직 처리하지 않은 항목만 전달한다
+     *
+     * @return 어느 구독자에서든 실패한 항목
+     */
+    private Set<TransactionOutbox> deliver(List<TransactionOutbox> batch) {
+        Map<TransactionOutbox, TransactionOutboxMessage> messages = new LinkedHashMap<>();
+        batch.forEach(outbox -> messages.put(outbox, TransactionOutboxMessage.from(outbox)));
+        Set<TransactionOutbox> failed = new HashSet<>();
+
+        for (TransactionOutboxSubscriber subscriber : subscribers) {
+            List<TransactionOutbox> pending = batch.stream()
+                    .filter(outbox -> !failed.contains(outbox) && !outbox.isDeliveredTo(subscriber.name()))
+                    .toList();
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                subscriber.handle(pending.stream().map(messages::get).toList());
+                pending.forEach(outbox -> outbox.markDeliveredTo(subscriber.name()));
+            } catch (RuntimeException e) {
+                log.warn("Outbox subscriber failed. Retrying one by one. subscriber={}, fromId={}, reason={}",
+                        subscriber.name(), pending.get(0).getOutboxId(), e.getMessage());
+                failed.addAll(deliverOneByOne(subscriber, pending, messages));
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 배치가 실패한 구독자에게 항목을 하나씩 보내 실패한 항목만 가려낸다
+     */
+    private List<TransactionOutbox> deliverOneByOne(TransactionOutboxSubscriber subscriber,
+                                                    List<TransactionOutbox> pending,
+                                                    Map<TransactionOutbox, TransactionOutboxMessage> messages) {
+        if (pending.size() == 1) {
+            return pending;
+        }
+        List<TransactionOutbox> failed = new ArrayList<>();
+        for (TransactionOutbox outbox : pending) {
+            try {
+                subscriber.handle(List.of(messages.get(outbox)));
+                outbox.markDeliveredTo(subscriber.name());
+            } catch (RuntimeException e) {
+                failed.add(outbox);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 실패한 항목의 실패 횟수와 처리를 마친 구독자를 저장하고, 한도에 도달한 항목은 보류한다
+     */
+    private void recordFailures(Set<TransactionOutbox> failed) {
+        failureCounter.increment();
+        LocalDateTime now = LocalDateTime.now();
+        for (TransactionOutbox outbox : failed) {
+            if (outbox.recordFailure(maxDeliveries, now)) {
+                deadCounter.increment();
+                log.warn("Outbox entry parked after {} deliveries. outboxId={}, deliveredTo={}",
+                        maxDeliveries, outbox.getOutboxId(), outbox.getDeliveredTo());
+            }
+        }
+        outboxRepository.saveAll(failed);
+    }
+
+    private void updateLag(List<TransactionOutbox> batch) {
+        if (batch.isEmpty()) {
+            lagSeconds.set(0);
+            return;
+        }
+        Duration age = Duration.between(batch.get(0).getCreatedAt(), LocalDateTime.now());
+        lagSeconds.set(Math.max(0, age.getSeconds()));
+    }
+}
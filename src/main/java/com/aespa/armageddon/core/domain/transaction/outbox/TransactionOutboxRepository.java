@@ -0,0 +1,14 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TransactionOutboxRepository extends JpaRepository<TransactionOutbox, Long> {
+
+    /**
+     * 보류(parkedAt)되지 않은 항목을 id 순으로 조회
+     */
+    List<TransactionOutbox> findAllByParkedAtIsNullOrderByOutboxIdAsc(Limit limit);
+}
@@ -0,0 +1,17 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 구독자 (빈으로 등록하면 TransactionOutboxPoller 가 찾아 전달한다)
+ *
+ * 배치 안은 outboxId 오름차순이지만 배치 사이의 순서는 커밋 순서에 따라 뒤바뀔 수 있으므로 순서에 기대지 않아야 한다.
+ * 예외를 던지면 항목을 하나씩 다시 받고, 그래도 실패한 항목만 다음 주기에 다시 받는다 (이미 처리한 항목은 다시 오지 않음).
+ * 실패가 max-deliveries 번 쌓인 항목은 보류되어 더 이상 오지 않는다.
+ */
+public interface TransactionOutboxSubscriber {
+
+    String name();
+
+    void handle(List<TransactionOutboxMessage> messages);
+}
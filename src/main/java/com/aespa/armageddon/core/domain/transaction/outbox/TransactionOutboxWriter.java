@@ -0,0 +1,99 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거래 변경 이벤트를 발행한 트랜잭션 안에서 outbox 에 기록한다
+ *
+ * @EventListener 는 발행한 스레드/트랜잭션에서 바로 실행되므로 거래 변경과 outbox 기록은 함께 커밋되거나 함께 롤백된다.
+ * (TransactionService, RecurringTransactionMaterializer 모두 트랜잭션 안에서 발행함)
+ *
+ * 이벤트는 트랜잭션마다 모아 두었다가 커밋 직전(beforeCommit, 같은 트랜잭션)에 batch INSERT 한 번으로 기록한다.
+ * outboxId 가 IDENTITY 라 JPA 는 batch 로 넣지 못하므로 JdbcTemplate 을 쓴다. 반복 거래 생성처럼 한 트랜잭션에서
+ * 이벤트가 수백 건 나와도 INSERT 왕복은 한 번이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionOutboxWriter {
+
+    private static final String INSERT_SQL = """
+            insert into tbl_transaction_outbox
+                (user_no, transaction_id, change_type, event_date, event_end_date, type, category, amount,
+                 previous_type, previous_category, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(event));
+            return;
+        }
+        pending().events.add(event);
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 대기 목록. 없으면 만들어 등록한다 (REQUIRES_NEW 로 중단된 바깥 트랜잭션의 목록은 보이지 않음)
+     */
+    private PendingEvents pending() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending && pending.writer() == this) {
+                return pending;
+            }
+        }
+        PendingEvents pending = new PendingEvents();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private void insert(List<TransactionChangedEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (TransactionChangedEvent event : events) {
+            rows.add(new Object[]{
+                    event.userNo(),
+                    event.transactionId(),
+                    event.changeType().name(),
+                    Date.valueOf(event.date()),
+                    event.endDate() == null ? null : Date.valueOf(event.endDate()),
+                    event.type().name(),
+                    event.category() == null ? null : event.category().name(),
+                    event.amount(),
+                    event.previousType() == null ? null : event.previousType().name(),
+                    event.previousCategory() == null ? null : event.previousCategory().name(),
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+
+        private final List<TransactionChangedEvent> events = new ArrayList<>();
+
+        private TransactionOutboxWriter writer() {
+            return TransactionOutboxWriter.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!events.isEmpty()) {
+                insert(events);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.aespa.armageddon.core.domain.transaction.query.cache;
+
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최근 조회한 거래 상세(모달) 캐시 (프로세스 내부)
+ *
+ * - 사용자별로 최근 rowsPerUser 건만 LRU 로 보관하고, 사용자 수도 maxUsers 로 제한한다.
+ * - 잠금 : 사용자 번호로 stripes 개의 구역으로 나누고 구역마다 따로 잠근다. 다른 구역의 조회/저장은 서로 기다리지 않는다.
+ *   사용자 수와 evict 기록의 한도는 구역마다 maxUsers / stripes 로 나눠 적용한다.
+ * - 수정/삭제 시 커밋 후 evict 되고, 다른 인스턴스에는 TransactionHotRowEvictionBroadcaster 가 outbox 를 거쳐 전파한다.
+ *   전파를 놓친 인스턴스도 ttl 이 지나면 다시 읽는다.
+ * - 캐시는 사용자 단위로 나뉘어 있어 다른 사용자의 거래가 섞여 반환되지 않는다.
+ * - 늦은 저장 방지 : 조회 전에 ticket() 을 받아 put 에 넘긴다. 그 사이 같은 거래가 evict 되었으면 (커밋 전에 읽은
+ *   이전 값일 수 있으므로) 저장하지 않는다. evict 기록은 구역마다 최근 건만 남기고, 밀려난 기록보다 오래된
+ *   ticket 의 저장은 그 구역에서 모두 버린다. sequence 는 모든 구역이 함께 쓴다.
+ */
+@Component
+public class TransactionHotRowCache {
+
+    private final int rowsPerUser;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Stripe[] stripes;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public TransactionHotRowCache(
+            @Value("${transaction.hot-row-cache.max-users:10000}") int maxUsers,
+            @Value("${transaction.hot-row-cache.rows-per-user:16}") int rowsPerUser,
+            @Value("${transaction.hot-row-cache.stripes:16}") int stripes,
+            @Value("${transaction.hot-row-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(maxUsers, rowsPerUser, stripes, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    TransactionHotRowCache(int maxUsers, int rowsPerUser, int stripes, Duration ttl, Clock clock) {
+        if (maxUsers <= 0 || rowsPerUser <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("Cache sizes must be positive.");
+        }
+        this.rowsPerUser = rowsPerUser;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.stripes = new Stripe[stripes];
+        int usersPerStripe = Math.max(1, (maxUsers + stripes - 1) / stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(usersPerStripe);
+        }
+    }
+
+    /**
+     * DB 조회 전에 받아 두었다가 put 에 넘긴다
+     */
+    public long ticket() {
+        return sequence.get();
+    }
+
+    public Optional<TransactionResponse> get(Long userNo, Long transactionId) {
+        long now = clock.millis();
+        Stripe stripe = stripeOf(userNo);
+        synchronized (stripe) {
+            Map<Long, Entry> rows = stripe.users.get(userNo);
+            if (rows == null) {
+                return Optional.empty();
+            }
+            Entry entry = rows.get(transactionId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt() <= now) {
+                rows.remove(transactionId);
+                return Optional.empty();
+            }
+            return Optional.of(entry.row());
+        }
+    }
+
+    /**
+     * ticket 을 받은 뒤 같은 거래가 evict 되었으면 저장하지 않는다
+     */
+    public void put(Long userNo, TransactionResponse row, long ticket) {
+        long expiresAt = clock.millis() + ttlMillis;
+        Stripe stripe = stripeOf(userNo);
+        synchronized (stripe) {
+            if (ticket < stripe.forgottenUpTo) {
+                return;
+            }
+            Long evictedAt = stripe.evictions.get(new RowKey(userNo, row.getId()));
+            if (evictedAt != null && evictedAt > ticket) {
+                return;
+            }
+            stripe.users.computeIfAbsent(userNo, k -> lru(rowsPerUser))
+                    .put(row.getId(), new Entry(row, expiresAt));
+        }
+    }
+
+    public void evict(Long userNo, Long transactionId) {
+        Stripe stripe = stripeOf(userNo);
+        synchronized (stripe) {
+            RowKey key = new RowKey(userNo, transactionId);
+            // 다시 넣어 순서를 맨 뒤로 옮긴다 (밀려나는 기록의 sequence 가 항상 가장 작게).
+            // 구역 잠금 안에서 올려야 같은 구역의 기록이 sequence 순서대로 쌓인다
+            stripe.evictions.remove(key);
+            stripe.evictions.put(key, sequence.incrementAndGet());
+            Map<Long, Entry> rows = stripe.users.get(userNo);
+            if (rows != null) {
+                rows.remove(transactionId);
+                if (rows.isEmpty()) {
+                    stripe.users.remove(userNo);
+                }
+            }
+        }
+    }
+
+    int userCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.users.size();
+            }
+        }
+        return count;
+    }
+
+    private Stripe stripeOf(Long userNo) {
+        return stripes[Math.floorMod(Long.hashCode(userNo), stripes.length)];
+    }
+
+    private static <V> Map<Long, V> lru(int capacity) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 구역 하나. 필드는 이 객체의 잠금 안에서만 읽고 쓴다
+     */
+    private static final class Stripe {
+
+        private final Map<Long, Map<Long, Entry>> users;
+        private final Map<RowKey, Long> evictions;
+        private long forgottenUpTo;
+
+        private Stripe(int maxUsers) {
+            this.users = lru(maxUsers);
+            this.evictions = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RowKey, Long> eldest) {
+                    if (size() <= maxUsers) {
+                        return false;
+                    }
+                    forgottenUpTo = eldest.getValue();
+                    return true;
+                }
+            };
+        }
+    }
+
+    private record Entry(TransactionResponse row, long expiresAt) {
+    }
+
+    private record RowKey(Long userNo, Long transactionId) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.aespa.armageddon.core.domain.transaction.query.cache;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.outbox.TransactionOutboxMessage;
+import com.aespa.armageddon.core.domain.transaction.outbox.TransactionOutboxSubscriber;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 거래 상세 캐시 무효화를 모든 인스턴스에 전파한다
+ *
+ * - 보내기 : outbox 구독자로서 수정/삭제된 거래를 배치마다 한 번 Redis 채널에 PUBLISH 한다.
+ *   outbox 를 거치므로 커밋된 변경만, 실패하면 다시 보낸다.
+ * - 받기 : 모든 인스턴스가 채널을 구독해 자기 TransactionHotRowCache 에서 evict 한다 (보낸 인스턴스 포함).
+ * - pub/sub 은 구독이 끊긴 동안의 메시지를 다시 주지 않는다. 그 사이 놓친 변경은 캐시 ttl 이 지나면 반영된다.
+ *
+ * 메시지 형식 : "userNo:transactionId,userNo:transactionId,..."
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionHotRowEvictionBroadcaster implements TransactionOutboxSubscriber, MessageListener {
+
+    static final String CHANNEL = "transaction:hot-row:evict";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionHotRowCache transactionHotRowCache;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public String name() {
+        return "hot-row-evict";
+    }
+
+    /**
+     * Redis 오류는 그대로 던져 배치를 다시 전달받는다
+     */
+    @Override
+    public void handle(List<TransactionOutboxMessage> messages) {
+        Set<String> rows = new LinkedHashSet<>();
+        for (TransactionOutboxMessage message : messages) {
+            TransactionChangedEvent event = message.event();
+            // 작성된 거래는 캐시에 이전 값이 있을 수 없다
+            if (event.changeType() == ChangeType.CREATED || event.transactionId() == null) {
+                continue;
+            }
+            rows.add(event.userNo() + ":" + event.transactionId());
+        }
+        if (!rows.isEmpty()) {
+            redisTemplate.convertAndSend(CHANNEL, String.join(",", rows));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String row : body.split(",")) {
+            int separator = row.indexOf(':');
+            try {
+                transactionHotRowCache.evict(
+                        Long.valueOf(row.substring(0, separator)), Long.valueOf(row.substring(separator + 1)));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                log.warn("Ignored malformed hot row eviction. row={}", row);
+            }
+        }
+    }
+}
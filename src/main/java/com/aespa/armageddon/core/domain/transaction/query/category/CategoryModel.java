@@ -0,0 +1,280 @@
+package com.aespa.armageddon.core.domain.transaction.query.category;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.query.search.SearchTokenizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 제목 특징별 카테고리 빈도 (naive Bayes 학습 결과, 스레드 안전하지 않음)
+ *
+ * - 특징 : 제목의 단어와 단어별 bigram 을 int 해시로 바꾼 값 (중복 제거)
+ * - 저장 : 특징 → 행 번호를 open addressing 배열로 찾고, 행마다 카테고리 수만큼의 빈도를 int[] 하나에 이어 붙인다.
+ *   객체 없이 int 배열 세 개로 유지되어 거래 수십만 건도 수 MB 안에 들어간다.
+ * - 예측 : posterior 참고. 사용자 모델이 비어 있으면 전체 사용자 모델(global)을 그대로 따른다.
+ * - 공유 : toBytes / fromBytes 로 인스턴스 간에 주고받는다 (gzip). 카테고리 수가 다르면 읽지 않는다.
+ */
+final class CategoryModel {
+
+    private static final int CATEGORIES = Category.values().length;
+    private static final int EMPTY = 0;
+    private static final int WORD_SALT = 0x5bd1e995;
+    private static final int BIGRAM_SALT = 0x27d4eb2d;
+    private static final int FORMAT = 1;
+
+    private int[] keys;
+    private int[] rows;
+    private int[] counts;
+    private int size;
+
+    private final int[] docs = new int[CATEGORIES];
+    private final long[] featureTotals = new long[CATEGORIES];
+    private int totalDocs;
+
+    CategoryModel() {
+        this(64);
+    }
+
+    CategoryModel(int expectedFeatures) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedFeatures * 2 - 1)) << 1;
+        keys = new int[capacity];
+        rows = new int[capacity];
+        counts = new int[Math.max(16, expectedFeatures) * CATEGORIES];
+    }
+
+    void add(int[] features, Category category) {
+        int c = category.ordinal();
+        for (int feature : features) {
+            counts[row(feature) * CATEGORIES + c]++;
+        }
+        docs[c]++;
+        featureTotals[c] += features.length;
+        totalDocs++;
+    }
+
+    int count(int feature, Category category) {
+        int offset = offset(feature);
+        return offset < 0 ? 0 : counts[offset + category.ordinal()];
+    }
+
+    int docs(Category category) {
+        return docs[category.ordinal()];
+    }
+
+    int totalDocs() {
+        return totalDocs;
+    }
+
+    int vocabulary() {
+        return size;
+    }
+
+    byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(FORMAT);
+            out.writeInt(CATEGORIES);
+            out.writeInt(size);
+            out.writeInt(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                out.writeInt(keys[i]);
+                out.writeInt(rows[i]);
+            }
+            for (int i = 0; i < size * CATEGORIES; i++) {
+                out.writeInt(counts[i]);
+            }
+            for (int c = 0; c < CATEGORIES; c++) {
+                out.writeInt(docs[c]);
+                out.writeLong(featureTotals[c]);
+            }
+            out.writeInt(totalDocs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * toBytes 로 만든 값을 읽는다
+     *
+     * @throws IllegalArgumentException 형식이나 카테고리 수가 다르면
+     */
+    static CategoryModel fromBytes(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            if (in.readInt() != FORMAT || in.readInt() != CATEGORIES) {
+                throw new IllegalArgumentException("Unsupported category model format.");
+            }
+            CategoryModel model = new CategoryModel();
+            model.size = in.readInt();
+            int capacity = in.readInt();
+            model.keys = new int[capacity];
+            model.rows = new int[capacity];
+            for (int i = 0; i < capacity; i++) {
+                model.keys[i] = in.readInt();
+                model.rows[i] = in.readInt();
+            }
+            model.counts = new int[Math.max(16, model.size) * CATEGORIES];
+            for (int i = 0; i < model.size * CATEGORIES; i++) {
+                model.counts[i] = in.readInt();
+            }
+            for (int c = 0; c < CATEGORIES; c++) {
+                model.docs[c] = in.readInt();
+                model.featureTotals[c] = in.readLong();
+            }
+            model.totalDocs = in.readInt();
+            return model;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupted category model.", e);
+        }
+    }
+
+    /**
+     * 카테고리별 확률 (Category.ordinal 순)
+     *
+     * 전체 사용자 모델에 add-one smoothing 을 한 확률 Pg 를 사전 분포로 두고,
+     * 사용자 빈도에 가상 관측 priorWeight 건만큼 섞는다.
+     *   P(c)   = (docs_u(c) + w·Pg(c)) / (docs_u + w)
+     *   P(f|c) = (n_u(f,c) + w·Pg(f|c)) / (N_u(c) + w)
+     * 거래가 적은 사용자는 전체 경향을, 거래가 쌓이면 본인 습관을 따른다.
+     */
+    static double[] posterior(CategoryModel user, CategoryModel global, int[] features, double priorWeight) {
+        double[] logScores = new double[CATEGORIES];
+        for (int c = 0; c < CATEGORIES; c++) {
+            double globalPrior = (global.docs[c] + 1.0) / (global.totalDocs + CATEGORIES);
+            logScores[c] = Math.log((user.docs[c] + priorWeight * globalPrior) / (user.totalDocs + priorWeight));
+        }
+
+        double globalVocabulary = global.size + 1.0;
+        for (int feature : features) {
+            // 특징마다 모델별로 한 번만 찾는다
+            int userOffset = user.offset(feature);
+            int globalOffset = global.offset(feature);
+            for (int c = 0; c < CATEGORIES; c++) {
+                int globalCount = globalOffset < 0 ? 0 : global.counts[globalOffset + c];
+                int userCount = userOffset < 0 ? 0 : user.counts[userOffset + c];
+                double globalLikelihood = (globalCount + 1.0) / (global.featureTotals[c] + globalVocabulary);
+                logScores[c] += Math.log((userCount + priorWeight * globalLikelihood)
+                        / (user.featureTotals[c] + priorWeight));
+            }
+        }
+
+        double max = Arrays.stream(logScores).max().orElse(0);
+        double sum = 0;
+        double[] probabilities = new double[CATEGORIES];
+        for (int c = 0; c < CATEGORIES; c++) {
+            probabilities[c] = Math.exp(logScores[c] - max);
+            sum += probabilities[c];
+        }
+        for (int c = 0; c < CATEGORIES; c++) {
+            probabilities[c] /= sum;
+        }
+        return probabilities;
+    }
+
+    /**
+     * 제목의 특징 해시 (단어 + 단어별 bigram, 중복 제거)
+     */
+    static int[] features(String title) {
+        List<String> terms = SearchTokenizer.terms(title);
+        int capacity = 0;
+        for (String term : terms) {
+            capacity += term.length();
+        }
+        // 단어 하나당 특징은 단어 1개 + bigram (글자 수 - 1)개 이하
+        int[] features = new int[capacity];
+        int length = 0;
+        for (String term : terms) {
+            length = append(features, length, mix(term.hashCode() ^ WORD_SALT));
+            for (String bigram : SearchTokenizer.tokens(List.of(term))) {
+                length = append(features, length, mix(bigram.hashCode() ^ BIGRAM_SALT));
+            }
+        }
+        return Arrays.copyOf(features, length);
+    }
+
+    private static int append(int[] features, int length, int feature) {
+        for (int i = 0; i < length; i++) {
+            if (features[i] == feature) {
+                return length;
+            }
+        }
+        features[length] = feature;
+        return length + 1;
+    }
+
+    /**
+     * murmur3 fmix32. 0 은 빈 칸 표시로 쓰므로 1 로 바꾼다
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h == EMPTY ? 1 : h;
+    }
+
+    /**
+     * 특징 행의 시작 위치. 없으면 -1
+     */
+    private int offset(int feature) {
+        int mask = keys.length - 1;
+        for (int slot = feature & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == feature) {
+                return rows[slot] * CATEGORIES;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    private int row(int feature) {
+        int mask = keys.length - 1;
+        int slot = feature & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == feature) {
+                return rows[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+            return row(feature);
+        }
+        keys[slot] = feature;
+        rows[slot] = size;
+        if ((size + 1) * CATEGORIES > counts.length) {
+            counts = Arrays.copyOf(counts, counts.length * 2);
+        }
+        return size++;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldRows = rows;
+        keys = new int[oldKeys.length * 2];
+        rows = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = oldKeys[i] & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            rows[slot] = oldRows[i];
+        }
+    }
+}
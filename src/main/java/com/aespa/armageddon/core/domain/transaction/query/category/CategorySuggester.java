@@ -0,0 +1,358 @@
+package com.aespa.armageddon.core.domain.transaction.query.category;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.CategorySuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 제목으로 지출 카테고리 추천 (사용자별 naive Bayes + 전체 사용자 사전 분포, 프로세스 내부)
+ *
+ * - 전체 모델 : 지출 거래 전체를 스트리밍으로 한 번 읽어 만든다. 행을 모아 두지 않고 읽는 즉시 빈도에 더한 뒤 다 만들어지면 교체한다.
+ *   check-interval 마다 Redis 에 공유된 모델의 생성 시각을 확인해, rebuild-interval 보다 오래되었으면 RedisLock 을 잡은
+ *   한 인스턴스만 다시 만들어 Redis 에 올리고, 나머지 인스턴스는 더 새 모델이 올라와 있으면 받아 오기만 한다.
+ *   Redis 를 쓸 수 없으면 각 인스턴스가 자기 모델이 오래되었을 때 직접 만든다 (공유하지 않음).
+ * - 사용자 모델 : 처음 추천을 요청할 때 최근 historyLimit 건으로 만들고 LRU(maxUsers) + ttl 로 보관한다.
+ *   만들기 전에 받은 ticket 이후 그 사용자의 변경이 커밋되었으면 이번 요청에만 쓰고 저장하지 않는다
+ *   (TransactionHotRowCache 와 같은 방식, 변경 기록은 최근 maxUsers 명).
+ * - 갱신 : 지출 작성/수정이 커밋되면 해당 거래를 두 모델에 더한다 (이벤트에 제목이 없어 PK 로 한 번 읽음).
+ *   수정 전 값과 삭제는 빼지 않는다. 사용자가 고친 카테고리가 더해지므로 추천은 최근 선택 쪽으로 옮겨가고,
+ *   남은 이전 값은 재생성(ttl, 전체 주기) 때 정리된다.
+ *
+ * 지표 : transaction.category-suggest.global.rebuild (timer), transaction.category-suggest.global.vocabulary (gauge)
+ */
+@Slf4j
+@Component
+public class CategorySuggester {
+
+    private static final String LOCK_NAME = "category-suggest:global";
+    // 값은 "생성 시각(ms):base64(gzip 모델)"
+    private static final String MODEL_KEY = "category-suggest:global:model";
+    private static final String BUILT_AT_KEY = "category-suggest:global:built-at";
+
+    private static final String USER_HISTORY_SQL = """
+            select title, category
+              from tbl_transaction
+             where user_no = ? and type = 'EXPENSE' and category is not null
+             order by transaction_id desc
+             limit ?
+            """;
+
+    private static final String ALL_HISTORY_SQL = """
+            select title, category
+              from tbl_transaction
+             where type = 'EXPENSE' and category is not null
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionQueryRepository transactionQueryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock = Clock.systemUTC();
+
+    @Value("${transaction.category-suggest.max-users:5000}")
+    private int maxUsers;
+
+    @Value("${transaction.category-suggest.history-limit:5000}")
+    private int historyLimit;
+
+    /** 사용자 빈도에 섞는 전체 모델의 가상 관측 수 */
+    @Value("${transaction.category-suggest.prior-weight:3}")
+    private double priorWeight;
+
+    @Value("${transaction.category-suggest.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${transaction.category-suggest.global-rebuild-interval-millis:86400000}")
+    private long rebuildIntervalMillis;
+
+    @Value("${transaction.category-suggest.global-lock-ttl-seconds:1800}")
+    private long lockTtlSeconds;
+
+    private volatile CategoryModel global = new CategoryModel();
+    // 지금 쓰는 전체 모델의 생성 시각 (0 이면 아직 없음). 스케줄러 스레드에서만 바꾼다
+    private volatile long globalBuiltAt;
+    private Map<Long, UserModel> users;
+    private Map<Long, Long> changes;
+    private Timer rebuildTimer;
+
+    // 아래 값은 users 잠금 안에서만 읽고 쓴다
+    private long sequence;
+    private long forgottenUpTo;
+
+    public CategorySuggester(DataSource dataSource,
+                             TransactionQueryRepository transactionQueryRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisLock redisLock,
+                             MeterRegistry meterRegistry,
+                             @Value("${transaction.category-suggest.fetch-size:1000}") int fetchSize) {
+        // 전체 재생성은 결과를 한 번에 받지 않고 fetchSize 단위로 스트리밍한다
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.transactionQueryRepository = transactionQueryRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisLock = redisLock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserModel> eldest) {
+                return size() > maxUsers;
+            }
+        };
+        changes = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxUsers) {
+                    return false;
+                }
+                forgottenUpTo = eldest.getValue();
+                return true;
+            }
+        };
+        rebuildTimer = Timer.builder("transaction.category-suggest.global.rebuild")
+                .description("Time spent rebuilding the global category model")
+                .register(meterRegistry);
+        Gauge.builder("transaction.category-suggest.global.vocabulary", this, s -> s.global.vocabulary())
+                .description("Distinct title features in the global category model")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 확률 높은 순으로 최대 size 개
+     */
+    public List<CategorySuggestionResponse> suggest(Long userNo, String title, int size) {
+        int[] features = CategoryModel.features(title);
+        CategoryModel user = userModel(userNo);
+        CategoryModel globalModel = global;
+        double[] probabilities;
+        synchronized (user) {
+            synchronized (globalModel) {
+                probabilities = CategoryModel.posterior(user, globalModel, features, priorWeight);
+            }
+        }
+
+        List<CategorySuggestionResponse> suggestions = new ArrayList<>();
+        for (Category category : Category.values()) {
+            suggestions.add(new CategorySuggestionResponse(category, probabilities[category.ordinal()]));
+        }
+        suggestions.sort(Comparator.comparingDouble(CategorySuggestionResponse::probability).reversed());
+        return suggestions.subList(0, Math.min(size, suggestions.size()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        if (event.type() != TransactionType.EXPENSE || event.category() == null
+                || event.changeType() == ChangeType.DELETED || event.transactionId() == null) {
+            return;
+        }
+        transactionQueryRepository.findTransaction(event.userNo(), event.transactionId())
+                .filter(row -> row.getCategory() != null)
+                .ifPresent(row -> {
+                    int[] features = CategoryModel.features(row.getTitle());
+                    CategoryModel globalModel = global;
+                    synchronized (globalModel) {
+                        globalModel.add(features, row.getCategory());
+                    }
+                    CategoryModel user = loadedUserModel(event.userNo());
+                    if (user == null) {
+                        // 지금 만들고 있는 사용자 모델이 이 변경을 빠뜨린 채 저장되지 않도록 기록한다
+                        recordChange(event.userNo());
+                        return;
+                    }
+                    synchronized (user) {
+                        user.add(features, row.getCategory());
+                    }
+                });
+    }
+
+    @Scheduled(initialDelayString = "${transaction.category-suggest.global-initial-delay-millis:60000}",
+            fixedDelayString = "${transaction.category-suggest.global-check-interval-millis:300000}")
+    public void refreshGlobal() {
+        long publishedAt;
+        try {
+            publishedAt = publishedAt();
+        } catch (DataAccessException e) {
+            log.warn("Shared category model unavailable. reason={}", e.getMessage());
+            if (isStale(globalBuiltAt)) {
+                rebuildGlobal();
+            }
+            return;
+        }
+        try {
+            if (!isStale(publishedAt)) {
+                loadPublished(publishedAt);
+                return;
+            }
+            Optional<String> token = redisLock.tryLock(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+            if (token.isEmpty()) {
+                // 다른 인스턴스가 만드는 중. 다음 확인 때 받아 온다
+                return;
+            }
+            try {
+                // 확인한 뒤 락을 잡기 전에 다른 인스턴스가 올렸을 수 있다
+                publishedAt = publishedAt();
+                if (!isStale(publishedAt)) {
+                    loadPublished(publishedAt);
+                    return;
+                }
+                if (rebuildGlobal()) {
+                    publish(global, globalBuiltAt);
+                }
+            } finally {
+                redisLock.unlock(LOCK_NAME, token.get());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Global category model refresh failed. reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지출 거래 전체로 전체 모델을 새로 만들어 교체한다
+     *
+     * @return 성공하면 true
+     */
+    boolean rebuildGlobal() {
+        long builtAt = clock.millis();
+        try {
+            CategoryModel rebuilt = rebuildTimer.record(() -> {
+                CategoryModel model = new CategoryModel(1 << 16);
+                jdbcTemplate.query(ALL_HISTORY_SQL, rs -> {
+                    model.add(CategoryModel.features(rs.getString("title")), Category.valueOf(rs.getString("category")));
+                });
+                return model;
+            });
+            global = rebuilt;
+            globalBuiltAt = builtAt;
+            log.info("Global category model rebuilt. docs={}, vocabulary={}",
+                    rebuilt.totalDocs(), rebuilt.vocabulary());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Global category model rebuild failed. reason={}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isStale(long builtAt) {
+        return clock.millis() - builtAt >= rebuildIntervalMillis;
+    }
+
+    private long publishedAt() {
+        String value = redisTemplate.opsForValue().get(BUILT_AT_KEY);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private void publish(CategoryModel model, long builtAt) {
+        byte[] bytes;
+        synchronized (model) {
+            bytes = model.toBytes();
+        }
+        // 모델을 먼저 올리고 생성 시각을 바꾼다 (시각만 보고 받아 가는 쪽이 이전 모델을 받지 않도록)
+        redisTemplate.opsForValue().set(MODEL_KEY, builtAt + ":" + Base64.getEncoder().encodeToString(bytes));
+        redisTemplate.opsForValue().set(BUILT_AT_KEY, String.valueOf(builtAt));
+        log.info("Global category model published. bytes={}", bytes.length);
+    }
+
+    /**
+     * 공유된 모델이 지금 쓰는 것보다 새로우면 받아 온다.
+     * 받은 모델에는 그 사이 이 인스턴스에서 더한 변경이 빠지지만 다음 재생성 때 다시 반영된다.
+     */
+    private void loadPublished(long publishedAt) {
+        if (publishedAt <= globalBuiltAt) {
+            return;
+        }
+        String value = redisTemplate.opsForValue().get(MODEL_KEY);
+        if (value == null) {
+            return;
+        }
+        int separator = value.indexOf(':');
+        long builtAt = Long.parseLong(value.substring(0, separator));
+        if (builtAt <= globalBuiltAt) {
+            return;
+        }
+        try {
+            global = CategoryModel.fromBytes(Base64.getDecoder().decode(value.substring(separator + 1)));
+            globalBuiltAt = builtAt;
+        } catch (IllegalArgumentException e) {
+            log.warn("Shared category model unreadable. Keeping current model. reason={}", e.getMessage());
+        }
+    }
+
+    private CategoryModel userModel(Long userNo) {
+        CategoryModel loaded = loadedUserModel(userNo);
+        if (loaded != null) {
+            return loaded;
+        }
+        long ticket;
+        synchronized (users) {
+            ticket = sequence;
+        }
+        CategoryModel model = new CategoryModel();
+        jdbcTemplate.query(USER_HISTORY_SQL, rs -> {
+            model.add(CategoryModel.features(rs.getString("title")), Category.valueOf(rs.getString("category")));
+        }, userNo, historyLimit);
+        synchronized (users) {
+            Long changedAt = changes.get(userNo);
+            if (ticket >= forgottenUpTo && (changedAt == null || changedAt <= ticket)) {
+                users.put(userNo, new UserModel(model, clock.millis() + ttlMinutes * 60_000));
+            }
+        }
+        return model;
+    }
+
+    private void recordChange(Long userNo) {
+        synchronized (users) {
+            // 다시 넣어 순서를 맨 뒤로 옮긴다 (밀려나는 기록의 sequence 가 항상 가장 작게)
+            changes.remove(userNo);
+            changes.put(userNo, ++sequence);
+        }
+    }
+
+    private CategoryModel loadedUserModel(Long userNo) {
+        synchronized (users) {
+            UserModel userModel = users.get(userNo);
+            if (userModel == null) {
+                return null;
+            }
+            if (userModel.expiresAt() <= clock.millis()) {
+                users.remove(userNo);
+                return null;
+            }
+            return userModel.model();
+        }
+    }
+
+    private record UserModel(CategoryModel model, long expiresAt) {
+    }
+}
@@ -5,6 +5,10 @@ import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.common.support.response.ApiResult;
 import com.aespa.armageddon.core.domain.auth.entity.User;
 import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.query.dto.CategorySuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TitleSuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionCalendarDayResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionDailyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionLatelyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
@@ -62,7 +66,7 @@ public class TransactionQueryController {
     /* 수입, 지출 입력/수정 모달창*/
     @GetMapping("/modal")
     @Operation(summary = "Get transaction detail")
-    public ApiResult<List<TransactionResponse>> getTransactions(
+    public ApiResult<TransactionResponse> getTransaction(
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "Transaction ID")
             @RequestParam Long transactionId
@@ -71,7 +75,7 @@ public class TransactionQueryController {
         User user = userRepository.findByLoginId(userDetails.getUsername())
                 .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
 
-        return ApiResult.success(transactionQueryService.getTransactions(user.getId(), transactionId));
+        return ApiResult.success(transactionQueryService.getTransaction(user.getId(), transactionId));
     }
 
     /* 일간 총 수입/지출/잔액 요약 조회 */
@@ -101,4 +105,67 @@ public class TransactionQueryController {
 
         return ApiResult.success(transactionQueryService.getMonthlySummary(user.getId(), year, month));
     }
-}
\ No newline at end of file
+
+    /* 캘린더 월간 조회 (날짜별 수입/지출 합계) */
+    @GetMapping("/calendar")
+    @Operation(summary = "Get per-day income/expense totals for a month")
+    public ApiResult<List<TransactionCalendarDayResponse>> getCalendar(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "Year (e.g. 2025)") @RequestParam int year,
+            @Parameter(description = "Month (1-12)") @RequestParam int month) {
+
+        User user = userRepository.findByLoginId(userDetails.getUsername())
+                .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
+
+        return ApiResult.success(transactionQueryService.getCalendar(user.getId(), year, month));
+    }
+
+    /* 제목/메모 검색 (최근 등록 순, 다음 페이지는 마지막 id 를 cursor 로 전달) */
+    @GetMapping("/search")
+    @Operation(summary = "Search transactions by title and memo")
+    public ApiResult<List<TransactionResponse>> search(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "Search words (at least one word of 2+ characters)") @RequestParam String q,
+            @Parameter(description = "Start date (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @Parameter(description = "End date (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @Parameter(description = "Category filter") @RequestParam(required = false) Category category,
+            @Parameter(description = "Return transactions with ID below this value") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size (1-50)") @RequestParam(defaultValue = "20") int size) {
+
+        User user = userRepository.findByLoginId(userDetails.getUsername())
+                .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
+
+        return ApiResult.success(transactionQueryService.search(
+                user.getId(), q, startDate, endDate, category, cursor, size));
+    }
+
+    /* 거래 입력 시 제목 자동완성 (평소 카테고리/금액 포함) */
+    @GetMapping("/suggest/title")
+    @Operation(summary = "Suggest titles from past transactions by prefix")
+    public ApiResult<List<TitleSuggestionResponse>> suggestTitles(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "Typed title prefix") @RequestParam String prefix,
+            @Parameter(description = "Number of suggestions (1-10)") @RequestParam(defaultValue = "5") int size) {
+
+        User user = userRepository.findByLoginId(userDetails.getUsername())
+                .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
+
+        return ApiResult.success(transactionQueryService.suggestTitles(user.getId(), prefix, size));
+    }
+
+    /* 지출 입력 시 제목으로 카테고리 추천 */
+    @GetMapping("/suggest/category")
+    @Operation(summary = "Suggest expense categories from the title")
+    public ApiResult<List<CategorySuggestionResponse>> suggestCategories(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "Expense title") @RequestParam String title,
+            @Parameter(description = "Number of suggestions (1-11)") @RequestParam(defaultValue = "3") int size) {
+
+        User user = userRepository.findByLoginId(userDetails.getUsername())
+                .orElseThrow(() -> new CoreException(ErrorType.USER_NOT_FOUND));
+
+        return ApiResult.success(transactionQueryService.suggestCategories(user.getId(), title, size));
+    }
+}
@@ -0,0 +1,12 @@
+package com.aespa.armageddon.core.domain.transaction.query.dto;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+
+/**
+ * 제목으로 추천한 지출 카테고리와 확률 (0 ~ 1)
+ */
+public record CategorySuggestionResponse(
+        Category category,
+        double probability
+) {
+}
@@ -0,0 +1,13 @@
+package com.aespa.armageddon.core.domain.transaction.query.dto;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+
+/**
+ * 사용자/카테고리별 지출 합계 (여러 사용자를 한 번에 집계할 때 사용)
+ */
+public record ExpenseCategorySum(
+        Long userNo,
+        Category category,
+        Long amount
+) {
+}
@@ -0,0 +1,20 @@
+package com.aespa.armageddon.core.domain.transaction.query.dto;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * 거래 제목 자동완성 항목
+ * 유형/금액은 같은 제목의 가장 최근 거래 값, 카테고리는 가장 많이 쓴 값
+ */
+public record TitleSuggestionResponse(
+        String title,
+        TransactionType type,
+        Category category,
+        int amount,
+        int count,
+        LocalDate lastDate
+) {
+}
@@ -0,0 +1,23 @@
+package com.aespa.armageddon.core.domain.transaction.query.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class TransactionCalendarDayResponse {
+
+    private LocalDate date;         // 거래 날짜
+    private Long totalIncome;       // 해당 날짜 총 수입
+    private Long totalExpense;      // 해당 날짜 총 지출
+    private Long balance;           // 잔액 (총 수입 - 총 지출)
+
+    @QueryProjection
+    public TransactionCalendarDayResponse(LocalDate date, Long totalIncome, Long totalExpense) {
+        this.date = date;
+        this.totalIncome = totalIncome != null ? totalIncome : 0L;
+        this.totalExpense = totalExpense != null ? totalExpense : 0L;
+        this.balance = this.totalIncome - this.totalExpense;
+    }
+}
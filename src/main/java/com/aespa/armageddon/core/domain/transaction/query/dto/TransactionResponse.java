@@ -1,6 +1,7 @@
 package com.aespa.armageddon.core.domain.transaction.query.dto;
 
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Data;
@@ -28,4 +29,16 @@ public class TransactionResponse {
         this.category = category;
         this.memo = memo;
     }
+
+    /* 방금 저장한 엔티티를 다시 조회하지 않고 응답으로 변환 */
+    public static TransactionResponse from(Transaction transaction) {
+        return new TransactionResponse(
+                transaction.getTransactionId(),
+                transaction.getType(),
+                transaction.getDate(),
+                transaction.getTitle(),
+                transaction.getAmount(),
+                transaction.getCategory(),
+                transaction.getMemo());
+    }
 }
\ No newline at end of file
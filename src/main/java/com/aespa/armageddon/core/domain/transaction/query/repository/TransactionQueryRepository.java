@@ -4,15 +4,26 @@ import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Cat
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
 import com.aespa.armageddon.core.domain.transaction.query.dto.*;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionLatelyResponse;
+import com.aespa.armageddon.core.domain.transaction.query.search.QTransactionSearchToken;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.QTransaction.transaction;
+import static com.aespa.armageddon.core.domain.transaction.query.search.QTransactionSearchToken.transactionSearchToken;
 
 @Repository
 @RequiredArgsConstructor
@@ -56,9 +67,9 @@ public class TransactionQueryRepository {
                 .fetch();
     }
 
-    /* 수입, 지출 입력/수정 모달창 */
-    public List<TransactionResponse> findTransaction(Long userNo, Long transactionId) {
-        return queryFactory
+    /* 수입, 지출 입력/수정 모달창 (PK 단건 조회) */
+    public Optional<TransactionResponse> findTransaction(Long userNo, Long transactionId) {
+        return Optional.ofNullable(queryFactory
                 .select(new QTransactionResponse(
                         transaction.transactionId,
                         transaction.type,
@@ -69,14 +80,12 @@ public class TransactionQueryRepository {
                         transaction.memo))
                 .from(transaction)
                 .where(
-                        transaction.userNo.eq(userNo), // 유저 본인 내역 조회
-                        transaction.transactionId.eq(transactionId) // 요청한 날짜의 내역 조회
+                        transaction.transactionId.eq(transactionId), // PK 조회
+                        transaction.userNo.eq(userNo) // 유저 본인 내역만
                 )
-                .fetch();
-
+                .fetchFirst());
     }
 
-
     /* 월간 총 수입/지출/잔액 요약 조회 */
     public TransactionSummaryResponse findMonthlySummary(Long userNo, int year, int month) {
 
@@ -108,6 +117,35 @@ public class TransactionQueryRepository {
                 .fetchOne();
     }
 
+    /* 캘린더 월간 조회 : 거래가 있는 날짜별 수입/지출 합계를 한 번에 조회 */
+    public List<TransactionCalendarDayResponse> findCalendar(Long userNo, int year, int month) {
+
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+        return queryFactory
+                .select(new QTransactionCalendarDayResponse(
+                        transaction.date,
+                        new CaseBuilder()
+                                .when(transaction.type.eq(TransactionType.INCOME))
+                                .then(transaction.amount.longValue())
+                                .otherwise(0L)
+                                .sum(),
+                        new CaseBuilder()
+                                .when(transaction.type.eq(TransactionType.EXPENSE))
+                                .then(transaction.amount.longValue())
+                                .otherwise(0L)
+                                .sum()))
+                .from(transaction)
+                .where(
+                        transaction.userNo.eq(userNo),
+                        transaction.date.between(startDate, endDate)
+                )
+                .groupBy(transaction.date)
+                .orderBy(transaction.date.asc())
+                .fetch();
+    }
+
     /* 일간 총 수입/지출/잔액 요약 조회 */
     public TransactionSummaryResponse findDailySummary(Long userNo, LocalDate date) {
         return queryFactory
@@ -146,4 +184,120 @@ public class TransactionQueryRepository {
                 .fetchOne()
                 .longValue();
     }
-}
\ No newline at end of file
+
+    /* 여러 사용자의 같은 기간 지출을 사용자/카테고리별로 한 번에 집계 (만료 목표 일괄 처리용) */
+    public List<ExpenseCategorySum> findExpenseCategorySums(Collection<Long> userNos, LocalDate startDate,
+                                                            LocalDate endDate) {
+        return queryFactory
+                .select(Projections.constructor(ExpenseCategorySum.class,
+                        transaction.userNo,
+                        transaction.category,
+                        transaction.amount.longValue().sum()))
+                .from(transaction)
+                .where(
+                        transaction.userNo.in(userNos),
+                        transaction.type.eq(TransactionType.EXPENSE),
+                        transaction.date.between(startDate, endDate))
+                .groupBy(transaction.userNo, transaction.category)
+                .fetch();
+    }
+
+    /*
+     * 제목/메모 검색 (최근 등록 순, cursor 보다 작은 id 부터)
+     * 1) cursor 이전 구간에서 거래가 가장 적은 토큰을 고르고 (토큰 하나라도 거래가 없으면 결과 없음)
+     * 2) 그 토큰의 거래를 id 역순으로 따라가며 나머지 토큰을 모두 가진 거래만 후보로 남긴다.
+     *    색인 (user_no, token, transaction_id) 을 역순으로 읽다가 size 건을 채우면 멈춘다.
+     * 3) 후보 중 각 단어가 제목이나 메모에 실제로 들어 있는 거래만 남긴다 (토큰이 떨어져 있는 경우 제외)
+     */
+    public List<TransactionResponse> search(Long userNo, Set<String> tokens, List<String> terms,
+                                            LocalDate startDate, LocalDate endDate, Category category,
+                                            Long cursor, int size) {
+
+        NumberExpression<Long> postings = transactionSearchToken.count();
+        List<Tuple> counts = queryFactory
+                .select(transactionSearchToken.token, postings)
+                .from(transactionSearchToken)
+                .where(
+                        transactionSearchToken.userNo.eq(userNo),
+                        transactionSearchToken.token.in(tokens),
+                        cursor != null ? transactionSearchToken.transactionId.lt(cursor) : null)
+                .groupBy(transactionSearchToken.token)
+                .fetch();
+        if (counts.size() < tokens.size()) {
+            return List.of();
+        }
+        String rarest = counts.stream()
+                .min(Comparator.comparingLong(row -> row.get(postings)))
+                .map(row -> row.get(transactionSearchToken.token))
+                .orElseThrow();
+
+        QTransactionSearchToken posting = new QTransactionSearchToken("posting");
+        BooleanBuilder hasOtherTokens = new BooleanBuilder();
+        int i = 0;
+        for (String token : tokens) {
+            if (token.equals(rarest)) {
+                continue;
+            }
+            QTransactionSearchToken other = new QTransactionSearchToken("other" + i++);
+            hasOtherTokens.and(JPAExpressions
+                    .selectOne()
+                    .from(other)
+                    .where(
+                            other.userNo.eq(userNo),
+                            other.token.eq(token),
+                            other.transactionId.eq(posting.transactionId))
+                    .exists());
+        }
+
+        BooleanBuilder matches = new BooleanBuilder();
+        for (String term : terms) {
+            matches.and(transaction.title.containsIgnoreCase(term)
+                    .or(transaction.memo.containsIgnoreCase(term)));
+        }
+
+        return queryFactory
+                .select(new QTransactionResponse(
+                        transaction.transactionId,
+                        transaction.type,
+                        transaction.date,
+                        transaction.title,
+                        transaction.amount,
+                        transaction.category,
+                        transaction.memo))
+                .from(posting)
+                .join(transaction).on(transaction.transactionId.eq(posting.transactionId))
+                .where(
+                        posting.userNo.eq(userNo),
+                        posting.token.eq(rarest),
+                        cursor != null ? posting.transactionId.lt(cursor) : null,
+                        hasOtherTokens,
+                        transaction.userNo.eq(userNo),
+                        startDate != null ? transaction.date.goe(startDate) : null,
+                        endDate != null ? transaction.date.loe(endDate) : null,
+                        category != null ? transaction.category.eq(category) : null,
+                        matches)
+                .orderBy(posting.transactionId.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    /* 자동완성 색인 생성용 : since 이후 거래를 최근 순으로 최대 limit 건 */
+    public List<TransactionResponse> findTitleHistory(Long userNo, LocalDate since, int limit) {
+        return queryFactory
+                .select(new QTransactionResponse(
+                        transaction.transactionId,
+                        transaction.type,
+                        transaction.date,
+                        transaction.title,
+                        transaction.amount,
+                        transaction.category,
+                        transaction.memo))
+                .from(transaction)
+                .where(
+                        transaction.userNo.eq(userNo),
+                        transaction.date.goe(since))
+                .orderBy(transaction.date.desc(), transaction.transactionId.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
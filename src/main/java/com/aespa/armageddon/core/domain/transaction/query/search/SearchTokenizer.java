@@ -0,0 +1,70 @@
+package com.aespa.armageddon.core.domain.transaction.query.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 bigram 토큰 분리
+ *
+ * 글자/숫자가 아닌 문자로 단어를 나누고, 단어마다 연속한 두 글자씩 토큰으로 만든다 (스타벅스 → 스타, 타벅, 벅스).
+ * 띄어쓰기가 일정하지 않은 한글도 단어 일부로 찾을 수 있다. 한 글자 단어는 토큰을 만들지 않는다.
+ */
+public final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화한 단어 목록 (중복 제거, 입력 순서 유지)
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 문서(제목, 메모)의 토큰
+     */
+    public static Set<String> tokens(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            addBigrams(terms(text), tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 단어들의 토큰. 문서가 이 토큰을 모두 가져야 후보가 된다
+     */
+    public static Set<String> tokens(Collection<String> terms) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(terms, tokens);
+        return tokens;
+    }
+
+    private static void addBigrams(Collection<String> terms, Set<String> tokens) {
+        for (String term : terms) {
+            int[] codePoints = term.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+    }
+}
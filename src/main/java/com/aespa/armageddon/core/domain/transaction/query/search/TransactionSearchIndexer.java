@@ -0,0 +1,203 @@
+package com.aespa.armageddon.core.domain.transaction.query.search;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.outbox.TransactionOutboxMessage;
+import com.aespa.armageddon.core.domain.transaction.outbox.TransactionOutboxSubscriber;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 거래 검색 색인 관리
+ *
+ * - 갱신 : outbox 배치에서 바뀐 거래 id 를 모아 토큰을 지우고 현재 제목/메모로 다시 만든다 (삭제된 거래는 지우기만 함).
+ *   같은 배치가 다시 전달되어도 결과가 같다.
+ * - 반복 거래 : batch INSERT 라 이벤트에 id 가 없으므로 해당 사용자/날짜 범위의 색인되지 않은 거래를 찾아 색인한다.
+ * - 기존 거래 : 색인이 없는 거래를 id 순으로 batchSize 개씩 채운다 (진행 위치는 Redis 에 두고, 잃어버리면 처음부터 다시 확인).
+ *
+ * 토큰 INSERT 는 거래 id 가 IDENTITY 라 JPA 로 묶을 수 없어 JDBC batch 로 보낸다.
+ *
+ * 지표 : transaction.search.indexed (counter)
+ */
+@Slf4j
+@Component
+public class TransactionSearchIndexer implements TransactionOutboxSubscriber {
+
+    private static final String BACKFILL_LOCK_NAME = "transaction:search-backfill";
+    private static final String BACKFILL_CURSOR_KEY = "transaction:search-backfill:last-id";
+
+    private static final String SELECT_TRANSACTIONS_SQL = """
+            select transaction_id, user_no, title, memo
+              from tbl_transaction
+             where transaction_id in (:ids)
+            """;
+
+    private static final String SELECT_UNINDEXED_IN_RANGE_SQL = """
+            select t.transaction_id
+              from tbl_transaction t
+             where t.user_no = ? and t.date between ? and ?
+               and not exists (select 1 from tbl_transaction_search_token s where s.transaction_id = t.transaction_id)
+            """;
+
+    private static final String SELECT_UNINDEXED_AFTER_SQL = """
+            select t.transaction_id
+              from tbl_transaction t
+             where t.transaction_id > ?
+               and not exists (select 1 from tbl_transaction_search_token s where s.transaction_id = t.transaction_id)
+             order by t.transaction_id
+             limit ?
+            """;
+
+    private static final String DELETE_TOKENS_SQL = """
+            delete from tbl_transaction_search_token
+             where transaction_id in (:ids)
+            """;
+
+    private static final String INSERT_TOKEN_SQL = """
+            insert into tbl_transaction_search_token (transaction_id, user_no, token)
+            values (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLock redisLock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transaction.search.backfill.batch-size:500}")
+    private int backfillBatchSize;
+
+    @Value("${transaction.search.backfill.lock-ttl-seconds:60}")
+    private long backfillLockTtlSeconds;
+
+    private Counter indexedCounter;
+
+    public TransactionSearchIndexer(JdbcTemplate jdbcTemplate,
+                                    NamedParameterJdbcTemplate namedJdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    StringRedisTemplate redisTemplate,
+                                    RedisLock redisLock,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.redisTemplate = redisTemplate;
+        this.redisLock = redisLock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        indexedCounter = Counter.builder("transaction.search.indexed")
+                .description("Transactions (re)indexed for search")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "search-index";
+    }
+
+    @Override
+    public void handle(List<TransactionOutboxMessage> messages) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Set<UserDateRange> materialized = new LinkedHashSet<>();
+        for (TransactionOutboxMessage message : messages) {
+            TransactionChangedEvent event = message.event();
+            if (event.transactionId() != null) {
+                ids.add(event.transactionId());
+            } else {
+                materialized.add(new UserDateRange(event.userNo(), event.date(), event.lastDate()));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> targets = new LinkedHashSet<>(ids);
+            for (UserDateRange range : materialized) {
+                targets.addAll(jdbcTemplate.queryForList(SELECT_UNINDEXED_IN_RANGE_SQL, Long.class,
+                        range.userNo(), Date.valueOf(range.from()), Date.valueOf(range.to())));
+            }
+            reindex(targets);
+        });
+    }
+
+    /**
+     * 색인이 없는 기존 거래를 채운다. 다 채운 뒤에는 빈 조회 한 번으로 끝난다
+     */
+    @Scheduled(fixedDelayString = "${transaction.search.backfill.interval-millis:10000}")
+    public void backfill() {
+        Optional<String> token = redisLock.tryLock(BACKFILL_LOCK_NAME, Duration.ofSeconds(backfillLockTtlSeconds));
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            long lastId = readBackfillCursor();
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_UNINDEXED_AFTER_SQL, Long.class, lastId, backfillBatchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> reindex(ids));
+            redisTemplate.opsForValue().set(BACKFILL_CURSOR_KEY, String.valueOf(ids.get(ids.size() - 1)));
+        } catch (DataAccessException e) {
+            log.warn("Search index backfill failed. reason={}", e.getMessage());
+        } finally {
+            redisLock.unlock(BACKFILL_LOCK_NAME, token.get());
+        }
+    }
+
+    /**
+     * 거래들의 토큰을 지우고 현재 제목/메모로 다시 만든다 (호출한 트랜잭션 안에서 실행)
+     */
+    void reindex(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<String, Collection<Long>> params = Map.of("ids", ids);
+        namedJdbcTemplate.update(DELETE_TOKENS_SQL, params);
+
+        List<Object[]> inserts = new ArrayList<>();
+        int[] indexed = new int[1];
+        namedJdbcTemplate.query(SELECT_TRANSACTIONS_SQL, params, rs -> {
+            long transactionId = rs.getLong("transaction_id");
+            long userNo = rs.getLong("user_no");
+            for (String token : SearchTokenizer.tokens(rs.getString("title"), rs.getString("memo"))) {
+                inserts.add(new Object[]{transactionId, userNo, token});
+            }
+            indexed[0]++;
+        });
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, inserts);
+        }
+        indexedCounter.increment(indexed[0]);
+    }
+
+    private long readBackfillCursor() {
+        String value = redisTemplate.opsForValue().get(BACKFILL_CURSOR_KEY);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private record UserDateRange(Long userNo, LocalDate from, LocalDate to) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.aespa.armageddon.core.domain.transaction.query.search;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 제목/메모의 bigram 역색인 (SearchTokenizer 참고)
+ *
+ * 거래마다 서로 다른 토큰 하나당 한 행. outbox 를 구독하는 TransactionSearchIndexer 가 관리한다.
+ */
+@Entity
+@Table(
+        name = "tbl_transaction_search_token",
+        indexes = {
+                // 검색 : 사용자의 토큰별 거래 목록
+                @Index(name = "idx_search_token_user_token", columnList = "user_no, token, transaction_id"),
+                // 재색인 : 거래 단위 삭제
+                @Index(name = "idx_search_token_transaction", columnList = "transaction_id")
+        }
+)
+@NoArgsConstructor
+@Getter
+public class TransactionSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long transactionId;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    public TransactionSearchToken(Long transactionId, Long userNo, String token) {
+        this.transactionId = transactionId;
+        this.userNo = userNo;
+        this.token = token;
+    }
+}
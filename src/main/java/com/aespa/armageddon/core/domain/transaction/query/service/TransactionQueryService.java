@@ -1,23 +1,52 @@
 package com.aespa.armageddon.core.domain.transaction.query.service;
 
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
+import com.aespa.armageddon.core.common.support.job.StreamJobQueue;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.cache.TransactionHotRowCache;
+import com.aespa.armageddon.core.domain.transaction.query.category.CategorySuggester;
+import com.aespa.armageddon.core.domain.transaction.query.dto.CategorySuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.ExpenseCategorySum;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TitleSuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionCalendarDayResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionDailyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionLatelyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
 import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import com.aespa.armageddon.core.domain.transaction.query.search.SearchTokenizer;
+import com.aespa.armageddon.core.domain.transaction.query.suggest.TitleSuggestionIndex;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryRunningTotals;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryTotalRebuildJob;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 조회 전용 (성능 최적화 & 데이터 변경 실수 방지)
 public class TransactionQueryService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 50;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SUGGESTION_SIZE = 10;
+    private static final int MAX_TITLE_LENGTH = 50;
+
     private final TransactionQueryRepository transactionQueryRepository;
+    private final TransactionHotRowCache transactionHotRowCache;
+    private final CategoryRunningTotals categoryRunningTotals;
+    private final StreamJobQueue streamJobQueue;
+    private final TitleSuggestionIndex titleSuggestionIndex;
+    private final CategorySuggester categorySuggester;
 
     /*
      * 최근 거래 내역 리스트 조회
@@ -39,10 +68,23 @@ public class TransactionQueryService {
 
     }
 
-    /* 지출,수입 입력/수정 모달창 */
-    public List<TransactionResponse> getTransactions(Long id, Long transactionId) {
+    /*
+     * 지출,수입 입력/수정 모달창
+     * 캘린더에서 반복해서 열리므로 최근 조회한 거래는 캐시에서 반환
+     */
+    public TransactionResponse getTransaction(Long userNo, Long transactionId) {
 
-        return transactionQueryRepository.findTransaction(id, transactionId);
+        Optional<TransactionResponse> cached = transactionHotRowCache.get(userNo, transactionId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 조회하는 사이 수정/삭제가 커밋되면 이전 값을 캐시하지 않도록 조회 전에 받는다
+        long ticket = transactionHotRowCache.ticket();
+        TransactionResponse response = transactionQueryRepository.findTransaction(userNo, transactionId)
+                .orElseThrow(() -> new CoreException(ErrorType.TRANSACTION_NOT_FOUND));
+        transactionHotRowCache.put(userNo, response, ticket);
+        return response;
 
     }
 
@@ -64,11 +106,98 @@ public class TransactionQueryService {
 
     }
 
-    public Long getTransactionSum(Long userNo,
-                                  com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category category,
-                                  com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType type,
+    /**
+     * 캘린더 월간 조회 (날짜별 수입, 지출, 잔액)
+     * 거래가 없는 날짜는 포함하지 않는다.
+     */
+    public List<TransactionCalendarDayResponse> getCalendar(Long userNo, int year, int month) {
+
+        if (month < 1 || month > 12) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+        return transactionQueryRepository.findCalendar(userNo, year, month);
+
+    }
+
+    /**
+     * 기간 거래 합계
+     * 카테고리 지출 합계는 누적 합계의 차이로 계산한다. 누적 합계가 아직 없으면 원본 합계로 응답하고
+     * 재생성 작업을 등록한다 (작업 큐를 쓸 수 없으면 직접 만든다).
+     * 재생성이 끝나기 전의 조회는 같은 사용자/카테고리 작업이 이미 대기 중이면 다시 등록하지 않는다.
+     */
+    public Long getTransactionSum(Long userNo, Category category, TransactionType type,
                                   LocalDate startDate, LocalDate endDate) {
+
+        if (type == TransactionType.EXPENSE && category != null) {
+            OptionalLong total = categoryRunningTotals.sum(userNo, category, startDate, endDate);
+            if (total.isPresent()) {
+                return total.getAsLong();
+            }
+            if (!streamJobQueue.enqueueOnce(CategoryTotalRebuildJob.NAME,
+                    CategoryTotalRebuildJob.dedupeKey(userNo, category),
+                    CategoryTotalRebuildJob.payload(userNo, category))) {
+                categoryRunningTotals.rebuild(userNo, category);
+            }
+        }
         return transactionQueryRepository.findSum(userNo, category, type, startDate, endDate);
     }
 
-}
\ No newline at end of file
+    /**
+     * 기간 내 카테고리 지출의 날짜별 합계 (예측 계산용)
+     */
+    public List<CategoryRunningTotals.DailyTotal> getDailyExpenseTotals(Long userNo, Category category,
+                                                                       LocalDate startDate, LocalDate endDate) {
+        return categoryRunningTotals.dailyTotals(userNo, category, startDate, endDate);
+    }
+
+    /**
+     * 여러 사용자의 같은 기간 지출을 사용자/카테고리별로 한 번의 쿼리로 집계
+     */
+    public List<ExpenseCategorySum> getExpenseCategorySums(Collection<Long> userNos, LocalDate startDate,
+                                                           LocalDate endDate) {
+        return transactionQueryRepository.findExpenseCategorySums(userNos, startDate, endDate);
+    }
+
+    /**
+     * 제목/메모 검색
+     * 두 글자 이상인 단어가 하나는 있어야 한다 (한 글자 단어는 색인 없이 결과를 거르는 데만 쓰임).
+     */
+    public List<TransactionResponse> search(Long userNo, String query, LocalDate startDate, LocalDate endDate,
+                                            Category category, Long cursor, int size) {
+
+        if (query == null || query.length() > MAX_SEARCH_QUERY_LENGTH || size < 1 || size > MAX_SEARCH_SIZE
+                || (startDate != null && endDate != null && endDate.isBefore(startDate))) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+        List<String> terms = SearchTokenizer.terms(query);
+        Set<String> tokens = SearchTokenizer.tokens(terms);
+        if (tokens.isEmpty()) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+        return transactionQueryRepository.search(userNo, tokens, terms, startDate, endDate, category, cursor, size);
+    }
+
+    /**
+     * 거래 제목 자동완성 (자주, 최근에 쓴 제목 순)
+     */
+    public List<TitleSuggestionResponse> suggestTitles(Long userNo, String prefix, int size) {
+
+        if (prefix == null || prefix.isBlank() || size < 1 || size > MAX_SUGGESTION_SIZE) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+        return titleSuggestionIndex.suggest(userNo, prefix, size);
+    }
+
+    /**
+     * 지출 제목으로 카테고리 추천 (확률 높은 순)
+     */
+    public List<CategorySuggestionResponse> suggestCategories(Long userNo, String title, int size) {
+
+        if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH
+                || size < 1 || size > Category.values().length) {
+            throw new CoreException(ErrorType.INVALID_INPUT_VALUE);
+        }
+        return categorySuggester.suggest(userNo, title, size);
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.aespa.armageddon.core.domain.transaction.query.suggest;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TitleSuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 제목 자동완성 (프로세스 내부)
+ *
+ * - 생성 : 사용자가 처음 요청할 때 최근 historyDays 일의 거래(최대 historyLimit 건)로 TitleTrie 를 만든다.
+ *   이후 조회는 거래를 읽지 않는다.
+ * - 갱신 : 거래 작성이 커밋되면 해당 거래를 색인에 더한다. 수정/삭제와 반복 거래 생성(id 없음)은 점수를 되돌릴 수 없으므로
+ *   색인을 버리고 다음 요청 때 다시 만든다. 색인이 없는 사용자의 변경은 기록만 한다 (아래 늦은 저장 방지).
+ * - 다른 인스턴스의 변경은 전파되지 않으므로 ttl 이 지나면 다시 만든다. 사용자 수는 maxUsers 로 제한한다 (LRU).
+ * - 늦은 저장 방지 : 만들기 전에 sequence 를 ticket 으로 받아 둔다. 만드는 사이 그 사용자의 거래가 바뀌었으면
+ *   (바뀌기 전 거래로 만든 색인일 수 있으므로) 이번 요청에만 쓰고 저장하지 않는다. 변경 기록은 최근 maxUsers 명만
+ *   남기고, 밀려난 기록보다 오래된 ticket 의 색인은 모두 저장하지 않는다 (TransactionHotRowCache 와 같은 방식).
+ */
+@Component
+public class TitleSuggestionIndex {
+
+    private final TransactionQueryRepository transactionQueryRepository;
+    private final int topK;
+    private final double halfLifeDays;
+    private final int historyDays;
+    private final int historyLimit;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<Long, UserTrie> users;
+    private final Map<Long, Long> changes;
+
+    // 아래 값은 users 잠금 안에서만 읽고 쓴다
+    private long sequence;
+    private long forgottenUpTo;
+
+    @Autowired
+    public TitleSuggestionIndex(
+            TransactionQueryRepository transactionQueryRepository,
+            @Value("${transaction.title-suggest.max-users:2000}") int maxUsers,
+            @Value("${transaction.title-suggest.top-k:10}") int topK,
+            @Value("${transaction.title-suggest.half-life-days:30}") double halfLifeDays,
+            @Value("${transaction.title-suggest.history-days:365}") int historyDays,
+            @Value("${transaction.title-suggest.history-limit:3000}") int historyLimit,
+            @Value("${transaction.title-suggest.ttl-minutes:30}") long ttlMinutes) {
+        this(transactionQueryRepository, maxUsers, topK, halfLifeDays, historyDays, historyLimit,
+                Duration.ofMinutes(ttlMinutes), Clock.systemDefaultZone());
+    }
+
+    TitleSuggestionIndex(TransactionQueryRepository transactionQueryRepository, int maxUsers, int topK,
+                         double halfLifeDays, int historyDays, int historyLimit, Duration ttl, Clock clock) {
+        if (maxUsers <= 0 || historyLimit <= 0) {
+            throw new IllegalArgumentException("Index sizes must be positive.");
+        }
+        this.transactionQueryRepository = transactionQueryRepository;
+        this.topK = topK;
+        this.halfLifeDays = halfLifeDays;
+        this.historyDays = historyDays;
+        this.historyLimit = historyLimit;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserTrie> eldest) {
+                return size() > maxUsers;
+            }
+        };
+        this.changes = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxUsers) {
+                    return false;
+                }
+                forgottenUpTo = eldest.getValue();
+                return true;
+            }
+        };
+    }
+
+    public List<TitleSuggestionResponse> suggest(Long userNo, String prefix, int size) {
+        TitleTrie trie = trieOf(userNo);
+        synchronized (trie) {
+            return trie.suggest(prefix, size).stream()
+                    .map(entry -> new TitleSuggestionResponse(entry.title(), entry.type(), entry.category(),
+                            entry.amount(), entry.count(), entry.lastDate()))
+                    .toList();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        TitleTrie trie = loadedTrie(event.userNo());
+        if (trie == null || event.changeType() != ChangeType.CREATED || event.transactionId() == null) {
+            // 색인이 없어도 기록해 두어야 지금 만들고 있는 색인이 이 변경을 빠뜨린 채 저장되지 않는다
+            invalidate(event.userNo());
+            return;
+        }
+        // 이벤트에는 제목이 없으므로 PK 로 한 번 읽는다 (색인이 있는 사용자만)
+        transactionQueryRepository.findTransaction(event.userNo(), event.transactionId())
+                .ifPresent(row -> {
+                    synchronized (trie) {
+                        record(trie, row);
+                    }
+                });
+    }
+
+    public void invalidate(Long userNo) {
+        synchronized (users) {
+            users.remove(userNo);
+            // 다시 넣어 순서를 맨 뒤로 옮긴다 (밀려나는 기록의 sequence 가 항상 가장 작게)
+            changes.remove(userNo);
+            changes.put(userNo, ++sequence);
+        }
+    }
+
+    private TitleTrie trieOf(Long userNo) {
+        TitleTrie loaded = loadedTrie(userNo);
+        if (loaded != null) {
+            return loaded;
+        }
+        long ticket;
+        synchronized (users) {
+            ticket = sequence;
+        }
+        TitleTrie trie = new TitleTrie(topK, halfLifeDays);
+        LocalDate since = LocalDate.now(clock).minusDays(historyDays);
+        for (TransactionResponse row : transactionQueryRepository.findTitleHistory(userNo, since, historyLimit)) {
+            record(trie, row);
+        }
+        synchronized (users) {
+            Long changedAt = changes.get(userNo);
+            if (ticket >= forgottenUpTo && (changedAt == null || changedAt <= ticket)) {
+                users.put(userNo, new UserTrie(trie, clock.millis() + ttlMillis));
+            }
+        }
+        return trie;
+    }
+
+    private TitleTrie loadedTrie(Long userNo) {
+        synchronized (users) {
+            UserTrie userTrie = users.get(userNo);
+            if (userTrie == null) {
+                return null;
+            }
+            if (userTrie.expiresAt() <= clock.millis()) {
+                users.remove(userNo);
+                return null;
+            }
+            return userTrie.trie();
+        }
+    }
+
+    private void record(TitleTrie trie, TransactionResponse row) {
+        trie.record(row.getTitle(), row.getType(), row.getCategory(), row.getAmount(), row.getDate());
+    }
+
+    int userCount() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    private record UserTrie(TitleTrie trie, long expiresAt) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.aespa.armageddon.core.domain.transaction.query.suggest;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.search.SearchTokenizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 한 명의 거래 제목 prefix 색인 (스레드 안전하지 않음, TitleSuggestionIndex 가 잠가서 사용)
+ *
+ * - 순위 : 사용 횟수를 반감기(halfLifeDays)로 감쇠한 값. 사용일마다 2^(day / halfLife) 를 더한 합을
+ *   log 로 보관하므로 시간이 지나도 항목 간 순서가 바뀌지 않아 다시 계산할 필요가 없다.
+ * - 조회 : 노드마다 점수 상위 topK 항목을 들고 있어 prefix 길이만큼 내려간 뒤 그대로 반환한다 (하위 노드 탐색 없음).
+ * - 갱신 : 기록은 점수를 올리기만 하므로 해당 제목 경로의 노드 상위 목록만 고치면 된다.
+ *   수정/삭제처럼 점수가 내려가는 변경은 색인을 다시 만든다.
+ */
+final class TitleTrie {
+
+    // 노드 수를 제한하기 위해 앞 MAX_DEPTH 글자까지만 노드를 만든다. 더 긴 prefix 는 그 노드의 상위 목록에서 거른다
+    static final int MAX_DEPTH = 20;
+
+    private final int topK;
+    private final double ln2PerHalfLife;
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    TitleTrie(int topK, double halfLifeDays) {
+        if (topK <= 0 || halfLifeDays <= 0) {
+            throw new IllegalArgumentException("topK and halfLifeDays must be positive.");
+        }
+        this.topK = topK;
+        this.ln2PerHalfLife = Math.log(2) / halfLifeDays;
+    }
+
+    void record(String title, TransactionType type, Category category, int amount, LocalDate date) {
+        String key = key(title);
+        if (key.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.computeIfAbsent(key, Entry::new);
+        entry.apply(title.strip(), type, category, amount, date, date.toEpochDay() * ln2PerHalfLife);
+
+        Node node = root;
+        for (int i = 0; i < Math.min(key.length(), MAX_DEPTH); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offer(entry, topK);
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 제목을 점수 순으로 최대 size 개 (size 는 topK 이하로 잘림)
+     */
+    List<Entry> suggest(String prefix, int size) {
+        String key = key(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < Math.min(key.length(), MAX_DEPTH) && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<Entry> result = new ArrayList<>(Math.min(size, node.topSize));
+        for (int i = 0; i < node.topSize && result.size() < size; i++) {
+            if (node.top[i].key.startsWith(key)) {
+                result.add(node.top[i]);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String key(String text) {
+        return text == null ? "" : SearchTokenizer.normalize(text).strip();
+    }
+
+    /**
+     * 같은 제목(정규화 기준)의 사용 기록 요약
+     * 표시 제목/유형/금액은 가장 최근 거래 값, 카테고리는 가장 많이 쓴 값
+     */
+    static final class Entry {
+
+        private final String key;
+        private String title;
+        private TransactionType type;
+        private int amount;
+        private LocalDate lastDate;
+        private int count;
+        private double score;
+        private final int[] categoryCounts = new int[Category.values().length];
+
+        private Entry(String key) {
+            this.key = key;
+        }
+
+        private void apply(String title, TransactionType type, Category category, int amount, LocalDate date,
+                           double weight) {
+            if (lastDate == null || !date.isBefore(lastDate)) {
+                this.title = title;
+                this.type = type;
+                this.amount = amount;
+                this.lastDate = date;
+            }
+            if (category != null) {
+                categoryCounts[category.ordinal()]++;
+            }
+            // log(exp(score) + exp(weight))
+            score = count == 0 ? weight : Math.max(score, weight) + Math.log1p(Math.exp(-Math.abs(score - weight)));
+            count++;
+        }
+
+        String title() {
+            return title;
+        }
+
+        TransactionType type() {
+            return type;
+        }
+
+        int amount() {
+            return amount;
+        }
+
+        LocalDate lastDate() {
+            return lastDate;
+        }
+
+        int count() {
+            return count;
+        }
+
+        Category category() {
+            int best = -1;
+            for (int i = 0; i < categoryCounts.length; i++) {
+                if (categoryCounts[i] > 0 && (best < 0 || categoryCounts[i] > categoryCounts[best])) {
+                    best = i;
+                }
+            }
+            return best < 0 ? null : Category.values()[best];
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // 정렬된 자식 글자 (이진 탐색)
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+
+        // 점수 내림차순
+        private Entry[] top;
+        private int topSize;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, 0, childCount, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, 0, childCount, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node node = new Node();
+            keys[insertAt] = c;
+            children[insertAt] = node;
+            childCount++;
+            return node;
+        }
+
+        /**
+         * 점수가 오른 항목을 상위 목록에 반영한다
+         */
+        void offer(Entry entry, int topK) {
+            if (top == null) {
+                top = new Entry[topK];
+            }
+            int index = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == entry) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                if (topSize < topK) {
+                    index = topSize++;
+                } else if (entry.score > top[topK - 1].score) {
+                    index = topK - 1;
+                } else {
+                    return;
+                }
+                top[index] = entry;
+            }
+            while (index > 0 && top[index - 1].score < top[index].score) {
+                Entry swap = top[index - 1];
+                top[index - 1] = top[index];
+                top[index] = swap;
+                index--;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자/카테고리별 일간 지출 합계와 누적 합계 (prefix sum)
+ *
+ * cumulativeAmount = 해당 날짜까지(포함)의 전체 지출 합계
+ * 따라서 [start, end] 기간 합계 = cumulative(<= end) - cumulative(< start)
+ */
+@Entity
+@Table(
+        name = "tbl_category_daily_total",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_category_daily_total",
+                columnNames = {"user_no", "category", "total_date"}
+        )
+)
+@NoArgsConstructor
+@Getter
+public class CategoryDailyTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Category category;
+
+    @Column(name = "total_date", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private long dayAmount;
+
+    @Column(nullable = false)
+    private long cumulativeAmount;
+
+    public CategoryDailyTotal(Long userNo, Category category, LocalDate day, long dayAmount, long cumulativeAmount) {
+        this.userNo = userNo;
+        this.category = category;
+        this.day = day;
+        this.dayAmount = dayAmount;
+        this.cumulativeAmount = cumulativeAmount;
+    }
+}
@@ -0,0 +1,87 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryDailyTotalRepository extends JpaRepository<CategoryDailyTotal, Long> {
+
+    /* day 이하에서 가장 최근 행 = day 까지의 누적 합계 */
+    Optional<CategoryDailyTotal> findFirstByUserNoAndCategoryAndDayLessThanEqualOrderByDayDesc(
+            Long userNo, Category category, LocalDate day);
+
+    List<CategoryDailyTotal> findByUserNoAndCategoryAndDayBetweenOrderByDayAsc(
+            Long userNo, Category category, LocalDate startDate, LocalDate endDate);
+
+    /* 갱신용 : day 이하에서 가장 최근 행을 잠가 읽는다 (트랜잭션 스냅샷이 아닌 최신 커밋 값) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CategoryDailyTotal> findTopByUserNoAndCategoryAndDayLessThanEqualOrderByDayDesc(
+            Long userNo, Category category, LocalDate day);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CategoryDailyTotal c
+               set c.dayAmount = c.dayAmount + :delta
+             where c.userNo = :userNo
+               and c.category = :category
+               and c.day = :day
+            """)
+    int addDayAmount(@Param("userNo") Long userNo,
+                     @Param("category") Category category,
+                     @Param("day") LocalDate day,
+                     @Param("delta") long delta);
+
+    /* day 이후 모든 누적 합계를 delta 만큼 이동 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CategoryDailyTotal c
+               set c.cumulativeAmount = c.cumulativeAmount + :delta
+             where c.userNo = :userNo
+               and c.category = :category
+               and c.day >= :day
+            """)
+    int addCumulativeFrom(@Param("userNo") Long userNo,
+                          @Param("category") Category category,
+                          @Param("day") LocalDate day,
+                          @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryDailyTotal c where c.userNo = :userNo and c.category = :category")
+    int deleteByUserNoAndCategory(@Param("userNo") Long userNo, @Param("category") Category category);
+
+    /* 재생성용 : 거래 원본의 날짜별 지출 합계 (날짜 오름차순) */
+    @Query("""
+            select t.date, sum(t.amount)
+              from Transaction t
+             where t.userNo = :userNo
+               and t.type = com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType.EXPENSE
+               and t.category = :category
+             group by t.date
+             order by t.date
+            """)
+    List<Object[]> sumExpenseByDay(@Param("userNo") Long userNo, @Param("category") Category category);
+
+    /* 누적 합계가 아직 없을 때 : 기간 내 거래 원본의 날짜별 지출 합계 */
+    @Query("""
+            select t.date, sum(t.amount)
+              from Transaction t
+             where t.userNo = :userNo
+               and t.type = com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType.EXPENSE
+               and t.category = :category
+               and t.date between :startDate and :endDate
+             group by t.date
+             order by t.date
+            """)
+    List<Object[]> sumExpenseByDayBetween(@Param("userNo") Long userNo,
+                                          @Param("category") Category category,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,156 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 사용자/카테고리별 지출 누적 합계 관리
+ *
+ * - 조회 : 기간 합계 = prefix(end) - prefix(start - 1). 인덱스 조회 두 번이며 기간 내 거래 수와 무관하다.
+ * - 갱신 : 거래 작성/수정/삭제 트랜잭션 안에서 해당 날짜의 합계와 그 이후 누적 합계를 delta 만큼 이동한다.
+ * - 재생성 : 누적 합계가 없는 사용자/카테고리는 처음 조회할 때 거래 원본으로 한 번 만든다.
+ *   이번 조회는 원본 합계로 응답하고, 다음 조회부터 누적 합계를 사용한다.
+ *
+ * 갱신과 재생성은 CategoryTotalCheckpoint 행을 잠가 직렬화한다. 둘 다 행이 없으면 준비되지 않은 행을 먼저 넣고
+ * (INSERT … ON DUPLICATE KEY UPDATE) 잠근다.
+ * - 재생성은 잠금을 잡은 뒤에 원본을 읽으므로, 먼저 잠금을 잡은 변경은 커밋된 뒤 원본에 포함된다
+ *   (InnoDB 는 잠금 없는 첫 SELECT 에서 스냅샷을 만든다).
+ * - 재생성 뒤에 잠금을 잡은 변경은 ready 인 체크포인트를 보고 delta 를 반영한다.
+ *   이 변경의 거래는 재생성 때 커밋 전이라 원본에 포함되지 않았으므로 한 번만 더해진다.
+ * - 변경은 트랜잭션 스냅샷이 재생성보다 먼저일 수 있으므로 누적 합계 행을 잠가(최신 커밋 값으로) 읽는다.
+ */
+@Slf4j
+@Component
+public class CategoryRunningTotals {
+
+    private final CategoryDailyTotalRepository dailyTotalRepository;
+    private final CategoryTotalCheckpointRepository checkpointRepository;
+    private final TransactionTemplate requiresNew;
+
+    public CategoryRunningTotals(CategoryDailyTotalRepository dailyTotalRepository,
+                                 CategoryTotalCheckpointRepository checkpointRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.dailyTotalRepository = dailyTotalRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기간 지출 합계. 누적 합계가 아직 없으면 empty
+     */
+    public OptionalLong sum(Long userNo, Category category, LocalDate startDate, LocalDate endDate) {
+        Optional<CategoryTotalCheckpoint> checkpoint = checkpointRepository.findByUserNoAndCategory(userNo, category);
+        if (checkpoint.isEmpty() || !checkpoint.get().isReady()) {
+            return OptionalLong.empty();
+        }
+        if (endDate.isBefore(startDate)) {
+            return OptionalLong.of(0L);
+        }
+        return OptionalLong.of(prefix(userNo, category, endDate) - prefix(userNo, category, startDate.minusDays(1)));
+    }
+
+    /**
+     * 기간 내 날짜별 지출 합계 (날짜 오름차순, 지출이 없는 날은 제외)
+     * 누적 합계가 있으면 그 일간 합계를, 없으면 거래 원본을 날짜별로 묶어 반환한다.
+     */
+    public List<DailyTotal> dailyTotals(Long userNo, Category category, LocalDate startDate, LocalDate endDate) {
+        Optional<CategoryTotalCheckpoint> checkpoint = checkpointRepository.findByUserNoAndCategory(userNo, category);
+        List<DailyTotal> totals = new ArrayList<>();
+        if (checkpoint.isPresent() && checkpoint.get().isReady()) {
+            for (CategoryDailyTotal row : dailyTotalRepository
+                    .findByUserNoAndCategoryAndDayBetweenOrderByDayAsc(userNo, category, startDate, endDate)) {
+                if (row.getDayAmount() != 0) {
+                    totals.add(new DailyTotal(row.getDay(), row.getDayAmount()));
+                }
+            }
+            return totals;
+        }
+        for (Object[] row : dailyTotalRepository.sumExpenseByDayBetween(userNo, category, startDate, endDate)) {
+            totals.add(new DailyTotal((LocalDate) row[0], ((Number) row[1]).longValue()));
+        }
+        return totals;
+    }
+
+    public record DailyTotal(LocalDate day, long amount) {
+    }
+
+    /**
+     * 거래 변경분 반영. 호출한 쪽의 트랜잭션 안에서 실행된다.
+     */
+    public void apply(Long userNo, Category category, LocalDate day, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        // 행이 없어도 잠금을 남겨 진행 중인 재생성이 이 변경의 커밋을 기다리게 한다
+        checkpointRepository.insertIfAbsent(userNo, category.name());
+        Optional<CategoryTotalCheckpoint> checkpoint = checkpointRepository.findForUpdate(userNo, category);
+        if (checkpoint.isEmpty() || !checkpoint.get().isReady()) {
+            // 아직 누적 합계가 없음 (또는 재생성 대기). 재생성 시 원본에서 다시 계산된다
+            return;
+        }
+        Optional<CategoryDailyTotal> latest = dailyTotalRepository
+                .findTopByUserNoAndCategoryAndDayLessThanEqualOrderByDayDesc(userNo, category, day);
+        if (latest.isEmpty() || !latest.get().getDay().equals(day)) {
+            long base = latest.map(CategoryDailyTotal::getCumulativeAmount).orElse(0L);
+            dailyTotalRepository.save(new CategoryDailyTotal(userNo, category, day, 0L, base));
+        }
+        dailyTotalRepository.addDayAmount(userNo, category, day, delta);
+        dailyTotalRepository.addCumulativeFrom(userNo, category, day, delta);
+    }
+
+    /**
+     * 거래 원본으로 누적 합계를 만든다. 호출한 쪽과 별도 트랜잭션에서 실행되며 실패해도 예외를 던지지 않는다.
+     */
+    public void rebuild(Long userNo, Category category) {
+        try {
+            requiresNew.executeWithoutResult(status -> rebuildLocked(userNo, category));
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild running totals. userNo={}, category={}, reason={}",
+                    userNo, category, e.getMessage());
+        }
+    }
+
+    private void rebuildLocked(Long userNo, Category category) {
+        // 1. 원본을 읽기 전에 체크포인트를 잠근다 (없으면 만든다)
+        checkpointRepository.insertIfAbsent(userNo, category.name());
+        CategoryTotalCheckpoint checkpoint = checkpointRepository.findForUpdate(userNo, category)
+                .orElseThrow(() -> new IllegalStateException("Checkpoint not found."));
+        if (checkpoint.isReady()) {
+            return;
+        }
+
+        // 2. 잠금을 잡은 상태에서 원본을 읽어 누적 합계 생성
+        dailyTotalRepository.deleteByUserNoAndCategory(userNo, category);
+
+        List<CategoryDailyTotal> rows = new ArrayList<>();
+        long cumulative = 0L;
+        for (Object[] row : dailyTotalRepository.sumExpenseByDay(userNo, category)) {
+            LocalDate day = (LocalDate) row[0];
+            long dayAmount = ((Number) row[1]).longValue();
+            cumulative += dayAmount;
+            rows.add(new CategoryDailyTotal(userNo, category, day, dayAmount, cumulative));
+        }
+        dailyTotalRepository.saveAll(rows);
+
+        // deleteByUserNoAndCategory 가 영속성 컨텍스트를 비웠으므로 다시 조회해 갱신
+        checkpointRepository.findById(checkpoint.getId()).ifPresent(CategoryTotalCheckpoint::markRebuilt);
+    }
+
+    private long prefix(Long userNo, Category category, LocalDate day) {
+        return dailyTotalRepository
+                .findFirstByUserNoAndCategoryAndDayLessThanEqualOrderByDayDesc(userNo, category, day)
+                .map(CategoryDailyTotal::getCumulativeAmount)
+                .orElse(0L);
+    }
+}
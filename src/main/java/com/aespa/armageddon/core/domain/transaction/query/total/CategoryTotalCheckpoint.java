@@ -0,0 +1,55 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자/카테고리별 누적 합계 상태
+ *
+ * - 행이 없거나 ready 가 false 면 아직 누적 합계를 만들지 않은 것 (기존 거래 기반으로 처음 조회할 때 생성)
+ * - ready 가 true 가 된 뒤부터 거래 작성/수정/삭제가 누적 합계를 갱신한다.
+ * - 갱신과 재생성은 이 행을 잠가 직렬화한다. 행이 없으면 갱신하는 쪽도 ready 가 false 인 행을 먼저 넣는다.
+ */
+@Entity
+@Table(
+        name = "tbl_category_total_checkpoint",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_category_total_checkpoint",
+                columnNames = {"user_no", "category"}
+        )
+)
+@NoArgsConstructor
+@Getter
+public class CategoryTotalCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Category category;
+
+    @Column(nullable = false)
+    private boolean ready;
+
+    private LocalDateTime rebuiltAt;
+
+    public CategoryTotalCheckpoint(Long userNo, Category category) {
+        this.userNo = userNo;
+        this.category = category;
+        this.ready = false;
+    }
+
+    public void markRebuilt() {
+        this.ready = true;
+        this.rebuiltAt = LocalDateTime.now();
+    }
+}
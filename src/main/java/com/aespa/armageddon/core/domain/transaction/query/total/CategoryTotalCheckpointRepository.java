@@ -0,0 +1,29 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CategoryTotalCheckpointRepository extends JpaRepository<CategoryTotalCheckpoint, Long> {
+
+    Optional<CategoryTotalCheckpoint> findByUserNoAndCategory(Long userNo, Category category);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CategoryTotalCheckpoint c where c.userNo = :userNo and c.category = :category")
+    Optional<CategoryTotalCheckpoint> findForUpdate(@Param("userNo") Long userNo, @Param("category") Category category);
+
+    /* 행이 없으면 준비되지 않은 체크포인트를 만든다. 있으면 값은 그대로 두고 행 잠금만 잡는다 */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into tbl_category_total_checkpoint (user_no, category, ready)
+            values (:userNo, :category, false)
+            on duplicate key update ready = ready
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userNo") Long userNo, @Param("category") String category);
+}
@@ -0,0 +1,49 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.common.support.job.StreamJobHandler;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 누적 합계 재생성 작업
+ *
+ * 조회 요청 스레드 대신 작업 스트림을 구독하는 아무 인스턴스에서 실행한다.
+ * 재생성은 체크포인트가 이미 준비되어 있으면 아무것도 하지 않으므로 중복 실행해도 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryTotalRebuildJob implements StreamJobHandler {
+
+    public static final String NAME = "category-total-rebuild";
+
+    private final CategoryRunningTotals categoryRunningTotals;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int defaultConcurrency() {
+        return 2;
+    }
+
+    @Override
+    public void handle(Map<String, String> payload) {
+        categoryRunningTotals.rebuild(Long.valueOf(payload.get("userNo")), Category.valueOf(payload.get("category")));
+    }
+
+    public static Map<String, String> payload(Long userNo, Category category) {
+        return Map.of("userNo", String.valueOf(userNo), "category", category.name());
+    }
+
+    /**
+     * 사용자/카테고리별로 대기 중인 작업은 하나만 둔다
+     */
+    public static String dedupeKey(Long userNo, Category category) {
+        return userNo + ":" + category.name();
+    }
+}
@@ -0,0 +1,40 @@
+package com.aespa.armageddon.core.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 커밋 후 이벤트 처리용 비동기 executor
+ *
+ * 큐가 가득 차면 이벤트를 버린다. 커밋 후 콜백에서 예외가 나면 이미 커밋된 요청이 실패로 응답되므로
+ * 호출 스레드에서 실행하거나 예외를 던지지 않는다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String EVENT_EXECUTOR = "eventExecutor";
+
+    @Bean(name = EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor eventExecutor(
+            @Value("${async.event.core-pool-size:2}") int corePoolSize,
+            @Value("${async.event.max-pool-size:4}") int maxPoolSize,
+            @Value("${async.event.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("event-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Event executor saturated. Dropping task. queueSize={}", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.aespa.armageddon.core.global.config;
+
+import com.aespa.armageddon.core.domain.auth.service.InMemoryRateLimiter;
+import com.aespa.armageddon.core.domain.auth.service.RateLimiter;
+import com.aespa.armageddon.core.domain.auth.service.RedisRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * RateLimiter 구현 선택 (auth.rate-limit.mode)
+ * - redis (기본값) / memory
+ */
+@Configuration
+public class RateLimiterConfig {
+
+    @Value("${auth.rate-limit.memory.max-keys:100000}")
+    private int maxKeys;
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.rate-limit.mode", havingValue = "redis", matchIfMissing = true)
+    public RateLimiter redisRateLimiter(StringRedisTemplate redisTemplate) {
+        return new RedisRateLimiter(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.rate-limit.mode", havingValue = "memory")
+    public RateLimiter inMemoryRateLimiter() {
+        return new InMemoryRateLimiter(maxKeys);
+    }
+}
@@ -0,0 +1,34 @@
+package com.aespa.armageddon.core.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업 (@Scheduled)
+ * 여러 인스턴스에서 함께 실행되므로 작업마다 RedisLock 으로 나눠 맡는다.
+ *
+ * 기본 스케줄러는 스레드가 하나라 반복 거래 생성, 목표 만료 처리 같은 긴 작업이 도는 동안 outbox 전달 등
+ * 짧은 주기 작업이 밀린다. 작업 수(현재 6개)만큼 스레드를 두어 서로 기다리지 않게 한다.
+ */
+@Slf4j
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${scheduling.pool-size:6}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(poolSize);
+        scheduler.setErrorHandler(e -> log.error("Scheduled task failed.", e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,69 @@
+package com.aespa.armageddon.core.global.config;
+
+import com.aespa.armageddon.core.domain.auth.service.CircuitBreakerTokenStore;
+import com.aespa.armageddon.core.domain.auth.service.InMemoryTokenStore;
+import com.aespa.armageddon.core.domain.auth.service.RedisTokenStore;
+import com.aespa.armageddon.core.domain.auth.service.TokenStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * TokenStore 구현 선택 (auth.token-store.mode)
+ * - redis (기본값) / memory / resilient
+ */
+@Configuration
+public class TokenStoreConfig {
+
+    @Value("${auth.token-store.memory.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${auth.token-store.memory.tick-millis:1000}")
+    private long tickMillis;
+
+    @Value("${auth.token-store.memory.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${auth.token-store.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${auth.token-store.circuit.slow-call-millis:200}")
+    private long slowCallMillis;
+
+    @Value("${auth.token-store.circuit.open-millis:30000}")
+    private long openMillis;
+
+    @Bean
+    @ConditionalOnProperty(name = "auth.token-store.mode", havingValue = "redis", matchIfMissing = true)
+    public TokenStore redisTokenStore(StringRedisTemplate redisTemplate) {
+        return new RedisTokenStore(redisTemplate);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "auth.token-store.mode", havingValue = "memory")
+    public TokenStore inMemoryTokenStore() {
+        return createInMemoryTokenStore();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "auth.token-store.mode", havingValue = "resilient")
+    public TokenStore resilientTokenStore(StringRedisTemplate redisTemplate) {
+        return new CircuitBreakerTokenStore(
+                new RedisTokenStore(redisTemplate),
+                createInMemoryTokenStore(),
+                failureThreshold,
+                Duration.ofMillis(slowCallMillis),
+                Duration.ofMillis(openMillis)
+        );
+    }
+
+    private InMemoryTokenStore createInMemoryTokenStore() {
+        InMemoryTokenStore store = new InMemoryTokenStore(maxEntries, Duration.ofMillis(tickMillis), wheelSize);
+        store.start();
+        return store;
+    }
+}
@@ -0,0 +1,78 @@
+package com.aespa.armageddon.infra.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 제한 등에 쓰는 클라이언트 IP
+ *
+ * - 직접 연결한 주소(remoteAddr)가 신뢰하는 프록시(security.client-ip.trusted-proxies)일 때만 X-Forwarded-For 를 본다.
+ * - X-Forwarded-For 는 오른쪽(가장 가까운 프록시가 붙인 값)부터 읽어 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 본다.
+ *   클라이언트가 임의로 넣은 왼쪽 값은 신뢰하는 프록시를 거쳐도 쓰이지 않는다.
+ * - IP 형식이 아닌 값은 DNS 조회 없이 버리고 그 직전 주소를 쓴다.
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final String OCTET = "(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)";
+    private static final Pattern IPV4 = Pattern.compile(OCTET + "(\\." + OCTET + "){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(
+            @Value("${security.client-ip.trusted-proxies:127.0.0.0/8,::1,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+            List<String> trustedProxies) {
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return client;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0 && isTrusted(client); i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                break;
+            }
+            client = hop;
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (!isIpLiteral(address)) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : trustedProxies) {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // IPv6 형식처럼 보이지만 해석할 수 없는 값
+        }
+        return false;
+    }
+
+    private static boolean isIpLiteral(String value) {
+        return value != null && (IPV4.matcher(value).matches() || IPV6.matcher(value).matches());
+    }
+}
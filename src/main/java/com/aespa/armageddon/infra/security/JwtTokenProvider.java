@@ -13,6 +13,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -27,6 +29,8 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-expiration}")
     private long jwtRefreshExpiration;
 
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private SecretKey secretKey;
 
     @PostConstruct
@@ -47,10 +51,20 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String createRefreshToken(Long userId, String loginId) {
+    /**
+     * refresh token 식별자(jti) 생성 (96bit 난수, base64url 16자)
+     */
+    public String generateTokenId() {
+        byte[] bytes = new byte[12];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String createRefreshToken(Long userId, String loginId, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtRefreshExpiration);
         return Jwts.builder()
+                .id(tokenId)
                 .subject(loginId)
                 .claim("userId", userId)
                 .issuedAt(now)
@@ -91,4 +105,13 @@ public class JwtTokenProvider {
                 .getPayload();
         return claims.get("userId", Long.class);
     }
+
+    public String getTokenIdFromJWT(String token) {
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return claims.getId();
+    }
 }
@@ -8,7 +8,9 @@ import com.aespa.armageddon.core.common.support.error.CoreException;
 import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.common.support.error.GlobalExceptionHandler;
 import com.aespa.armageddon.core.domain.auth.service.AuthService;
+import com.aespa.armageddon.core.domain.auth.service.LoginThrottle;
 import com.aespa.armageddon.core.domain.auth.service.UserService;
+import com.aespa.armageddon.infra.security.ClientIpResolver;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,9 +27,13 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -47,11 +53,18 @@ class AuthControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private ClientIpResolver clientIpResolver;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
+        lenient().when(clientIpResolver.resolve(any())).thenReturn("203.0.113.7");
         mockMvc = MockMvcBuilders.standaloneSetup(authController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -214,6 +227,10 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.data.accessToken").value("access-token"))
                     .andExpect(jsonPath("$.data.refreshToken").value("refresh-token"))
                     .andExpect(jsonPath("$.data.tokenType").value("Bearer"));
+
+            // 성공하면 계정의 실패 기록을 비운다
+            verify(loginThrottle).checkLogin("testuser", "203.0.113.7");
+            verify(loginThrottle).resetLoginFailures("testuser");
         }
 
         @Test
@@ -231,6 +248,29 @@ class AuthControllerTest {
                     .andExpect(status().isUnauthorized())
                     .andExpect(jsonPath("$.result").value("ERROR"))
                     .andExpect(jsonPath("$.error.code").value("A003"));
+
+            // 실패만 센다
+            verify(loginThrottle).recordLoginFailure("testuser", "203.0.113.7");
+            verify(loginThrottle, never()).resetLoginFailures(anyString());
+        }
+
+        @Test
+        @DisplayName("로그인 실패 - 요청 횟수 초과")
+        void login_Fail_TooManyRequests() throws Exception {
+            // given
+            LoginRequest request = createLoginRequest("testuser", "password123");
+            doThrow(new CoreException(ErrorType.TOO_MANY_REQUESTS))
+                    .when(loginThrottle).checkLogin(eq("testuser"), anyString());
+
+            // when & then
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(jsonPath("$.result").value("ERROR"))
+                    .andExpect(jsonPath("$.error.code").value("A009"));
+
+            verify(authService, never()).login(any(LoginRequest.class));
         }
 
         @Test
@@ -0,0 +1,43 @@
+package com.aespa.armageddon.core.common.support.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CodeHasher 테스트")
+class CodeHasherTest {
+
+    @Test
+    @DisplayName("SHA-256 hex 는 표준 테스트 벡터와 일치한다")
+    void sha256Hex_KnownVectors() {
+        assertThat(CodeHasher.sha256Hex(""))
+                .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+        assertThat(CodeHasher.sha256Hex("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("ASCII 가 아닌 입력은 UTF-8 로 해싱한다")
+    void sha256Hex_NonAscii() {
+        assertThat(CodeHasher.sha256Hex("테스트")).hasSize(64).isNotEqualTo(CodeHasher.sha256Hex("test"));
+    }
+
+    @Test
+    @DisplayName("저장된 해시와 입력 코드를 비교한다")
+    void matches() {
+        String stored = CodeHasher.sha256Hex("123456");
+
+        assertThat(CodeHasher.matches(stored, "123456")).isTrue();
+        assertThat(CodeHasher.matches(stored, "123457")).isFalse();
+        assertThat(CodeHasher.matches("short", "123456")).isFalse();
+        assertThat(CodeHasher.matches(null, "123456")).isFalse();
+    }
+
+    @RepeatedTest(20)
+    @DisplayName("6자리 숫자 코드를 생성한다")
+    void generate6DigitCode() {
+        assertThat(CodeHasher.generate6DigitCode()).matches("\\d{6}");
+    }
+}
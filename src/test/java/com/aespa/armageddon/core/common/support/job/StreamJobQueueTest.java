@@ -0,0 +1,118 @@
+package com.aespa.armageddon.core.common.support.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamJobQueue 테스트")
+class StreamJobQueueTest {
+
+    private static final String JOB = "sample";
+    private static final String MARKER = "job:sample:queued:1:FOOD";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private StreamJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new StreamJobQueue(redisTemplate, 1000, 300);
+    }
+
+    @Test
+    @DisplayName("등록과 길이 제한을 XADD MAXLEN ~ 한 번으로 보낸다")
+    void enqueue_AddsWithApproximateMaxLength() {
+        // given
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+
+        // when
+        boolean queued = queue.enqueue(JOB, Map.of("userNo", "1"));
+
+        // then
+        assertThat(queued).isTrue();
+        verify(streamOperations).add(any(MapRecord.class),
+                argThat((XAddOptions options) -> options.getMaxlen() == 1000 && options.isApproximateTrimming()));
+        verify(streamOperations, never()).trim(anyString(), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업이 대기 중이면 다시 등록하지 않는다")
+    void enqueueOnce_AlreadyQueued_Skips() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(MARKER, "1", Duration.ofSeconds(300))).willReturn(false);
+
+        // when
+        boolean queued = queue.enqueueOnce(JOB, "1:FOOD", Map.of("userNo", "1"));
+
+        // then
+        assertThat(queued).isTrue();
+        verify(redisTemplate, never()).opsForStream();
+    }
+
+    @Test
+    @DisplayName("처음 등록하는 작업은 중복 방지 키를 함께 담아 등록한다")
+    void enqueueOnce_FirstTime_AddsWithDedupeKey() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(MARKER, "1", Duration.ofSeconds(300))).willReturn(true);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+
+        // when
+        boolean queued = queue.enqueueOnce(JOB, "1:FOOD", Map.of("userNo", "1"));
+
+        // then
+        assertThat(queued).isTrue();
+        verify(streamOperations).add(
+                argThat((MapRecord<String, ?, ?> record) -> "1:FOOD".equals(record.getValue().get(StreamJobQueue.DEDUPE_FIELD))),
+                any(XAddOptions.class));
+    }
+
+    @Test
+    @DisplayName("등록에 실패하면 중복 등록 표시를 지우고 false 를 반환한다")
+    void enqueueOnce_RedisFails_ReleasesMarker() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(MARKER, "1", Duration.ofSeconds(300))).willReturn(true);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(streamOperations.add(any(MapRecord.class), any(XAddOptions.class)))
+                .willThrow(new QueryTimeoutException("down"));
+
+        // when
+        boolean queued = queue.enqueueOnce(JOB, "1:FOOD", Map.of("userNo", "1"));
+
+        // then
+        assertThat(queued).isFalse();
+        verify(redisTemplate).delete(MARKER);
+    }
+}
@@ -0,0 +1,175 @@
+package com.aespa.armageddon.core.common.support.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamJobWorker 테스트")
+class StreamJobWorkerTest {
+
+    private static final String JOB = "sample";
+    private static final String KEY = "job:sample";
+    private static final RecordId ID = RecordId.of("1-0");
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ObjectProvider<StreamJobHandler> handlerProvider;
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private StreamJobHandler handler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StreamJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new StreamJobWorker(connectionFactory, redisTemplate, handlerProvider, environment, meterRegistry);
+        ReflectionTestUtils.setField(worker, "batchSize", 10);
+        ReflectionTestUtils.setField(worker, "reclaimIdleMillis", 60_000L);
+        ReflectionTestUtils.setField(worker, "maxDeliveries", 5);
+        given(handler.name()).willReturn(JOB);
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(streamOperations.pending(KEY, JOB))
+                .willReturn(new PendingMessagesSummary(JOB, 1, Range.closed("1-0", "1-0"), Map.of("dead-node", 1L)));
+    }
+
+    @Test
+    @DisplayName("오래 ack 되지 않은 메시지를 가져와 처리하고 ack 한다")
+    void reclaim_IdleMessage_ClaimsAndProcesses() {
+        // given
+        givenPending(Duration.ofMinutes(5), 1);
+        given(streamOperations.claim(eq(KEY), eq(JOB), anyString(), any(Duration.class), eq(ID)))
+                .willReturn(List.of(record()));
+
+        // when
+        worker.reclaim(handler);
+
+        // then
+        verify(handler).handle(Map.of("userNo", "1"));
+        verify(streamOperations).acknowledge(KEY, JOB, ID);
+        assertThat(meterRegistry.get("job.reclaimed").tag("job", JOB).counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("job.processed").tag("job", JOB).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("중복 방지 키로 등록된 작업은 처리를 마치면 중복 등록 표시를 지운다")
+    void reclaim_DedupedJob_ReleasesMarker() {
+        // given
+        givenPending(Duration.ofMinutes(5), 1);
+        given(streamOperations.claim(eq(KEY), eq(JOB), anyString(), any(Duration.class), eq(ID)))
+                .willReturn(List.of(StreamRecords.newRecord().in(KEY).withId(ID)
+                        .ofMap(Map.<Object, Object>of("userNo", "1", StreamJobQueue.DEDUPE_FIELD, "1:FOOD"))));
+
+        // when
+        worker.reclaim(handler);
+
+        // then
+        verify(streamOperations).acknowledge(KEY, JOB, ID);
+        verify(redisTemplate).delete("job:sample:queued:1:FOOD");
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 ack 하지 않고 pending 으로 남긴다")
+    void reclaim_HandlerFails_LeavesPending() {
+        // given
+        givenPending(Duration.ofMinutes(5), 2);
+        given(streamOperations.claim(eq(KEY), eq(JOB), anyString(), any(Duration.class), eq(ID)))
+                .willReturn(List.of(record()));
+        willThrow(new IllegalStateException("down")).given(handler).handle(anyMap());
+
+        // when
+        worker.reclaim(handler);
+
+        // then
+        verify(streamOperations, never()).acknowledge(anyString(), anyString(), any(RecordId.class));
+        verify(redisTemplate, never()).delete(anyString());
+        assertThat(meterRegistry.get("job.failed").tag("job", JOB).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 전달 횟수를 넘은 메시지는 dead-letter 로 옮기고 ack 한다")
+    void reclaim_TooManyDeliveries_DeadLetters() {
+        // given
+        givenPending(Duration.ofMinutes(5), 5);
+        given(streamOperations.range(KEY, Range.closed("1-0", "1-0"))).willReturn(List.of(record()));
+
+        // when
+        worker.reclaim(handler);
+
+        // then
+        verify(streamOperations).add(any(MapRecord.class));
+        verify(streamOperations).acknowledge(KEY, JOB, ID);
+        verify(handler, never()).handle(anyMap());
+        assertThat(meterRegistry.get("job.dead").tag("job", JOB).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("아직 처리 중일 수 있는 메시지는 가져오지 않는다")
+    void reclaim_RecentMessage_Skipped() {
+        // given
+        givenPending(Duration.ofSeconds(10), 1);
+
+        // when
+        worker.reclaim(handler);
+
+        // then
+        verify(streamOperations, never()).claim(anyString(), anyString(), anyString(), any(Duration.class), any(RecordId.class));
+        verify(handler, never()).handle(anyMap());
+    }
+
+    private void givenPending(Duration idle, long deliveries) {
+        PendingMessage message = new PendingMessage(ID, Consumer.from(JOB, "dead-node"), idle, deliveries);
+        given(streamOperations.pending(eq(KEY), eq(JOB), any(Range.class), anyLong()))
+                .willReturn(new PendingMessages(JOB, List.of(message)));
+    }
+
+    private MapRecord<String, Object, Object> record() {
+        return StreamRecords.newRecord().in(KEY).withId(ID).ofMap(Map.<Object, Object>of("userNo", "1"));
+    }
+}
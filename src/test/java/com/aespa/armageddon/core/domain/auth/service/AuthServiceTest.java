@@ -15,7 +15,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -25,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
@@ -43,13 +43,13 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private RedisTokenStore tokenStore;
+    private TokenStore tokenStore;
 
     private User testUser;
 
@@ -85,9 +85,10 @@ class AuthServiceTest {
             String refreshToken = "refresh-token";
 
             given(userRepository.findByLoginId(request.getLoginId())).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(request.getPassword(), testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(request.getPassword(), testUser.getPassword())).willReturn(true);
             given(jwtTokenProvider.createToken(testUser.getId(), testUser.getLoginId())).willReturn(accessToken);
-            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId())).willReturn(refreshToken);
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-1");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-1")).willReturn(refreshToken);
             given(jwtTokenProvider.getRefreshExpiration()).willReturn(604800000L);
 
             // when
@@ -97,7 +98,52 @@ class AuthServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getAccessToken()).isEqualTo(accessToken);
             assertThat(response.getRefreshToken()).isEqualTo(refreshToken);
-            verify(tokenStore).storeRefreshToken(eq(testUser.getLoginId()), eq(refreshToken), any());
+            // 전체 토큰이 아닌 fingerprint 만 저장
+            verify(tokenStore).storeRefreshSession(eq(testUser.getId()), eq("jti-1"), argThat(fp -> !fp.equals(refreshToken)), any());
+        }
+
+        @Test
+        @DisplayName("로그인 성공 - 설정과 다른 BCrypt cost 로 저장된 비밀번호는 재해싱")
+        void login_Success_RehashesOnCostChange() {
+            // given
+            LoginRequest request = createLoginRequest("testuser", "password123");
+            String oldHash = "$2a$04$abcdefghijklmnopqrstuuF4ZzLwW5bEw0Wq1lVQ2n4pFhX9bq5Ge";
+            ReflectionTestUtils.setField(testUser, "password", oldHash);
+
+            given(userRepository.findByLoginId(request.getLoginId())).willReturn(Optional.of(testUser));
+            given(passwordHasher.matches(request.getPassword(), oldHash)).willReturn(true);
+            given(passwordHasher.needsRehash(oldHash)).willReturn(true);
+            given(passwordHasher.encode(request.getPassword())).willReturn("$2a$10$rehashed");
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-1");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-1")).willReturn("refresh-token");
+
+            // when
+            authService.login(request);
+
+            // then : 트랜잭션 밖에서 해싱한 뒤 이전 해시가 그대로일 때만 교체
+            verify(userRepository).updatePassword(testUser.getId(), oldHash, "$2a$10$rehashed");
+        }
+
+        @Test
+        @DisplayName("로그인 성공 - 설정과 같은 cost 면 재해싱하지 않음")
+        void login_Success_NoRehashOnSameCost() {
+            // given
+            LoginRequest request = createLoginRequest("testuser", "password123");
+            String currentHash = "$2a$10$abcdefghijklmnopqrstuuF4ZzLwW5bEw0Wq1lVQ2n4pFhX9bq5Ge";
+            ReflectionTestUtils.setField(testUser, "password", currentHash);
+
+            given(userRepository.findByLoginId(request.getLoginId())).willReturn(Optional.of(testUser));
+            given(passwordHasher.matches(request.getPassword(), currentHash)).willReturn(true);
+            given(passwordHasher.needsRehash(currentHash)).willReturn(false);
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-1");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-1")).willReturn("refresh-token");
+
+            // when
+            authService.login(request);
+
+            // then
+            verify(passwordHasher, never()).encode(anyString());
+            verify(userRepository, never()).updatePassword(any(), any(), any());
         }
 
         @Test
@@ -115,7 +161,7 @@ class AuthServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_CREDENTIALS);
                     });
 
-            verify(passwordEncoder, never()).matches(anyString(), anyString());
+            verify(passwordHasher, never()).matches(anyString(), anyString());
         }
 
         @Test
@@ -124,7 +170,7 @@ class AuthServiceTest {
             // given
             LoginRequest request = createLoginRequest("testuser", "wrongpassword");
             given(userRepository.findByLoginId(request.getLoginId())).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(request.getPassword(), testUser.getPassword())).willReturn(false);
+            given(passwordHasher.matches(request.getPassword(), testUser.getPassword())).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.login(request))
@@ -152,11 +198,14 @@ class AuthServiceTest {
 
             given(jwtTokenProvider.validateToken(providedRefreshToken)).willReturn(true);
             given(jwtTokenProvider.getLoginIdFromJWT(providedRefreshToken)).willReturn("testuser");
-            given(tokenStore.getRefreshToken("testuser")).willReturn(providedRefreshToken);
+            given(jwtTokenProvider.getTokenIdFromJWT(providedRefreshToken)).willReturn("jti-old");
             given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
             given(jwtTokenProvider.createToken(testUser.getId(), testUser.getLoginId())).willReturn(newAccessToken);
-            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId())).willReturn(newRefreshToken);
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-new");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-new")).willReturn(newRefreshToken);
             given(jwtTokenProvider.getRefreshExpiration()).willReturn(604800000L);
+            given(tokenStore.rotateRefreshSession(eq(testUser.getId()), eq("jti-old"), anyString(), eq("jti-new"), anyString(), any()))
+                    .willReturn(true);
 
             // when
             TokenResponse response = authService.refreshToken(providedRefreshToken);
@@ -165,7 +214,7 @@ class AuthServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getAccessToken()).isEqualTo(newAccessToken);
             assertThat(response.getRefreshToken()).isEqualTo(newRefreshToken);
-            verify(tokenStore).storeRefreshToken(eq(testUser.getLoginId()), eq(newRefreshToken), any());
+            verify(tokenStore).rotateRefreshSession(eq(testUser.getId()), eq("jti-old"), anyString(), eq("jti-new"), anyString(), any());
         }
 
         @Test
@@ -207,11 +256,15 @@ class AuthServiceTest {
         void refreshToken_Fail_TokenMismatch() {
             // given
             String providedRefreshToken = "provided-token";
-            String storedRefreshToken = "different-stored-token";
 
             given(jwtTokenProvider.validateToken(providedRefreshToken)).willReturn(true);
             given(jwtTokenProvider.getLoginIdFromJWT(providedRefreshToken)).willReturn("testuser");
-            given(tokenStore.getRefreshToken("testuser")).willReturn(storedRefreshToken);
+            given(jwtTokenProvider.getTokenIdFromJWT(providedRefreshToken)).willReturn("jti-old");
+            given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-new");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-new")).willReturn("new-refresh-token");
+            given(tokenStore.rotateRefreshSession(eq(testUser.getId()), eq("jti-old"), anyString(), eq("jti-new"), anyString(), any()))
+                    .willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.refreshToken(providedRefreshToken))
@@ -223,14 +276,19 @@ class AuthServiceTest {
         }
 
         @Test
-        @DisplayName("토큰 갱신 실패 - 저장된 토큰이 없음")
+        @DisplayName("토큰 갱신 실패 - 저장된 세션이 없음 (로그아웃 또는 이미 교체된 토큰)")
         void refreshToken_Fail_NoStoredToken() {
             // given
             String providedRefreshToken = "provided-token";
 
             given(jwtTokenProvider.validateToken(providedRefreshToken)).willReturn(true);
             given(jwtTokenProvider.getLoginIdFromJWT(providedRefreshToken)).willReturn("testuser");
-            given(tokenStore.getRefreshToken("testuser")).willReturn(null);
+            given(jwtTokenProvider.getTokenIdFromJWT(providedRefreshToken)).willReturn("jti-revoked");
+            given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-new");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-new")).willReturn("new-refresh-token");
+            given(tokenStore.rotateRefreshSession(eq(testUser.getId()), eq("jti-revoked"), anyString(), any(), any(), any()))
+                    .willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> authService.refreshToken(providedRefreshToken))
@@ -249,7 +307,7 @@ class AuthServiceTest {
 
             given(jwtTokenProvider.validateToken(providedRefreshToken)).willReturn(true);
             given(jwtTokenProvider.getLoginIdFromJWT(providedRefreshToken)).willReturn("testuser");
-            given(tokenStore.getRefreshToken("testuser")).willReturn(providedRefreshToken);
+            given(jwtTokenProvider.getTokenIdFromJWT(providedRefreshToken)).willReturn("jti-old");
             given(userRepository.findByLoginId("testuser")).willReturn(Optional.empty());
 
             // when & then
@@ -260,6 +318,56 @@ class AuthServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.USER_NOT_FOUND);
                     });
         }
+
+        @Test
+        @DisplayName("토큰 갱신 성공 - jti 가 없는 이전 형식 토큰은 저장된 원문과 같으면 한 번 받아 새 세션으로 옮긴다")
+        void refreshToken_LegacyToken_MigratesToSession() {
+            // given
+            String legacyRefreshToken = "legacy-refresh-token";
+
+            given(jwtTokenProvider.validateToken(legacyRefreshToken)).willReturn(true);
+            given(jwtTokenProvider.getLoginIdFromJWT(legacyRefreshToken)).willReturn("testuser");
+            given(jwtTokenProvider.getTokenIdFromJWT(legacyRefreshToken)).willReturn(null);
+            given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
+            given(jwtTokenProvider.createToken(testUser.getId(), testUser.getLoginId())).willReturn("new-access-token");
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-new");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-new")).willReturn("new-refresh-token");
+            given(jwtTokenProvider.getRefreshExpiration()).willReturn(604800000L);
+            given(tokenStore.consumeLegacyRefreshToken("testuser", legacyRefreshToken)).willReturn(true);
+
+            // when
+            TokenResponse response = authService.refreshToken(legacyRefreshToken);
+
+            // then
+            assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+            verify(tokenStore).storeRefreshSession(eq(testUser.getId()), eq("jti-new"), anyString(), any());
+            verify(tokenStore, never()).rotateRefreshSession(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("토큰 갱신 실패 - jti 가 없는 이전 형식 토큰이 저장되어 있지 않음 (이미 옮겨졌거나 로그아웃)")
+        void refreshToken_Fail_LegacyTokenNotStored() {
+            // given
+            String legacyRefreshToken = "legacy-refresh-token";
+
+            given(jwtTokenProvider.validateToken(legacyRefreshToken)).willReturn(true);
+            given(jwtTokenProvider.getLoginIdFromJWT(legacyRefreshToken)).willReturn("testuser");
+            given(jwtTokenProvider.getTokenIdFromJWT(legacyRefreshToken)).willReturn(null);
+            given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
+            given(jwtTokenProvider.generateTokenId()).willReturn("jti-new");
+            given(jwtTokenProvider.createRefreshToken(testUser.getId(), testUser.getLoginId(), "jti-new")).willReturn("new-refresh-token");
+            given(tokenStore.consumeLegacyRefreshToken("testuser", legacyRefreshToken)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> authService.refreshToken(legacyRefreshToken))
+                    .isInstanceOf(CoreException.class)
+                    .satisfies(ex -> {
+                        CoreException coreException = (CoreException) ex;
+                        assertThat(coreException.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+                    });
+
+            verify(tokenStore, never()).storeRefreshSession(any(), any(), any(), any());
+        }
     }
 
     @Nested
@@ -272,15 +380,34 @@ class AuthServiceTest {
             // given
             String refreshToken = "valid-refresh-token";
             given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
-            given(jwtTokenProvider.getLoginIdFromJWT(refreshToken)).willReturn("testuser");
+            given(jwtTokenProvider.getUserIdFromJWT(refreshToken)).willReturn(1L);
+            given(jwtTokenProvider.getTokenIdFromJWT(refreshToken)).willReturn("jti-1");
 
             // when
             authService.logout(refreshToken);
 
             // then
             verify(jwtTokenProvider).validateToken(refreshToken);
-            verify(jwtTokenProvider).getLoginIdFromJWT(refreshToken);
-            verify(tokenStore).deleteRefreshToken("testuser");
+            verify(tokenStore).revokeRefreshSession(1L, "jti-1");
+            verify(tokenStore, never()).revokeAllRefreshSessions(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("로그아웃 성공 - jti 가 없는 이전 형식 토큰은 저장된 원문을 지운다")
+        void logout_LegacyToken() {
+            // given
+            String legacyRefreshToken = "legacy-refresh-token";
+            given(jwtTokenProvider.validateToken(legacyRefreshToken)).willReturn(true);
+            given(jwtTokenProvider.getUserIdFromJWT(legacyRefreshToken)).willReturn(1L);
+            given(jwtTokenProvider.getTokenIdFromJWT(legacyRefreshToken)).willReturn(null);
+            given(jwtTokenProvider.getLoginIdFromJWT(legacyRefreshToken)).willReturn("testuser");
+
+            // when
+            authService.logout(legacyRefreshToken);
+
+            // then
+            verify(tokenStore).consumeLegacyRefreshToken("testuser", legacyRefreshToken);
+            verify(tokenStore, never()).revokeRefreshSession(anyLong(), anyString());
         }
 
         @Test
@@ -299,7 +426,7 @@ class AuthServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
                     });
 
-            verify(tokenStore, never()).deleteRefreshToken(anyString());
+            verify(tokenStore, never()).revokeRefreshSession(anyLong(), anyString());
         }
 
         @Test
@@ -318,7 +445,7 @@ class AuthServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.SESSION_EXPIRED);
                     });
 
-            verify(tokenStore, never()).deleteRefreshToken(anyString());
+            verify(tokenStore, never()).revokeRefreshSession(anyLong(), anyString());
         }
     }
 }
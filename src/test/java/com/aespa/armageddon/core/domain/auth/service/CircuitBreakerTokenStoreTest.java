@@ -0,0 +1,158 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CircuitBreakerTokenStore 테스트")
+class CircuitBreakerTokenStoreTest {
+
+    @Mock
+    private TokenStore primary;
+
+    @Mock
+    private TokenStore fallback;
+
+    private InMemoryTokenStoreTest.MutableClock clock;
+    private CircuitBreakerTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        clock = new InMemoryTokenStoreTest.MutableClock();
+        tokenStore = new CircuitBreakerTokenStore(
+                primary, fallback, 2, Duration.ofSeconds(10), Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("primary 실패 시 fallback 결과를 반환한다")
+    void call_PrimaryFails_UsesFallback() {
+        // given
+        given(primary.getPasswordResetCode(1L)).willThrow(new RedisConnectionFailureException("down"));
+        given(fallback.getPasswordResetCode(1L)).willReturn("hash");
+
+        // when
+        String result = tokenStore.getPasswordResetCode(1L);
+
+        // then
+        assertThat(result).isEqualTo("hash");
+        assertThat(tokenStore.getState()).isEqualTo(CircuitBreakerTokenStore.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN 되어 primary 를 호출하지 않는다")
+    void call_ConsecutiveFailures_OpensCircuit() {
+        // given
+        given(primary.getPasswordResetCode(1L)).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        tokenStore.getPasswordResetCode(1L);
+        tokenStore.getPasswordResetCode(1L);
+        tokenStore.getPasswordResetCode(1L);
+
+        // then
+        assertThat(tokenStore.getState()).isEqualTo(CircuitBreakerTokenStore.State.OPEN);
+        verify(primary, times(2)).getPasswordResetCode(1L);
+        verify(fallback, times(3)).getPasswordResetCode(1L);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 primary 를 다시 시도하고 성공 시 CLOSED 로 돌아간다")
+    void call_AfterOpenDuration_ClosesOnSuccess() {
+        // given
+        given(primary.getPasswordResetCode(1L))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn("hash");
+        tokenStore.getPasswordResetCode(1L);
+        tokenStore.getPasswordResetCode(1L);
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+        String result = tokenStore.getPasswordResetCode(1L);
+
+        // then
+        assertThat(result).isEqualTo("hash");
+        assertThat(tokenStore.getState()).isEqualTo(CircuitBreakerTokenStore.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("정상 상태에서는 fallback 을 사용하지 않는다")
+    void call_Healthy_UsesPrimaryOnly() {
+        // when
+        tokenStore.deletePasswordResetCode(1L);
+
+        // then
+        verify(primary).deletePasswordResetCode(1L);
+        verify(fallback, never()).deletePasswordResetCode(1L);
+    }
+
+    @Test
+    @DisplayName("OPEN 중에 폐기한 세션은 CLOSED 로 돌아간 뒤에도 폐기 상태로 남는다")
+    void revoke_WhileOpen_StaysRevokedAfterClose() {
+        // given : Redis 에 있던 세션
+        InMemoryTokenStore redis = spy(new InMemoryTokenStore(100, Duration.ofSeconds(1), 8, clock));
+        CircuitBreakerTokenStore store = new CircuitBreakerTokenStore(
+                redis, new InMemoryTokenStore(100, Duration.ofSeconds(1), 8, clock),
+                2, Duration.ofSeconds(10), Duration.ofSeconds(30), clock);
+        redis.storeRefreshSession(1L, "jti-1", "fp-1", Duration.ofMinutes(5));
+        doThrow(new RedisConnectionFailureException("down"))
+                .doThrow(new RedisConnectionFailureException("down"))
+                .doCallRealMethod()
+                .when(redis).getPasswordResetCode(1L);
+        store.getPasswordResetCode(1L);
+        store.getPasswordResetCode(1L);
+        assertThat(store.getState()).isEqualTo(CircuitBreakerTokenStore.State.OPEN);
+
+        // when : 장애 중 로그아웃
+        store.revokeRefreshSession(1L, "jti-1");
+
+        // then : primary 에는 복구 후 첫 호출에서 반영된다
+        assertThat(redis.sessionCount(1L)).isEqualTo(1);
+        assertThat(store.pendingRevocationCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(30));
+        store.getPasswordResetCode(1L);
+
+        assertThat(store.getState()).isEqualTo(CircuitBreakerTokenStore.State.CLOSED);
+        assertThat(store.pendingRevocationCount()).isZero();
+        assertThat(redis.sessionCount(1L)).isZero();
+        assertThat(store.rotateRefreshSession(1L, "jti-1", "fp-1", "jti-2", "fp-2", Duration.ofMinutes(5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("primary 에 적용하지 못한 폐기는 대기열에 남겨 두고, 다음 연산보다 먼저 재실행한다")
+    void revoke_PrimaryFails_ReplaysBeforeNextOperation() {
+        // given
+        doThrow(new RedisConnectionFailureException("down"))
+                .doNothing()
+                .when(primary).revokeAllRefreshSessions(1L, "testuser");
+
+        // when
+        tokenStore.revokeAllRefreshSessions(1L, "testuser");
+        tokenStore.storeRefreshSession(1L, "jti-new", "fp", Duration.ofMinutes(1));
+
+        // then
+        verify(fallback).revokeAllRefreshSessions(1L, "testuser");
+        InOrder inOrder = inOrder(primary);
+        inOrder.verify(primary, times(2)).revokeAllRefreshSessions(1L, "testuser");
+        inOrder.verify(primary).storeRefreshSession(1L, "jti-new", "fp", Duration.ofMinutes(1));
+        assertThat(tokenStore.pendingRevocationCount()).isZero();
+    }
+}
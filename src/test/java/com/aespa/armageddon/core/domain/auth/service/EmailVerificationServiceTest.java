@@ -34,7 +34,7 @@ class EmailVerificationServiceTest {
     private EmailVerificationService emailVerificationService;
 
     @Mock
-    private RedisTokenStore tokenStore;
+    private TokenStore tokenStore;
 
     @Mock
     private MailService mailService;
@@ -121,15 +121,13 @@ class EmailVerificationServiceTest {
             String code = "123456";
             String codeHash = sha256(code);
 
-            given(tokenStore.getEmailVerificationCode(email)).willReturn(codeHash);
+            given(tokenStore.confirmEmailVerificationCode(eq(email), eq(codeHash), any(Duration.class))).willReturn(true);
 
             // when
             emailVerificationService.confirmVerification(email, code);
 
             // then
-            verify(tokenStore).getEmailVerificationCode(email);
-            verify(tokenStore).deleteEmailVerificationCode(email);
-            verify(tokenStore).storeEmailVerified(eq(email), any(Duration.class));
+            verify(tokenStore).confirmEmailVerificationCode(eq(email), eq(codeHash), any(Duration.class));
         }
 
         @Test
@@ -143,7 +141,7 @@ class EmailVerificationServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT_VALUE);
                     });
 
-            verify(tokenStore, never()).getEmailVerificationCode(anyString());
+            verify(tokenStore, never()).confirmEmailVerificationCode(anyString(), anyString(), any());
         }
 
         @Test
@@ -157,7 +155,7 @@ class EmailVerificationServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT_VALUE);
                     });
 
-            verify(tokenStore, never()).getEmailVerificationCode(anyString());
+            verify(tokenStore, never()).confirmEmailVerificationCode(anyString(), anyString(), any());
         }
 
         @Test
@@ -171,7 +169,7 @@ class EmailVerificationServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT_VALUE);
                     });
 
-            verify(tokenStore, never()).getEmailVerificationCode(anyString());
+            verify(tokenStore, never()).confirmEmailVerificationCode(anyString(), anyString(), any());
         }
 
         @Test
@@ -181,7 +179,7 @@ class EmailVerificationServiceTest {
             String email = "test@example.com";
             String code = "123456";
 
-            given(tokenStore.getEmailVerificationCode(email)).willReturn(null);
+            given(tokenStore.confirmEmailVerificationCode(eq(email), anyString(), any(Duration.class))).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> emailVerificationService.confirmVerification(email, code))
@@ -190,8 +188,6 @@ class EmailVerificationServiceTest {
                         CoreException coreException = (CoreException) ex;
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_EMAIL_VERIFICATION_CODE);
                     });
-
-            verify(tokenStore, never()).deleteEmailVerificationCode(anyString());
         }
 
         @Test
@@ -203,7 +199,7 @@ class EmailVerificationServiceTest {
             String wrongCode = "654321";
             String storedHash = sha256(correctCode);
 
-            given(tokenStore.getEmailVerificationCode(email)).willReturn(storedHash);
+            given(tokenStore.confirmEmailVerificationCode(eq(email), anyString(), any(Duration.class))).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> emailVerificationService.confirmVerification(email, wrongCode))
@@ -213,7 +209,7 @@ class EmailVerificationServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_EMAIL_VERIFICATION_CODE);
                     });
 
-            verify(tokenStore, never()).deleteEmailVerificationCode(anyString());
+            verify(tokenStore, never()).confirmEmailVerificationCode(email, storedHash, Duration.ofMinutes(10));
         }
     }
 
@@ -226,15 +222,13 @@ class EmailVerificationServiceTest {
         void assertVerifiedAndConsume_Success() {
             // given
             String email = "test@example.com";
-            given(tokenStore.isEmailVerified(email)).willReturn(true);
+            given(tokenStore.consumeEmailVerified(email)).willReturn(true);
 
             // when
             emailVerificationService.assertVerifiedAndConsume(email);
 
             // then
-            verify(tokenStore).isEmailVerified(email);
-            verify(tokenStore).deleteEmailVerified(email);
-            verify(tokenStore).deleteEmailVerificationCode(email);
+            verify(tokenStore).consumeEmailVerified(email);
         }
 
         @Test
@@ -248,7 +242,7 @@ class EmailVerificationServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT_VALUE);
                     });
 
-            verify(tokenStore, never()).isEmailVerified(anyString());
+            verify(tokenStore, never()).consumeEmailVerified(anyString());
         }
 
         @Test
@@ -256,7 +250,7 @@ class EmailVerificationServiceTest {
         void assertVerifiedAndConsume_Fail_NotVerified() {
             // given
             String email = "test@example.com";
-            given(tokenStore.isEmailVerified(email)).willReturn(false);
+            given(tokenStore.consumeEmailVerified(email)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> emailVerificationService.assertVerifiedAndConsume(email))
@@ -265,8 +259,6 @@ class EmailVerificationServiceTest {
                         CoreException coreException = (CoreException) ex;
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.EMAIL_VERIFICATION_REQUIRED);
                     });
-
-            verify(tokenStore, never()).deleteEmailVerified(anyString());
         }
     }
 
@@ -284,8 +276,7 @@ class EmailVerificationServiceTest {
             emailVerificationService.deleteByEmail(email);
 
             // then
-            verify(tokenStore).deleteEmailVerificationCode(email);
-            verify(tokenStore).deleteEmailVerified(email);
+            verify(tokenStore).deleteEmailVerification(email);
         }
 
         @Test
@@ -295,8 +286,7 @@ class EmailVerificationServiceTest {
             emailVerificationService.deleteByEmail(null);
 
             // then
-            verify(tokenStore, never()).deleteEmailVerificationCode(anyString());
-            verify(tokenStore, never()).deleteEmailVerified(anyString());
+            verify(tokenStore, never()).deleteEmailVerification(anyString());
         }
 
         @Test
@@ -306,8 +296,7 @@ class EmailVerificationServiceTest {
             emailVerificationService.deleteByEmail("   ");
 
             // then
-            verify(tokenStore, never()).deleteEmailVerificationCode(anyString());
-            verify(tokenStore, never()).deleteEmailVerified(anyString());
+            verify(tokenStore, never()).deleteEmailVerification(anyString());
         }
     }
 }
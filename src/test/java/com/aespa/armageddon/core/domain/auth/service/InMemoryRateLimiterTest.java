@@ -0,0 +1,95 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryRateLimiter 테스트")
+class InMemoryRateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private InMemoryTokenStoreTest.MutableClock clock;
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new InMemoryTokenStoreTest.MutableClock();
+        rateLimiter = new InMemoryRateLimiter(2, clock);
+    }
+
+    @Test
+    @DisplayName("window 안에서 limit 을 넘으면 거부한다")
+    void tryAcquire_OverLimit_Rejected() {
+        // when & then
+        assertThat(rateLimiter.tryAcquire("login:testuser", 2, WINDOW)).isTrue();
+        assertThat(rateLimiter.tryAcquire("login:testuser", 2, WINDOW)).isTrue();
+        assertThat(rateLimiter.tryAcquire("login:testuser", 2, WINDOW)).isFalse();
+        assertThat(rateLimiter.tryAcquire("login:other", 2, WINDOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 오래된 요청부터 빠져 다시 허용한다")
+    void tryAcquire_SlidingWindow() {
+        // given
+        rateLimiter.tryAcquire("login:testuser", 2, WINDOW);
+        clock.advance(Duration.ofSeconds(30));
+        rateLimiter.tryAcquire("login:testuser", 2, WINDOW);
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+
+        // then
+        assertThat(rateLimiter.tryAcquire("login:testuser", 2, WINDOW)).isTrue();
+        assertThat(rateLimiter.tryAcquire("login:testuser", 2, WINDOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 수가 최대치에 도달하면 window 가 지난 키를 정리한다")
+    void tryAcquire_WhenFull_PurgesIdleKeys() {
+        // given
+        rateLimiter.tryAcquire("a", 5, WINDOW);
+        rateLimiter.tryAcquire("b", 5, WINDOW);
+        clock.advance(WINDOW);
+
+        // when
+        rateLimiter.tryAcquire("c", 5, WINDOW);
+
+        // then
+        assertThat(rateLimiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패만 세는 키는 기록한 횟수로 제한하고 reset 하면 다시 허용한다")
+    void recordAndReset() {
+        // given
+        rateLimiter.record("login:testuser", WINDOW);
+        assertThat(rateLimiter.isLimited("login:testuser", 2, WINDOW)).isFalse();
+        rateLimiter.record("login:testuser", WINDOW);
+
+        // when & then : 확인만으로는 기록이 늘지 않는다
+        assertThat(rateLimiter.isLimited("login:testuser", 2, WINDOW)).isTrue();
+        assertThat(rateLimiter.isLimited("login:other", 2, WINDOW)).isFalse();
+
+        rateLimiter.reset("login:testuser");
+        assertThat(rateLimiter.isLimited("login:testuser", 2, WINDOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록한 실패도 window 가 지나면 빠진다")
+    void record_SlidingWindow() {
+        // given
+        rateLimiter.record("login:testuser", WINDOW);
+        rateLimiter.record("login:testuser", WINDOW);
+
+        // when
+        clock.advance(WINDOW);
+
+        // then
+        assertThat(rateLimiter.isLimited("login:testuser", 2, WINDOW)).isFalse();
+    }
+}
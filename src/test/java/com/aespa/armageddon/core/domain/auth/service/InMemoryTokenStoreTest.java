@@ -0,0 +1,226 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryTokenStore 테스트")
+class InMemoryTokenStoreTest {
+
+    private MutableClock clock;
+    private InMemoryTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        tokenStore = new InMemoryTokenStore(3, Duration.ofSeconds(1), 8, clock);
+    }
+
+    @Nested
+    @DisplayName("만료 테스트")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("TTL 이 지나면 조회되지 않는다")
+        void get_AfterTtl_ReturnsNull() {
+            // given
+            tokenStore.storePasswordResetCode(1L, "hash", Duration.ofSeconds(5));
+
+            // when
+            clock.advance(Duration.ofSeconds(5));
+
+            // then
+            assertThat(tokenStore.getPasswordResetCode(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("wheel tick 이 지나면 만료된 키가 제거된다")
+        void expireEntries_RemovesExpiredKeys() {
+            // given
+            tokenStore.storePasswordResetCode(1L, "hash", Duration.ofSeconds(2));
+            tokenStore.storePasswordResetCode(2L, "hash", Duration.ofSeconds(20));
+
+            // when
+            clock.advance(Duration.ofSeconds(3));
+            tokenStore.expireEntries();
+
+            // then
+            assertThat(tokenStore.size()).isEqualTo(1);
+            assertThat(tokenStore.getPasswordResetCode(2L)).isEqualTo("hash");
+        }
+
+        @Test
+        @DisplayName("wheel 한 바퀴보다 긴 TTL 도 다음 바퀴에서 만료된다")
+        void expireEntries_TtlLongerThanWheel() {
+            // given
+            tokenStore.storePasswordResetCode(1L, "hash", Duration.ofSeconds(20));
+
+            // when
+            clock.advance(Duration.ofSeconds(10));
+            tokenStore.expireEntries();
+
+            // then
+            assertThat(tokenStore.size()).isEqualTo(1);
+
+            clock.advance(Duration.ofSeconds(11));
+            tokenStore.expireEntries();
+            assertThat(tokenStore.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("크기 제한 테스트")
+    class CapacityTest {
+
+        @Test
+        @DisplayName("최대 개수에 도달하면 만료가 가장 임박한 키를 제거한다")
+        void put_WhenFull_EvictsSoonestExpiring() {
+            // given
+            tokenStore.storePasswordResetCode(1L, "hash", Duration.ofSeconds(2));
+            tokenStore.storePasswordResetCode(2L, "hash", Duration.ofSeconds(5));
+            tokenStore.storePasswordResetCode(3L, "hash", Duration.ofSeconds(6));
+
+            // when
+            tokenStore.storePasswordResetCode(4L, "hash", Duration.ofSeconds(7));
+
+            // then
+            assertThat(tokenStore.size()).isEqualTo(3);
+            assertThat(tokenStore.getPasswordResetCode(1L)).isNull();
+            assertThat(tokenStore.getPasswordResetCode(4L)).isEqualTo("hash");
+        }
+
+        @Test
+        @DisplayName("wheel 한 바퀴보다 긴 TTL 의 키는 슬롯이 앞서도 만료가 더 늦으면 남긴다")
+        void put_WhenFull_IgnoresWheelSlotOrder() {
+            // given : 9초 TTL 은 wheel(8칸) 에서 1초 뒤 슬롯에 들어간다
+            tokenStore.storePasswordResetCode(1L, "hash", Duration.ofSeconds(9));
+            tokenStore.storePasswordResetCode(2L, "hash", Duration.ofSeconds(3));
+            tokenStore.storePasswordResetCode(3L, "hash", Duration.ofSeconds(5));
+
+            // when
+            tokenStore.storePasswordResetCode(4L, "hash", Duration.ofSeconds(7));
+
+            // then
+            assertThat(tokenStore.getPasswordResetCode(1L)).isEqualTo("hash");
+            assertThat(tokenStore.getPasswordResetCode(2L)).isNull();
+        }
+
+        @Test
+        @DisplayName("다시 저장해 만료가 늦춰진 키는 이전 만료 시각으로 제거하지 않는다")
+        void put_WhenFull_UsesLatestExpiry() {
+            // given
+            tokenStore.storePasswordResetCode(1L, "hash", Duration.ofSeconds(2));
+            tokenStore.storePasswordResetCode(2L, "hash", Duration.ofSeconds(5));
+            tokenStore.storePasswordResetCode(3L, "hash", Duration.ofSeconds(6));
+            tokenStore.storePasswordResetCode(1L, "hash-2", Duration.ofSeconds(30));
+
+            // when
+            tokenStore.storePasswordResetCode(4L, "hash", Duration.ofSeconds(7));
+
+            // then
+            assertThat(tokenStore.size()).isEqualTo(3);
+            assertThat(tokenStore.getPasswordResetCode(1L)).isEqualTo("hash-2");
+            assertThat(tokenStore.getPasswordResetCode(2L)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("원자적 연산 테스트")
+    class AtomicOperationTest {
+
+        @Test
+        @DisplayName("저장된 fingerprint 와 일치할 때만 refresh 세션을 교체한다")
+        void rotateRefreshSession() {
+            // given
+            tokenStore.storeRefreshSession(1L, "jti-1", "fp-1", Duration.ofMinutes(1));
+
+            // when & then
+            assertThat(tokenStore.rotateRefreshSession(1L, "jti-1", "other", "jti-2", "fp-2", Duration.ofMinutes(1))).isFalse();
+            assertThat(tokenStore.rotateRefreshSession(1L, "jti-1", "fp-1", "jti-2", "fp-2", Duration.ofMinutes(1))).isTrue();
+            // 이미 교체된 토큰은 재사용 불가
+            assertThat(tokenStore.rotateRefreshSession(1L, "jti-1", "fp-1", "jti-3", "fp-3", Duration.ofMinutes(1))).isFalse();
+            assertThat(tokenStore.rotateRefreshSession(1L, "jti-2", "fp-2", "jti-3", "fp-3", Duration.ofMinutes(1))).isTrue();
+            assertThat(tokenStore.sessionCount(1L)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("기기별 세션은 독립적으로 교체·폐기된다")
+        void refreshSessions_PerDevice() {
+            // given
+            tokenStore.storeRefreshSession(1L, "phone", "fp-phone", Duration.ofMinutes(1));
+            tokenStore.storeRefreshSession(1L, "laptop", "fp-laptop", Duration.ofMinutes(1));
+
+            // when
+            tokenStore.revokeRefreshSession(1L, "phone");
+
+            // then
+            assertThat(tokenStore.sessionCount(1L)).isEqualTo(1);
+            assertThat(tokenStore.rotateRefreshSession(1L, "phone", "fp-phone", "phone-2", "fp", Duration.ofMinutes(1))).isFalse();
+            assertThat(tokenStore.rotateRefreshSession(1L, "laptop", "fp-laptop", "laptop-2", "fp", Duration.ofMinutes(1))).isTrue();
+
+            tokenStore.revokeAllRefreshSessions(1L, "testuser");
+            assertThat(tokenStore.sessionCount(1L)).isZero();
+        }
+
+        @Test
+        @DisplayName("만료된 세션은 교체할 수 없다")
+        void rotateRefreshSession_Expired() {
+            // given
+            tokenStore.storeRefreshSession(1L, "jti-1", "fp-1", Duration.ofSeconds(5));
+
+            // when
+            clock.advance(Duration.ofSeconds(5));
+
+            // then
+            assertThat(tokenStore.rotateRefreshSession(1L, "jti-1", "fp-1", "jti-2", "fp-2", Duration.ofMinutes(1))).isFalse();
+        }
+
+        @Test
+        @DisplayName("이메일 인증 코드가 일치하면 코드를 소비하고 인증 완료 상태가 된다")
+        void confirmAndConsumeEmailVerification() {
+            // given
+            String email = "test@example.com";
+            tokenStore.storeEmailVerificationCode(email, "hash", Duration.ofMinutes(10));
+
+            // when & then
+            assertThat(tokenStore.confirmEmailVerificationCode(email, "wrong", Duration.ofMinutes(10))).isFalse();
+            assertThat(tokenStore.confirmEmailVerificationCode(email, "hash", Duration.ofMinutes(10))).isTrue();
+            assertThat(tokenStore.getEmailVerificationCode(email)).isNull();
+            assertThat(tokenStore.consumeEmailVerified(email)).isTrue();
+            assertThat(tokenStore.consumeEmailVerified(email)).isFalse();
+        }
+    }
+
+    static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    private PasswordHasher createHasher(PasswordEncoder encoder, int threads, int queueCapacity) {
+        meterRegistry = new SimpleMeterRegistry();
+        PasswordHasher hasher = new PasswordHasher(encoder, meterRegistry);
+        ReflectionTestUtils.setField(hasher, "threads", threads);
+        ReflectionTestUtils.setField(hasher, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(hasher, "timeoutMillis", 5000L);
+        ReflectionTestUtils.setField(hasher, "bcryptStrength", 10);
+        hasher.init();
+        return hasher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("해싱 테스트")
+    class HashingTest {
+
+        @Test
+        @DisplayName("작업 풀에서 인코딩한 해시로 비밀번호를 비교한다")
+        void encodeAndMatches() {
+            // given
+            passwordHasher = createHasher(new BCryptPasswordEncoder(4), 2, 4);
+
+            // when
+            String encoded = passwordHasher.encode("password123");
+
+            // then
+            assertThat(passwordHasher.matches("password123", encoded)).isTrue();
+            assertThat(passwordHasher.matches("wrong", encoded)).isFalse();
+            assertThat(meterRegistry.get("auth.password.hasher.duration").timer().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("설정된 cost 와 다른 해시만 재해싱 대상이다")
+        void needsRehash() {
+            // given
+            passwordHasher = createHasher(new BCryptPasswordEncoder(4), 1, 1);
+
+            // when & then
+            assertThat(passwordHasher.needsRehash("$2a$04$abcdefghijklmnopqrstuuF4ZzLwW5bEw0Wq1lVQ2n4pFhX9bq5Ge")).isTrue();
+            assertThat(passwordHasher.needsRehash("$2a$10$abcdefghijklmnopqrstuuF4ZzLwW5bEw0Wq1lVQ2n4pFhX9bq5Ge")).isFalse();
+            assertThat(passwordHasher.needsRehash("plain")).isFalse();
+            assertThat(passwordHasher.needsRehash(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("포화 테스트")
+    class SaturationTest {
+
+        @Test
+        @DisplayName("작업 풀과 대기열이 가득 차면 즉시 SERVICE_BUSY 로 거절한다")
+        void encode_WhenSaturated_RejectsFast() throws Exception {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+            given(blockingEncoder.encode(anyString())).willAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "encoded";
+            });
+            passwordHasher = createHasher(blockingEncoder, 1, 1);
+
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+            awaitQueueSize(1);
+
+            // when & then
+            assertThatThrownBy(() -> passwordHasher.encode("c"))
+                    .isInstanceOf(CoreException.class)
+                    .satisfies(ex -> {
+                        CoreException coreException = (CoreException) ex;
+                        assertThat(coreException.getErrorType()).isEqualTo(ErrorType.SERVICE_BUSY);
+                    });
+            assertThat(meterRegistry.get("auth.password.hasher.rejected").counter().count()).isEqualTo(1.0);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        }
+
+        private void awaitQueueSize(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("auth.password.hasher.queue.size").gauge().value() < expected) {
+                if (System.nanoTime() > deadline) {
+                    throw new AssertionError("queue did not fill up");
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
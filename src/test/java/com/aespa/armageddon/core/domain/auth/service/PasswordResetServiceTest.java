@@ -15,7 +15,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
@@ -46,10 +45,10 @@ class PasswordResetServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RedisTokenStore tokenStore;
+    private TokenStore tokenStore;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private MailService mailService;
@@ -207,16 +206,39 @@ class PasswordResetServiceTest {
 
             given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
             given(tokenStore.getPasswordResetCode(testUser.getId())).willReturn(codeHash);
-            given(passwordEncoder.matches(newPassword, testUser.getPassword())).willReturn(false);
-            given(passwordEncoder.encode(newPassword)).willReturn(encodedNewPassword);
+            given(passwordHasher.matches(newPassword, testUser.getPassword())).willReturn(false);
+            given(passwordHasher.encode(newPassword)).willReturn(encodedNewPassword);
+            given(userRepository.updatePassword(testUser.getId(), testUser.getPassword(), encodedNewPassword))
+                    .willReturn(1);
 
             // when
             passwordResetService.confirmReset(request);
 
             // then
-            verify(tokenStore).deletePasswordResetCode(testUser.getId());
-            verify(tokenStore).deleteRefreshToken(testUser.getLoginId());
-            assertThat(testUser.getPassword()).isEqualTo(encodedNewPassword);
+            verify(userRepository).updatePassword(testUser.getId(), testUser.getPassword(), encodedNewPassword);
+            verify(tokenStore).deletePasswordResetAndSessions(testUser.getId(), testUser.getLoginId());
+        }
+
+        @Test
+        @DisplayName("비밀번호 재설정 확인 실패 - 해싱하는 사이 비밀번호가 바뀌면 세션과 코드를 유지")
+        void confirmReset_Fail_PasswordChangedConcurrently() {
+            // given
+            String code = "123456";
+            PasswordResetConfirmRequest request = new PasswordResetConfirmRequest("testuser", code, "newPassword123");
+
+            given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
+            given(tokenStore.getPasswordResetCode(testUser.getId())).willReturn(sha256(code));
+            given(passwordHasher.matches("newPassword123", testUser.getPassword())).willReturn(false);
+            given(passwordHasher.encode("newPassword123")).willReturn("encodedNewPassword");
+            given(userRepository.updatePassword(testUser.getId(), testUser.getPassword(), "encodedNewPassword"))
+                    .willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> passwordResetService.confirmReset(request))
+                    .isInstanceOf(CoreException.class)
+                    .satisfies(ex -> assertThat(((CoreException) ex).getErrorType())
+                            .isEqualTo(ErrorType.INVALID_PASSWORD_RESET_CODE));
+            verify(tokenStore, never()).deletePasswordResetAndSessions(anyLong(), anyString());
         }
 
         @Test
@@ -349,7 +371,7 @@ class PasswordResetServiceTest {
             PasswordResetConfirmRequest request = new PasswordResetConfirmRequest("testuser", code, samePassword);
             given(userRepository.findByLoginId("testuser")).willReturn(Optional.of(testUser));
             given(tokenStore.getPasswordResetCode(testUser.getId())).willReturn(codeHash);
-            given(passwordEncoder.matches(samePassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(samePassword, testUser.getPassword())).willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> passwordResetService.confirmReset(request))
@@ -359,7 +381,7 @@ class PasswordResetServiceTest {
                         assertThat(coreException.getErrorType()).isEqualTo(ErrorType.SAME_AS_OLD_PASSWORD);
                     });
 
-            verify(tokenStore, never()).deletePasswordResetCode(anyLong());
+            verify(tokenStore, never()).deletePasswordResetAndSessions(anyLong(), anyString());
         }
     }
 }
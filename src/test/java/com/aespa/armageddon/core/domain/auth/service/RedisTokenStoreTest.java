@@ -0,0 +1,62 @@
+package com.aespa.armageddon.core.domain.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisTokenStore 테스트")
+class RedisTokenStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private RedisTokenStore tokenStore;
+
+    @Test
+    @DisplayName("모든 세션 폐기 시 이전 형식 refresh token 도 함께 삭제한다")
+    void revokeAllRefreshSessions_DeletesLegacyKey() {
+        // when
+        tokenStore.revokeAllRefreshSessions(1L, "testuser");
+
+        // then
+        verify(redisTemplate).delete(argThat((Collection<String> keys) ->
+                keys.contains("auth:sessions:1") && keys.contains("auth:refresh:testuser")));
+    }
+
+    @Test
+    @DisplayName("비밀번호 재설정 완료 시 이전 형식 refresh token 도 함께 삭제한다")
+    void deletePasswordResetAndSessions_DeletesLegacyKey() {
+        // when
+        tokenStore.deletePasswordResetAndSessions(1L, "testuser");
+
+        // then
+        verify(redisTemplate).delete(argThat((Collection<String> keys) ->
+                keys.contains("auth:pwreset:1")
+                        && keys.contains("auth:sessions:1")
+                        && keys.contains("auth:refresh:testuser")));
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 이전 형식 refresh token 도 함께 삭제한다")
+    void deleteAllForUser_DeletesLegacyKey() {
+        // when
+        tokenStore.deleteAllForUser(1L, "testuser", "test@example.com");
+
+        // then
+        verify(redisTemplate).delete(argThat((Collection<String> keys) ->
+                keys.contains("auth:sessions:1")
+                        && keys.contains("auth:refresh:testuser")
+                        && keys.contains("auth:emailverify:code:test@example.com")));
+    }
+}
@@ -13,8 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -36,13 +37,16 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private EmailVerificationService emailVerificationService;
 
     @Mock
-    private RedisTokenStore tokenStore;
+    private TokenStore tokenStore;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     private User testUser;
 
@@ -55,6 +59,11 @@ class UserServiceTest {
                 .nickname("테스터")
                 .build();
         ReflectionTestUtils.setField(testUser, "id", 1L);
+
+        // 프로필 변경 트랜잭션은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
     }
 
     @Nested
@@ -86,7 +95,7 @@ class UserServiceTest {
             given(userRepository.existsByLoginId(request.getLoginId())).willReturn(false);
             given(userRepository.existsByEmail(request.getEmail())).willReturn(false);
             doNothing().when(emailVerificationService).assertVerifiedAndConsume(request.getEmail());
-            given(passwordEncoder.encode(request.getPassword())).willReturn("encodedPassword");
+            given(passwordHasher.encode(request.getPassword())).willReturn("encodedPassword");
             given(userRepository.save(any(User.class))).willReturn(savedUser);
 
             // when
@@ -97,7 +106,7 @@ class UserServiceTest {
             verify(userRepository).existsByLoginId(request.getLoginId());
             verify(userRepository).existsByEmail(request.getEmail());
             verify(emailVerificationService).assertVerifiedAndConsume(request.getEmail());
-            verify(passwordEncoder).encode(request.getPassword());
+            verify(passwordHasher).encode(request.getPassword());
             verify(userRepository).save(any(User.class));
         }
 
@@ -163,6 +172,28 @@ class UserServiceTest {
             verify(emailVerificationService).assertVerifiedAndConsume(request.getEmail());
             verify(userRepository, never()).save(any(User.class));
         }
+
+        @Test
+        @DisplayName("회원가입 실패 - 해싱이 거절되면 이메일 인증을 소비하지 않는다")
+        void signup_Fail_HasherBusy_KeepsVerification() {
+            // given
+            SignupRequest request = createSignupRequest();
+            given(userRepository.existsByLoginId(request.getLoginId())).willReturn(false);
+            given(userRepository.existsByEmail(request.getEmail())).willReturn(false);
+            given(passwordHasher.encode(request.getPassword()))
+                    .willThrow(new CoreException(ErrorType.SERVICE_BUSY));
+
+            // when & then
+            assertThatThrownBy(() -> userService.signup(request))
+                    .isInstanceOf(CoreException.class)
+                    .satisfies(ex -> {
+                        CoreException coreException = (CoreException) ex;
+                        assertThat(coreException.getErrorType()).isEqualTo(ErrorType.SERVICE_BUSY);
+                    });
+
+            verify(emailVerificationService, never()).assertVerifiedAndConsume(anyString());
+            verify(userRepository, never()).save(any(User.class));
+        }
     }
 
     @Nested
@@ -178,7 +209,7 @@ class UserServiceTest {
             String newNickname = "새닉네임";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(currentPassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(currentPassword, testUser.getPassword())).willReturn(true);
 
             // when
             User updated = userService.updateProfile(currentLoginId, currentPassword, null, null, newNickname);
@@ -186,7 +217,7 @@ class UserServiceTest {
             // then
             assertThat(updated.getNickname()).isEqualTo(newNickname);
             verify(userRepository).findByLoginId(currentLoginId);
-            verify(passwordEncoder).matches(currentPassword, testUser.getPassword());
+            verify(passwordHasher).matches(currentPassword, testUser.getPassword());
         }
 
         @Test
@@ -198,7 +229,7 @@ class UserServiceTest {
             String newLoginId = "newloginid";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(currentPassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(currentPassword, testUser.getPassword())).willReturn(true);
             given(userRepository.existsByLoginId(newLoginId)).willReturn(false);
 
             // when
@@ -206,7 +237,7 @@ class UserServiceTest {
 
             // then
             assertThat(updated.getLoginId()).isEqualTo(newLoginId);
-            verify(tokenStore).deleteRefreshToken(currentLoginId);
+            verify(tokenStore).revokeAllRefreshSessions(testUser.getId(), currentLoginId);
         }
 
         @Test
@@ -218,7 +249,7 @@ class UserServiceTest {
             String newEmail = "newemail@example.com";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(currentPassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(currentPassword, testUser.getPassword())).willReturn(true);
             given(userRepository.existsByEmail(newEmail)).willReturn(false);
             doNothing().when(emailVerificationService).assertVerifiedAndConsume(newEmail);
 
@@ -283,7 +314,7 @@ class UserServiceTest {
             String newNickname = "새닉네임";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(wrongPassword, testUser.getPassword())).willReturn(false);
+            given(passwordHasher.matches(wrongPassword, testUser.getPassword())).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> userService.updateProfile(currentLoginId, wrongPassword, null, null, newNickname))
@@ -321,7 +352,7 @@ class UserServiceTest {
             String newLoginId = "existinguser";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(currentPassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(currentPassword, testUser.getPassword())).willReturn(true);
             given(userRepository.existsByLoginId(newLoginId)).willReturn(true);
 
             // when & then
@@ -342,7 +373,7 @@ class UserServiceTest {
             String newEmail = "existing@example.com";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(currentPassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(currentPassword, testUser.getPassword())).willReturn(true);
             given(userRepository.existsByEmail(newEmail)).willReturn(true);
 
             // when & then
@@ -363,7 +394,7 @@ class UserServiceTest {
             String newEmail = "newemail@example.com";
 
             given(userRepository.findByLoginId(currentLoginId)).willReturn(Optional.of(testUser));
-            given(passwordEncoder.matches(currentPassword, testUser.getPassword())).willReturn(true);
+            given(passwordHasher.matches(currentPassword, testUser.getPassword())).willReturn(true);
             given(userRepository.existsByEmail(newEmail)).willReturn(false);
             doThrow(new CoreException(ErrorType.EMAIL_VERIFICATION_REQUIRED))
                     .when(emailVerificationService).assertVerifiedAndConsume(newEmail);
@@ -393,9 +424,7 @@ class UserServiceTest {
             userService.deleteAccount(currentLoginId);
 
             // then
-            verify(tokenStore).deleteRefreshToken(testUser.getLoginId());
-            verify(tokenStore).deletePasswordResetCode(testUser.getId());
-            verify(emailVerificationService).deleteByEmail(testUser.getEmail());
+            verify(tokenStore).deleteAllForUser(testUser.getId(), testUser.getLoginId(), testUser.getEmail());
             verify(userRepository).delete(testUser);
         }
 
@@ -0,0 +1,153 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SpendingAnomalyDetectorTest {
+
+    private static final Long USER_NO = 1L;
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 14);
+
+    @Mock
+    private SpendingProfileRepository profileRepository;
+
+    @Mock
+    private SpendingAnomalyRepository anomalyRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SpendingAnomalyDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new SpendingAnomalyDetector(profileRepository, anomalyRepository, jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(detector, "minSamples", 5);
+        ReflectionTestUtils.setField(detector, "zThreshold", 3.0);
+        ReflectionTestUtils.setField(detector, "minRatio", 3.0);
+    }
+
+    @Test
+    @DisplayName("평소의 몇 배인 지출은 감지해 남기고 분포에 더한다")
+    void apply_FlagsOutlier() {
+        // given
+        SpendingProfile profile = profileOf(9000, 11000, 10000, 12000, 8000, 10500);
+        givenProfile(profile);
+
+        // when
+        detector.apply(USER_NO, 100L, null, expense(Category.SHOPPING, 60000));
+
+        // then
+        ArgumentCaptor<SpendingAnomaly> captor = ArgumentCaptor.forClass(SpendingAnomaly.class);
+        verify(anomalyRepository).save(captor.capture());
+        assertThat(captor.getValue().getTransactionId()).isEqualTo(100L);
+        assertThat(captor.getValue().getTypicalAmount()).isBetween(9500, 10500);
+        assertThat(SpendingStats.decode(profile.getStats()).count(Category.SHOPPING)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("평소 범위의 지출은 감지하지 않는다")
+    void apply_IgnoresUsualAmount() {
+        // given
+        SpendingProfile profile = profileOf(9000, 11000, 10000, 12000, 8000, 10500);
+        givenProfile(profile);
+
+        // when
+        detector.apply(USER_NO, 100L, null, expense(Category.SHOPPING, 13000));
+
+        // then
+        verify(anomalyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("수정하면 이전 판단을 지우고 이전 금액을 분포에서 뺀다")
+    void apply_EditRemovesPrevious() {
+        // given
+        SpendingProfile profile = profileOf(9000, 11000, 10000, 12000, 8000, 60000);
+        givenProfile(profile);
+
+        // when
+        detector.apply(USER_NO, 100L, expense(Category.SHOPPING, 60000), expense(Category.SHOPPING, 10000));
+
+        // then
+        verify(anomalyRepository).deleteByTransactionId(100L);
+        verify(anomalyRepository, never()).save(any());
+        assertThat(SpendingStats.decode(profile.getStats()).count(Category.SHOPPING)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("분포가 아직 없어 생성에 실패하면 행만 잠그고 반영하지 않는다 (다음 생성 때 원본에서 집계)")
+    void apply_SkipsUnbuiltProfile() {
+        // given : 생성 트랜잭션이 실패해 빈 행만 남은 상태
+        SpendingProfile placeholder = new SpendingProfile(USER_NO, new byte[0]);
+        given(profileRepository.findStats(USER_NO)).willReturn(Optional.empty());
+        given(transactionManager.getTransaction(any())).willThrow(new IllegalStateException("connection refused"));
+        given(profileRepository.findForUpdate(USER_NO)).willReturn(Optional.of(placeholder));
+
+        // when
+        detector.apply(USER_NO, 100L, null, expense(Category.SHOPPING, 60000));
+
+        // then
+        verify(profileRepository).insertIfAbsent(eq(USER_NO), any(), any());
+        verify(anomalyRepository, never()).save(any());
+        assertThat(placeholder.getStats()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반복 거래는 분포가 없으면 행만 잠그고 건너뛴다")
+    void observe_SkipsUnbuiltProfile() {
+        // given
+        SpendingProfile placeholder = new SpendingProfile(USER_NO, new byte[0]);
+        given(profileRepository.findForUpdate(USER_NO)).willReturn(Optional.of(placeholder));
+
+        // when
+        detector.observe(USER_NO, List.of(expense(Category.FOOD, 10000)));
+
+        // then
+        verify(profileRepository).insertIfAbsent(eq(USER_NO), any(), any());
+        assertThat(placeholder.getStats()).isEmpty();
+    }
+
+    private void givenProfile(SpendingProfile profile) {
+        given(profileRepository.findStats(USER_NO)).willReturn(Optional.of(profile.getStats()));
+        given(profileRepository.findForUpdate(USER_NO)).willReturn(Optional.of(profile));
+    }
+
+    private SpendingProfile profileOf(int... amounts) {
+        SpendingStats stats = new SpendingStats();
+        for (int amount : amounts) {
+            stats.add(Category.SHOPPING, amount);
+        }
+        return new SpendingProfile(USER_NO, stats.encode());
+    }
+
+    private TransactionAmountSnapshot expense(Category category, int amount) {
+        return new TransactionAmountSnapshot(DATE, amount, TransactionType.EXPENSE, category);
+    }
+}
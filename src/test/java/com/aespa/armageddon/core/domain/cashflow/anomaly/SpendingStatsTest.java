@@ -0,0 +1,81 @@
+package com.aespa.armageddon.core.domain.cashflow.anomaly;
+
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingStats.Distribution;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SpendingStats 테스트")
+class SpendingStatsTest {
+
+    @Test
+    @DisplayName("추가 후 제거하면 제거한 값이 없던 분포와 같다")
+    void remove_RestoresDistribution() {
+        // given
+        SpendingStats expected = new SpendingStats();
+        SpendingStats stats = new SpendingStats();
+        for (int amount : new int[]{8000, 12000, 9500, 15000}) {
+            expected.add(Category.FOOD, amount);
+            stats.add(Category.FOOD, amount);
+        }
+
+        // when
+        stats.add(Category.FOOD, 70000);
+        stats.remove(Category.FOOD, 70000);
+
+        // then
+        Distribution actual = stats.excluding(Category.FOOD, 9500);
+        Distribution usual = expected.excluding(Category.FOOD, 9500);
+        assertThat(actual.count()).isEqualTo(3);
+        assertThat(actual.logMean()).isCloseTo(usual.logMean(), within(1e-9));
+        assertThat(actual.logStddev()).isCloseTo(usual.logStddev(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("자기 자신을 뺀 분포의 평소 금액은 나머지 거래의 기하 평균이다")
+    void excluding_TypicalAmount() {
+        // given
+        SpendingStats stats = new SpendingStats();
+        stats.add(Category.SHOPPING, 10000);
+        stats.add(Category.SHOPPING, 40000);
+        stats.add(Category.SHOPPING, 500000);
+
+        // when
+        Distribution usual = stats.excluding(Category.SHOPPING, 500000);
+
+        // then
+        assertThat(usual.count()).isEqualTo(2);
+        assertThat(usual.typicalAmount()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("거래가 있는 카테고리만 직렬화하고 그대로 복원한다")
+    void encode_RoundTrip() {
+        // given
+        SpendingStats stats = new SpendingStats();
+        stats.add(Category.FOOD, 8000);
+        stats.add(Category.FOOD, 11000);
+        stats.add(Category.TRANSPORT, 1450);
+
+        // when
+        byte[] encoded = stats.encode();
+        SpendingStats decoded = SpendingStats.decode(encoded);
+
+        // then
+        assertThat(encoded).hasSize(1 + 2 * 21);
+        assertThat(decoded.count(Category.FOOD)).isEqualTo(2);
+        assertThat(decoded.count(Category.TRANSPORT)).isEqualTo(1);
+        assertThat(decoded.count(Category.SHOPPING)).isZero();
+        assertThat(decoded.excluding(Category.FOOD, 8000).typicalAmount()).isEqualTo(11000);
+    }
+
+    @Test
+    @DisplayName("형식이 다른 값은 복원하지 않는다")
+    void decode_UnknownFormat() {
+        assertThat(SpendingStats.decode(new byte[]{0})).isNull();
+        assertThat(SpendingStats.decode(new byte[0])).isNull();
+    }
+}
@@ -0,0 +1,173 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import com.aespa.armageddon.core.domain.cashflow.dto.ExpenseQuantileResponse;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재생성이 별도 트랜잭션에서 돌기 때문에 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ * 행 잠금용 INSERT … ON DUPLICATE KEY UPDATE 를 쓰므로 H2 를 MariaDB 모드로 띄운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:monthly-expense-digests;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MonthlyExpenseDigests.class)
+class MonthlyExpenseDigestsTest {
+
+    private static final Long USER_NO = 1L;
+    private static final YearMonth MAY = YearMonth.of(2024, 5);
+
+    @Autowired
+    MonthlyExpenseDigests monthlyExpenseDigests;
+
+    @Autowired
+    MonthlyExpenseDigestRepository digestRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tbl_monthly_expense_digest");
+        jdbcTemplate.update("delete from tbl_transaction");
+    }
+
+    @Test
+    @DisplayName("행이 없는 달에 작성하면 stale 인 빈 행을 넣고, 조회할 때 거래 원본으로 다시 만든다")
+    void applyWithoutRow() {
+        // given
+        givenExpense(LocalDate.of(2024, 5, 10), 10000, Category.FOOD);
+
+        // when
+        inTransaction(() -> monthlyExpenseDigests.apply(USER_NO, null, snapshot(LocalDate.of(2024, 5, 10), 10000)));
+
+        // then
+        assertThat(row(MAY).isStale()).isTrue();
+
+        List<ExpenseQuantileResponse> result = monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY);
+        assertThat(result).containsExactly(new ExpenseQuantileResponse(Category.FOOD, 1L, 10000L, 10000L));
+        assertThat(row(MAY).isStale()).isFalse();
+    }
+
+    @Test
+    @DisplayName("만들어진 달에 작성하면 스케치에 바로 더한다")
+    void applyToBuiltMonth() {
+        // given
+        givenExpense(LocalDate.of(2024, 5, 10), 10000, Category.FOOD);
+        monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY);
+
+        // when : 원본 없이 변경분만 반영해도 조회 결과에 나타나야 한다
+        inTransaction(() -> monthlyExpenseDigests.apply(USER_NO, null, snapshot(LocalDate.of(2024, 5, 20), 30000)));
+
+        // then
+        assertThat(row(MAY).isStale()).isFalse();
+        List<ExpenseQuantileResponse> result = monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY);
+        assertThat(result).singleElement().satisfies(response -> {
+            assertThat(response.category()).isEqualTo(Category.FOOD);
+            assertThat(response.count()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    @DisplayName("수정/삭제는 그 달을 stale 로 표시하고 다음 조회에 원본이 반영된다")
+    void applyEditMarksStale() {
+        // given
+        givenExpense(LocalDate.of(2024, 5, 10), 10000, Category.FOOD);
+        monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY);
+
+        // when : 원본을 20000 으로 고친 뒤 변경분 반영
+        jdbcTemplate.update("update tbl_transaction set amount = 20000");
+        inTransaction(() -> monthlyExpenseDigests.apply(USER_NO,
+                snapshot(LocalDate.of(2024, 5, 10), 10000), snapshot(LocalDate.of(2024, 5, 10), 20000)));
+
+        // then
+        assertThat(row(MAY).isStale()).isTrue();
+        assertThat(monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY))
+                .containsExactly(new ExpenseQuantileResponse(Category.FOOD, 1L, 20000L, 20000L));
+    }
+
+    @Test
+    @DisplayName("행이 없는 달을 stale 로 표시하면 stale 인 빈 행을 넣는다")
+    void markStaleWithoutRow() {
+        // when
+        inTransaction(() -> monthlyExpenseDigests.markStale(USER_NO,
+                List.of(LocalDate.of(2024, 6, 3), LocalDate.of(2024, 5, 31), LocalDate.of(2024, 6, 30))));
+
+        // then
+        assertThat(row(MAY).isStale()).isTrue();
+        assertThat(row(YearMonth.of(2024, 6)).isStale()).isTrue();
+        assertThat(digestRepository.count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("재생성은 stale 인 행을 원본으로 채우고, 만들어진 행은 다시 읽지 않는다")
+    void rebuild() {
+        // given
+        givenExpense(LocalDate.of(2024, 5, 1), 1000, Category.FOOD);
+        givenExpense(LocalDate.of(2024, 5, 31), 3000, Category.FOOD);
+        givenExpense(LocalDate.of(2024, 5, 15), 50000, Category.SHOPPING);
+        givenExpense(LocalDate.of(2024, 6, 1), 99000, Category.FOOD);
+
+        // when
+        List<ExpenseQuantileResponse> first = monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY);
+        // 스케치를 만든 뒤 원본만 바뀌면 (변경분 반영 없이) 저장된 스케치를 그대로 쓴다
+        jdbcTemplate.update("delete from tbl_transaction where category = 'SHOPPING'");
+        List<ExpenseQuantileResponse> second = monthlyExpenseDigests.quantiles(USER_NO, MAY, MAY);
+
+        // then
+        assertThat(first).extracting(ExpenseQuantileResponse::category)
+                .containsExactly(Category.FOOD, Category.SHOPPING);
+        assertThat(first.get(0).count()).isEqualTo(2L);
+        assertThat(second).isEqualTo(first);
+        assertThat(row(MAY).isStale()).isFalse();
+    }
+
+    private void givenExpense(LocalDate date, int amount, Category category) {
+        inTransaction(() -> em.persist(new Transaction(
+                USER_NO, "테스트 타이틀", "테스트 메모", amount, date, TransactionType.EXPENSE, category)));
+    }
+
+    private TransactionAmountSnapshot snapshot(LocalDate date, int amount) {
+        return new TransactionAmountSnapshot(date, amount, TransactionType.EXPENSE, Category.FOOD);
+    }
+
+    private MonthlyExpenseDigest row(YearMonth month) {
+        return digestRepository.findByUserNoAndMonthBetween(USER_NO, month.atDay(1), month.atDay(1)).get(0);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+}
@@ -0,0 +1,88 @@
+package com.aespa.armageddon.core.domain.cashflow.quantile;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("TDigest 테스트")
+class TDigestTest {
+
+    @Test
+    @DisplayName("값이 적으면 정확한 분위수를 반환한다")
+    void quantile_SmallExact() {
+        // given
+        TDigest digest = new TDigest(CategoryDigests.COMPRESSION);
+        for (int amount : new int[]{3000, 1000, 2000}) {
+            digest.add(amount);
+        }
+
+        // then
+        assertThat(digest.quantile(0.5)).isEqualTo(2000);
+        assertThat(digest.quantile(0)).isEqualTo(1000);
+        assertThat(digest.quantile(1)).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("값이 많아도 centroid 수는 제한되고 분위수 오차는 작다")
+    void quantile_LargeApproximate() {
+        // given
+        TDigest digest = new TDigest(CategoryDigests.COMPRESSION);
+        for (int i = 1; i <= 100_000; i++) {
+            digest.add(i);
+        }
+
+        // then
+        assertThat(digest.count()).isEqualTo(100_000);
+        assertThat(digest.centroidCount()).isLessThanOrEqualTo((int) CategoryDigests.COMPRESSION * 2);
+        assertThat(digest.quantile(0.5)).isCloseTo(50_000, offset(1_000.0));
+        assertThat(digest.quantile(0.9)).isCloseTo(90_000, offset(1_000.0));
+    }
+
+    @Test
+    @DisplayName("월별 스케치를 합친 결과는 전체를 한 스케치에 넣은 것과 거의 같다")
+    void merge_MatchesSingleDigest() {
+        // given
+        Random random = new Random(7);
+        TDigest all = new TDigest(CategoryDigests.COMPRESSION);
+        TDigest merged = new TDigest(CategoryDigests.COMPRESSION);
+        for (int month = 0; month < 6; month++) {
+            TDigest monthly = new TDigest(CategoryDigests.COMPRESSION);
+            for (int i = 0; i < 500; i++) {
+                double amount = Math.exp(9 + random.nextGaussian());
+                monthly.add(amount);
+                all.add(amount);
+            }
+            merged.merge(monthly);
+        }
+
+        // then
+        assertThat(merged.count()).isEqualTo(3000);
+        assertThat(merged.quantile(0.5)).isCloseTo(all.quantile(0.5), offset(all.quantile(0.5) * 0.03));
+        assertThat(merged.quantile(0.9)).isCloseTo(all.quantile(0.9), offset(all.quantile(0.9) * 0.03));
+    }
+
+    @Test
+    @DisplayName("지출이 있는 카테고리만 직렬화하고 그대로 복원한다")
+    void categoryDigests_RoundTrip() {
+        // given
+        CategoryDigests digests = new CategoryDigests();
+        digests.add(Category.FOOD, 8000);
+        digests.add(Category.FOOD, 12000);
+        digests.add(Category.TRANSPORT, 1450);
+
+        // when
+        CategoryDigests decoded = CategoryDigests.decode(digests.encode());
+
+        // then
+        assertThat(decoded.get(Category.FOOD).count()).isEqualTo(2);
+        assertThat(decoded.get(Category.FOOD).quantile(1)).isEqualTo(12000);
+        assertThat(decoded.get(Category.TRANSPORT).quantile(0.5)).isEqualTo(1450);
+        assertThat(decoded.get(Category.SHOPPING)).isNull();
+        assertThat(CategoryDigests.decode(new byte[]{0})).isNull();
+    }
+}
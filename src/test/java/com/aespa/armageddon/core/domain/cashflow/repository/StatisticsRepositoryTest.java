@@ -1,6 +1,8 @@
 package com.aespa.armageddon.core.domain.cashflow.repository;
 
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingAnomaly;
 import com.aespa.armageddon.core.domain.cashflow.dto.CategoryExpenseSum;
+import com.aespa.armageddon.core.domain.cashflow.dto.ExpenseAnomalyResponse;
 import com.aespa.armageddon.core.domain.cashflow.dto.ExpenseTrendRawDto;
 import com.aespa.armageddon.core.domain.cashflow.dto.IncomeExpenseSum;
 import com.aespa.armageddon.core.domain.cashflow.dto.TopExpenseItemResponse;
@@ -127,6 +129,35 @@ class StatisticsRepositoryTest {
         assertThat(result.get(2).getAmount()).isEqualTo(3000); // Transport
     }
 
+    @Test
+    @DisplayName("넓은 기간의 지출 상위 항목도 금액 내림차순, 같은 금액은 최신 id 순으로 조회해야 한다")
+    void findTopExpenseItemsWideRangeTest() {
+        // given
+        Long userNo = 1L;
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 12, 31);
+
+        Transaction t1 = createTransaction(userNo, LocalDate.of(2024, 2, 5), 7000, TransactionType.EXPENSE,
+                Category.FOOD);
+        Transaction t2 = createTransaction(userNo, LocalDate.of(2024, 6, 6), 7000, TransactionType.EXPENSE,
+                Category.SHOPPING);
+        Transaction t3 = createTransaction(userNo, LocalDate.of(2024, 11, 7), 3000, TransactionType.EXPENSE,
+                Category.TRANSPORT);
+        // Out of Range / Income
+        Transaction t4 = createTransaction(userNo, LocalDate.of(2023, 12, 31), 90000, TransactionType.EXPENSE,
+                Category.HOUSING);
+        Transaction t5 = createTransaction(userNo, LocalDate.of(2024, 3, 1), 50000, TransactionType.INCOME, null);
+
+        persistAll(t1, t2, t3, t4, t5);
+
+        // when
+        List<TopExpenseItemResponse> result = statisticsRepository.findTopExpenseItems(userNo, start, end, 2);
+
+        // then
+        assertThat(result).extracting(TopExpenseItemResponse::getTransactionId)
+                .containsExactly(t2.getTransactionId(), t1.getTransactionId());
+    }
+
     @Test
     @DisplayName("일별 지출 추이가 날짜순으로 조회되어야 한다")
     void findExpenseTrendDayTest() {
@@ -196,6 +227,35 @@ class StatisticsRepositoryTest {
                 .isEqualTo(10000 + 20000 + 5000);
     }
 
+    @Test
+    @DisplayName("기간 내 감지된 지출을 거래 제목과 함께 최근 순으로 조회한다")
+    void findExpenseAnomaliesTest() {
+        // given
+        Long userNo = 1L;
+        Transaction t1 = createTransaction(userNo, LocalDate.of(2024, 1, 5), 300000, TransactionType.EXPENSE,
+                Category.SHOPPING);
+        Transaction t2 = createTransaction(userNo, LocalDate.of(2024, 1, 20), 90000, TransactionType.EXPENSE,
+                Category.FOOD);
+        Transaction t3 = createTransaction(userNo, LocalDate.of(2024, 2, 3), 500000, TransactionType.EXPENSE,
+                Category.SHOPPING);
+        persistAll(t1, t2, t3);
+        persistAll(
+                new SpendingAnomaly(t1.getTransactionId(), userNo, Category.SHOPPING, t1.getDate(), 300000, 40000, 3.4),
+                new SpendingAnomaly(t2.getTransactionId(), userNo, Category.FOOD, t2.getDate(), 90000, 12000, 4.1),
+                new SpendingAnomaly(t3.getTransactionId(), userNo, Category.SHOPPING, t3.getDate(), 500000, 40000, 4.0)
+        );
+
+        // when
+        List<ExpenseAnomalyResponse> result = statisticsRepository.findExpenseAnomalies(userNo,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+
+        // then
+        assertThat(result).extracting(ExpenseAnomalyResponse::transactionId)
+                .containsExactly(t2.getTransactionId(), t1.getTransactionId());
+        assertThat(result.get(0).title()).isEqualTo("테스트 타이틀");
+        assertThat(result.get(0).typicalAmount()).isEqualTo(12000);
+    }
+
     private Transaction createTransaction(Long userNo, LocalDate date, int amount, TransactionType type,
             Category category) {
         return new Transaction(
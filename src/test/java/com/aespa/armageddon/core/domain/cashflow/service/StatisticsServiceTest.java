@@ -1,6 +1,9 @@
 package com.aespa.armageddon.core.domain.cashflow.service;
 
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
 import com.aespa.armageddon.core.domain.cashflow.dto.*;
+import com.aespa.armageddon.core.domain.cashflow.quantile.MonthlyExpenseDigests;
 import com.aespa.armageddon.core.domain.cashflow.repository.StatisticsRepository;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import org.junit.jupiter.api.DisplayName;
@@ -11,9 +14,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -27,6 +32,9 @@ class StatisticsServiceTest {
         @Mock
         StatisticsRepository statisticsRepository;
 
+        @Mock
+        MonthlyExpenseDigests monthlyExpenseDigests;
+
         @Test
         @DisplayName("요약 통계: 순이익과 평균 지출이 정확히 계산되어야 한다")
         void getSummaryTest() {
@@ -130,4 +138,31 @@ class StatisticsServiceTest {
                 assertThat(result.getData().get(0).getLabel()).isEqualTo("2024-01-01");
                 assertThat(result.getData().get(0).getAmount()).isEqualTo(1000L);
         }
+
+        @Test
+        @DisplayName("분위수: 월별 스케치로 계산한 결과를 그대로 반환한다")
+        void getExpenseQuantilesTest() {
+                // given
+                YearMonth start = YearMonth.of(2024, 1);
+                YearMonth end = YearMonth.of(2024, 3);
+                List<ExpenseQuantileResponse> expected = List.of(
+                                new ExpenseQuantileResponse(Category.FOOD, 42L, 9000L, 23000L));
+                given(monthlyExpenseDigests.quantiles(1L, start, end)).willReturn(expected);
+
+                // when
+                List<ExpenseQuantileResponse> result = statisticsService.getExpenseQuantiles(1L, start, end);
+
+                // then
+                assertThat(result).isSameAs(expected);
+        }
+
+        @Test
+        @DisplayName("분위수: 기간이 24개월을 넘으면 예외가 발생해야 한다")
+        void getExpenseQuantiles_TooLongRange() {
+                assertThatThrownBy(() -> statisticsService.getExpenseQuantiles(1L,
+                                YearMonth.of(2022, 1), YearMonth.of(2024, 1)))
+                                .isInstanceOf(CoreException.class)
+                                .extracting("errorType")
+                                .isEqualTo(ErrorType.INVALID_INPUT_VALUE);
+        }
 }
@@ -0,0 +1,189 @@
+package com.aespa.armageddon.core.domain.goal.alert;
+
+import com.aespa.armageddon.core.domain.auth.entity.User;
+import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
+import com.aespa.armageddon.core.domain.auth.service.MailService;
+import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
+import com.aespa.armageddon.core.domain.goal.repository.GoalRepository;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetAlertEvaluator 테스트")
+class BudgetAlertEvaluatorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2025, 6, 1);
+    private static final LocalDate END = LocalDate.of(2025, 6, 30);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MailService mailService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BudgetAlertEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        evaluator = new BudgetAlertEvaluator(goalRepository, transactionPort, userRepository, mailService, meterRegistry);
+        ReflectionTestUtils.setField(evaluator, "thresholds", new int[]{80, 100});
+        ReflectionTestUtils.setField(evaluator, "threads", 1);
+        ReflectionTestUtils.setField(evaluator, "queueCapacity", 10);
+        evaluator.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.shutdown();
+    }
+
+    @Test
+    @DisplayName("80% 를 처음 넘으면 단계를 올리고 메일을 보낸다")
+    void evaluate_CrossesThreshold_SendsMail() {
+        // given
+        Goal goal = foodGoal(300_000);
+        given(goalRepository.findByUserIdAndGoalTypeAndStatus(USER_ID, GoalType.EXPENSE, GoalStatus.ACTIVE))
+                .willReturn(List.of(goal));
+        given(transactionPort.getTransactionSum(USER_ID, GoalType.EXPENSE, ExpenseCategory.FOOD, START, END))
+                .willReturn(250_000L);
+        given(goalRepository.updateBudgetAlertLevel(10L, 0, 1)).willReturn(1);
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user("user@test.com")));
+
+        // when
+        evaluator.evaluate(USER_ID, Set.of(ExpenseCategory.FOOD));
+
+        // then
+        verify(mailService).sendBudgetAlert("user@test.com", goal.getTitle(), 83, 250_000L, 300_000);
+        assertThat(meterRegistry.get("goal.budget-alert.sent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 알린 단계면 다시 보내지 않는다")
+    void evaluate_SameLevel_NoMail() {
+        // given
+        Goal goal = foodGoal(300_000);
+        ReflectionTestUtils.setField(goal, "budgetAlertLevel", 1);
+        given(goalRepository.findByUserIdAndGoalTypeAndStatus(USER_ID, GoalType.EXPENSE, GoalStatus.ACTIVE))
+                .willReturn(List.of(goal));
+        given(transactionPort.getTransactionSum(USER_ID, GoalType.EXPENSE, ExpenseCategory.FOOD, START, END))
+                .willReturn(260_000L);
+
+        // when
+        evaluator.evaluate(USER_ID, Set.of(ExpenseCategory.FOOD));
+
+        // then
+        verify(goalRepository, never()).updateBudgetAlertLevel(anyLong(), anyInt(), anyInt());
+        verify(mailService, never()).sendBudgetAlert(anyString(), anyString(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 단계를 올렸으면 보내지 않는다")
+    void evaluate_LostUpdate_NoMail() {
+        // given
+        Goal goal = foodGoal(300_000);
+        given(goalRepository.findByUserIdAndGoalTypeAndStatus(USER_ID, GoalType.EXPENSE, GoalStatus.ACTIVE))
+                .willReturn(List.of(goal));
+        given(transactionPort.getTransactionSum(USER_ID, GoalType.EXPENSE, ExpenseCategory.FOOD, START, END))
+                .willReturn(310_000L);
+        given(goalRepository.updateBudgetAlertLevel(10L, 0, 2)).willReturn(0);
+
+        // when
+        evaluator.evaluate(USER_ID, Set.of(ExpenseCategory.FOOD));
+
+        // then
+        verify(mailService, never()).sendBudgetAlert(anyString(), anyString(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("변경되지 않은 카테고리의 목표는 계산하지 않는다")
+    void evaluate_OtherCategory_Skipped() {
+        // given
+        given(goalRepository.findByUserIdAndGoalTypeAndStatus(USER_ID, GoalType.EXPENSE, GoalStatus.ACTIVE))
+                .willReturn(List.of(foodGoal(300_000)));
+
+        // when
+        evaluator.evaluate(USER_ID, Set.of(ExpenseCategory.SHOPPING));
+
+        // then
+        verify(transactionPort, never()).getTransactionSum(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("지출 삭제는 삭제 전 카테고리를 다시 계산한다")
+    void categoriesOf_Deleted() {
+        // given
+        TransactionChangedEvent event = new TransactionChangedEvent(USER_ID, 1L, ChangeType.DELETED,
+                START, TransactionType.EXPENSE, Category.FOOD, 10000);
+
+        // when & then
+        assertThat(evaluator.categoriesOf(event)).containsExactly(ExpenseCategory.FOOD);
+    }
+
+    @Test
+    @DisplayName("다른 카테고리로 옮긴 수정은 수정 전/후 카테고리를 모두 다시 계산한다")
+    void categoriesOf_EditedCategory() {
+        // given
+        TransactionChangedEvent moved = new TransactionChangedEvent(USER_ID, 1L, ChangeType.UPDATED,
+                START, TransactionType.EXPENSE, Category.SHOPPING, 10000, TransactionType.EXPENSE, Category.FOOD);
+        TransactionChangedEvent toIncome = new TransactionChangedEvent(USER_ID, 1L, ChangeType.UPDATED,
+                START, TransactionType.INCOME, null, 10000, TransactionType.EXPENSE, Category.FOOD);
+
+        // when & then
+        assertThat(evaluator.categoriesOf(moved))
+                .containsExactlyInAnyOrder(ExpenseCategory.FOOD, ExpenseCategory.SHOPPING);
+        assertThat(evaluator.categoriesOf(toIncome)).containsExactly(ExpenseCategory.FOOD);
+    }
+
+    private Goal foodGoal(int targetAmount) {
+        Goal goal = Goal.createExpenseGoal(USER_ID, ExpenseCategory.FOOD, "식비", targetAmount, START, END);
+        ReflectionTestUtils.setField(goal, "goalId", 10L);
+        return goal;
+    }
+
+    private User user(String email) {
+        return User.builder()
+                .loginId("user")
+                .email(email)
+                .password("password")
+                .nickname("닉네임")
+                .build();
+    }
+}
@@ -8,8 +8,10 @@ import com.aespa.armageddon.core.domain.goal.dto.request.CreateExpenseGoalReques
 import com.aespa.armageddon.core.domain.goal.dto.request.CreateSavingGoalRequest;
 import com.aespa.armageddon.core.domain.goal.dto.request.UpdateGoalRequest;
 import com.aespa.armageddon.core.domain.goal.dto.response.GoalDetailResponse;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalForecastResponse;
 import com.aespa.armageddon.core.domain.goal.dto.response.GoalResponse;
 import com.aespa.armageddon.core.domain.goal.service.GoalService;
+import com.aespa.armageddon.core.domain.goal.stream.GoalProgressNotifier;
 import com.aespa.armageddon.infra.security.JwtTokenProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +37,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +52,9 @@ class GoalControllerTest {
     @Mock
     private GoalService goalService;
 
+    @Mock
+    private GoalProgressNotifier goalProgressNotifier;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
@@ -100,6 +107,22 @@ class GoalControllerTest {
                 .andExpect(jsonPath("$.data[0].goalType").value("SAVING"));
     }
 
+    /* ===================== 목표 구독 (SSE) ===================== */
+
+    @Test
+    @DisplayName("목표 구독 시 SSE 스트림을 연다")
+    void streamGoals_success() throws Exception {
+        // given
+        given(jwtTokenProvider.getUserIdFromJWT(anyString())).willReturn(1L);
+        given(goalProgressNotifier.subscribe(1L)).willReturn(new SseEmitter());
+
+        // when & then
+        mockMvc.perform(get("/api/goals/stream")
+                        .header("Authorization", "Bearer testToken"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
     /* ===================== 목표 상세 조회 ===================== */
 
     @Test
@@ -122,7 +145,8 @@ class GoalControllerTest {
                 now,
                 now.plusDays(30),
                 GoalStatus.ACTIVE,
-                null
+                null,
+                new GoalForecastResponse(110_000L, 95_000L, 1_700L, 29, false)
         );
 
         given(jwtTokenProvider.getUserIdFromJWT(anyString())).willReturn(userId);
@@ -134,7 +158,8 @@ class GoalControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.result").value("SUCCESS"))
                 .andExpect(jsonPath("$.data.goalId").value(1L))
-                .andExpect(jsonPath("$.data.progressRate").value(50));
+                .andExpect(jsonPath("$.data.progressRate").value(50))
+                .andExpect(jsonPath("$.data.forecast.requiredDailyAmount").value(1_700));
     }
 
     /* ===================== 저축 목표 생성 ===================== */
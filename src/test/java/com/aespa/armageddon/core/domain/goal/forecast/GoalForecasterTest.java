@@ -0,0 +1,150 @@
+package com.aespa.armageddon.core.domain.goal.forecast;
+
+import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalForecastResponse;
+import com.aespa.armageddon.core.domain.goal.port.DailyAmount;
+import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalForecaster 테스트")
+class GoalForecasterTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 1, 31);
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 10);
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    private GoalForecaster goalForecaster;
+
+    @BeforeEach
+    void setUp() {
+        goalForecaster = new GoalForecaster(transactionPort, 0.5, 100);
+    }
+
+    @Test
+    @DisplayName("저축 목표 - 하루 평균과 EWMA 로 기간 종료 금액과 남은 하루 저축액을 계산한다")
+    void forecast_Saving() {
+        // given : 10일 동안 100,000 (1일 90,000 / 10일 10,000)
+        Goal goal = goal(Goal.createSavingGoal(1L, "여행", 310_000, START, END));
+        given(transactionPort.getDailyAmounts(1L, GoalType.SAVING, null, START, TODAY))
+                .willReturn(List.of(new DailyAmount(START, 90_000), new DailyAmount(TODAY, 10_000)));
+
+        // when
+        GoalForecastResponse forecast = goalForecaster.forecast(goal, 100_000, TODAY);
+
+        // then
+        assertThat(forecast.remainingDays()).isEqualTo(21);
+        // 하루 평균 10,000 * 21일
+        assertThat(forecast.linearExpectedAmount()).isEqualTo(310_000L);
+        // 최근에는 적게 모았으므로 EWMA 예측은 선형 예측보다 작다
+        assertThat(forecast.ewmaExpectedAmount()).isLessThan(310_000L);
+        assertThat(forecast.onTrack()).isFalse();
+        // 남은 210,000 / 21일
+        assertThat(forecast.requiredDailyAmount()).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("지출 목표 - 남은 예산을 남은 일수로 나눈 하루 사용 가능 금액")
+    void forecast_Expense() {
+        // given
+        Goal goal = goal(Goal.createExpenseGoal(1L, ExpenseCategory.FOOD, "식비", 300_000, START, END));
+        given(transactionPort.getDailyAmounts(1L, GoalType.EXPENSE, ExpenseCategory.FOOD, START, TODAY))
+                .willReturn(List.of());
+
+        // when
+        GoalForecastResponse forecast = goalForecaster.forecast(goal, 0, TODAY);
+
+        // then
+        assertThat(forecast.ewmaExpectedAmount()).isZero();
+        assertThat(forecast.requiredDailyAmount()).isEqualTo(300_000L / 21);
+        assertThat(forecast.onTrack()).isTrue();
+    }
+
+    @Test
+    @DisplayName("EWMA 는 거래가 없는 날을 0 으로 반영한다")
+    void ewma_FillsEmptyDays() {
+        // given : 1일 100, 2일 0, 3일 100 (alpha 0.5)
+        List<DailyAmount> series = List.of(
+                new DailyAmount(START, 100),
+                new DailyAmount(START.plusDays(2), 100));
+
+        // when
+        double value = goalForecaster.ewma(series, START, 3);
+
+        // then : 100 → 50 → 75
+        assertThat(value).isCloseTo(75.0, within(0.0001));
+    }
+
+    @Test
+    @DisplayName("같은 입력은 캐시에서 반환하고, 사용자의 거래가 바뀌면 다시 계산한다")
+    void forecast_CachedUntilTransactionChanged() {
+        // given
+        Goal goal = goal(Goal.createSavingGoal(1L, "여행", 310_000, START, END));
+        given(transactionPort.getDailyAmounts(eq(1L), any(), any(), any(), any())).willReturn(List.of());
+
+        // when
+        goalForecaster.forecast(goal, 0, TODAY);
+        goalForecaster.forecast(goal, 0, TODAY);
+        goalForecaster.onTransactionChanged(new TransactionChangedEvent(1L, 100L, ChangeType.CREATED, TODAY,
+                TransactionType.EXPENSE, Category.SAVING, 0));
+        goalForecaster.forecast(goal, 0, TODAY);
+
+        // then
+        verify(transactionPort, times(2)).getDailyAmounts(eq(1L), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 사용자 수를 넘으면 가장 오래 조회하지 않은 사용자만 비운다")
+    void forecast_EvictsLeastRecentlyUsedUser() {
+        // given
+        goalForecaster = new GoalForecaster(transactionPort, 0.5, 2);
+        given(transactionPort.getDailyAmounts(any(), any(), any(), any(), any())).willReturn(List.of());
+        Goal first = goal(Goal.createSavingGoal(1L, "여행", 310_000, START, END));
+        Goal second = goal(Goal.createSavingGoal(2L, "여행", 310_000, START, END));
+        Goal third = goal(Goal.createSavingGoal(3L, "여행", 310_000, START, END));
+
+        // when
+        goalForecaster.forecast(first, 0, TODAY);
+        goalForecaster.forecast(second, 0, TODAY);
+        goalForecaster.forecast(first, 0, TODAY);
+        goalForecaster.forecast(third, 0, TODAY);
+        goalForecaster.forecast(first, 0, TODAY);
+        goalForecaster.forecast(second, 0, TODAY);
+
+        // then : 1번은 캐시에 남고, 밀려난 2번만 다시 계산한다
+        assertThat(goalForecaster.cachedUserCount()).isEqualTo(2);
+        verify(transactionPort, times(1)).getDailyAmounts(eq(1L), any(), any(), any(), any());
+        verify(transactionPort, times(2)).getDailyAmounts(eq(2L), any(), any(), any(), any());
+    }
+
+    private Goal goal(Goal goal) {
+        ReflectionTestUtils.setField(goal, "goalId", 10L);
+        return goal;
+    }
+}
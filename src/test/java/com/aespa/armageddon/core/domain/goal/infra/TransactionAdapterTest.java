@@ -0,0 +1,90 @@
+package com.aespa.armageddon.core.domain.goal.infra;
+
+import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.query.dto.ExpenseCategorySum;
+import com.aespa.armageddon.core.domain.transaction.query.service.TransactionQueryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionAdapter 테스트")
+class TransactionAdapterTest {
+
+    private static final LocalDate MAY_START = LocalDate.of(2025, 5, 1);
+    private static final LocalDate MAY_END = LocalDate.of(2025, 5, 31);
+    private static final LocalDate YEAR_START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2025, 12, 31);
+
+    @Mock
+    private TransactionQueryService transactionQueryService;
+
+    @InjectMocks
+    private TransactionAdapter transactionAdapter;
+
+    @Test
+    @DisplayName("목표 합계는 기간별로 해당 사용자들만 집계해 목표에 나눈다")
+    void getGoalAmounts_GroupsByPeriod() {
+        // given
+        Goal food = expenseGoal(1L, 1L, ExpenseCategory.FOOD, MAY_START, MAY_END);
+        Goal otherUser = expenseGoal(2L, 2L, ExpenseCategory.FOOD, MAY_START, MAY_END);
+        Goal saving = savingGoal(3L, 1L, YEAR_START, YEAR_END);
+        Goal noSpending = expenseGoal(4L, 1L, ExpenseCategory.SHOPPING, MAY_START, MAY_END);
+
+        given(transactionQueryService.getExpenseCategorySums(Set.of(1L, 2L), MAY_START, MAY_END))
+                .willReturn(List.of(
+                        new ExpenseCategorySum(1L, Category.FOOD, 30_000L),
+                        new ExpenseCategorySum(2L, Category.FOOD, 12_000L)));
+        given(transactionQueryService.getExpenseCategorySums(Set.of(1L), YEAR_START, YEAR_END))
+                .willReturn(List.of(new ExpenseCategorySum(1L, Category.SAVING, 500_000L)));
+
+        // when
+        Map<Long, Long> amounts = transactionAdapter.getGoalAmounts(List.of(food, otherUser, saving, noSpending));
+
+        // then : 기간마다 그 기간만 한 번씩 조회한다
+        assertThat(amounts).containsExactlyInAnyOrderEntriesOf(Map.of(
+                1L, 30_000L,
+                2L, 12_000L,
+                3L, 500_000L,
+                4L, 0L));
+        verifyNoMoreInteractions(transactionQueryService);
+    }
+
+    @Test
+    @DisplayName("목표가 없으면 조회하지 않는다")
+    void getGoalAmounts_Empty() {
+        // when
+        Map<Long, Long> amounts = transactionAdapter.getGoalAmounts(List.of());
+
+        // then
+        assertThat(amounts).isEmpty();
+        verifyNoMoreInteractions(transactionQueryService);
+    }
+
+    private Goal expenseGoal(Long goalId, Long userId, ExpenseCategory category, LocalDate start, LocalDate end) {
+        Goal goal = Goal.createExpenseGoal(userId, category, "지출", 100_000, start, end);
+        ReflectionTestUtils.setField(goal, "goalId", goalId);
+        return goal;
+    }
+
+    private Goal savingGoal(Long goalId, Long userId, LocalDate start, LocalDate end) {
+        Goal goal = Goal.createSavingGoal(userId, "저축", 1_000_000, start, end);
+        ReflectionTestUtils.setField(goal, "goalId", goalId);
+        return goal;
+    }
+}
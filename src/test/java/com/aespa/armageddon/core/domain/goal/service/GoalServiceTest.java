@@ -6,6 +6,7 @@ import com.aespa.armageddon.core.domain.goal.dto.request.CreateSavingGoalRequest
 import com.aespa.armageddon.core.domain.goal.dto.request.UpdateGoalRequest;
 import com.aespa.armageddon.core.domain.goal.dto.response.GoalDetailResponse;
 import com.aespa.armageddon.core.domain.goal.dto.response.GoalResponse;
+import com.aespa.armageddon.core.domain.goal.forecast.GoalForecaster;
 import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
 import com.aespa.armageddon.core.domain.goal.repository.GoalRepository;
 
@@ -35,6 +36,9 @@ class GoalServiceTest {
     @Mock
     private TransactionPort transactionPort;
 
+    @Mock
+    private GoalForecaster goalForecaster;
+
     @InjectMocks
     private GoalService goalService;
 
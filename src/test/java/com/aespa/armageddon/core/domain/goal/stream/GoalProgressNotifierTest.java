@@ -0,0 +1,89 @@
+package com.aespa.armageddon.core.domain.goal.stream;
+
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.domain.GoalType;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalResponse;
+import com.aespa.armageddon.core.domain.goal.dto.response.GoalStatusChangeResponse;
+import com.aespa.armageddon.core.domain.goal.service.GoalService;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalProgressNotifier 테스트")
+class GoalProgressNotifierTest {
+
+    @InjectMocks
+    private GoalProgressNotifier goalProgressNotifier;
+
+    @Mock
+    private GoalService goalService;
+
+    @Mock
+    private GoalEventStream goalEventStream;
+
+    @Test
+    @DisplayName("구독자가 없으면 목표를 다시 계산하지 않는다")
+    void onTransactionChanged_NoSubscribers() {
+        // given
+        given(goalEventStream.hasSubscribers(1L)).willReturn(false);
+
+        // when
+        goalProgressNotifier.onTransactionChanged(event(1L));
+
+        // then
+        verify(goalService, never()).getGoals(anyLong());
+    }
+
+    @Test
+    @DisplayName("상태가 바뀐 목표는 goal-status 이벤트로, 전체 목록은 goal-progress 이벤트로 보낸다")
+    void onTransactionChanged_StatusTransition() {
+        // given
+        SseEmitter emitter = new SseEmitter();
+        given(goalEventStream.subscribe(eq(1L), any())).willReturn(emitter);
+        given(goalService.getGoals(1L))
+                .willReturn(List.of(goal(GoalStatus.ACTIVE, 90_000)))
+                .willReturn(List.of(goal(GoalStatus.COMPLETED, 100_000)));
+        given(goalEventStream.hasSubscribers(1L)).willReturn(true);
+
+        goalProgressNotifier.subscribe(1L);
+
+        // when
+        goalProgressNotifier.onTransactionChanged(event(1L));
+
+        // then
+        verify(goalEventStream).send(1L, GoalProgressNotifier.STATUS_EVENT, new GoalStatusChangeResponse(
+                10L, "[저축] 여행", GoalStatus.ACTIVE, GoalStatus.COMPLETED, "축하합니다!"));
+        verify(goalEventStream).send(1L, GoalProgressNotifier.PROGRESS_EVENT,
+                List.of(goal(GoalStatus.COMPLETED, 100_000)));
+    }
+
+    private TransactionChangedEvent event(Long userNo) {
+        return new TransactionChangedEvent(userNo, 100L, ChangeType.CREATED, LocalDate.of(2026, 1, 9),
+                TransactionType.EXPENSE, Category.SAVING, 10_000);
+    }
+
+    private GoalResponse goal(GoalStatus status, int currentAmount) {
+        return new GoalResponse(10L, GoalType.SAVING, "[저축] 여행", 100_000, currentAmount,
+                currentAmount / 1_000, status, status == GoalStatus.COMPLETED ? "축하합니다!" : "진행 중",
+                null, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+    }
+}
@@ -0,0 +1,132 @@
+package com.aespa.armageddon.core.domain.goal.sweeper;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.goal.domain.ExpenseCategory;
+import com.aespa.armageddon.core.domain.goal.domain.Goal;
+import com.aespa.armageddon.core.domain.goal.domain.GoalStatus;
+import com.aespa.armageddon.core.domain.goal.port.TransactionPort;
+import com.aespa.armageddon.core.domain.goal.repository.GoalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNotNull;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalExpirySweeper 테스트")
+class GoalExpirySweeperTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 5, 1);
+    private static final LocalDate END = LocalDate.of(2025, 5, 31);
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private TransactionPort transactionPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GoalExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new GoalExpirySweeper(goalRepository, transactionPort, transactionManager, redisLock, meterRegistry);
+        ReflectionTestUtils.setField(sweeper, "chunkSize", 2);
+        ReflectionTestUtils.setField(sweeper, "lockTtlSeconds", 60L);
+        sweeper.init();
+    }
+
+    @Test
+    @DisplayName("만료 목표를 금액으로 판정해 결과 상태별로 한 번씩 갱신한다")
+    void sweep_GroupsByResultStatus() {
+        // given
+        Goal saving = goal(1L, Goal.createSavingGoal(1L, "여행", 100_000, START, END));
+        Goal expense = goal(2L, Goal.createExpenseGoal(2L, ExpenseCategory.FOOD, "식비", 300_000, START, END));
+        given(goalRepository.findExpiredAfter(eq(GoalStatus.ACTIVE), eq(TODAY), eq(0L), any(Limit.class)))
+                .willReturn(List.of(saving, expense));
+        given(transactionPort.getGoalAmounts(List.of(saving, expense)))
+                .willReturn(Map.of(1L, 50_000L, 2L, 200_000L));
+        given(goalRepository.updateStatusIn(eq(List.of(1L)), eq(GoalStatus.ACTIVE), eq(GoalStatus.FAILED),
+                any(), isNull())).willReturn(1);
+        given(goalRepository.updateStatusIn(eq(List.of(2L)), eq(GoalStatus.ACTIVE), eq(GoalStatus.SUCCESS),
+                any(), isNotNull())).willReturn(1);
+        given(goalRepository.findExpiredAfter(eq(GoalStatus.ACTIVE), eq(TODAY), eq(2L), any(Limit.class)))
+                .willReturn(List.of());
+
+        // when
+        int closed = sweeper.sweep(TODAY);
+
+        // then
+        assertThat(closed).isEqualTo(2);
+        assertThat(meterRegistry.get("goal.sweeper.closed").tag("status", "FAILED").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("goal.sweeper.closed").tag("status", "SUCCESS").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("goal.sweeper.chunks").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("마지막 청크가 chunkSize 보다 작으면 더 조회하지 않는다")
+    void sweep_StopsOnPartialChunk() {
+        // given
+        Goal expense = goal(3L, Goal.createExpenseGoal(3L, ExpenseCategory.FOOD, "식비", 100_000, START, END));
+        given(goalRepository.findExpiredAfter(eq(GoalStatus.ACTIVE), eq(TODAY), eq(0L), any(Limit.class)))
+                .willReturn(List.of(expense));
+        given(transactionPort.getGoalAmounts(List.of(expense))).willReturn(Map.of(3L, 150_000L));
+        given(goalRepository.updateStatusIn(eq(List.of(3L)), eq(GoalStatus.ACTIVE), eq(GoalStatus.EXCEEDED),
+                any(), isNull())).willReturn(1);
+
+        // when
+        int closed = sweeper.sweep(TODAY);
+
+        // then
+        assertThat(closed).isEqualTo(1);
+        verify(goalRepository, never()).findExpiredAfter(eq(GoalStatus.ACTIVE), eq(TODAY), eq(3L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 실행하지 않는다")
+    void run_SkipsWhenLockHeld() {
+        // given
+        given(redisLock.tryLock("goal:expiry-sweeper", Duration.ofSeconds(60))).willReturn(Optional.empty());
+
+        // when
+        sweeper.run();
+
+        // then
+        verify(goalRepository, never()).findExpiredAfter(any(), any(), any(), any());
+    }
+
+    private Goal goal(Long goalId, Goal goal) {
+        ReflectionTestUtils.setField(goal, "goalId", goalId);
+        return goal;
+    }
+}
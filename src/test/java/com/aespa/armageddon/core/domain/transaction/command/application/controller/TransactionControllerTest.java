@@ -2,9 +2,12 @@ package com.aespa.armageddon.core.domain.transaction.command.application.control
 
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionEditRequest;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionWriteRequest;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.TransactionWriteResponse;
 import com.aespa.armageddon.core.domain.transaction.command.application.service.TransactionService;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
 import com.aespa.armageddon.infra.security.JwtTokenProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +47,13 @@ class TransactionControllerTest {
     private static final String TOKEN = "Bearer test-token";
     private static final Long USER_NO = 1L;
 
+    private TransactionWriteResponse createWriteResponse(Long transactionId, String title, int amount) {
+        return new TransactionWriteResponse(
+                new TransactionResponse(transactionId, TransactionType.EXPENSE, LocalDate.now(), title, amount, Category.FOOD, "메모"),
+                new TransactionSummaryResponse(0L, (long) amount),
+                new TransactionSummaryResponse(100000L, (long) amount));
+    }
+
     @Test
     @DisplayName("거래 생성 성공")
     void writeTransaction_Success() throws Exception {
@@ -52,6 +62,8 @@ class TransactionControllerTest {
                 "점심", "메모", 5000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
 
         given(jwtTokenProvider.getUserIdFromJWT(anyString())).willReturn(USER_NO);
+        given(transactionService.writeTransaction(eq(USER_NO), any(TransactionWriteRequest.class), isNull()))
+                .willReturn(createWriteResponse(10L, "점심", 5000));
 
         // when & then
         mockMvc.perform(post("/api/transaction/write")
@@ -59,9 +71,33 @@ class TransactionControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.result").value("SUCCESS"));
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.transaction.id").value(10))
+                .andExpect(jsonPath("$.data.dailySummary.totalExpense").value(5000))
+                .andExpect(jsonPath("$.data.monthlySummary.balance").value(95000));
 
-        verify(transactionService).writeTransaction(eq(USER_NO), any(TransactionWriteRequest.class));
+        verify(transactionService).writeTransaction(eq(USER_NO), any(TransactionWriteRequest.class), isNull());
+    }
+
+    @Test
+    @DisplayName("거래 생성 - Idempotency-Key 헤더 전달")
+    void writeTransaction_WithIdempotencyKey() throws Exception {
+        // given
+        TransactionWriteRequest request = new TransactionWriteRequest(
+                "점심", "메모", 5000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
+
+        given(jwtTokenProvider.getUserIdFromJWT(anyString())).willReturn(USER_NO);
+        given(transactionService.writeTransaction(eq(USER_NO), any(TransactionWriteRequest.class), eq("retry-key")))
+                .willReturn(createWriteResponse(10L, "점심", 5000));
+
+        // when & then
+        mockMvc.perform(post("/api/transaction/write")
+                        .header("Authorization", TOKEN)
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.transaction.id").value(10));
     }
 
     @Test
@@ -73,6 +109,8 @@ class TransactionControllerTest {
                 "저녁", "메모", 12000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
 
         given(jwtTokenProvider.getUserIdFromJWT(anyString())).willReturn(USER_NO);
+        given(transactionService.editTransaction(eq(USER_NO), eq(transactionId), any(TransactionEditRequest.class)))
+                .willReturn(createWriteResponse(transactionId, "저녁", 12000));
 
         // when & then
         mockMvc.perform(put("/api/transaction/edit/{transactionId}", transactionId)
@@ -80,7 +118,9 @@ class TransactionControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.result").value("SUCCESS"));
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.transaction.title").value("저녁"))
+                .andExpect(jsonPath("$.data.dailySummary.totalExpense").value(12000));
 
         verify(transactionService).editTransaction(eq(USER_NO), eq(transactionId), any(TransactionEditRequest.class));
     }
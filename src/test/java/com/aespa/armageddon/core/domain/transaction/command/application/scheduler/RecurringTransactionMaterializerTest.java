@@ -0,0 +1,140 @@
+package com.aespa.armageddon.core.domain.transaction.command.application.scheduler;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingAnomalyDetector;
+import com.aespa.armageddon.core.domain.cashflow.quantile.MonthlyExpenseDigests;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurrenceFrequency;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.RecurringRule;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.RecurringRuleRepository;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryRunningTotals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecurringTransactionMaterializer 테스트")
+class RecurringTransactionMaterializerTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 3);
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 20);
+
+    @Mock
+    private RecurringRuleRepository ruleRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CategoryRunningTotals categoryRunningTotals;
+
+    @Mock
+    private SpendingAnomalyDetector spendingAnomalyDetector;
+
+    @Mock
+    private MonthlyExpenseDigests monthlyExpenseDigests;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private RecurringTransactionMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        materializer = new RecurringTransactionMaterializer(ruleRepository, jdbcTemplate, namedJdbcTemplate,
+                transactionManager, categoryRunningTotals, spendingAnomalyDetector, monthlyExpenseDigests,
+                eventPublisher, redisLock, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(materializer, "shardCount", 1);
+        ReflectionTestUtils.setField(materializer, "batchSize", 500);
+        ReflectionTestUtils.setField(materializer, "maxCatchUp", 31);
+        ReflectionTestUtils.setField(materializer, "lockTtlSeconds", 600L);
+        materializer.init();
+    }
+
+    @Test
+    @DisplayName("밀린 발생일로 만든 거래는 사용자/구분/카테고리별로 날짜 범위와 합계를 담은 이벤트 하나로 발행한다")
+    void materialize_PublishesOneEventPerUserAndCategory() throws Exception {
+        // given : 사용자 1 의 식비 규칙 두 개와 사용자 2 의 식비 규칙 하나가 각각 3주 밀려 있다
+        List<RecurringRule> rules = List.of(
+                rule(1L, 1L, 10000),
+                rule(2L, 1L, 5000),
+                rule(3L, 2L, 7000));
+        given(redisLock.tryLock(eq("recurring:shard:0"), any(Duration.class))).willReturn(Optional.of("token"));
+        given(ruleRepository.findDueRules(TODAY, 0L, 1, 0, 500)).willReturn(rules);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (RecurringRule rule : rules) {
+                ResultSet rs = mock(ResultSet.class);
+                given(rs.getLong("recurring_rule_id")).willReturn(rule.getRecurringRuleId());
+                given(rs.getLong("version")).willReturn(rule.getVersion());
+                handler.processRow(rs);
+            }
+            return null;
+        }).given(namedJdbcTemplate).query(anyString(), anyMap(), any(RowCallbackHandler.class));
+
+        // when
+        int generated = materializer.materialize(TODAY);
+
+        // then : 거래 9건에 이벤트는 사용자별 2건
+        assertThat(generated).isEqualTo(9);
+        ArgumentCaptor<TransactionChangedEvent> captor = ArgumentCaptor.forClass(TransactionChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(TransactionChangedEvent::userNo, TransactionChangedEvent::transactionId,
+                        TransactionChangedEvent::changeType, TransactionChangedEvent::date,
+                        TransactionChangedEvent::endDate, TransactionChangedEvent::amount)
+                .containsExactly(
+                        tuple(1L, null, ChangeType.CREATED, START,
+                                LocalDate.of(2025, 3, 17), 45000),
+                        tuple(2L, null, ChangeType.CREATED, START,
+                                LocalDate.of(2025, 3, 17), 21000));
+    }
+
+    private RecurringRule rule(Long ruleId, Long userNo, int amount) {
+        RecurringRule rule = new RecurringRule(userNo, "구독", null, amount, TransactionType.EXPENSE, Category.FOOD,
+                RecurrenceFrequency.WEEKLY, null, START, null);
+        ReflectionTestUtils.setField(rule, "recurringRuleId", ruleId);
+        return rule;
+    }
+}
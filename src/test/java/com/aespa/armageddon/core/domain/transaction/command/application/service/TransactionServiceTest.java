@@ -2,25 +2,46 @@ package com.aespa.armageddon.core.domain.transaction.command.application.service
 
 import com.aespa.armageddon.core.common.support.error.CoreException;
 import com.aespa.armageddon.core.common.support.error.ErrorType;
+import com.aespa.armageddon.core.domain.cashflow.anomaly.SpendingAnomalyDetector;
+import com.aespa.armageddon.core.domain.cashflow.quantile.MonthlyExpenseDigests;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionEditRequest;
 import com.aespa.armageddon.core.domain.transaction.command.application.dto.request.TransactionWriteRequest;
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.TransactionWriteResponse;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
 import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionRepository;
+import com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency.TransactionIdempotencyStore;
+import com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency.TransactionIdempotencyStore.Claim;
+import com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency.TransactionIdempotencyStore.Status;
+import com.aespa.armageddon.core.domain.transaction.query.cache.TransactionHotRowCache;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
+import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryRunningTotals;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -33,52 +54,236 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
-    @Test
-    @DisplayName("거래 내역 작성 성공")
-    void writeTransaction_Success() {
-        // given
-        Long userNo = 1L;
-        TransactionWriteRequest request = new TransactionWriteRequest(
+    @Mock
+    private TransactionIdempotencyStore idempotencyStore;
+
+    @Mock
+    private TransactionQueryRepository transactionQueryRepository;
+
+    @Mock
+    private TransactionHotRowCache transactionHotRowCache;
+
+    @Mock
+    private CategoryRunningTotals categoryRunningTotals;
+
+    @Mock
+    private SpendingAnomalyDetector spendingAnomalyDetector;
+
+    @Mock
+    private MonthlyExpenseDigests monthlyExpenseDigests;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TransactionWriteRequest createWriteRequest() {
+        return new TransactionWriteRequest(
                 "점심 식사",
                 "편의점",
                 5000,
                 LocalDate.now(),
                 TransactionType.EXPENSE,
                 Category.FOOD);
+    }
+
+    private void givenSaveAssignsId(Long transactionId) {
+        given(transactionRepository.save(any(Transaction.class))).willAnswer(invocation -> {
+            Transaction saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "transactionId", transactionId);
+            return saved;
+        });
+    }
+
+    @Test
+    @DisplayName("거래 내역 작성 성공")
+    void writeTransaction_Success() {
+        // given
+        Long userNo = 1L;
+        TransactionWriteRequest request = createWriteRequest();
+        givenSaveAssignsId(10L);
+        given(transactionQueryRepository.findDailySummary(userNo, request.date()))
+                .willReturn(new TransactionSummaryResponse(0L, 5000L));
+        given(transactionQueryRepository.findMonthlySummary(userNo, request.date().getYear(), request.date().getMonthValue()))
+                .willReturn(new TransactionSummaryResponse(100000L, 25000L));
 
         // when
-        transactionService.writeTransaction(userNo, request);
+        TransactionWriteResponse response = transactionService.writeTransaction(userNo, request, null);
 
         // then
+        assertThat(response.transaction().getId()).isEqualTo(10L);
+        assertThat(response.transaction().getTitle()).isEqualTo("점심 식사");
+        assertThat(response.dailySummary().getTotalExpense()).isEqualTo(5000L);
+        assertThat(response.monthlySummary().getBalance()).isEqualTo(75000L);
         verify(transactionRepository, times(1)).save(any(Transaction.class));
+        verify(idempotencyStore, never()).claim(any(), anyString(), anyString());
+        verify(eventPublisher).publishEvent(new TransactionChangedEvent(
+                userNo, 10L, ChangeType.CREATED, request.date(), TransactionType.EXPENSE, Category.FOOD, 5000));
+    }
+
+    @Test
+    @DisplayName("거래 내역 작성 - 처음 받은 Idempotency-Key 는 작성 후 결과를 기록")
+    void writeTransaction_IdempotencyKey_FirstRequest() {
+        // given
+        Long userNo = 1L;
+        TransactionWriteRequest request = createWriteRequest();
+        given(idempotencyStore.claim(eq(userNo), eq("key-1"), anyString())).willReturn(new Claim(Status.ACQUIRED, null, null));
+        givenSaveAssignsId(10L);
+
+        // when
+        TransactionWriteResponse response = transactionService.writeTransaction(userNo, request, "key-1");
+
+        // then
+        assertThat(response.transaction().getId()).isEqualTo(10L);
+        verify(idempotencyStore).complete(eq(userNo), eq("key-1"), anyString(), eq(10L), eq(response));
+    }
+
+    @Test
+    @DisplayName("거래 내역 작성 - 완료된 Idempotency-Key 재시도는 거래가 그 사이 삭제되어도 처음 응답을 그대로 반환")
+    void writeTransaction_IdempotencyKey_Retry() {
+        // given
+        Long userNo = 1L;
+        TransactionWriteRequest request = createWriteRequest();
+        TransactionWriteResponse original = new TransactionWriteResponse(
+                new TransactionResponse(10L, TransactionType.EXPENSE, request.date(), "점심 식사", 5000,
+                        Category.FOOD, "편의점"),
+                new TransactionSummaryResponse(0L, 5000L),
+                new TransactionSummaryResponse(100000L, 25000L));
+        given(idempotencyStore.claim(eq(userNo), eq("key-1"), anyString()))
+                .willReturn(new Claim(Status.COMPLETED, 10L, original));
+
+        // when
+        TransactionWriteResponse response = transactionService.writeTransaction(userNo, request, "key-1");
+
+        // then : 현재 거래를 다시 읽지 않는다
+        assertThat(response).isEqualTo(original);
+        verify(transactionRepository, never()).findById(any());
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("거래 내역 작성 - 응답 없이 저장된 이전 형식의 재시도는 현재 거래로 응답")
+    void writeTransaction_IdempotencyKey_LegacyRetry() {
+        // given
+        Long userNo = 1L;
+        TransactionWriteRequest request = createWriteRequest();
+        given(idempotencyStore.claim(eq(userNo), eq("key-1"), anyString()))
+                .willReturn(new Claim(Status.COMPLETED, 10L, null));
+        Transaction existing = new Transaction(
+                userNo, "점심 식사", "편의점", 5000, request.date(), TransactionType.EXPENSE, Category.FOOD);
+        ReflectionTestUtils.setField(existing, "transactionId", 10L);
+        given(transactionRepository.findById(10L)).willReturn(Optional.of(existing));
+
+        // when
+        TransactionWriteResponse response = transactionService.writeTransaction(userNo, request, "key-1");
+
+        // then
+        assertThat(response.transaction().getId()).isEqualTo(10L);
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("거래 내역 작성 실패 - 같은 키의 요청이 처리 중")
+    void writeTransaction_IdempotencyKey_InProgress() {
+        // given
+        Long userNo = 1L;
+        TransactionWriteRequest request = createWriteRequest();
+        given(idempotencyStore.claim(eq(userNo), eq("key-1"), anyString())).willReturn(new Claim(Status.IN_PROGRESS, null, null));
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.writeTransaction(userNo, request, "key-1"))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        verify(transactionRepository, never()).save(any(Transaction.class));
     }
 
     @Test
-    @DisplayName("거래 내역 수정 성공")
+    @DisplayName("거래 내역 작성 실패 - 다른 내용의 요청에 같은 키 사용")
+    void writeTransaction_IdempotencyKey_Mismatch() {
+        // given
+        Long userNo = 1L;
+        TransactionWriteRequest request = createWriteRequest();
+        given(idempotencyStore.claim(eq(userNo), eq("key-1"), anyString())).willReturn(new Claim(Status.MISMATCH, null, null));
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.writeTransaction(userNo, request, "key-1"))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("거래 내역 수정 성공 - 엔티티 조회 없이 본인 거래만 UPDATE")
     void editTransaction_Success() {
         // given
         Long userNo = 1L;
         Long transactionId = 100L;
+        LocalDate date = LocalDate.now();
         TransactionEditRequest request = new TransactionEditRequest(
                 "저녁 식사",
                 "식당",
                 12000,
-                LocalDate.now(),
+                date,
                 TransactionType.EXPENSE,
                 Category.FOOD);
 
-        Transaction mockTransaction = new Transaction(
-                userNo, "점심", "편의점", 5000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
+        given(transactionRepository.findAmountSnapshot(transactionId, userNo))
+                .willReturn(Optional.of(new TransactionAmountSnapshot(date, 5000, TransactionType.EXPENSE, Category.FOOD)));
+        given(transactionRepository.updateByTransactionIdAndUserNo(
+                transactionId, userNo, "저녁 식사", "식당", 12000, date, TransactionType.EXPENSE, Category.FOOD))
+                .willReturn(1);
+
+        // when
+        TransactionWriteResponse response = transactionService.editTransaction(userNo, transactionId, request);
+
+        // then
+        verify(transactionRepository, never()).findById(any());
+        verify(transactionHotRowCache).evict(userNo, transactionId);
+        // 같은 날짜/카테고리는 차이만 반영
+        verify(categoryRunningTotals).apply(userNo, Category.FOOD, date, 7000L);
+        verify(eventPublisher).publishEvent(new TransactionChangedEvent(userNo, transactionId, ChangeType.UPDATED,
+                date, TransactionType.EXPENSE, Category.FOOD, 12000, TransactionType.EXPENSE, Category.FOOD));
+        assertThat(response.transaction().getId()).isEqualTo(transactionId);
+        assertThat(response.transaction().getTitle()).isEqualTo("저녁 식사");
+        assertThat(response.transaction().getAmount()).isEqualTo(12000);
+    }
 
-        given(transactionRepository.findById(transactionId))
-                .willReturn(Optional.of(mockTransaction));
+    @Test
+    @DisplayName("거래 내역 수정 - 카테고리가 바뀌면 이전 카테고리에서 빼고 새 카테고리에 더한다")
+    void editTransaction_CategoryChanged_MovesRunningTotal() {
+        // given
+        Long userNo = 1L;
+        Long transactionId = 100L;
+        LocalDate before = LocalDate.of(2026, 1, 9);
+        LocalDate after = LocalDate.of(2026, 1, 10);
+        TransactionEditRequest request = new TransactionEditRequest(
+                "택시", null, 8000, after, TransactionType.EXPENSE, Category.TRANSPORT);
+
+        given(transactionRepository.findAmountSnapshot(transactionId, userNo))
+                .willReturn(Optional.of(new TransactionAmountSnapshot(before, 5000, TransactionType.EXPENSE, Category.FOOD)));
+        given(transactionRepository.updateByTransactionIdAndUserNo(
+                transactionId, userNo, "택시", null, 8000, after, TransactionType.EXPENSE, Category.TRANSPORT))
+                .willReturn(1);
 
         // when
         transactionService.editTransaction(userNo, transactionId, request);
 
         // then
-        // 별도의 save 호출 없이 Dirty Checking으로 업데이트 되지만, 로직 실행 확인
-        verify(transactionRepository, times(1)).findById(transactionId);
+        verify(categoryRunningTotals).apply(userNo, Category.FOOD, before, -5000L);
+        verify(categoryRunningTotals).apply(userNo, Category.TRANSPORT, after, 8000L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 수정 실패 - 잘못된 값이면 UPDATE 하지 않음")
+    void editTransaction_Fail_Invalid() {
+        // given
+        TransactionEditRequest request = new TransactionEditRequest(
+                "수입", null, 1000, LocalDate.now(), TransactionType.INCOME, Category.FOOD);
+
+        // when & then
+        assertThatThrownBy(() -> transactionService.editTransaction(1L, 100L, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(transactionRepository, never()).updateByTransactionIdAndUserNo(
+                any(), any(), any(), any(), anyInt(), any(), any(), any());
     }
 
     @Test
@@ -90,8 +295,8 @@ class TransactionServiceTest {
         TransactionEditRequest request = new TransactionEditRequest(
                 "제목", "메모", 1000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
 
-        given(transactionRepository.findById(transactionId))
-                .willReturn(Optional.empty());
+        given(transactionRepository.findAmountSnapshot(transactionId, userNo)).willReturn(Optional.empty());
+        given(transactionRepository.existsById(transactionId)).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> transactionService.editTransaction(userNo, transactionId, request))
@@ -104,17 +309,13 @@ class TransactionServiceTest {
     @DisplayName("거래 내역 수정 실패 - 권한 없음")
     void editTransaction_Fail_AccessDenied() {
         // given
-        Long ownerId = 1L;
         Long otherUserId = 2L;
         Long transactionId = 100L;
         TransactionEditRequest request = new TransactionEditRequest(
                 "제목", "메모", 1000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
 
-        Transaction mockTransaction = new Transaction(
-                ownerId, "점심", "편의점", 5000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
-
-        given(transactionRepository.findById(transactionId))
-                .willReturn(Optional.of(mockTransaction));
+        given(transactionRepository.findAmountSnapshot(transactionId, otherUserId)).willReturn(Optional.empty());
+        given(transactionRepository.existsById(transactionId)).willReturn(true);
 
         // when & then
         assertThatThrownBy(() -> transactionService.editTransaction(otherUserId, transactionId, request))
@@ -124,23 +325,29 @@ class TransactionServiceTest {
     }
 
     @Test
-    @DisplayName("거래 내역 삭제 성공")
+    @DisplayName("거래 내역 삭제 성공 - 엔티티 조회 없이 본인 거래만 DELETE")
     void deleteTransaction_Success() {
         // given
         Long userNo = 1L;
         Long transactionId = 100L;
+        LocalDate date = LocalDate.of(2026, 1, 9);
 
-        Transaction mockTransaction = new Transaction(
-                userNo, "점심", "편의점", 5000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
-
-        given(transactionRepository.findById(transactionId))
-                .willReturn(Optional.of(mockTransaction));
+        given(transactionRepository.findAmountSnapshot(transactionId, userNo))
+                .willReturn(Optional.of(new TransactionAmountSnapshot(date, 5000, TransactionType.EXPENSE, Category.FOOD)));
+        given(transactionRepository.deleteByTransactionIdAndUserNo(transactionId, userNo))
+                .willReturn(1);
 
         // when
         transactionService.deleteTransaction(userNo, transactionId);
 
         // then
-        verify(transactionRepository, times(1)).delete(mockTransaction);
+        verify(transactionRepository, times(1)).deleteByTransactionIdAndUserNo(transactionId, userNo);
+        verify(transactionRepository, never()).findById(any());
+        verify(transactionRepository, never()).existsById(any());
+        verify(transactionHotRowCache).evict(userNo, transactionId);
+        verify(categoryRunningTotals).apply(userNo, Category.FOOD, date, -5000L);
+        verify(spendingAnomalyDetector).apply(userNo, transactionId,
+                new TransactionAmountSnapshot(date, 5000, TransactionType.EXPENSE, Category.FOOD), null);
     }
 
     @Test
@@ -150,8 +357,8 @@ class TransactionServiceTest {
         Long userNo = 1L;
         Long transactionId = 999L;
 
-        given(transactionRepository.findById(transactionId))
-                .willReturn(Optional.empty());
+        given(transactionRepository.findAmountSnapshot(transactionId, userNo)).willReturn(Optional.empty());
+        given(transactionRepository.existsById(transactionId)).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> transactionService.deleteTransaction(userNo, transactionId))
@@ -164,15 +371,11 @@ class TransactionServiceTest {
     @DisplayName("거래 내역 삭제 실패 - 권한 없음")
     void deleteTransaction_Fail_AccessDenied() {
         // given
-        Long ownerId = 1L;
         Long otherUserId = 2L;
         Long transactionId = 100L;
 
-        Transaction mockTransaction = new Transaction(
-                ownerId, "점심", "편의점", 5000, LocalDate.now(), TransactionType.EXPENSE, Category.FOOD);
-
-        given(transactionRepository.findById(transactionId))
-                .willReturn(Optional.of(mockTransaction));
+        given(transactionRepository.findAmountSnapshot(transactionId, otherUserId)).willReturn(Optional.empty());
+        given(transactionRepository.existsById(transactionId)).willReturn(true);
 
         // when & then
         assertThatThrownBy(() -> transactionService.deleteTransaction(otherUserId, transactionId))
@@ -180,4 +383,4 @@ class TransactionServiceTest {
                 .extracting("errorType")
                 .isEqualTo(ErrorType.ACCESS_DENIED);
     }
-}
\ No newline at end of file
+}
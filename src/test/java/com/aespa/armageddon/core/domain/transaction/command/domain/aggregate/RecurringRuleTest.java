@@ -0,0 +1,156 @@
+package com.aespa.armageddon.core.domain.transaction.command.domain.aggregate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurringRuleTest {
+
+    @Test
+    @DisplayName("매월 규칙 - 시작일이 31일이면 짧은 달은 말일에 발생한다")
+    void monthly_ClampsToEndOfMonth() {
+        // given
+        RecurringRule rule = monthly(LocalDate.of(2025, 1, 31), null);
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2025, 4, 30), 10);
+
+        // then
+        assertThat(dates).containsExactly(
+                LocalDate.of(2025, 1, 31),
+                LocalDate.of(2025, 2, 28),
+                LocalDate.of(2025, 3, 31),
+                LocalDate.of(2025, 4, 30)
+        );
+    }
+
+    @Test
+    @DisplayName("매주 규칙 - 시작일부터 7일 간격으로 발생한다")
+    void weekly_EverySevenDays() {
+        // given
+        RecurringRule rule = new RecurringRule(
+                1L, "용돈", null, 50000, TransactionType.INCOME, null,
+                RecurrenceFrequency.WEEKLY, null, LocalDate.of(2025, 3, 3), null);
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2025, 3, 20), 10);
+
+        // then
+        assertThat(dates).containsExactly(
+                LocalDate.of(2025, 3, 3),
+                LocalDate.of(2025, 3, 10),
+                LocalDate.of(2025, 3, 17)
+        );
+        assertThat(rule.nextOccurrenceAfter(LocalDate.of(2025, 3, 17))).isEqualTo(LocalDate.of(2025, 3, 24));
+    }
+
+    @Test
+    @DisplayName("cron 규칙 - 시작일 이후 표현식이 맞는 날짜에 발생한다")
+    void cron_MatchingDates() {
+        // given : 매월 10일, 25일
+        RecurringRule rule = new RecurringRule(
+                1L, "적금", null, 100000, TransactionType.EXPENSE, Category.FOOD,
+                RecurrenceFrequency.CRON, "0 0 0 10,25 * *", LocalDate.of(2025, 1, 15), null);
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2025, 2, 28), 10);
+
+        // then
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 1, 25));
+        assertThat(dates).containsExactly(
+                LocalDate.of(2025, 1, 25),
+                LocalDate.of(2025, 2, 10),
+                LocalDate.of(2025, 2, 25)
+        );
+    }
+
+    @Test
+    @DisplayName("종료일 이후에는 발생하지 않는다")
+    void endDate_StopsOccurrences() {
+        // given
+        RecurringRule rule = monthly(LocalDate.of(2025, 1, 5), LocalDate.of(2025, 2, 20));
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2025, 6, 1), 10);
+
+        // then
+        assertThat(dates).containsExactly(LocalDate.of(2025, 1, 5), LocalDate.of(2025, 2, 5));
+        assertThat(rule.nextOccurrenceAfter(LocalDate.of(2025, 2, 5))).isNull();
+    }
+
+    @Test
+    @DisplayName("밀린 발생일은 limit 개까지만 반환한다")
+    void dueOccurrences_Limit() {
+        // given
+        RecurringRule rule = monthly(LocalDate.of(2020, 1, 1), null);
+
+        // when
+        List<LocalDate> dates = rule.dueOccurrences(LocalDate.of(2025, 1, 1), 3);
+
+        // then
+        assertThat(dates).hasSize(3).last().isEqualTo(LocalDate.of(2020, 3, 1));
+    }
+
+    @Test
+    @DisplayName("시작일이 실행일 이후면 도래한 발생일이 없다")
+    void dueOccurrences_NotYetStarted() {
+        RecurringRule rule = monthly(LocalDate.of(2025, 5, 1), null);
+
+        assertThat(rule.dueOccurrences(LocalDate.of(2025, 4, 30), 10)).isEmpty();
+        assertThat(rule.isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("수정하면 새 주기로 다음 발생일을 다시 계산한다")
+    void edit_RecalculatesNextRunDate() {
+        // given
+        RecurringRule rule = monthly(LocalDate.of(2025, 1, 25), null);
+
+        // when
+        rule.edit("통신비", null, 55000, TransactionType.EXPENSE, Category.FOOD,
+                RecurrenceFrequency.MONTHLY, null, LocalDate.of(2025, 1, 10), null);
+
+        // then
+        assertThat(rule.getNextRunDate()).isEqualTo(LocalDate.of(2025, 1, 10));
+        assertThat(rule.getAmount()).isEqualTo(55000);
+    }
+
+    @Test
+    @DisplayName("생성 실패 - 잘못된 cron 표현식")
+    void create_Fail_InvalidCron() {
+        assertThatThrownBy(() -> new RecurringRule(
+                1L, "적금", null, 1000, TransactionType.EXPENSE, Category.FOOD,
+                RecurrenceFrequency.CRON, "매월 10일", LocalDate.of(2025, 1, 1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("올바른 cron 표현식이 필요합니다.");
+    }
+
+    @Test
+    @DisplayName("생성 실패 - 종료일이 시작일보다 빠름")
+    void create_Fail_EndBeforeStart() {
+        assertThatThrownBy(() -> monthly(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("종료일은 시작일보다 빠를 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("생성 실패 - 수입에 카테고리 입력")
+    void create_Fail_IncomeWithCategory() {
+        assertThatThrownBy(() -> new RecurringRule(
+                1L, "월급", null, 3000000, TransactionType.INCOME, Category.FOOD,
+                RecurrenceFrequency.MONTHLY, null, LocalDate.of(2025, 1, 25), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("수입일 경우 카테고리를 입력할 수 없습니다.");
+    }
+
+    private RecurringRule monthly(LocalDate startDate, LocalDate endDate) {
+        return new RecurringRule(
+                1L, "월세", null, 500000, TransactionType.EXPENSE, Category.FOOD,
+                RecurrenceFrequency.MONTHLY, null, startDate, endDate);
+    }
+}
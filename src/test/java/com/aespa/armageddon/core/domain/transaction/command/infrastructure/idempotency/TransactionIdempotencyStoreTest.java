@@ -0,0 +1,109 @@
+package com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency;
+
+import com.aespa.armageddon.core.domain.transaction.command.application.dto.response.TransactionWriteResponse;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency.TransactionIdempotencyStore.Claim;
+import com.aespa.armageddon.core.domain.transaction.command.infrastructure.idempotency.TransactionIdempotencyStore.Status;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionIdempotencyStore 테스트")
+class TransactionIdempotencyStoreTest {
+
+    private static final String KEY = "txn:idem:1:key-1";
+    private static final String HASH = "abc123";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TransactionIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TransactionIdempotencyStore(redisTemplate, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(store, "ttlHours", 24L);
+        ReflectionTestUtils.setField(store, "pendingTtlSeconds", 60L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("완료 기록에 처음 응답을 저장하고, 재시도는 그 응답을 그대로 받는다")
+    void complete_ThenClaim_ReturnsOriginalResponse() {
+        // given
+        TransactionWriteResponse original = new TransactionWriteResponse(
+                new TransactionResponse(10L, TransactionType.EXPENSE, LocalDate.of(2026, 1, 9), "점심: 김밥",
+                        5000, Category.FOOD, null),
+                new TransactionSummaryResponse(0L, 5000L),
+                new TransactionSummaryResponse(100000L, 25000L));
+        store.complete(1L, "key-1", HASH, 10L, original);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(KEY), stored.capture(), eq(Duration.ofHours(24)));
+
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn(stored.getValue());
+
+        // when
+        Claim claim = store.claim(1L, "key-1", HASH);
+
+        // then
+        assertThat(claim.status()).isEqualTo(Status.COMPLETED);
+        assertThat(claim.transactionId()).isEqualTo(10L);
+        assertThat(claim.response()).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("응답 없이 저장된 이전 형식은 거래 id 만 반환한다")
+    void claim_LegacyRecord_WithoutResponse() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("D:10:" + HASH);
+
+        // when
+        Claim claim = store.claim(1L, "key-1", HASH);
+
+        // then
+        assertThat(claim.status()).isEqualTo(Status.COMPLETED);
+        assertThat(claim.transactionId()).isEqualTo(10L);
+        assertThat(claim.response()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 내용을 보내면 MISMATCH")
+    void claim_DifferentRequest_Mismatch() {
+        // given
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get(KEY)).willReturn("D:10:" + HASH + ":{}");
+
+        // when
+        Claim claim = store.claim(1L, "key-1", "other");
+
+        // then
+        assertThat(claim.status()).isEqualTo(Status.MISMATCH);
+    }
+}
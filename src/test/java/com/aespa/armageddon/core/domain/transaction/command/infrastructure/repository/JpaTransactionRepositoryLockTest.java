@@ -0,0 +1,108 @@
+package com.aespa.armageddon.core.domain.transaction.command.infrastructure.repository;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.repository.TransactionAmountSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 트랜잭션이 동시에 같은 거래를 읽어야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transaction-snapshot-lock;MODE=MariaDB;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaTransactionRepositoryLockTest {
+
+    private static final Long USER_NO = 1L;
+
+    @Autowired
+    JpaTransactionRepository transactionRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tbl_transaction");
+    }
+
+    @Test
+    @DisplayName("수정 중인 거래의 스냅샷은 앞선 트랜잭션이 커밋될 때까지 기다렸다가 커밋된 값을 읽는다")
+    void findAmountSnapshot_WaitsForConcurrentEdit() throws Exception {
+        // given
+        Transaction transaction = new Transaction(
+                USER_NO, "점심", null, 10000, LocalDate.of(2026, 1, 9), TransactionType.EXPENSE, Category.FOOD);
+        inTransaction(() -> em.persist(transaction));
+        Long id = transaction.getTransactionId();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when : 첫 번째 수정이 스냅샷을 잡은 채 멈춰 있는 동안 두 번째 수정이 스냅샷을 읽는다
+        CompletableFuture<TransactionAmountSnapshot> first = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    TransactionAmountSnapshot before = transactionRepository.findAmountSnapshot(id, USER_NO).orElseThrow();
+                    locked.countDown();
+                    await(release);
+                    transactionRepository.updateByTransactionIdAndUserNo(id, USER_NO, "점심", null, 20000,
+                            before.date(), before.type(), before.category());
+                    return before;
+                }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<TransactionAmountSnapshot> second = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status ->
+                        transactionRepository.findAmountSnapshot(id, USER_NO).orElseThrow()));
+
+        // then : 첫 번째가 커밋하기 전에는 두 번째가 끝나지 않는다
+        Thread.sleep(300);
+        assertThat(second).isNotDone();
+
+        release.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS).amount()).isEqualTo(10000);
+        assertThat(second.get(10, TimeUnit.SECONDS).amount()).isEqualTo(20000);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
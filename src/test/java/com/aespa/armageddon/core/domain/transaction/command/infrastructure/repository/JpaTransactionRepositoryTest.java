@@ -0,0 +1,72 @@
+package com.aespa.armageddon.core.domain.transaction.command.infrastructure.repository;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JpaTransactionRepositoryTest {
+
+    @Autowired
+    JpaTransactionRepository transactionRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("본인 거래만 UPDATE 되고 다른 사용자의 요청은 0건을 반환한다.")
+    void updateByTransactionIdAndUserNoTest() {
+
+        // given
+        Transaction transaction = new Transaction(
+                1L, "점심", "편의점", 5000, LocalDate.of(2026, 1, 9), TransactionType.EXPENSE, Category.FOOD);
+        em.persist(transaction);
+        em.flush();
+        em.clear();
+        Long id = transaction.getTransactionId();
+
+        // when
+        int denied = transactionRepository.updateByTransactionIdAndUserNo(
+                id, 2L, "해킹", null, 1, LocalDate.of(2026, 1, 10), TransactionType.INCOME, null);
+        int updated = transactionRepository.updateByTransactionIdAndUserNo(
+                id, 1L, "저녁", "식당", 12000, LocalDate.of(2026, 1, 10), TransactionType.EXPENSE, Category.FOOD);
+
+        // then
+        assertThat(denied).isZero();
+        assertThat(updated).isEqualTo(1);
+
+        Transaction found = em.find(Transaction.class, id);
+        assertThat(found.getTitle()).isEqualTo("저녁");
+        assertThat(found.getAmount()).isEqualTo(12000);
+        assertThat(found.getDate()).isEqualTo(LocalDate.of(2026, 1, 10));
+    }
+
+    @Test
+    @DisplayName("본인 거래만 DELETE 되고 다른 사용자의 요청은 0건을 반환한다.")
+    void deleteByTransactionIdAndUserNoTest() {
+
+        // given
+        Transaction transaction = new Transaction(
+                1L, "월급", null, 3000000, LocalDate.of(2026, 1, 9), TransactionType.INCOME, null);
+        em.persist(transaction);
+        em.flush();
+        em.clear();
+        Long id = transaction.getTransactionId();
+
+        // when & then
+        assertThat(transactionRepository.deleteByTransactionIdAndUserNo(id, 2L)).isZero();
+        assertThat(transactionRepository.existsById(id)).isTrue();
+
+        assertThat(transactionRepository.deleteByTransactionIdAndUserNo(id, 1L)).isEqualTo(1);
+        assertThat(transactionRepository.existsById(id)).isFalse();
+    }
+}
@@ -0,0 +1,197 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionOutboxPoller 테스트")
+class TransactionOutboxPollerTest {
+
+    @Mock
+    private TransactionOutboxRepository outboxRepository;
+
+    @Mock
+    private ObjectProvider<TransactionOutboxSubscriber> subscriberProvider;
+
+    @Mock
+    private TransactionOutboxSubscriber first;
+
+    @Mock
+    private TransactionOutboxSubscriber second;
+
+    @Mock
+    private RedisLock redisLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionOutboxPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(subscriberProvider.orderedStream()).willReturn(Stream.of(first, second));
+        poller = new TransactionOutboxPoller(outboxRepository, subscriberProvider, redisLock, meterRegistry);
+        ReflectionTestUtils.setField(poller, "batchSize", 10);
+        ReflectionTestUtils.setField(poller, "maxBatchesPerPoll", 5);
+        ReflectionTestUtils.setField(poller, "maxDeliveries", 3);
+        poller.init();
+    }
+
+    @Test
+    @DisplayName("모든 구독자에게 id 순으로 전달한 뒤 배치를 지운다")
+    void drain_DeliversThenDeletes() {
+        // given
+        given(outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(any(Limit.class)))
+                .willReturn(List.of(outbox(1L), outbox(2L)));
+
+        // when
+        int delivered = poller.drain();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        InOrder inOrder = inOrder(first, second, outboxRepository);
+        inOrder.verify(first).handle(anyList());
+        inOrder.verify(second).handle(anyList());
+        inOrder.verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertThat(meterRegistry.get("transaction.outbox.delivered").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("transaction.outbox.lag.seconds").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자가 실패하면 지우지 않고 다음 주기에 다시 전달한다")
+    void drain_SubscriberFails_KeepsBatch() {
+        // given
+        given(outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(any(Limit.class))).willReturn(List.of(outbox(1L)));
+        willThrow(new IllegalStateException("down")).given(first).handle(anyList());
+        given(first.name()).willReturn("first");
+
+        // when
+        int delivered = poller.drain();
+
+        // then
+        assertThat(delivered).isZero();
+        verify(second, never()).handle(anyList());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(meterRegistry.get("transaction.outbox.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 하나씩 다시 보내 실패한 항목만 남기고 나머지는 전달한다")
+    void drain_PoisonEntry_DeliversOthers() {
+        // given : 2번 항목은 항상 실패
+        TransactionOutbox poison = outbox(2L);
+        given(outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(any(Limit.class)))
+                .willReturn(List.of(outbox(1L), poison, outbox(3L)));
+        given(first.name()).willReturn("first");
+        willAnswer(invocation -> {
+            List<TransactionOutboxMessage> messages = invocation.getArgument(0);
+            if (messages.stream().anyMatch(message -> message.outboxId() == 2L)) {
+                throw new IllegalStateException("poison");
+            }
+            return null;
+        }).given(first).handle(anyList());
+
+        // when
+        int delivered = poller.drain();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        verify(second).handle(argThat((List<TransactionOutboxMessage> messages) ->
+                messages.stream().map(TransactionOutboxMessage::outboxId).toList().equals(List.of(1L, 3L))));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(outboxRepository).saveAll(Set.of(poison));
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(poison.getParkedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 처리한 구독자에게는 다시 전달하지 않는다")
+    void drain_SkipsSubscribersAlreadyDelivered() {
+        // given : 지난 주기에 first 는 처리하고 second 에서 실패한 항목
+        TransactionOutbox retried = outbox(1L);
+        retried.markDeliveredTo("first");
+        given(outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(any(Limit.class))).willReturn(List.of(retried));
+        given(first.name()).willReturn("first");
+        given(second.name()).willReturn("second");
+
+        // when
+        int delivered = poller.drain();
+
+        // then
+        assertThat(delivered).isEqualTo(1);
+        verify(first, never()).handle(anyList());
+        verify(second).handle(anyList());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("실패가 max-deliveries 번 쌓인 항목은 보류해 더 이상 전달하지 않는다")
+    void drain_ParksAfterMaxDeliveries() {
+        // given
+        TransactionOutbox poison = outbox(1L);
+        ReflectionTestUtils.setField(poison, "attempts", 2);
+        given(outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(any(Limit.class))).willReturn(List.of(poison));
+        willThrow(new IllegalStateException("poison")).given(first).handle(anyList());
+        given(first.name()).willReturn("first");
+
+        // when
+        poller.drain();
+
+        // then
+        assertThat(poison.getAttempts()).isEqualTo(3);
+        assertThat(poison.getParkedAt()).isNotNull();
+        verify(outboxRepository).saveAll(Set.of(poison));
+        assertThat(meterRegistry.get("transaction.outbox.dead").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("남은 항목이 없으면 구독자를 호출하지 않는다")
+    void drain_Empty() {
+        // given
+        given(outboxRepository.findAllByParkedAtIsNullOrderByOutboxIdAsc(any(Limit.class))).willReturn(List.of());
+
+        // when
+        int delivered = poller.drain();
+
+        // then
+        assertThat(delivered).isZero();
+        verify(first, never()).handle(anyList());
+    }
+
+    private TransactionOutbox outbox(Long outboxId) {
+        TransactionOutbox outbox = new TransactionOutbox(new TransactionChangedEvent(
+                1L, outboxId * 10, ChangeType.CREATED, LocalDate.of(2025, 6, 1),
+                TransactionType.EXPENSE, Category.FOOD, 10_000));
+        ReflectionTestUtils.setField(outbox, "outboxId", outboxId);
+        return outbox;
+    }
+}
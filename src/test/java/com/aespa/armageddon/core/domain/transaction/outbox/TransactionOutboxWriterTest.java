@@ -0,0 +1,78 @@
+package com.aespa.armageddon.core.domain.transaction.outbox;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionOutboxWriter 테스트")
+class TransactionOutboxWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TransactionOutboxWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 이벤트는 모아 두었다가 커밋 직전에 batch INSERT 한 번으로 기록한다")
+    void batchesEventsUntilCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        writer.onTransactionChanged(event(null));
+        writer.onTransactionChanged(event(null));
+        writer.onTransactionChanged(event(3L));
+
+        // then : 커밋 전에는 기록하지 않는다
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 3));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 이벤트는 바로 기록한다")
+    void writesImmediatelyWithoutTransaction() {
+        // when
+        writer.onTransactionChanged(event(1L));
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) -> rows.size() == 1));
+    }
+
+    private TransactionChangedEvent event(Long transactionId) {
+        return new TransactionChangedEvent(1L, transactionId, ChangeType.CREATED,
+                LocalDate.of(2024, 5, 1), TransactionType.EXPENSE, Category.FOOD, 10000);
+    }
+}
@@ -0,0 +1,217 @@
+package com.aespa.armageddon.core.domain.transaction.query.cache;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionHotRowCache 테스트")
+class TransactionHotRowCacheTest {
+
+    private MutableClock clock;
+    private TransactionHotRowCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new TransactionHotRowCache(2, 2, 1, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("저장한 거래는 본인에게만 반환된다")
+    void get_OnlyOwner() {
+        // given
+        cache.put(1L, row(10L), cache.ticket());
+
+        // when & then
+        assertThat(cache.get(1L, 10L)).map(TransactionResponse::getId).contains(10L);
+        assertThat(cache.get(2L, 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 반환하지 않는다")
+    void get_Expired() {
+        // given
+        cache.put(1L, row(10L), cache.ticket());
+        clock.advance(Duration.ofSeconds(31));
+
+        // when & then
+        assertThat(cache.get(1L, 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자별 용량을 넘으면 가장 오래 조회하지 않은 거래부터 제거한다")
+    void put_EvictsLeastRecentlyUsedRow() {
+        // given
+        cache.put(1L, row(10L), cache.ticket());
+        cache.put(1L, row(11L), cache.ticket());
+        cache.get(1L, 10L);
+
+        // when
+        cache.put(1L, row(12L), cache.ticket());
+
+        // then
+        assertThat(cache.get(1L, 10L)).isPresent();
+        assertThat(cache.get(1L, 11L)).isEmpty();
+        assertThat(cache.get(1L, 12L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("사용자 수도 용량을 넘지 않는다")
+    void put_BoundedUsers() {
+        // when
+        cache.put(1L, row(10L), cache.ticket());
+        cache.put(2L, row(20L), cache.ticket());
+        cache.put(3L, row(30L), cache.ticket());
+
+        // then
+        assertThat(cache.userCount()).isEqualTo(2);
+        assertThat(cache.get(1L, 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("evict 하면 다음 조회는 DB 로 간다")
+    void evict() {
+        // given
+        cache.put(1L, row(10L), cache.ticket());
+
+        // when
+        cache.evict(1L, 10L);
+
+        // then
+        assertThat(cache.get(1L, 10L)).isEmpty();
+        assertThat(cache.userCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회를 시작한 뒤 evict 된 거래는 저장하지 않는다")
+    void put_AfterEvict_Rejected() {
+        // given : 수정 커밋 전에 이전 값을 읽기 시작함
+        long ticket = cache.ticket();
+        cache.evict(1L, 10L);
+
+        // when
+        cache.put(1L, row(10L), ticket);
+
+        // then
+        assertThat(cache.get(1L, 10L)).isEmpty();
+
+        // evict 이후에 시작한 조회는 저장된다
+        cache.put(1L, row(10L), cache.ticket());
+        assertThat(cache.get(1L, 10L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("evict 기록이 밀려나면 그보다 먼저 받은 ticket 의 저장은 모두 버린다")
+    void put_ForgottenEviction_Rejected() {
+        // given : evict 기록은 최근 maxUsers(2) 건만 남는다
+        long ticket = cache.ticket();
+        cache.evict(1L, 10L);
+        cache.evict(1L, 11L);
+        cache.evict(1L, 12L);
+
+        // when
+        cache.put(1L, row(10L), ticket);
+        cache.put(2L, row(20L), ticket);
+
+        // then
+        assertThat(cache.get(1L, 10L)).isEmpty();
+        assertThat(cache.get(2L, 20L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("evict 기록이 밀려나도 다른 구역 사용자의 저장은 버리지 않는다")
+    void put_ForgottenEvictionInOtherStripe_Accepted() {
+        // given : 구역 2개, 구역마다 사용자/evict 기록 1건. 사용자 1 과 2 는 다른 구역이다
+        TransactionHotRowCache striped = new TransactionHotRowCache(2, 2, 2, Duration.ofSeconds(30), clock);
+        long ticket = striped.ticket();
+        striped.evict(1L, 10L);
+        striped.evict(1L, 11L);
+
+        // when
+        striped.put(1L, row(10L), ticket);
+        striped.put(2L, row(20L), ticket);
+
+        // then
+        assertThat(striped.get(1L, 10L)).isEmpty();
+        assertThat(striped.get(2L, 20L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회/저장/evict 해도 evict 이후의 조회는 이전 값을 받지 않는다")
+    void concurrentAccess_EvictWins() throws Exception {
+        // given
+        TransactionHotRowCache striped = new TransactionHotRowCache(100, 4, 8, Duration.ofSeconds(30), clock);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long user = 1; user <= 8; user++) {
+                long userNo = user;
+                futures.add(executor.submit(() -> {
+                    for (long id = 1; id <= 1_000; id++) {
+                        long ticket = striped.ticket();
+                        striped.evict(userNo, id);
+                        // evict 전에 받은 ticket 으로는 저장되지 않는다
+                        striped.put(userNo, row(id), ticket);
+                        assertThat(striped.get(userNo, id)).isEmpty();
+                        striped.put(userNo, row(id), striped.ticket());
+                        assertThat(striped.get(userNo, id)).isPresent();
+                    }
+                }));
+            }
+
+            // when & then
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TransactionResponse row(Long id) {
+        return new TransactionResponse(id, TransactionType.EXPENSE, LocalDate.of(2026, 1, 9),
+                "점심", 5000, Category.FOOD, null);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
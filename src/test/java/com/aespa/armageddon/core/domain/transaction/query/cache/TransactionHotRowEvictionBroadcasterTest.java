@@ -0,0 +1,104 @@
+package com.aespa.armageddon.core.domain.transaction.query.cache;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.outbox.TransactionOutboxMessage;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionHotRowEvictionBroadcaster 테스트")
+class TransactionHotRowEvictionBroadcasterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TransactionHotRowCache cache;
+    private TransactionHotRowEvictionBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TransactionHotRowCache(10, 4, 2, Duration.ofSeconds(30), Clock.systemUTC());
+        broadcaster = new TransactionHotRowEvictionBroadcaster(redisTemplate, listenerContainer, cache);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 거래만 배치당 한 번 채널에 보낸다")
+    void handle_PublishesUpdatedAndDeletedOnce() {
+        // when
+        broadcaster.handle(List.of(
+                message(10L, ChangeType.CREATED),
+                message(11L, ChangeType.UPDATED),
+                message(12L, ChangeType.DELETED),
+                message(11L, ChangeType.UPDATED)));
+
+        // then
+        verify(redisTemplate).convertAndSend(TransactionHotRowEvictionBroadcaster.CHANNEL, "1:11,1:12");
+    }
+
+    @Test
+    @DisplayName("작성만 있는 배치는 보내지 않는다")
+    void handle_OnlyCreated_NothingPublished() {
+        // when
+        broadcaster.handle(List.of(message(10L, ChangeType.CREATED)));
+
+        // then
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("받은 메시지의 거래를 이 인스턴스의 캐시에서 지우고, 형식이 잘못된 항목은 건너뛴다")
+    void onMessage_EvictsLocally() {
+        // given
+        cache.put(1L, row(11L), cache.ticket());
+        cache.put(2L, row(20L), cache.ticket());
+        cache.put(2L, row(21L), cache.ticket());
+
+        // when
+        broadcaster.onMessage(new DefaultMessage(
+                TransactionHotRowEvictionBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1:11,broken,2:20".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(cache.get(1L, 11L)).isEmpty();
+        assertThat(cache.get(2L, 20L)).isEmpty();
+        assertThat(cache.get(2L, 21L)).isPresent();
+    }
+
+    private TransactionOutboxMessage message(Long transactionId, ChangeType changeType) {
+        return new TransactionOutboxMessage(1L,
+                new TransactionChangedEvent(1L, transactionId, changeType, LocalDate.of(2026, 1, 9),
+                        TransactionType.EXPENSE, Category.FOOD, 5000),
+                LocalDateTime.now());
+    }
+
+    private TransactionResponse row(Long id) {
+        return new TransactionResponse(id, TransactionType.EXPENSE, LocalDate.of(2026, 1, 9),
+                "점심", 5000, Category.FOOD, null);
+    }
+}
@@ -0,0 +1,127 @@
+package com.aespa.armageddon.core.domain.transaction.query.category;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CategoryModel 테스트")
+class CategoryModelTest {
+
+    private static final double PRIOR_WEIGHT = 3;
+
+    @Test
+    @DisplayName("거래가 없는 사용자는 전체 사용자 경향을 따른다")
+    void posterior_ColdStartFollowsGlobal() {
+        // given
+        CategoryModel global = new CategoryModel();
+        for (int i = 0; i < 20; i++) {
+            global.add(CategoryModel.features("스타벅스 강남점"), Category.FOOD);
+            global.add(CategoryModel.features("지하철 정기권"), Category.TRANSPORT);
+        }
+
+        // when
+        double[] probabilities = CategoryModel.posterior(new CategoryModel(), global,
+                CategoryModel.features("스타벅스 역삼점"), PRIOR_WEIGHT);
+
+        // then
+        assertThat(argmax(probabilities)).isEqualTo(Category.FOOD);
+        assertThat(sum(probabilities)).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("거래가 쌓이면 사용자 본인의 습관이 전체 경향보다 우선한다")
+    void posterior_UserHabitOverridesGlobal() {
+        // given
+        CategoryModel global = new CategoryModel();
+        CategoryModel user = new CategoryModel();
+        for (int i = 0; i < 50; i++) {
+            global.add(CategoryModel.features("스타벅스"), Category.FOOD);
+        }
+        for (int i = 0; i < 10; i++) {
+            user.add(CategoryModel.features("스타벅스"), Category.LEISURE);
+        }
+
+        // when
+        double[] probabilities = CategoryModel.posterior(user, global, CategoryModel.features("스타벅스"), PRIOR_WEIGHT);
+
+        // then
+        assertThat(argmax(probabilities)).isEqualTo(Category.LEISURE);
+    }
+
+    @Test
+    @DisplayName("직렬화 후 읽은 모델은 같은 빈도와 확률을 낸다")
+    void toBytes_RoundTrip() {
+        // given
+        CategoryModel model = new CategoryModel(16);
+        for (int i = 0; i < 100; i++) {
+            model.add(CategoryModel.features("편의점 " + i), Category.FOOD);
+        }
+        model.add(CategoryModel.features("지하철"), Category.TRANSPORT);
+
+        // when
+        CategoryModel read = CategoryModel.fromBytes(model.toBytes());
+
+        // then
+        int[] features = CategoryModel.features("편의점 7");
+        assertThat(read.totalDocs()).isEqualTo(model.totalDocs());
+        assertThat(read.vocabulary()).isEqualTo(model.vocabulary());
+        assertThat(read.count(features[0], Category.FOOD)).isEqualTo(model.count(features[0], Category.FOOD));
+        assertThat(read.docs(Category.TRANSPORT)).isEqualTo(1);
+        assertThat(CategoryModel.posterior(new CategoryModel(), read, features, PRIOR_WEIGHT))
+                .containsExactly(CategoryModel.posterior(new CategoryModel(), model, features, PRIOR_WEIGHT));
+
+        // 읽은 모델에도 계속 더할 수 있다
+        read.add(CategoryModel.features("버스"), Category.TRANSPORT);
+        assertThat(read.docs(Category.TRANSPORT)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배열이 커져도 특징별 빈도가 유지된다")
+    void add_KeepsCountsAfterGrow() {
+        // given
+        CategoryModel model = new CategoryModel(16);
+        int[] first = CategoryModel.features("편의점");
+
+        // when
+        model.add(first, Category.FOOD);
+        for (int i = 0; i < 1000; i++) {
+            model.add(CategoryModel.features("가게" + i), Category.SHOPPING);
+        }
+        model.add(first, Category.FOOD);
+
+        // then
+        assertThat(model.count(first[0], Category.FOOD)).isEqualTo(2);
+        assertThat(model.count(first[0], Category.SHOPPING)).isZero();
+        assertThat(model.docs(Category.FOOD)).isEqualTo(2);
+        assertThat(model.totalDocs()).isEqualTo(1002);
+    }
+
+    @Test
+    @DisplayName("특징은 단어와 bigram 으로 만들고 중복을 제거한다")
+    void features_Deduplicated() {
+        // 편의점 → 단어 1 + bigram 2, 반복된 단어는 한 번만
+        assertThat(CategoryModel.features("편의점 편의점")).hasSize(3);
+        assertThat(CategoryModel.features(" ")).isEmpty();
+    }
+
+    private static Category argmax(double[] probabilities) {
+        int best = 0;
+        for (int i = 1; i < probabilities.length; i++) {
+            if (probabilities[i] > probabilities[best]) {
+                best = i;
+            }
+        }
+        return Category.values()[best];
+    }
+
+    private static double sum(double[] probabilities) {
+        double sum = 0;
+        for (double probability : probabilities) {
+            sum += probability;
+        }
+        return sum;
+    }
+}
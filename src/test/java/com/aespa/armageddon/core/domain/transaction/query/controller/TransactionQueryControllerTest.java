@@ -4,6 +4,7 @@ import com.aespa.armageddon.core.domain.auth.entity.User;
 import com.aespa.armageddon.core.domain.auth.repository.UserRepository;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionCalendarDayResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionDailyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionLatelyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
@@ -150,4 +151,24 @@ class TransactionQueryControllerTest {
                 .andExpect(jsonPath("$.result").value("SUCCESS"))
                 .andExpect(jsonPath("$.data.balance").value(5000));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("캘린더 월간 조회 API")
+    void getCalendar() throws Exception {
+        // given
+        // Constructor: date, income, expense
+        TransactionCalendarDayResponse day = new TransactionCalendarDayResponse(LocalDate.of(2024, 5, 20), 0L, 1200L);
+
+        given(transactionQueryService.getCalendar(1L, 2024, 5)).willReturn(List.of(day));
+
+        // when & then
+        mockMvc.perform(get("/api/transaction/calendar")
+                        .param("year", "2024")
+                        .param("month", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("SUCCESS"))
+                .andExpect(jsonPath("$.data[0].date").value("2024-05-20"))
+                .andExpect(jsonPath("$.data[0].balance").value(-1200));
+    }
+}
@@ -3,9 +3,12 @@ package com.aespa.armageddon.core.domain.transaction.query.repository;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionCalendarDayResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionDailyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
+import com.aespa.armageddon.core.domain.transaction.query.search.SearchTokenizer;
+import com.aespa.armageddon.core.domain.transaction.query.search.TransactionSearchToken;
 import com.aespa.armageddon.core.global.config.QueryDslConfig;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +19,7 @@ import org.springframework.context.annotation.Import;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -138,6 +142,43 @@ class TransactionQueryRepositoryTest {
         System.out.println("테스트 성공 결과: " + result);
     }
 
+    @Test
+    @DisplayName("캘린더 조회는 해당 월의 날짜별 수입/지출 합계를 한 번에 반환한다")
+    void findCalendarTest() {
+        // given
+        Long userNo = 1L;
+
+        em.persist(createTransaction(userNo, LocalDate.of(2024, 5, 1), "월급", 100000, TransactionType.INCOME, null));
+        em.persist(createTransaction(userNo, LocalDate.of(2024, 5, 1), "점심", 8000, TransactionType.EXPENSE,
+                Category.FOOD));
+        em.persist(createTransaction(userNo, LocalDate.of(2024, 5, 31), "식비", 10000, TransactionType.EXPENSE,
+                Category.FOOD));
+        em.persist(createTransaction(userNo, LocalDate.of(2024, 5, 31), "버스", 2000, TransactionType.EXPENSE,
+                Category.TRANSPORT));
+        // [포함 X] 다른 달 / 다른 유저
+        em.persist(createTransaction(userNo, LocalDate.of(2024, 6, 1), "다음달", 5000, TransactionType.EXPENSE,
+                Category.FOOD));
+        em.persist(createTransaction(2L, LocalDate.of(2024, 5, 10), "남의돈", 999999, TransactionType.INCOME, null));
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<TransactionCalendarDayResponse> result = transactionQueryRepository.findCalendar(userNo, 2024, 5);
+
+        // then
+        assertThat(result).hasSize(2);
+
+        assertThat(result.get(0).getDate()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(result.get(0).getTotalIncome()).isEqualTo(100000L);
+        assertThat(result.get(0).getTotalExpense()).isEqualTo(8000L);
+
+        assertThat(result.get(1).getDate()).isEqualTo(LocalDate.of(2024, 5, 31));
+        assertThat(result.get(1).getTotalIncome()).isZero();
+        assertThat(result.get(1).getTotalExpense()).isEqualTo(12000L);
+        assertThat(result.get(1).getBalance()).isEqualTo(-12000L);
+    }
+
     @Test
     @DisplayName("조건에 맞는 거래 금액 합계를 정확히 계산한다")
     void findSumTest() {
@@ -249,4 +290,57 @@ class TransactionQueryRepositoryTest {
         assertThat(result.getTotalExpense()).isEqualTo(20000L);
         assertThat(result.getBalance()).isEqualTo(30000L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검색은 모든 단어가 제목이나 메모에 들어 있는 본인 거래만 최근 등록 순으로 반환한다")
+    void searchTest() {
+        // given
+        Long userNo = 1L;
+        Transaction t1 = index(createTransaction(userNo, LocalDate.of(2024, 5, 1), "스타벅스 강남점", 6500,
+                TransactionType.EXPENSE, Category.FOOD));
+        Transaction t2 = index(createTransaction(userNo, LocalDate.of(2024, 5, 2), "스타벅스 역삼", 5000,
+                TransactionType.EXPENSE, Category.FOOD));
+        // [포함 X] 토큰(스타, 타벅, 벅스)은 모두 있지만 이어진 단어가 아님
+        index(createTransaction(userNo, LocalDate.of(2024, 5, 3), "스타 타벅 벅스", 1000,
+                TransactionType.EXPENSE, Category.FOOD));
+        // [포함 X] 다른 유저
+        index(createTransaction(2L, LocalDate.of(2024, 5, 1), "스타벅스", 6500, TransactionType.EXPENSE,
+                Category.FOOD));
+
+        em.flush();
+        em.clear();
+
+        List<String> terms = SearchTokenizer.terms("스타벅스");
+        Set<String> tokens = SearchTokenizer.tokens(terms);
+
+        // when
+        List<TransactionResponse> result = transactionQueryRepository.search(
+                userNo, tokens, terms, null, null, null, null, 10);
+        List<TransactionResponse> nextPage = transactionQueryRepository.search(
+                userNo, tokens, terms, null, null, null, t2.getTransactionId(), 10);
+        List<TransactionResponse> filtered = transactionQueryRepository.search(
+                userNo, tokens, terms, LocalDate.of(2024, 5, 2), null, Category.FOOD, null, 10);
+        List<TransactionResponse> firstOnly = transactionQueryRepository.search(
+                userNo, tokens, terms, null, null, null, null, 1);
+        // 거래가 없는 토큰이 하나라도 있으면 결과가 없다
+        List<String> missingTerms = SearchTokenizer.terms("스타벅스 이디야");
+        List<TransactionResponse> missing = transactionQueryRepository.search(
+                userNo, SearchTokenizer.tokens(missingTerms), missingTerms, null, null, null, null, 10);
+
+        // then
+        assertThat(result).extracting(TransactionResponse::getId)
+                .containsExactly(t2.getTransactionId(), t1.getTransactionId());
+        assertThat(nextPage).extracting(TransactionResponse::getId).containsExactly(t1.getTransactionId());
+        assertThat(filtered).extracting(TransactionResponse::getId).containsExactly(t2.getTransactionId());
+        assertThat(firstOnly).extracting(TransactionResponse::getId).containsExactly(t2.getTransactionId());
+        assertThat(missing).isEmpty();
+    }
+
+    private Transaction index(Transaction transaction) {
+        em.persist(transaction);
+        for (String token : SearchTokenizer.tokens(transaction.getTitle(), transaction.getMemo())) {
+            em.persist(new TransactionSearchToken(transaction.getTransactionId(), transaction.getUserNo(), token));
+        }
+        return transaction;
+    }
+}
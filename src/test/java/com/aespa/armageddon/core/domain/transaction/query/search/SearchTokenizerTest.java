@@ -0,0 +1,31 @@
+package com.aespa.armageddon.core.domain.transaction.query.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchTokenizer 테스트")
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("단어마다 연속한 두 글자씩 토큰을 만든다")
+    void tokens_Bigrams() {
+        assertThat(SearchTokenizer.tokens("스타벅스 강남점", null))
+                .containsExactly("스타", "타벅", "벅스", "강남", "남점");
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자를 정규화하고 구두점으로 단어를 나눈다")
+    void terms_Normalized() {
+        assertThat(SearchTokenizer.terms("ＧＳ25, Coffee!! coffee")).containsExactly("gs25", "coffee");
+    }
+
+    @Test
+    @DisplayName("한 글자 단어는 토큰을 만들지 않는다")
+    void tokens_SingleCharacterTerm() {
+        assertThat(SearchTokenizer.tokens(List.of("밥", "커피"))).containsExactly("커피");
+    }
+}
@@ -0,0 +1,150 @@
+package com.aespa.armageddon.core.domain.transaction.query.search;
+
+import com.aespa.armageddon.core.common.support.lock.RedisLock;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Transaction;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.outbox.TransactionOutboxMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@DisplayName("TransactionSearchIndexer 테스트")
+class TransactionSearchIndexerTest {
+
+    private static final Long USER_NO = 1L;
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 1);
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionSearchIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        indexer = new TransactionSearchIndexer(jdbcTemplate, namedJdbcTemplate, transactionManager,
+                mock(StringRedisTemplate.class), mock(RedisLock.class), meterRegistry);
+        indexer.init();
+    }
+
+    @Test
+    @DisplayName("바뀐 거래는 기존 토큰을 지우고 현재 제목/메모로 다시 색인한다")
+    void handle_ReindexesChangedTransaction() {
+        // given
+        Transaction transaction = persist(USER_NO, DATE, "스타벅스");
+        jdbcTemplate.update("insert into tbl_transaction_search_token (transaction_id, user_no, token) values (?, ?, ?)",
+                transaction.getTransactionId(), USER_NO, "이전");
+
+        // when
+        indexer.handle(List.of(message(transaction.getTransactionId(), ChangeType.UPDATED, DATE)));
+
+        // then
+        assertThat(tokensOf(transaction.getTransactionId()))
+                .containsExactlyInAnyOrderElementsOf(SearchTokenizer.tokens("스타벅스", "메모"));
+        assertThat(meterRegistry.counter("transaction.search.indexed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("삭제된 거래는 토큰만 지운다")
+    void handle_DeletedTransaction() {
+        // given
+        jdbcTemplate.update("insert into tbl_transaction_search_token (transaction_id, user_no, token) values (?, ?, ?)",
+                999L, USER_NO, "스타");
+
+        // when
+        indexer.handle(List.of(message(999L, ChangeType.DELETED, DATE)));
+
+        // then
+        assertThat(tokensOf(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("id 없는 반복 거래 이벤트는 그 사용자/날짜의 색인되지 않은 거래만 색인한다")
+    void handle_MaterializedWithoutId() {
+        // given
+        Transaction indexed = persist(USER_NO, DATE, "월세");
+        jdbcTemplate.update("insert into tbl_transaction_search_token (transaction_id, user_no, token) values (?, ?, ?)",
+                indexed.getTransactionId(), USER_NO, "월세");
+        Transaction materialized = persist(USER_NO, DATE, "넷플릭스");
+        Transaction otherDate = persist(USER_NO, DATE.plusDays(1), "유튜브");
+        Transaction otherUser = persist(2L, DATE, "멜론");
+
+        // when : 같은 사용자/날짜 이벤트가 여러 건이어도 한 번만 찾는다
+        indexer.handle(List.of(message(null, ChangeType.CREATED, DATE), message(null, ChangeType.CREATED, DATE)));
+
+        // then
+        assertThat(tokensOf(materialized.getTransactionId())).contains("넷플");
+        assertThat(tokensOf(indexed.getTransactionId())).containsExactly("월세");
+        assertThat(tokensOf(otherDate.getTransactionId())).isEmpty();
+        assertThat(tokensOf(otherUser.getTransactionId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("날짜 범위로 합쳐진 반복 거래 이벤트는 범위 안의 색인되지 않은 거래를 모두 색인한다")
+    void handle_MaterializedRange() {
+        // given
+        Transaction first = persist(USER_NO, DATE, "넷플릭스");
+        Transaction last = persist(USER_NO, DATE.plusDays(14), "넷플릭스");
+        Transaction outside = persist(USER_NO, DATE.plusDays(15), "유튜브");
+
+        // when
+        indexer.handle(List.of(new TransactionOutboxMessage(1L,
+                TransactionChangedEvent.materialized(USER_NO, DATE, DATE.plusDays(14),
+                        TransactionType.EXPENSE, Category.FOOD, 20000),
+                LocalDateTime.now())));
+
+        // then
+        assertThat(tokensOf(first.getTransactionId())).contains("넷플");
+        assertThat(tokensOf(last.getTransactionId())).contains("넷플");
+        assertThat(tokensOf(outside.getTransactionId())).isEmpty();
+    }
+
+    private Transaction persist(Long userNo, LocalDate date, String title) {
+        Transaction transaction = new Transaction(userNo, title, "메모", 10000, date,
+                TransactionType.EXPENSE, Category.FOOD);
+        em.persist(transaction);
+        em.flush();
+        return transaction;
+    }
+
+    private List<String> tokensOf(Long transactionId) {
+        return jdbcTemplate.queryForList(
+                "select token from tbl_transaction_search_token where transaction_id = ?", String.class, transactionId);
+    }
+
+    private TransactionOutboxMessage message(Long transactionId, ChangeType changeType, LocalDate date) {
+        return new TransactionOutboxMessage(1L,
+                new TransactionChangedEvent(USER_NO, transactionId, changeType, date,
+                        TransactionType.EXPENSE, Category.FOOD, 10000),
+                LocalDateTime.now());
+    }
+}
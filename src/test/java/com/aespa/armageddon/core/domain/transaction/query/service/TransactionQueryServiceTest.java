@@ -1,12 +1,20 @@
 package com.aespa.armageddon.core.domain.transaction.query.service;
 
+import com.aespa.armageddon.core.common.support.error.CoreException;
+import com.aespa.armageddon.core.common.support.error.ErrorType;
+import com.aespa.armageddon.core.common.support.job.StreamJobQueue;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
 import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.query.cache.TransactionHotRowCache;
+import com.aespa.armageddon.core.domain.transaction.query.category.CategorySuggester;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionDailyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionLatelyResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
 import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionSummaryResponse;
 import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import com.aespa.armageddon.core.domain.transaction.query.suggest.TitleSuggestionIndex;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryRunningTotals;
+import com.aespa.armageddon.core.domain.transaction.query.total.CategoryTotalRebuildJob;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,9 +24,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +43,21 @@ class TransactionQueryServiceTest {
     @Mock
     private TransactionQueryRepository transactionQueryRepository;
 
+    @Mock
+    private TransactionHotRowCache transactionHotRowCache;
+
+    @Mock
+    private CategoryRunningTotals categoryRunningTotals;
+
+    @Mock
+    private StreamJobQueue streamJobQueue;
+
+    @Mock
+    private TitleSuggestionIndex titleSuggestionIndex;
+
+    @Mock
+    private CategorySuggester categorySuggester;
+
     @Test
     @DisplayName("최근 거래 내역 조회")
     void getLatelyTransactions() {
@@ -70,6 +98,56 @@ class TransactionQueryServiceTest {
         verify(transactionQueryRepository).findDailyList(userNo, date);
     }
 
+    @Test
+    @DisplayName("거래 상세 조회 - 캐시에 없으면 조회 후 캐시에 저장")
+    void getTransaction_CacheMiss() {
+        // given
+        Long userNo = 1L;
+        TransactionResponse response = new TransactionResponse(10L, TransactionType.EXPENSE, LocalDate.now(),
+                "title", 1000, Category.FOOD, "memo");
+        given(transactionHotRowCache.get(userNo, 10L)).willReturn(Optional.empty());
+        given(transactionHotRowCache.ticket()).willReturn(7L);
+        given(transactionQueryRepository.findTransaction(userNo, 10L)).willReturn(Optional.of(response));
+
+        // when
+        TransactionResponse result = transactionQueryService.getTransaction(userNo, 10L);
+
+        // then
+        assertThat(result).isSameAs(response);
+        verify(transactionHotRowCache).put(userNo, response, 7L);
+    }
+
+    @Test
+    @DisplayName("거래 상세 조회 - 캐시에 있으면 DB 를 조회하지 않음")
+    void getTransaction_CacheHit() {
+        // given
+        Long userNo = 1L;
+        TransactionResponse response = new TransactionResponse(10L, TransactionType.EXPENSE, LocalDate.now(),
+                "title", 1000, Category.FOOD, "memo");
+        given(transactionHotRowCache.get(userNo, 10L)).willReturn(Optional.of(response));
+
+        // when
+        TransactionResponse result = transactionQueryService.getTransaction(userNo, 10L);
+
+        // then
+        assertThat(result).isSameAs(response);
+        verify(transactionQueryRepository, never()).findTransaction(userNo, 10L);
+    }
+
+    @Test
+    @DisplayName("거래 상세 조회 실패 - 없거나 본인 거래가 아님")
+    void getTransaction_NotFound() {
+        // given
+        given(transactionHotRowCache.get(1L, 10L)).willReturn(Optional.empty());
+        given(transactionQueryRepository.findTransaction(1L, 10L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> transactionQueryService.getTransaction(1L, 10L))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.TRANSACTION_NOT_FOUND);
+    }
+
     @Test
     @DisplayName("일간 요약 정보 조회")
     void getDailySummary() {
@@ -109,4 +187,96 @@ class TransactionQueryServiceTest {
         assertThat(result.getTotalIncome()).isEqualTo(1000L);
         verify(transactionQueryRepository).findMonthlySummary(userNo, year, month);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카테고리 지출 합계는 누적 합계가 있으면 원본을 조회하지 않음")
+    void getTransactionSum_RunningTotal() {
+        // given
+        LocalDate start = LocalDate.of(2024, 5, 1);
+        LocalDate end = LocalDate.of(2024, 5, 31);
+        given(categoryRunningTotals.sum(1L, Category.FOOD, start, end)).willReturn(OptionalLong.of(30000L));
+
+        // when
+        Long result = transactionQueryService.getTransactionSum(1L, Category.FOOD, TransactionType.EXPENSE, start, end);
+
+        // then
+        assertThat(result).isEqualTo(30000L);
+        verify(transactionQueryRepository, never()).findSum(1L, Category.FOOD, TransactionType.EXPENSE, start, end);
+    }
+
+    @Test
+    @DisplayName("누적 합계가 없으면 원본 합계로 응답하고 재생성 작업을 등록한다")
+    void getTransactionSum_Rebuild() {
+        // given
+        LocalDate start = LocalDate.of(2024, 5, 1);
+        LocalDate end = LocalDate.of(2024, 5, 31);
+        given(categoryRunningTotals.sum(1L, Category.FOOD, start, end)).willReturn(OptionalLong.empty());
+        given(streamJobQueue.enqueueOnce(CategoryTotalRebuildJob.NAME, CategoryTotalRebuildJob.dedupeKey(1L, Category.FOOD),
+                CategoryTotalRebuildJob.payload(1L, Category.FOOD)))
+                .willReturn(true);
+        given(transactionQueryRepository.findSum(1L, Category.FOOD, TransactionType.EXPENSE, start, end))
+                .willReturn(30000L);
+
+        // when
+        Long result = transactionQueryService.getTransactionSum(1L, Category.FOOD, TransactionType.EXPENSE, start, end);
+
+        // then
+        assertThat(result).isEqualTo(30000L);
+        verify(categoryRunningTotals, never()).rebuild(1L, Category.FOOD);
+    }
+
+    @Test
+    @DisplayName("작업 큐를 쓸 수 없으면 누적 합계를 직접 만든다")
+    void getTransactionSum_QueueUnavailable_RebuildsInline() {
+        // given
+        LocalDate start = LocalDate.of(2024, 5, 1);
+        LocalDate end = LocalDate.of(2024, 5, 31);
+        given(categoryRunningTotals.sum(1L, Category.FOOD, start, end)).willReturn(OptionalLong.empty());
+        given(streamJobQueue.enqueueOnce(CategoryTotalRebuildJob.NAME, CategoryTotalRebuildJob.dedupeKey(1L, Category.FOOD),
+                CategoryTotalRebuildJob.payload(1L, Category.FOOD)))
+                .willReturn(false);
+        given(transactionQueryRepository.findSum(1L, Category.FOOD, TransactionType.EXPENSE, start, end))
+                .willReturn(30000L);
+
+        // when
+        Long result = transactionQueryService.getTransactionSum(1L, Category.FOOD, TransactionType.EXPENSE, start, end);
+
+        // then
+        assertThat(result).isEqualTo(30000L);
+        verify(categoryRunningTotals).rebuild(1L, Category.FOOD);
+    }
+
+    @Test
+    @DisplayName("검색어를 단어와 토큰으로 나눠 조회한다")
+    void search() {
+        // given
+        List<TransactionResponse> expected = List.of();
+        given(transactionQueryRepository.search(1L, Set.of("스타", "타벅", "벅스"), List.of("스타벅스", "역"),
+                null, null, Category.FOOD, null, 20)).willReturn(expected);
+
+        // when
+        List<TransactionResponse> result = transactionQueryService.search(1L, "스타벅스 역", null, null,
+                Category.FOOD, null, 20);
+
+        // then
+        assertThat(result).isSameAs(expected);
+    }
+
+    @Test
+    @DisplayName("검색 실패 - 두 글자 이상인 단어가 없음")
+    void search_NoIndexableTerm() {
+        assertThatThrownBy(() -> transactionQueryService.search(1L, "밥 커", null, null, null, null, 20))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("카테고리 추천 실패 - 추천 개수가 카테고리 수를 넘음")
+    void suggestCategories_InvalidSize() {
+        assertThatThrownBy(() -> transactionQueryService.suggestCategories(1L, "스타벅스", 12))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.INVALID_INPUT_VALUE);
+    }
+}
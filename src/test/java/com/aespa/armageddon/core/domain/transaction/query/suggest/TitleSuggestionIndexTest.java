@@ -0,0 +1,139 @@
+package com.aespa.armageddon.core.domain.transaction.query.suggest;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent;
+import com.aespa.armageddon.core.domain.transaction.command.domain.event.TransactionChangedEvent.ChangeType;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TitleSuggestionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.dto.TransactionResponse;
+import com.aespa.armageddon.core.domain.transaction.query.repository.TransactionQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TitleSuggestionIndex 테스트")
+class TitleSuggestionIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+
+    @Mock
+    private TransactionQueryRepository transactionQueryRepository;
+
+    private TitleSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        index = new TitleSuggestionIndex(transactionQueryRepository, 10, 5, 30, 365, 1000,
+                Duration.ofMinutes(30), clock);
+    }
+
+    @Test
+    @DisplayName("처음 요청할 때 한 번만 거래 이력을 읽는다")
+    void suggest_BuildsLazilyOnce() {
+        // given
+        given(transactionQueryRepository.findTitleHistory(1L, TODAY.minusDays(365), 1000))
+                .willReturn(List.of(row(10L, "스타벅스", 4500)));
+
+        // when
+        List<TitleSuggestionResponse> first = index.suggest(1L, "스타", 5);
+        List<TitleSuggestionResponse> second = index.suggest(1L, "스타벅", 5);
+
+        // then
+        assertThat(first).extracting(TitleSuggestionResponse::title).containsExactly("스타벅스");
+        assertThat(second).extracting(TitleSuggestionResponse::category).containsExactly(Category.FOOD);
+        verify(transactionQueryRepository, times(1)).findTitleHistory(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("작성이 커밋되면 색인에 바로 더한다")
+    void onTransactionChanged_Created_Records() {
+        // given
+        given(transactionQueryRepository.findTitleHistory(1L, TODAY.minusDays(365), 1000)).willReturn(List.of());
+        index.suggest(1L, "편의", 5);
+        given(transactionQueryRepository.findTransaction(1L, 11L)).willReturn(Optional.of(row(11L, "편의점", 3000)));
+
+        // when
+        index.onTransactionChanged(event(11L, ChangeType.CREATED));
+
+        // then
+        assertThat(index.suggest(1L, "편의", 5)).extracting(TitleSuggestionResponse::amount).containsExactly(3000);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 커밋되면 색인을 버린다")
+    void onTransactionChanged_Deleted_Invalidates() {
+        // given
+        given(transactionQueryRepository.findTitleHistory(1L, TODAY.minusDays(365), 1000)).willReturn(List.of());
+        index.suggest(1L, "편의", 5);
+
+        // when
+        index.onTransactionChanged(event(11L, ChangeType.DELETED));
+
+        // then
+        assertThat(index.userCount()).isZero();
+        verify(transactionQueryRepository, never()).findTransaction(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("색인이 없는 사용자의 변경은 무시한다")
+    void onTransactionChanged_NotLoaded_Ignored() {
+        // when
+        index.onTransactionChanged(event(11L, ChangeType.CREATED));
+
+        // then
+        verify(transactionQueryRepository, never()).findTransaction(eq(1L), anyLong());
+    }
+
+    @Test
+    @DisplayName("만드는 도중 거래가 바뀌면 그 색인은 이번 요청에만 쓰고 저장하지 않는다")
+    void suggest_ChangedWhileBuilding_NotCached() {
+        // given : 이력을 읽은 직후 삭제가 커밋된다
+        given(transactionQueryRepository.findTitleHistory(1L, TODAY.minusDays(365), 1000))
+                .willAnswer(invocation -> {
+                    index.onTransactionChanged(event(10L, ChangeType.DELETED));
+                    return List.of(row(10L, "스타벅스", 4500));
+                })
+                .willReturn(List.of());
+
+        // when
+        List<TitleSuggestionResponse> stale = index.suggest(1L, "스타", 5);
+
+        // then : 다음 요청은 다시 만들어 삭제된 제목을 추천하지 않는다
+        assertThat(stale).hasSize(1);
+        assertThat(index.userCount()).isZero();
+        assertThat(index.suggest(1L, "스타", 5)).isEmpty();
+        assertThat(index.userCount()).isEqualTo(1);
+        verify(transactionQueryRepository, times(2)).findTitleHistory(anyLong(), any(), anyInt());
+    }
+
+    private TransactionResponse row(Long id, String title, int amount) {
+        return new TransactionResponse(id, TransactionType.EXPENSE, TODAY, title, amount, Category.FOOD, null);
+    }
+
+    private TransactionChangedEvent event(Long transactionId, ChangeType changeType) {
+        return new TransactionChangedEvent(1L, transactionId, changeType, TODAY, TransactionType.EXPENSE,
+                Category.FOOD, 3000);
+    }
+}
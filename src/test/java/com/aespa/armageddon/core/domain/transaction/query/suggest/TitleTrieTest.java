@@ -0,0 +1,93 @@
+package com.aespa.armageddon.core.domain.transaction.query.suggest;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TitleTrie 테스트")
+class TitleTrieTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 30);
+
+    @Test
+    @DisplayName("prefix 로 시작하는 제목을 자주 쓴 순으로 반환한다")
+    void suggest_ByFrequency() {
+        // given
+        TitleTrie trie = new TitleTrie(5, 30);
+        expense(trie, "스타벅스", 4500, Category.FOOD, TODAY);
+        expense(trie, "스타벅스", 4500, Category.FOOD, TODAY);
+        expense(trie, "스타필드", 30000, Category.SHOPPING, TODAY);
+        expense(trie, "버스", 1500, Category.TRANSPORT, TODAY);
+
+        // when
+        List<TitleTrie.Entry> result = trie.suggest("스타", 5);
+
+        // then
+        assertThat(result).extracting(TitleTrie.Entry::title).containsExactly("스타벅스", "스타필드");
+        assertThat(result.get(0).count()).isEqualTo(2);
+        assertThat(trie.suggest("택시", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오래전에 자주 쓴 제목보다 최근에 쓴 제목이 앞선다")
+    void suggest_RecentBeatsOld() {
+        // given : 반감기 30일, 1년 전 3회 vs 어제 1회
+        TitleTrie trie = new TitleTrie(5, 30);
+        for (int i = 0; i < 3; i++) {
+            expense(trie, "카페 A", 5000, Category.FOOD, TODAY.minusYears(1));
+        }
+        expense(trie, "카페 B", 6000, Category.FOOD, TODAY.minusDays(1));
+
+        // when & then
+        assertThat(trie.suggest("카페", 5)).extracting(TitleTrie.Entry::title).containsExactly("카페 B", "카페 A");
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고, 최근 금액과 가장 많이 쓴 카테고리를 함께 반환한다")
+    void suggest_UsualCategoryAndLatestAmount() {
+        // given
+        TitleTrie trie = new TitleTrie(5, 30);
+        expense(trie, "Coupang", 12000, Category.SHOPPING, TODAY.minusDays(3));
+        expense(trie, "Coupang", 15000, Category.SHOPPING, TODAY.minusDays(2));
+        expense(trie, "COUPANG", 8000, Category.FOOD, TODAY.minusDays(1));
+
+        // when
+        List<TitleTrie.Entry> result = trie.suggest("coup", 5);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).title()).isEqualTo("COUPANG");
+        assertThat(result.get(0).amount()).isEqualTo(8000);
+        assertThat(result.get(0).category()).isEqualTo(Category.SHOPPING);
+    }
+
+    @Test
+    @DisplayName("노드마다 상위 topK 개만 유지하고, 점수가 오른 제목은 다시 들어온다")
+    void suggest_TopKUpdatedOnRecord() {
+        // given
+        TitleTrie trie = new TitleTrie(2, 30);
+        expense(trie, "마트 1", 1000, Category.FOOD, TODAY);
+        expense(trie, "마트 1", 1000, Category.FOOD, TODAY);
+        expense(trie, "마트 2", 1000, Category.FOOD, TODAY);
+        expense(trie, "마트 2", 1000, Category.FOOD, TODAY);
+        expense(trie, "마트 3", 1000, Category.FOOD, TODAY);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            expense(trie, "마트 3", 1000, Category.FOOD, TODAY);
+        }
+
+        // then
+        assertThat(trie.suggest("마", 10)).extracting(TitleTrie.Entry::title).containsExactly("마트 3", "마트 1");
+    }
+
+    private void expense(TitleTrie trie, String title, int amount, Category category, LocalDate date) {
+        trie.record(title, TransactionType.EXPENSE, category, amount, date);
+    }
+}
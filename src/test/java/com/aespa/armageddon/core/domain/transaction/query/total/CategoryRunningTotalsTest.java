@@ -0,0 +1,84 @@
+package com.aespa.armageddon.core.domain.transaction.query.total;
+
+import com.aespa.armageddon.core.domain.transaction.command.domain.aggregate.Category;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 체크포인트 잠금용 INSERT … ON DUPLICATE KEY UPDATE 를 쓰므로 H2 를 MariaDB 모드로 띄운다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:category-running-totals;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(CategoryRunningTotals.class)
+class CategoryRunningTotalsTest {
+
+    @Autowired
+    CategoryRunningTotals categoryRunningTotals;
+
+    @Autowired
+    CategoryTotalCheckpointRepository checkpointRepository;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("누적 합계가 없으면 준비되지 않은 체크포인트만 남기고 조회도 empty 를 반환한다")
+    void withoutCheckpoint() {
+        // when
+        categoryRunningTotals.apply(1L, Category.FOOD, LocalDate.of(2024, 5, 10), 10000L);
+
+        // then : 재생성이 이 변경의 커밋을 기다리도록 잠글 행을 남긴다
+        assertThat(checkpointRepository.findByUserNoAndCategory(1L, Category.FOOD))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.isReady()).isFalse());
+        assertThat(categoryRunningTotals.sum(1L, Category.FOOD, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("기간 합계는 두 누적 합계의 차이로 계산되고, 과거 날짜 변경은 이후 누적 합계에 반영된다")
+    void applyAndSum() {
+        // given
+        givenReadyCheckpoint(1L, Category.FOOD);
+
+        categoryRunningTotals.apply(1L, Category.FOOD, LocalDate.of(2024, 4, 30), 5000L);
+        categoryRunningTotals.apply(1L, Category.FOOD, LocalDate.of(2024, 5, 10), 10000L);
+        categoryRunningTotals.apply(1L, Category.FOOD, LocalDate.of(2024, 5, 20), 20000L);
+        // 과거 날짜에 뒤늦게 작성
+        categoryRunningTotals.apply(1L, Category.FOOD, LocalDate.of(2024, 5, 5), 3000L);
+        // 삭제
+        categoryRunningTotals.apply(1L, Category.FOOD, LocalDate.of(2024, 5, 20), -20000L);
+        // 다른 카테고리 / 다른 유저
+        givenReadyCheckpoint(1L, Category.SHOPPING);
+        categoryRunningTotals.apply(1L, Category.SHOPPING, LocalDate.of(2024, 5, 10), 99000L);
+
+        // when & then
+        assertThat(categoryRunningTotals.sum(1L, Category.FOOD, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)))
+                .hasValue(13000L);
+        assertThat(categoryRunningTotals.sum(1L, Category.FOOD, LocalDate.of(2024, 5, 6), LocalDate.of(2024, 5, 10)))
+                .hasValue(10000L);
+        assertThat(categoryRunningTotals.sum(1L, Category.FOOD, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 12, 31)))
+                .hasValue(18000L);
+        assertThat(categoryRunningTotals.sum(1L, Category.FOOD, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30)))
+                .hasValue(0L);
+    }
+
+    private void givenReadyCheckpoint(Long userNo, Category category) {
+        CategoryTotalCheckpoint checkpoint = new CategoryTotalCheckpoint(userNo, category);
+        checkpoint.markRebuilt();
+        em.persist(checkpoint);
+        em.flush();
+        em.clear();
+    }
+}
@@ -0,0 +1,52 @@
+package com.aespa.armageddon.infra.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClientIpResolver 테스트")
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "127.0.0.1"));
+
+    @Test
+    @DisplayName("신뢰하는 프록시를 거친 요청은 X-Forwarded-For 의 프록시가 아닌 가장 오른쪽 주소를 쓴다")
+    void resolve_TrustedProxy() {
+        // given : 클라이언트가 임의로 넣은 1.1.1.1 은 무시된다
+        MockHttpServletRequest request = request("10.0.0.5", "1.1.1.1, 203.0.113.7, 10.0.0.9");
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("직접 연결한 클라이언트의 X-Forwarded-For 는 무시한다")
+    void resolve_UntrustedRemote() {
+        // given
+        MockHttpServletRequest request = request("198.51.100.20", "1.1.1.1");
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.20");
+    }
+
+    @Test
+    @DisplayName("IP 형식이 아닌 값을 만나면 그 직전 주소를 쓴다")
+    void resolve_InvalidHop() {
+        // given
+        MockHttpServletRequest request = request("10.0.0.5", "203.0.113.7, attacker.example, 999.1.1.1");
+
+        // when & then
+        assertThat(resolver.resolve(request)).isEqualTo("10.0.0.5");
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}